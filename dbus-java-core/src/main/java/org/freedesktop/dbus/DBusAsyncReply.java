@@ -10,19 +10,23 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Method;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * A handle to an asynchronous method call.
  */
 public class DBusAsyncReply<T> {
 
-    private final Logger             logger = LoggerFactory.getLogger(getClass());
+    private final Logger                    logger = LoggerFactory.getLogger(getClass());
 
-    private T                        rval   = null;
-    private DBusExecutionException   error  = null;
-    private final MethodCall         mc;
-    private final Method             me;
-    private final AbstractConnection conn;
+    /** Guards conversion of the reply, j.u.c. lock does not pin virtual threads. */
+    private final ReentrantLock             lock   = new ReentrantLock();
+
+    private volatile T                      rval;
+    private volatile DBusExecutionException error;
+    private final MethodCall                mc;
+    private final Method                    me;
+    private final AbstractConnection        conn;
 
     public DBusAsyncReply(MethodCall _mc, Method _me, AbstractConnection _conn) {
         this.mc = _mc;
@@ -30,9 +34,18 @@ public class DBusAsyncReply<T> {
         this.conn = _conn;
     }
 
+    private void checkReply() {
+        lock.lock();
+        try {
+            convertReply();
+        } finally {
+            lock.unlock();
+        }
+    }
+
     @SuppressWarnings("unchecked")
-    private synchronized void checkReply() {
-        if (mc.hasReply()) {
+    private void convertReply() {
+        if ((null == rval && null == error) && mc.hasReply()) {
             Message m = mc.getReply();
             if (m instanceof Error err) {
                 error = err.getException();
@@ -0,0 +1,384 @@
+package org.freedesktop.dbus;
+
+import org.freedesktop.dbus.connections.base.AbstractConnectionBase;
+import org.freedesktop.dbus.exceptions.DBusException;
+import org.freedesktop.dbus.interfaces.DBusInterface;
+import org.freedesktop.dbus.interfaces.DBusSerializable;
+import org.freedesktop.dbus.types.UInt16;
+import org.freedesktop.dbus.types.UInt32;
+import org.freedesktop.dbus.types.UInt64;
+import org.freedesktop.dbus.types.Variant;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pre-computed encoder/decoder for the parameters and the return value of a method
+ * which is called on or exported to D-Bus.
+ * <p>
+ * The codec is created once on first use of a method and cached. It holds the D-Bus signatures of
+ * the parameters and the return value and a converter for every parameter and the return value.
+ * </p>
+ * <p>
+ * Converters are only created for numbers, strings, unsigned types, {@link Variant}s and
+ * {@link List}s and {@link Map}s of these types. Values of these types are converted without
+ * inspecting the generic types again.
+ * Methods using any other type (e.g. arrays, structs, tuples, enums, type variables or {@link DBusInterface}s)
+ * are converted using {@link Marshalling} which inspects the generic types on every call.
+ * </p>
+ * <p>
+ * The codec is also used to invoke exported methods. If possible, a {@link MethodHandle} is created
+ * once and used for every invocation, otherwise the method is invoked using reflection.
+ * </p>
+ *
+ * @since 6.0.0 - 2026-10-17
+ */
+public final class MethodCodec {
+    /** Types which never require conversion when sent or received. */
+    private static final Set<Type>                PLAIN_TYPES = Set.of(
+        Boolean.TYPE, Boolean.class, Byte.TYPE, Byte.class, Short.TYPE, Short.class,
+        Integer.TYPE, Integer.class, Long.TYPE, Long.class, Double.TYPE, Double.class,
+        String.class, UInt16.class, UInt32.class, UInt64.class);
+
+    /** Returns received values of types which are transferred as is. */
+    private static final Converter                IDENTITY    = (v, c) -> v;
+
+    /**
+     * Codecs of all methods declared by a class.
+     * The codecs are stored with the class, so they do not prevent unloading of the class.
+     */
+    private static final ClassValue<Map<Method, MethodCodec>> CODEC_CACHE = new ClassValue<>() {
+        @Override
+        protected Map<Method, MethodCodec> computeValue(Class<?> _type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Method                          method;
+    /** Handle of type (Object, Object[])Object, null if reflection has to be used. */
+    private final MethodHandle                    invoker;
+
+    private final Type[]                          parameterTypes;
+    private final Type                            returnType;
+    private final boolean                         voidReturn;
+    private final boolean                         plainParameters;
+    private final boolean                         plainReturn;
+    /** Converter for every parameter, null if parameters are converted using {@link Marshalling}. */
+    private final Converter[]                     parameterConverters;
+    /** Converter for the return value, null if the return value is converted using {@link Marshalling}. */
+    private final Converter                       returnConverter;
+
+    private final String                          parameterSignature;
+    private final DBusException                   parameterSignatureError;
+    private final String                          returnSignature;
+    private final DBusException                   returnSignatureError;
+
+    private MethodCodec(Method _method) {
+        method = _method;
+        invoker = createInvoker(_method);
+        parameterTypes = _method.getGenericParameterTypes();
+        returnType = _method.getGenericReturnType();
+        voidReturn = Void.TYPE.equals(_method.getReturnType());
+
+        boolean plain = true;
+        Converter[] converters = new Converter[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            plain &= PLAIN_TYPES.contains(parameterTypes[i]);
+            converters[i] = createConverter(parameterTypes[i]);
+            if (converters[i] == null) {
+                converters = null;
+                break;
+            }
+        }
+        parameterConverters = converters;
+        plainParameters = plain && converters != null;
+        plainReturn = voidReturn || PLAIN_TYPES.contains(returnType);
+        returnConverter = voidReturn ? null : createConverter(returnType);
+
+        String sig = null;
+        DBusException sigError = null;
+        try {
+            sig = Marshalling.getDBusType(parameterTypes);
+        } catch (DBusException _ex) {
+            sigError = _ex;
+        }
+        parameterSignature = sig;
+        parameterSignatureError = sigError;
+
+        sig = null;
+        sigError = null;
+        if (!voidReturn) {
+            try {
+                sig = String.join("", Marshalling.getDBusType(returnType));
+            } catch (DBusException _ex) {
+                sigError = _ex;
+            }
+        }
+        returnSignature = sig;
+        returnSignatureError = sigError;
+    }
+
+    private static MethodHandle createInvoker(Method _method) {
+        try {
+            int paramCount = _method.getParameterCount();
+            MethodHandle handle = MethodHandles.lookup().unreflect(_method).asFixedArity();
+            if (Modifier.isStatic(_method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle.asType(MethodType.genericMethodType(paramCount + 1))
+                .asSpreader(Object[].class, paramCount);
+        } catch (IllegalAccessException | RuntimeException _ex) {
+            LoggerFactory.getLogger(MethodCodec.class).trace("Cannot create method handle for {}, using reflection", _method, _ex);
+            return null;
+        }
+    }
+
+    /**
+     * Creates the converter for values received for the given type.
+     *
+     * @param _type generic type
+     * @return Converter, null if values of this type have to be converted by {@link Marshalling}
+     */
+    private static Converter createConverter(Type _type) {
+        if (PLAIN_TYPES.contains(_type) || _type == Variant.class) {
+            return IDENTITY;
+        } else if (_type == Float.TYPE || _type == Float.class) {
+            // floats are transferred as double
+            return (v, c) -> v instanceof Float ? v : ((Number) v).floatValue();
+        }
+        if (!(_type instanceof ParameterizedType pt)) {
+            return null;
+        }
+
+        Type[] typeArgs = pt.getActualTypeArguments();
+        if (pt.getRawType() == Variant.class) {
+            return IDENTITY;
+        } else if (pt.getRawType() == List.class) {
+            Converter element = createConverter(typeArgs[0]);
+            if (element == null) {
+                return null;
+            }
+            return (v, c) -> {
+                if (!(v instanceof List)) {
+                    // e.g. primitive arrays received for lists of numbers
+                    return Marshalling.deSerializeParameter(v, _type, c);
+                } else if (element != IDENTITY) {
+                    @SuppressWarnings("unchecked")
+                    List<Object> list = (List<Object>) v;
+                    for (int i = 0; i < list.size(); i++) {
+                        if (list.get(i) != null) {
+                            list.set(i, element.convert(list.get(i), c));
+                        }
+                    }
+                }
+                return v;
+            };
+        } else if (pt.getRawType() == Map.class) {
+            Converter key = createConverter(typeArgs[0]);
+            Converter value = createConverter(typeArgs[1]);
+            if (key == null || value == null) {
+                return null;
+            }
+            return (v, c) -> {
+                if (!(v instanceof Map<?, ?> received)) {
+                    return Marshalling.deSerializeParameter(v, _type, c);
+                }
+                Map<Object, Object> map = new LinkedHashMap<>();
+                for (Entry<?, ?> e : received.entrySet()) {
+                    map.put(key.convert(e.getKey(), c), value.convert(e.getValue(), c));
+                }
+                return map;
+            };
+        }
+        return null;
+    }
+
+    /**
+     * Checks if the given value is replaced by other values when sent on the bus.
+     *
+     * @param _value value to send
+     * @return true if value has to be converted by {@link Marshalling}
+     */
+    private static boolean requiresMarshalling(Object _value) {
+        return _value instanceof DBusSerializable || _value instanceof Tuple || _value instanceof DBusInterface;
+    }
+
+    /**
+     * Returns the codec for the given method.
+     *
+     * @param _method method
+     * @return MethodCodec
+     */
+    public static MethodCodec forMethod(Method _method) {
+        return CODEC_CACHE.get(_method.getDeclaringClass()).computeIfAbsent(_method, MethodCodec::new);
+    }
+
+    /**
+     * Generic types of the method parameters.
+     * The returned array must not be modified.
+     *
+     * @return Type array
+     */
+    public Type[] getParameterTypes() {
+        return parameterTypes;
+    }
+
+    /**
+     * D-Bus signature of all parameters of the method.
+     *
+     * @return String, empty if method has no parameters
+     * @throws DBusException when the parameter types cannot be represented on D-Bus
+     */
+    public String getParameterSignature() throws DBusException {
+        if (parameterSignatureError != null) {
+            throw parameterSignatureError;
+        }
+        return parameterSignature;
+    }
+
+    /**
+     * D-Bus signature of the return value of the method.
+     *
+     * @return String, null if method returns void
+     * @throws DBusException when the return type cannot be represented on D-Bus
+     */
+    public String getReturnSignature() throws DBusException {
+        if (returnSignatureError != null) {
+            throw returnSignatureError;
+        }
+        return returnSignature;
+    }
+
+    /**
+     * Converts the given arguments to the values which will be sent on the bus.
+     *
+     * @param _args arguments passed to the method
+     * @param _customSignatures custom signatures used for variants, maybe null
+     * @param _conn connection
+     * @return converted arguments
+     * @throws DBusException when conversion fails
+     */
+    public Object[] encodeParameters(Object[] _args, String[] _customSignatures, AbstractConnectionBase _conn) throws DBusException {
+        if (plainParameters) {
+            return _args;
+        } else if (parameterConverters != null && _args != null) {
+            // instances of the declared types are sent as is unless they are serialized to other values
+            boolean convert = false;
+            for (Object arg : _args) {
+                convert |= requiresMarshalling(arg);
+            }
+            if (!convert) {
+                return _args;
+            }
+        }
+        return Marshalling.convertParameters(_args, parameterTypes, _customSignatures, _conn);
+    }
+
+    /**
+     * Converts the values received on the bus to the arguments used to invoke the method.
+     *
+     * @param _params values received on the bus
+     * @param _conn connection
+     * @return converted arguments
+     * @throws Exception when conversion fails
+     */
+    public Object[] decodeParameters(Object[] _params, AbstractConnectionBase _conn) throws Exception {
+        if (parameterConverters == null || _params == null || _params.length != parameterTypes.length) {
+            return Marshalling.deSerializeParameters(_params, parameterTypes, _conn, true);
+        } else if (!plainParameters) {
+            for (int i = 0; i < _params.length; i++) {
+                if (_params[i] != null) {
+                    _params[i] = parameterConverters[i].convert(_params[i], _conn);
+                }
+            }
+        }
+        return _params;
+    }
+
+    /**
+     * Converts the value returned by the method to the values which will be sent on the bus.
+     *
+     * @param _result result of the method invocation
+     * @param _conn connection
+     * @return converted values
+     * @throws DBusException when conversion fails
+     */
+    public Object[] encodeReturn(Object _result, AbstractConnectionBase _conn) throws DBusException {
+        if (plainReturn || (returnConverter != null && !requiresMarshalling(_result))) {
+            return new Object[] {_result};
+        }
+        return Marshalling.convertParameters(new Object[] {_result}, new Type[] {returnType}, _conn);
+    }
+
+    /**
+     * Converts the values received as reply on the bus to the given types.
+     *
+     * @param _values values received on the bus
+     * @param _types expected types
+     * @param _conn connection
+     * @param _methodCall true if values are parameters of a method call
+     * @return converted values
+     * @throws Exception when conversion fails
+     */
+    public Object[] decodeReturn(Object[] _values, Type[] _types, AbstractConnectionBase _conn, boolean _methodCall) throws Exception {
+        if (returnConverter == null || _values == null || _values.length != 1
+            || _types.length != 1 || !returnType.equals(_types[0])) {
+            return Marshalling.deSerializeParameters(_values, _types, _conn, _methodCall);
+        } else if (!plainReturn && _values[0] != null) {
+            _values[0] = returnConverter.convert(_values[0], _conn);
+        }
+        return _values;
+    }
+
+    /**
+     * Invokes the method on the given object.
+     * <p>
+     * Exceptions thrown by the method are thrown as is (not wrapped in an {@link InvocationTargetException}).
+     * </p>
+     *
+     * @param _target object to invoke the method on, ignored for static methods
+     * @param _args arguments, null is treated as no arguments
+     * @return result of the method, null if method returns void
+     * @throws Throwable when invocation fails or the method threw an exception
+     */
+    public Object invoke(Object _target, Object[] _args) throws Throwable {
+        Object[] args = _args == null ? new Object[0] : _args;
+        if (invoker != null) {
+            return (Object) invoker.invokeExact(_target, args);
+        }
+        try {
+            return method.invoke(_target, args);
+        } catch (InvocationTargetException _ex) {
+            throw _ex.getCause();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [parameterSignature=" + parameterSignature + ", returnSignature=" + returnSignature
+            + ", plainParameters=" + plainParameters + ", plainReturn=" + plainReturn
+            + ", parameterConverters=" + (parameterConverters != null) + ", returnConverter=" + (returnConverter != null)
+            + ", methodHandle=" + (invoker != null) + "]";
+    }
+
+    /**
+     * Converts a value received on the bus to the type expected by the method.
+     */
+    @FunctionalInterface
+    private interface Converter {
+        Object convert(Object _value, AbstractConnectionBase _conn) throws Exception;
+    }
+}
@@ -2,6 +2,7 @@ package org.freedesktop.dbus;
 
 import org.freedesktop.dbus.annotations.DBusBoundProperty;
 import org.freedesktop.dbus.annotations.MethodNoReply;
+import org.freedesktop.dbus.annotations.MethodTimeout;
 import org.freedesktop.dbus.connections.AbstractConnection;
 import org.freedesktop.dbus.errors.NoReply;
 import org.freedesktop.dbus.exceptions.DBusException;
@@ -21,11 +22,14 @@ import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.*;
 import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 public class RemoteInvocationHandler implements InvocationHandler {
     public static final int CALL_TYPE_SYNC     = 0;
     public static final int CALL_TYPE_ASYNC    = 1;
     public static final int CALL_TYPE_CALLBACK = 2;
+    public static final int CALL_TYPE_FUTURE   = 3;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(RemoteInvocationHandler.class);
 
@@ -95,7 +99,8 @@ public class RemoteInvocationHandler implements InvocationHandler {
                     return PropRefRemoteHandler.handleDBusBoundProperty(conn, remote, _method, _args);
                 }
 
-                return executeRemoteMethod(remote, _method, conn, CALL_TYPE_SYNC, null, _args);
+                int callType = isFutureType(_method.getReturnType()) ? CALL_TYPE_FUTURE : CALL_TYPE_SYNC;
+                return executeRemoteMethod(remote, _method, conn, callType, null, _args);
         }
     }
 
@@ -103,8 +108,41 @@ public class RemoteInvocationHandler implements InvocationHandler {
         return convertRV(false, _rp, new Type[] {_m.getGenericReturnType()}, _m, _conn);
     }
 
+    /**
+     * Checks if the given method return type is completed asynchronously.
+     *
+     * @param _returnType return type of a method
+     * @return true for {@link CompletableFuture} and {@link CompletionStage}
+     */
+    static boolean isFutureType(Class<?> _returnType) {
+        return _returnType == CompletableFuture.class || _returnType == CompletionStage.class;
+    }
+
+    /**
+     * Returns the type the future returned by the given method is completed with.
+     *
+     * @param _m method returning a {@link CompletableFuture} or {@link CompletionStage}
+     * @return Type, {@link Object} if the future is not parameterized
+     */
+    static Type getFutureResultType(Method _m) {
+        if (_m.getGenericReturnType() instanceof ParameterizedType pt) {
+            Type result = pt.getActualTypeArguments()[0];
+            if (result instanceof WildcardType wt) {
+                return wt.getUpperBounds()[0];
+            }
+            return result;
+        }
+        return Object.class;
+    }
+
     static Object convertRV(boolean _methodCall, Object[] _rp, Type[] _types, Method _m, AbstractConnection _conn) throws DBusException {
         Class<? extends Object> c = _m.getReturnType();
+        if (isFutureType(c)) {
+            c = rawClass(_types[0]);
+            if (Void.class.equals(c)) {
+                c = Void.TYPE;
+            }
+        }
         Object[] rp = _rp;
         if (rp == null) {
             if (null == c || Void.TYPE.equals(c)) {
@@ -117,7 +155,7 @@ public class RemoteInvocationHandler implements InvocationHandler {
                 LoggingHelper.logIf(LOGGER.isTraceEnabled(), () -> LOGGER.trace("Converting return parameters from {} to type {}",
                         Arrays.deepToString(_rp), _m.getGenericReturnType()));
 
-                rp = Marshalling.deSerializeParameters(rp, _types, _conn, _methodCall);
+                rp = MethodCodec.forMethod(_m).decodeReturn(rp, _types, _conn, _methodCall);
             } catch (Exception _ex) {
                 LOGGER.debug("Wrong return type.", _ex);
                 throw new DBusException(String.format("Wrong return type (failed to de-serialize correct types: %s )", _ex.getMessage()), _ex);
@@ -150,9 +188,19 @@ public class RemoteInvocationHandler implements InvocationHandler {
         }
     }
 
+    private static Class<?> rawClass(Type _type) {
+        if (_type instanceof Class<?> clz) {
+            return clz;
+        } else if (_type instanceof ParameterizedType pt && pt.getRawType() instanceof Class<?> clz) {
+            return clz;
+        }
+        return Object.class;
+    }
+
     public static Object executeRemoteMethod(final RemoteObject _ro, final Method _m,
                                              final AbstractConnection _conn, final int _syncmethod, final CallbackHandler<?> _callback, Object... _args) throws DBusException {
-        return executeRemoteMethod(false, _ro, _m, new Type[] {_m.getGenericReturnType()}, _conn, _syncmethod, _callback, _args);
+        Type returnType = isFutureType(_m.getReturnType()) ? getFutureResultType(_m) : _m.getGenericReturnType();
+        return executeRemoteMethod(false, _ro, _m, new Type[] {returnType}, _conn, _syncmethod, _callback, _args);
     }
 
     /**
@@ -174,13 +222,13 @@ public class RemoteInvocationHandler implements InvocationHandler {
     public static Object executeRemoteMethod(boolean _methodCall, final RemoteObject _ro, final Method _m, String[] _customSignatures,
         final Type[] _types, final AbstractConnection _conn, final int _syncmethod, final CallbackHandler<?> _callback, Object... _args) throws DBusException {
 
-        Type[] ts = _m.getGenericParameterTypes();
+        MethodCodec codec = MethodCodec.forMethod(_m);
         String sig = null;
         Object[] args = _args;
-        if (ts.length > 0) {
+        if (codec.getParameterTypes().length > 0) {
             try {
-                sig = Marshalling.getDBusType(ts);
-                args = Marshalling.convertParameters(args, ts, _customSignatures, _conn);
+                sig = codec.getParameterSignature();
+                args = codec.encodeParameters(args, _customSignatures, _conn);
             } catch (DBusException _ex) {
                 throw new DBusExecutionException("Failed to construct D-Bus type: " + _ex.getMessage(), _ex);
             }
@@ -190,7 +238,7 @@ public class RemoteInvocationHandler implements InvocationHandler {
         if (!_ro.isAutostart()) {
             flags |= Flags.NO_AUTO_START;
         }
-        if (_syncmethod == CALL_TYPE_ASYNC) {
+        if (_syncmethod == CALL_TYPE_ASYNC || _syncmethod == CALL_TYPE_FUTURE) {
             flags |= Flags.ASYNC;
         }
         if (_m.isAnnotationPresent(MethodNoReply.class)) {
@@ -208,6 +256,11 @@ public class RemoteInvocationHandler implements InvocationHandler {
             LOGGER.debug("Failed to construct outgoing method call.", _ex);
             throw new DBusExecutionException("Failed to construct outgoing method call: " + _ex.getMessage(), _ex);
         }
+        MethodTimeout timeout = _m.getAnnotation(MethodTimeout.class);
+        if (timeout != null) {
+            call.setTimeout(timeout.value());
+        }
+
         if (!_conn.isConnected()) {
             throw new NotConnected("Not Connected");
         }
@@ -217,6 +270,17 @@ public class RemoteInvocationHandler implements InvocationHandler {
                 _conn.sendMessage(call);
                 return new DBusAsyncReply<>(call, _m, _conn);
             }
+            case CALL_TYPE_FUTURE -> {
+                CompletableFuture<Object> result = new CompletableFuture<>();
+                call.getReplyFuture().whenComplete((reply, ex) -> completeFuture(result, reply, ex, _methodCall, _types, _m, _conn));
+                try {
+                    _conn.sendMessage(call);
+                } catch (RuntimeException _ex) {
+                    // callers of future based methods expect all failures to be reported by the future
+                    result.completeExceptionally(_ex);
+                }
+                return result;
+            }
             case CALL_TYPE_CALLBACK -> {
                 _conn.queueCallback(call, _m, _callback);
                 _conn.sendMessage(call);
@@ -248,6 +312,27 @@ public class RemoteInvocationHandler implements InvocationHandler {
         }
     }
 
+    /**
+     * Completes the given future with the converted reply of a method call.
+     */
+    private static void completeFuture(CompletableFuture<Object> _future, Message _reply, Throwable _ex,
+            boolean _methodCall, Type[] _types, Method _m, AbstractConnection _conn) {
+        if (_ex != null) {
+            _future.completeExceptionally(_ex);
+        } else if (_reply instanceof Error err) {
+            _future.completeExceptionally(err.getException());
+        } else {
+            try {
+                _future.complete(convertRV(_methodCall, _reply.getParameters(), _types, _m, _conn));
+            } catch (DBusException _exDb) {
+                LOGGER.debug("Failed to convert reply", _exDb);
+                _future.completeExceptionally(new DBusExecutionException(_exDb.getMessage(), _exDb));
+            } catch (RuntimeException _exRt) {
+                _future.completeExceptionally(_exRt);
+            }
+        }
+    }
+
     public static Object executeRemoteMethod(boolean _methodCall, final RemoteObject _ro, final Method _m,
                                              final Type[] _types, final AbstractConnection _conn, final int _syncmethod, final CallbackHandler<?> _callback, Object... _args) throws DBusException {
         return executeRemoteMethod(_methodCall, _ro, _m, null, _types, _conn, _syncmethod, _callback, _args);
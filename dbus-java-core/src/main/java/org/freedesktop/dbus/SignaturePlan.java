@@ -0,0 +1,228 @@
+package org.freedesktop.dbus;
+
+import static org.freedesktop.dbus.messages.constants.ArgumentType.*;
+
+import org.freedesktop.dbus.exceptions.DBusException;
+import org.freedesktop.dbus.exceptions.MarshallingException;
+import org.freedesktop.dbus.exceptions.UnknownTypeCodeException;
+import org.freedesktop.dbus.messages.Message;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled representation of a D-Bus signature.
+ * <p>
+ * A plan contains one {@link Node} for every complete type of the signature.
+ * Each node knows its alignment and the nodes of the contained types (array element,
+ * struct members or dict entry key and value), so marshalling and unmarshalling
+ * does not need to parse the signature again.
+ * </p>
+ * <p>
+ * Plans are immutable and cached, use {@link #compile(String)} to get the plan for a signature.
+ * </p>
+ *
+ * @since 6.0.0 - 2026-10-17
+ */
+public final class SignaturePlan {
+    /** Maximum number of cached plans, signatures received in variants could otherwise fill the cache. */
+    private static final int                        MAX_CACHE_SIZE = 2048;
+
+    private static final Map<String, SignaturePlan> PLAN_CACHE     = new ConcurrentHashMap<>();
+
+    private final String                            signature;
+    private final List<Node>                        types;
+
+    private SignaturePlan(String _signature, List<Node> _types) {
+        signature = _signature;
+        types = _types;
+    }
+
+    /**
+     * Returns the compiled plan for the given signature.
+     * Plans are cached, so subsequent calls with the same signature return the same instance.
+     *
+     * @param _signature D-Bus signature, null is treated as empty signature
+     * @return SignaturePlan
+     * @throws DBusException when signature is invalid
+     */
+    public static SignaturePlan compile(String _signature) throws DBusException {
+        String sig = _signature == null ? "" : _signature;
+        SignaturePlan plan = PLAN_CACHE.get(sig);
+        if (plan != null) {
+            return plan;
+        }
+
+        plan = new SignaturePlan(sig, parse(sig));
+        if (PLAN_CACHE.size() < MAX_CACHE_SIZE) {
+            PLAN_CACHE.putIfAbsent(sig, plan);
+        }
+        return plan;
+    }
+
+    /**
+     * The signature this plan was created for.
+     * @return String
+     */
+    public String getSignature() {
+        return signature;
+    }
+
+    /**
+     * All complete types contained in the signature.
+     * @return unmodifiable List
+     */
+    public List<Node> getTypes() {
+        return types;
+    }
+
+    /**
+     * Number of complete types in the signature.
+     * @return int
+     */
+    public int size() {
+        return types.size();
+    }
+
+    /**
+     * Returns the first complete type of the signature.
+     * @return Node, null if signature is empty
+     */
+    public Node getFirst() {
+        return types.isEmpty() ? null : types.getFirst();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [signature=" + signature + ", types=" + types + "]";
+    }
+
+    private static List<Node> parse(String _signature) throws DBusException {
+        byte[] sigb = _signature.getBytes();
+        List<Node> result = new ArrayList<>();
+        int[] pos = new int[] {0};
+        while (pos[0] < sigb.length) {
+            result.add(parseOne(_signature, sigb, pos));
+        }
+        return List.copyOf(result);
+    }
+
+    private static Node parseOne(String _signature, byte[] _sigb, int[] _pos) throws DBusException {
+        if (_pos[0] >= _sigb.length) {
+            throw new MarshallingException("Incomplete type in signature: " + _signature);
+        }
+
+        int start = _pos[0]++;
+        byte code = _sigb[start];
+        List<Node> children = new ArrayList<>();
+
+        switch (code) {
+            case BYTE, BOOLEAN, INT16, UINT16, INT32, UINT32, INT64, UINT64, DOUBLE, FLOAT,
+                STRING, OBJECT_PATH, SIGNATURE, FILEDESCRIPTOR, VARIANT -> {
+                // basic type or variant, nothing contained
+            }
+            case ARRAY -> children.add(parseOne(_signature, _sigb, _pos));
+            case STRUCT1, DICT_ENTRY1 -> {
+                byte end = code == STRUCT1 ? STRUCT2 : DICT_ENTRY2;
+                while (_pos[0] < _sigb.length && _sigb[_pos[0]] != end) {
+                    children.add(parseOne(_signature, _sigb, _pos));
+                }
+                if (_pos[0] >= _sigb.length) {
+                    throw new MarshallingException("Unbalanced container in signature: " + _signature);
+                }
+                _pos[0]++;
+                if (code == DICT_ENTRY1 && children.size() != 2) {
+                    throw new MarshallingException("Dict entry must contain exactly two types: " + _signature);
+                }
+            }
+            default -> throw new UnknownTypeCodeException(code);
+        }
+
+        return new Node(code, start, _pos[0] - 1, _signature.substring(start, _pos[0]), List.copyOf(children));
+    }
+
+    /**
+     * A single complete type of a signature.
+     */
+    public static final class Node {
+        private final byte       typeCode;
+        private final int        alignment;
+        private final int        signatureOffset;
+        private final int        signatureEnd;
+        private final String     signature;
+        private final List<Node> children;
+
+        Node(byte _typeCode, int _signatureOffset, int _signatureEnd, String _signature, List<Node> _children) {
+            typeCode = _typeCode;
+            alignment = Message.getAlignment(_typeCode);
+            signatureOffset = _signatureOffset;
+            signatureEnd = _signatureEnd;
+            signature = _signature;
+            children = _children;
+        }
+
+        /**
+         * Type code of this type (one of {@link org.freedesktop.dbus.messages.constants.ArgumentType}).
+         * Structs use '(' and dict entries use '{'.
+         * @return byte
+         */
+        public byte getTypeCode() {
+            return typeCode;
+        }
+
+        /**
+         * Alignment of this type on the wire.
+         * @return int
+         */
+        public int getAlignment() {
+            return alignment;
+        }
+
+        /**
+         * Offset of the first character of this type in the compiled signature.
+         * @return int
+         */
+        public int getSignatureOffset() {
+            return signatureOffset;
+        }
+
+        /**
+         * Offset of the last character of this type in the compiled signature.
+         * @return int
+         */
+        public int getSignatureEnd() {
+            return signatureEnd;
+        }
+
+        /**
+         * Signature of this type only.
+         * @return String
+         */
+        public String getSignature() {
+            return signature;
+        }
+
+        /**
+         * Contained types: the element of an array, the members of a struct or key and value of a dict entry.
+         * @return unmodifiable List, empty for basic types and variants
+         */
+        public List<Node> getChildren() {
+            return children;
+        }
+
+        /**
+         * Element type of an array.
+         * @return Node, null if this is not an array
+         */
+        public Node getElement() {
+            return typeCode == ARRAY ? children.getFirst() : null;
+        }
+
+        @Override
+        public String toString() {
+            return signature;
+        }
+    }
+}
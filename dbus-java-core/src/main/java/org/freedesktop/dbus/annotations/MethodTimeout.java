@@ -0,0 +1,28 @@
+package org.freedesktop.dbus.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Timeout used when calling the annotated method on a remote object.
+ * <p>
+ * If no reply is received within the given time, the call fails with
+ * {@link org.freedesktop.dbus.errors.NoReply}.
+ * This annotation is only used by the caller and is not part of the introspection data.
+ * </p>
+ *
+ * @since 6.0.0 - 2026-10-17
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MethodTimeout {
+
+    /**
+     * Timeout in milliseconds.
+     *
+     * @return timeout
+     */
+    long value();
+}
@@ -0,0 +1,32 @@
+package org.freedesktop.dbus.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a handler as non-blocking, allowing it to be executed directly on the thread reading
+ * messages from the bus instead of being handed over to a thread pool.
+ * <p>
+ * Can be used on classes implementing {@link org.freedesktop.dbus.interfaces.DBusSigHandler} or
+ * {@link org.freedesktop.dbus.interfaces.CallbackHandler} and on exported objects or their methods.
+ * </p>
+ * <p>
+ * Annotated handlers must return quickly and must never block. In particular, they must not call methods
+ * on a remote object synchronously using the same connection: the reply can not be read while the handler
+ * is running, so the call would time out. No further messages are received until the handler returns.<br>
+ * Handlers exceeding the configured threshold are reported, see
+ * {@link org.freedesktop.dbus.connections.config.ReceivingServiceConfigBuilder#withInlineHandlerWarnThreshold(long)}.
+ * </p>
+ * <p>
+ * This annotation is only used by the receiving side and is not part of the introspection data.
+ * </p>
+ *
+ * @since 6.0.0 - 2026-10-17
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface NonBlocking {
+
+}
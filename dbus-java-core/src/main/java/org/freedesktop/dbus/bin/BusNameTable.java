@@ -0,0 +1,141 @@
+package org.freedesktop.dbus.bin;
+
+import org.freedesktop.dbus.bin.DBusDaemon.ConnectionStruct;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+/**
+ * Table of all bus names known to the daemon and the connection owning each name.
+ * <p>
+ * The table is an immutable snapshot which is replaced on every change, so looking up
+ * names while routing messages never blocks. Changes are applied to a copy of the current
+ * snapshot and published using compare-and-set. Every published snapshot has a higher version
+ * than its predecessor.
+ * </p>
+ * <p>
+ * Names are changed rarely compared to the number of lookups, so copying the table is cheap
+ * compared to locking every lookup.
+ * </p>
+ *
+ * @since 6.0.0 - 2026-10-17
+ */
+final class BusNameTable {
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>(new Snapshot(0, Map.of()));
+
+    /**
+     * Returns the current snapshot of the table.
+     *
+     * @return Snapshot, never null
+     */
+    Snapshot snapshot() {
+        return current.get();
+    }
+
+    /**
+     * Returns the owner of the given name.
+     *
+     * @param _name bus name
+     * @return owner, null if name is not registered or owned by the daemon
+     */
+    ConnectionStruct getOwner(String _name) {
+        return current.get().owners().get(_name);
+    }
+
+    /**
+     * Checks if the given name is registered.
+     *
+     * @param _name bus name
+     * @return true if registered
+     */
+    boolean isRegistered(String _name) {
+        return current.get().owners().containsKey(_name);
+    }
+
+    /**
+     * Registers the given name if it is not registered yet.
+     *
+     * @param _name bus name
+     * @param _owner owner of the name, null for names owned by the daemon
+     * @return true if name was registered, false if name was already taken
+     */
+    boolean register(String _name, ConnectionStruct _owner) {
+        return update(owners -> {
+            if (owners.containsKey(_name)) {
+                return false;
+            }
+            owners.put(_name, _owner);
+            return true;
+        });
+    }
+
+    /**
+     * Removes the given name if it is owned by the given connection.
+     *
+     * @param _name bus name
+     * @param _owner connection which has to own the name
+     * @return true if name was removed
+     */
+    boolean release(String _name, ConnectionStruct _owner) {
+        return update(owners -> owners.get(_name) == _owner && owners.remove(_name, _owner));
+    }
+
+    /**
+     * Removes all names owned by the given connection.
+     *
+     * @param _owner connection
+     * @return List of removed names, maybe empty
+     */
+    List<String> releaseAll(ConnectionStruct _owner) {
+        List<String> removed = new ArrayList<>();
+        update(owners -> {
+            // mutation may be repeated when the table was changed concurrently
+            removed.clear();
+            owners.entrySet().removeIf(e -> {
+                if (e.getValue() == _owner) {
+                    removed.add(e.getKey());
+                    return true;
+                }
+                return false;
+            });
+            return !removed.isEmpty();
+        });
+        return removed;
+    }
+
+    /**
+     * Applies the given mutation to a copy of the current table and publishes the result.
+     * The mutation is applied again if the table was changed by another thread in the meantime.
+     *
+     * @param _mutation changes the given map, returns false if nothing was changed
+     * @return true if a new snapshot was published
+     */
+    private boolean update(Predicate<Map<String, ConnectionStruct>> _mutation) {
+        while (true) {
+            Snapshot snapshot = current.get();
+            // HashMap is used because the names owned by the daemon have no owner (null)
+            Map<String, ConnectionStruct> owners = new HashMap<>(snapshot.owners());
+            if (!_mutation.test(owners)) {
+                return false;
+            }
+            if (current.compareAndSet(snapshot, new Snapshot(snapshot.version() + 1, Collections.unmodifiableMap(owners)))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Immutable state of the table.
+     *
+     * @param version version, incremented on every change
+     * @param owners read-only map of bus name to owner
+     */
+    record Snapshot(long version, Map<String, ConnectionStruct> owners) {
+    }
+}
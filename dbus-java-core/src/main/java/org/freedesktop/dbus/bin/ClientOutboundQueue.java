@@ -0,0 +1,140 @@
+package org.freedesktop.dbus.bin;
+
+import org.freedesktop.dbus.messages.Message;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Queue holding the messages the daemon has to send to one client.
+ * <p>
+ * The size of all queued messages is limited (0 means unlimited). A message is accounted
+ * until it has been written completely, so messages taken by the writer but not yet
+ * sent still count against the limit.
+ * </p>
+ * <p>
+ * The queue keeps track whether a writer has been scheduled, so only one writer is
+ * active for a client at any time.
+ * </p>
+ *
+ * @since 6.0.0 - 2026-10-17
+ */
+final class ClientOutboundQueue {
+
+    private final ReentrantLock       lock     = new ReentrantLock();
+    private final ArrayDeque<Message> messages = new ArrayDeque<>();
+    private final long                maxBytes;
+
+    private long                      bytes;
+    private long                      maxSeenBytes;
+    private long                      sent;
+    private long                      dropped;
+    private boolean                   scheduled;
+
+    /**
+     * Creates a new queue.
+     *
+     * @param _maxBytes maximum size of all queued messages, 0 for unlimited
+     */
+    ClientOutboundQueue(long _maxBytes) {
+        maxBytes = _maxBytes;
+    }
+
+    /**
+     * Adds the given message to the queue.
+     *
+     * @param _msg message
+     * @param _head true to add the message in front of all other queued messages
+     * @return result
+     */
+    OfferResult offer(Message _msg, boolean _head) {
+        int size = _msg.getWireSize();
+        lock.lock();
+        try {
+            // always accept a message if nothing is queued, even if it exceeds the limit on its own
+            if (maxBytes > 0 && bytes > 0 && bytes + size > maxBytes) {
+                dropped++;
+                return OfferResult.LIMIT_EXCEEDED;
+            }
+
+            if (_head) {
+                messages.addFirst(_msg);
+            } else {
+                messages.addLast(_msg);
+            }
+            bytes += size;
+            maxSeenBytes = Math.max(maxSeenBytes, bytes);
+
+            if (scheduled) {
+                return OfferResult.QUEUED;
+            }
+            scheduled = true;
+            return OfferResult.SCHEDULE_WRITER;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes up to the given number of messages from the queue.
+     * The taken messages still count against the limit until {@link #sent(int)} is called.
+     * If the queue is empty, the writer is marked as not scheduled.
+     *
+     * @param _max maximum number of messages
+     * @return List of messages, empty if queue is empty
+     */
+    List<Message> poll(int _max) {
+        lock.lock();
+        try {
+            if (messages.isEmpty()) {
+                scheduled = false;
+                return List.of();
+            }
+            List<Message> result = new ArrayList<>(Math.min(_max, messages.size()));
+            while (result.size() < _max && !messages.isEmpty()) {
+                result.add(messages.poll());
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Called when a message taken using {@link #poll(int)} has been written.
+     *
+     * @param _size size of the message
+     */
+    void sent(int _size) {
+        lock.lock();
+        try {
+            bytes -= _size;
+            sent++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    ClientQueueStatistics getStatistics(long _connectionId, String _uniqueName) {
+        lock.lock();
+        try {
+            return new ClientQueueStatistics(_connectionId, _uniqueName, messages.size(), bytes, maxSeenBytes, sent, dropped);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Result of {@link ClientOutboundQueue#offer(Message, boolean)}.
+     */
+    enum OfferResult {
+        /** Message queued, a writer has to be scheduled by the caller. */
+        SCHEDULE_WRITER,
+        /** Message queued, a writer is already scheduled. */
+        QUEUED,
+        /** Message discarded because the queue limit would be exceeded. */
+        LIMIT_EXCEEDED
+    }
+}
@@ -0,0 +1,18 @@
+package org.freedesktop.dbus.bin;
+
+/**
+ * Snapshot of the outgoing queue of one client connected to the daemon.
+ *
+ * @param connectionId id of the transport connection
+ * @param uniqueName unique bus name of the client, null if client did not send Hello yet
+ * @param queuedMessages messages waiting to be written
+ * @param queuedBytes size of all messages waiting to be written (including partially written messages)
+ * @param maxQueuedBytes highest value of queuedBytes seen so far
+ * @param sentMessages messages written to the client
+ * @param droppedMessages messages discarded because the limit was exceeded
+ *
+ * @since 6.0.0 - 2026-10-17
+ */
+public record ClientQueueStatistics(long connectionId, String uniqueName, int queuedMessages, long queuedBytes,
+    long maxQueuedBytes, long sentMessages, long droppedMessages) {
+}
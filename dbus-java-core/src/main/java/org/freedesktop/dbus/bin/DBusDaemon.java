@@ -10,12 +10,13 @@ import org.freedesktop.dbus.errors.AccessDenied;
 import org.freedesktop.dbus.errors.MatchRuleInvalid;
 import org.freedesktop.dbus.exceptions.DBusException;
 import org.freedesktop.dbus.exceptions.DBusExecutionException;
+import org.freedesktop.dbus.exceptions.NotConnected;
 import org.freedesktop.dbus.interfaces.DBus;
-import org.freedesktop.dbus.interfaces.DBus.NameOwnerChanged;
 import org.freedesktop.dbus.interfaces.FatalException;
 import org.freedesktop.dbus.interfaces.Introspectable;
 import org.freedesktop.dbus.interfaces.Peer;
 import org.freedesktop.dbus.matchrules.DBusMatchRule;
+import org.freedesktop.dbus.matchrules.MatchRuleIndexedMap;
 import org.freedesktop.dbus.matchrules.MatchRuleParser;
 import org.freedesktop.dbus.messages.DBusSignal;
 import org.freedesktop.dbus.messages.Message;
@@ -34,10 +35,12 @@ import java.io.PrintWriter;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
-import java.util.Map.Entry;
-import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
@@ -55,32 +58,127 @@ public class DBusDaemon extends Thread implements Closeable {
 
     private static final Logger                                                 LOGGER          =
             LoggerFactory.getLogger(DBusDaemon.class);
+    private static final AtomicInteger                                          WRITER_THREAD_ID = new AtomicInteger(0);
+    private static final AtomicInteger                                          ROUTING_THREAD_ID = new AtomicInteger(0);
+    /** Maximum number of messages taken from a client queue at once. */
+    private static final int                                                    MAX_WRITE_BATCH = 64;
 
-    private final Map<ConnectionStruct, DBusDaemonReaderThread>                 conns           =
+    /** Connected clients, the value is called to stop reading from the client. */
+    private final Map<ConnectionStruct, Runnable>                               conns           =
             new ConcurrentHashMap<>();
-    private final Map<String, ConnectionStruct>                                 names           =
-            Collections.synchronizedMap(new HashMap<>()); // required because of "null" key
-
-    private final BlockingDeque<Pair<Message, WeakReference<ConnectionStruct>>> outqueue       =
-            new LinkedBlockingDeque<>();
-    private final BlockingDeque<Pair<Message, WeakReference<ConnectionStruct>>> inqueue        =
-            new LinkedBlockingDeque<>();
-
-    private final List<ConnectionStruct>                                        sigrecips       = new ArrayList<>();
-    private final DBusServer                                                    dbusServer      = new DBusServer();
-
-    private final DBusDaemonSenderThread                                        sender          =
-            new DBusDaemonSenderThread();
+    private final BusNameTable                                                  names           = new BusNameTable();
+    /**
+     * Held while changing a name and sending the resulting signals, so all clients
+     * receive the signals in the order the names were changed.
+     */
+    private final Object                                                        nameChangeLock  = new Object();
+
+    /** Received messages, every connection is assigned to one queue so its messages are routed in order. */
+    private final List<BlockingQueue<Pair<Message, WeakReference<ConnectionStruct>>>> inqueues;
+    /** Handles the methods of the bus, one instance per queue. */
+    private final DBusServer[]                                                  dbusServers;
+
+    /** Match rules of all clients, used to find the recipients of a message without checking every rule. */
+    private final MatchRuleIndexedMap<Set<ConnectionStruct>>                    matchRules      = new MatchRuleIndexedMap<>();
+    private final String                                                        machineId       = AddressBuilder.createMachineId();
+
+    /** Writes messages to clients which are not served by an event loop. */
+    private final ExecutorService                                               writerService   =
+            Executors.newCachedThreadPool(r -> {
+                Thread t = new Thread(r, "DBusDaemonWriterThread-" + WRITER_THREAD_ID.incrementAndGet());
+                t.setUncaughtExceptionHandler((th, ex) -> LOGGER.error("Error in Thread {}: ", th, ex));
+                return t;
+            });
+    /** Routes the messages of all queues except the first one, which is served by the daemon thread. */
+    private final ExecutorService                                               routingService;
     private final AtomicBoolean                                                 run             =
             new AtomicBoolean(false);
     private final AtomicInteger                                                 nextUnique      = new AtomicInteger(0);
+    private final AtomicInteger                                                 nextEventLoop   = new AtomicInteger(0);
+    private final AtomicInteger                                                 nextInqueue     = new AtomicInteger(0);
 
     private final AbstractTransport                                             transport;
+    private final DBusDaemonEventLoop[]                                         eventLoops;
+
+    private volatile long                                                       maxOutgoingBytes;
+    private volatile OutgoingLimitPolicy                                        outgoingLimitPolicy = OutgoingLimitPolicy.DISCONNECT;
 
     public DBusDaemon(AbstractTransport _transport) {
+        this(_transport, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new daemon.
+     * <p>
+     * Clients are served by the given number of event loop threads instead of one reader thread per client.
+     * Clients whose connection cannot be used with an event loop (e.g. when file descriptor passing is used)
+     * will still get a dedicated reader thread.
+     * </p>
+     *
+     * @param _transport listening transport
+     * @param _eventLoops number of event loop threads, 0 to use one reader thread per client
+     * @since 6.0.0 - 2026-10-17
+     */
+    public DBusDaemon(AbstractTransport _transport, int _eventLoops) {
+        this(_transport, _eventLoops, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new daemon.
+     * <p>
+     * Received messages are routed by the given number of threads. Every client is assigned to
+     * one routing thread, so messages of the same sender are always routed in the order they were received.
+     * </p>
+     *
+     * @param _transport listening transport
+     * @param _eventLoops number of event loop threads, 0 to use one reader thread per client
+     * @param _routingThreads number of threads routing received messages, including the daemon thread
+     * @since 6.0.0 - 2026-10-17
+     */
+    public DBusDaemon(AbstractTransport _transport, int _eventLoops, int _routingThreads) {
+        if (_routingThreads < 1) {
+            throw new IllegalArgumentException("At least one routing thread required");
+        }
         setName(getClass().getSimpleName() + "-Thread");
         transport = _transport;
-        names.put(DBUS_BUSNAME, null);
+
+        inqueues = new ArrayList<>(_routingThreads);
+        dbusServers = new DBusServer[_routingThreads];
+        for (int i = 0; i < _routingThreads; i++) {
+            inqueues.add(new LinkedBlockingQueue<>());
+            dbusServers[i] = new DBusServer();
+        }
+        routingService = _routingThreads == 1 ? null : Executors.newFixedThreadPool(_routingThreads - 1, r -> {
+            Thread t = new Thread(r, "DBusDaemonRoutingThread-" + ROUTING_THREAD_ID.incrementAndGet());
+            t.setUncaughtExceptionHandler((th, ex) -> LOGGER.error("Error in Thread {}: ", th, ex));
+            return t;
+        });
+
+        eventLoops = createEventLoops(_eventLoops);
+        names.register(DBUS_BUSNAME, null);
+    }
+
+    private DBusDaemonEventLoop[] createEventLoops(int _count) {
+        DBusDaemonEventLoop[] loops = new DBusDaemonEventLoop[Math.max(0, _count)];
+        try {
+            for (int i = 0; i < loops.length; i++) {
+                loops[i] = new DBusDaemonEventLoop(DBusDaemonEventLoop.class.getSimpleName() + "-" + i,
+                    (c, m) -> {
+                        logMessage("Read {} from {}", m, c.unique);
+                        inqueues.get(c.inqueue).add(new Pair<>(m, new WeakReference<>(c)));
+                    },
+                    this::removeConnection);
+            }
+        } catch (IOException _ex) {
+            LOGGER.warn("Unable to create event loops, using one reader thread per connection", _ex);
+            for (DBusDaemonEventLoop loop : loops) {
+                if (loop != null) {
+                    loop.close();
+                }
+            }
+            return new DBusDaemonEventLoop[0];
+        }
+        return loops;
     }
 
     private void send(ConnectionStruct _connStruct, Message _msg) {
@@ -96,19 +194,68 @@ public class DBusDaemon extends Thread implements Closeable {
                 if (d.connection == null || d.connection.getChannel() == null || !d.connection.getChannel().isConnected()) {
                     LOGGER.debug("Ignoring broadcast message for disconnected connection {}: {}", d.connection, _msg);
                 } else {
-                    if (_head) {
-                        outqueue.addFirst(new Pair<>(_msg, new WeakReference<>(d)));
-                    } else {
-                        outqueue.addLast(new Pair<>(_msg, new WeakReference<>(d)));
-                    }
+                    enqueue(d, _msg, _head);
                 }
             }
         } else {
             LOGGER.trace("Queuing message {} for {}", _msg, _connStruct.unique);
-            if (_head) {
-                outqueue.addFirst(new Pair<>(_msg, new WeakReference<>(_connStruct)));
-            } else {
-                outqueue.addLast(new Pair<>(_msg, new WeakReference<>(_connStruct)));
+            enqueue(_connStruct, _msg, _head);
+        }
+    }
+
+    private void enqueue(ConnectionStruct _connStruct, Message _msg, boolean _head) {
+        switch (_connStruct.outbound.offer(_msg, _head)) {
+            case SCHEDULE_WRITER -> {
+                if (_connStruct.client != null) {
+                    _connStruct.client.scheduleWrite();
+                } else {
+                    try {
+                        writerService.execute(() -> writeQueued(_connStruct));
+                    } catch (RejectedExecutionException _ex) {
+                        LOGGER.debug("Daemon shutting down, not sending {} to {}", _msg, _connStruct);
+                    }
+                }
+            }
+            case LIMIT_EXCEEDED -> {
+                if (outgoingLimitPolicy == OutgoingLimitPolicy.DISCONNECT) {
+                    LOGGER.warn("Outgoing queue of {} exceeds {} bytes, disconnecting client", _connStruct, maxOutgoingBytes);
+                    removeConnection(_connStruct);
+                } else {
+                    LOGGER.debug("Outgoing queue of {} exceeds {} bytes, dropping message {}", _connStruct, maxOutgoingBytes, _msg);
+                }
+            }
+            default -> {
+                // writer already scheduled
+            }
+        }
+    }
+
+    /**
+     * Writes all queued messages of a client not served by an event loop using blocking writes.
+     *
+     * @param _connStruct connection
+     */
+    private void writeQueued(ConnectionStruct _connStruct) {
+        while (true) {
+            List<Message> msgs = _connStruct.outbound.poll(MAX_WRITE_BATCH);
+            if (msgs.isEmpty()) {
+                return;
+            }
+            for (Message msg : msgs) {
+                if (!_connStruct.connection.getChannel().isConnected()) {
+                    LOGGER.warn("Connection to {} broken", _connStruct.connection);
+                    removeConnection(_connStruct);
+                    return;
+                }
+                LOGGER.debug("<outqueue> Got message {} for {}", msg, _connStruct.unique);
+                try {
+                    _connStruct.connection.getWriter().writeMessage(msg);
+                    _connStruct.outbound.sent(msg.getWireSize());
+                } catch (IOException _ex) {
+                    LOGGER.debug("Disconnecting client due to previous exception", _ex);
+                    removeConnection(_connStruct);
+                    return;
+                }
             }
         }
     }
@@ -116,96 +263,128 @@ public class DBusDaemon extends Thread implements Closeable {
     @Override
     public void run() {
         run.set(true);
-        sender.start();
+        for (DBusDaemonEventLoop loop : eventLoops) {
+            loop.start();
+        }
+        for (int i = 1; i < inqueues.size(); i++) {
+            int idx = i;
+            routingService.execute(() -> routeMessages(idx));
+        }
+
+        routeMessages(0);
+        if (isRunning()) {
+            close();
+        }
+    }
 
+    /**
+     * Routes the messages of the given queue until the daemon is stopped.
+     *
+     * @param _idx index of the queue
+     */
+    private void routeMessages(int _idx) {
+        BlockingQueue<Pair<Message, WeakReference<ConnectionStruct>>> queue = inqueues.get(_idx);
         while (isRunning()) {
             try {
-                Pair<Message, WeakReference<ConnectionStruct>> pollFirst = inqueue.take();
+                Pair<Message, WeakReference<ConnectionStruct>> pollFirst = queue.take();
                 ConnectionStruct connectionStruct = pollFirst.second.get();
                 if (connectionStruct != null) {
-                    Message m = pollFirst.first;
-                    logMessage("<inqueue> Got message {} from {}", m, connectionStruct.unique);
-                    MessageFactory messageFactory = connectionStruct.connection.getMessageFactory();
-                    // check if they have hello'd
-                    if (null == connectionStruct.unique && (!(m instanceof MethodCall) || !DBUS_BUSNAME.equals(m.getDestination()) || !"Hello".equals(m.getName()))) {
-                        send(connectionStruct,
-                            messageFactory.createError(DBUS_BUSNAME, null, "org.freedesktop.DBus.Error.AccessDenied", m.getSerial(), "s", "You must send a Hello message"));
-                    } else {
-                        try {
-                            if (null != connectionStruct.unique) {
-                                m.setSource(connectionStruct.unique);
-                                LOGGER.trace("Updated source to {}", connectionStruct.unique);
-                            }
-                        } catch (DBusException _ex) {
-                            LOGGER.debug("Error setting source", _ex);
-                            send(connectionStruct, messageFactory.createError(DBUS_BUSNAME, null, "org.freedesktop.DBus.Error.GeneralError", m.getSerial(), "s", "Sending message failed"));
-                        }
-
-                        if (DBUS_BUSNAME.equals(m.getDestination())) {
-                            dbusServer.handleMessage(connectionStruct, pollFirst.first);
-                        } else {
-                            if (m instanceof DBusSignal) {
-                                if (m.getDestination() == null) {
-                                    handleMatchRules(m, connectionStruct);
-                                } else {
-                                    ConnectionStruct destination = names.get(m.getDestination());
-                                    if (destination != null) {
-                                        send(destination, m);
-                                    }
-                                }
-
-                            } else {
-                                ConnectionStruct dest = names.get(m.getDestination());
-
-                                if (null == dest) {
-                                    send(connectionStruct, messageFactory.createError(DBUS_BUSNAME, null,
-                                            "org.freedesktop.DBus.Error.ServiceUnknown", m.getSerial(), "s",
-                                            String.format("The name `%s' does not exist", m.getDestination())));
-                                } else {
-                                    send(dest, m);
-                                    handleMatchRules(m, connectionStruct);
-                                }
-                            }
-
-                        }
-                    }
+                    route(dbusServers[_idx], connectionStruct, pollFirst.first);
                 }
-
             } catch (DBusException _ex) {
                 LOGGER.debug("Error processing connection", _ex);
             } catch (InterruptedException _ex) {
                 LOGGER.debug("Interrupted");
-                close();
-                interrupt();
+                currentThread().interrupt();
+                return;
             }
         }
+    }
+
+    private void route(DBusServer _dbusServer, ConnectionStruct _connectionStruct, Message _msg) throws DBusException {
+        logMessage("<inqueue> Got message {} from {}", _msg, _connectionStruct.unique);
+        MessageFactory messageFactory = _connectionStruct.connection.getMessageFactory();
+        // check if they have hello'd
+        if (null == _connectionStruct.unique && (!(_msg instanceof MethodCall) || !DBUS_BUSNAME.equals(_msg.getDestination()) || !"Hello".equals(_msg.getName()))) {
+            send(_connectionStruct,
+                messageFactory.createError(DBUS_BUSNAME, null, "org.freedesktop.DBus.Error.AccessDenied", _msg.getSerial(), "s", "You must send a Hello message"));
+            return;
+        }
+
+        try {
+            if (null != _connectionStruct.unique) {
+                _msg.setSource(_connectionStruct.unique);
+                LOGGER.trace("Updated source to {}", _connectionStruct.unique);
+            }
+        } catch (DBusException _ex) {
+            LOGGER.debug("Error setting source", _ex);
+            send(_connectionStruct, messageFactory.createError(DBUS_BUSNAME, null, "org.freedesktop.DBus.Error.GeneralError", _msg.getSerial(), "s", "Sending message failed"));
+        }
+
+        if (DBUS_BUSNAME.equals(_msg.getDestination())) {
+            _dbusServer.handleMessage(_connectionStruct, _msg);
+        } else if (_msg instanceof DBusSignal) {
+            if (_msg.getDestination() == null) {
+                handleMatchRules(_msg, _connectionStruct);
+            } else {
+                ConnectionStruct destination = names.getOwner(_msg.getDestination());
+                if (destination != null) {
+                    send(destination, _msg);
+                }
+            }
+        } else {
+            ConnectionStruct dest = names.getOwner(_msg.getDestination());
 
+            if (null == dest) {
+                send(_connectionStruct, messageFactory.createError(DBUS_BUSNAME, null,
+                        "org.freedesktop.DBus.Error.ServiceUnknown", _msg.getSerial(), "s",
+                        String.format("The name `%s' does not exist", _msg.getDestination())));
+            } else {
+                send(dest, _msg);
+                handleMatchRules(_msg, _connectionStruct);
+            }
+        }
     }
 
     private void handleMatchRules(Message _msg, ConnectionStruct _currentConnection) {
         if (_msg instanceof MethodCall mc && mc.getDestination() == null
             || !(_msg instanceof MethodCall)) {
 
-            Map<ConnectionStruct, DBusDaemonReaderThread> l;
-            synchronized (conns) {
-                l = new HashMap<>(conns);
+            // every client receives the message once, even if multiple rules match
+            Set<ConnectionStruct> recipients = new LinkedHashSet<>();
+            matchRules.forEachMatch(_msg, recipients::addAll);
+
+            // the message is not modified after routing, all recipients share the same wire data
+            for (ConnectionStruct recipient : recipients) {
+                if (conns.containsKey(recipient)) {
+                    LOGGER.debug("Forwarding message for matchrule to connection {} (origin={})",
+                        recipient, _currentConnection.unique);
+                    send(recipient, _msg);
+                }
             }
+        }
+    }
 
-            CON_LOOP: for (Entry<ConnectionStruct, DBusDaemonReaderThread> cs : l.entrySet()) {
-                for (DBusMatchRule rule : cs.getKey().rules) {
-                    if (rule.matches(_msg)) {
-                        LOGGER.debug("Cloning message for matchrule \"{}\" for connection {} (origin={})",
-                            rule, cs.getKey(), _currentConnection.unique);
+    private void addMatchRule(ConnectionStruct _connStruct, DBusMatchRule _rule) {
+        synchronized (_connStruct.rules) {
+            // connection may have been removed concurrently, it must not be added to the index again
+            if (conns.containsKey(_connStruct) && _connStruct.rules.add(_rule)) {
+                matchRules.compute(_rule, (r, v) -> {
+                    Set<ConnectionStruct> recipients = v == null ? ConcurrentHashMap.newKeySet() : v;
+                    recipients.add(_connStruct);
+                    return recipients;
+                });
+            }
+        }
+    }
 
-                        try {
-                            Message clone = MessageFactory.createCloneWithNewSerial(_msg);
-                            send(cs.getKey(), clone);
-                            continue CON_LOOP;
-                        } catch (Exception _ex) {
-                            LOGGER.error("Error cloning message for rule matching: {}", _msg, _ex);
-                        }
-                    }
-                }
+    private void removeMatchRule(ConnectionStruct _connStruct, DBusMatchRule _rule) {
+        synchronized (_connStruct.rules) {
+            if (_connStruct.rules.remove(_rule)) {
+                matchRules.computeIfPresent(_rule, (r, v) -> {
+                    v.remove(_connStruct);
+                    return v.isEmpty() ? null : v;
+                });
             }
         }
     }
@@ -223,10 +402,52 @@ public class DBusDaemon extends Thread implements Closeable {
         }
     }
 
-    public synchronized boolean isRunning() {
+    public boolean isRunning() {
         return run.get();
     }
 
+    /**
+     * Limits the size of the messages queued for one client.
+     * <p>
+     * If a client does not read its messages fast enough and the limit is exceeded,
+     * the configured {@link OutgoingLimitPolicy} is applied.
+     * Only affects clients connecting after the limit has been set.
+     * </p>
+     *
+     * @param _maxBytes maximum size in bytes, 0 for unlimited (default)
+     * @since 6.0.0 - 2026-10-17
+     */
+    public void setMaxOutgoingBytes(long _maxBytes) {
+        if (_maxBytes < 0) {
+            throw new IllegalArgumentException("Limit must not be negative");
+        }
+        maxOutgoingBytes = _maxBytes;
+    }
+
+    /**
+     * Policy applied when the queue of a client exceeds the limit set by {@link #setMaxOutgoingBytes(long)}.
+     *
+     * @param _policy policy, default is {@link OutgoingLimitPolicy#DISCONNECT}
+     * @since 6.0.0 - 2026-10-17
+     */
+    public void setOutgoingLimitPolicy(OutgoingLimitPolicy _policy) {
+        outgoingLimitPolicy = Objects.requireNonNull(_policy, "Policy required");
+    }
+
+    /**
+     * Returns the state of the outgoing queue of every connected client.
+     *
+     * @return List of statistics, never null
+     * @since 6.0.0 - 2026-10-17
+     */
+    public List<ClientQueueStatistics> getClientQueueStatistics() {
+        List<ClientQueueStatistics> result = new ArrayList<>(conns.size());
+        for (ConnectionStruct c : conns.keySet()) {
+            result.add(c.outbound.getStatistics(c.connection.getId(), c.unique));
+        }
+        return result;
+    }
+
     @Override
     public void close() {
         run.set(false);
@@ -237,7 +458,21 @@ public class DBusDaemon extends Thread implements Closeable {
                 removeConnection(c);
             }
         }
-        sender.terminate();
+        writerService.shutdownNow();
+        if (routingService != null) {
+            routingService.shutdownNow();
+        }
+        for (DBusDaemonEventLoop loop : eventLoops) {
+            loop.close();
+            if (loop != currentThread() && loop.isAlive()) {
+                try {
+                    loop.join(1000L);
+                } catch (InterruptedException _ex) {
+                    LOGGER.debug("Interrupted while waiting for event loop to terminate");
+                    currentThread().interrupt();
+                }
+            }
+        }
         if (transport != null) {
             LOGGER.debug("Terminating transport {}", transport);
             try {
@@ -250,13 +485,29 @@ public class DBusDaemon extends Thread implements Closeable {
         interrupt();
     }
 
+    /**
+     * Create a 'NameOwnerChanged' signal manually. <br>
+     * This is required because the signal classes marshal their body only when sent by a client connection.
+     *
+     * @param _connection connection
+     * @param _name name to announce
+     * @param _oldOwner previous owner
+     * @param _newOwner new owner
+     *
+     * @return signal
+     * @throws DBusException if signal creation fails
+     */
+    private static DBusSignal generatedNameOwnerChangedSignal(TransportConnection _connection, String _name, String _oldOwner, String _newOwner) throws DBusException {
+        return _connection.getMessageFactory().createSignal(DBUS_BUSNAME, DBUS_BUSPATH, DBUS_BUSNAME, "NameOwnerChanged", "sss", _name, _oldOwner, _newOwner);
+    }
+
     private void removeConnection(ConnectionStruct _c) {
 
-        DBusDaemonReaderThread oldThread = conns.remove(_c);
+        Runnable stopReading = conns.remove(_c);
 
-        if (oldThread != null) {
-            LOGGER.debug("Terminating reader thread for {}", _c);
-            oldThread.terminate();
+        if (stopReading != null) {
+            LOGGER.debug("Stop reading from {}", _c);
+            stopReading.run();
 
             try {
                 if (_c.connection != null) {
@@ -268,29 +519,19 @@ public class DBusDaemon extends Thread implements Closeable {
             }
         }
 
-        LOGGER.debug("Removing signal destination {}", _c);
-        synchronized (sigrecips) {
-            if (sigrecips.removeIf(e -> e.equals(_c))) {
-                LOGGER.debug("Removed one or more signal destinations for {}", _c);
+        LOGGER.debug("Removing match rules of {}", _c);
+        synchronized (_c.rules) {
+            for (DBusMatchRule rule : new ArrayList<>(_c.rules)) {
+                removeMatchRule(_c, rule);
             }
         }
 
         LOGGER.debug("Removing name registration for {}", _c);
-        synchronized (names) {
-            List<String> toRemove = new ArrayList<>();
-
-            // find connection by name
-            for (Entry<String, ConnectionStruct> e : names.entrySet()) {
-                if (e.getValue() == _c) {
-                    toRemove.add(e.getKey());
-                }
-            }
-
-            // remove registered name and send signal to remaining connections
-            for (String name : toRemove) {
-                names.remove(name);
+        // send signal to remaining connections for every removed name
+        synchronized (nameChangeLock) {
+            for (String name : names.releaseAll(_c)) {
                 try {
-                    send(null, new NameOwnerChanged(DBUS_BUSPATH, name, _c.unique, ""));
+                    send(null, generatedNameOwnerChangedSignal(_c.connection, name, _c.unique, ""));
                 } catch (DBusException _ex) {
                     LOGGER.debug("Unable to change owner", _ex);
                 }
@@ -302,11 +543,26 @@ public class DBusDaemon extends Thread implements Closeable {
     void addSock(TransportConnection _s) {
         LOGGER.debug("New Client");
 
-        ConnectionStruct c = new ConnectionStruct(_s);
+        ConnectionStruct c = new ConnectionStruct(_s, maxOutgoingBytes);
+        c.inqueue = Math.floorMod(nextInqueue.getAndIncrement(), inqueues.size());
+        if (eventLoops.length > 0 && DBusDaemonEventLoop.supports(_s)) {
+            DBusDaemonEventLoop loop = eventLoops[Math.floorMod(nextEventLoop.getAndIncrement(), eventLoops.length)];
+            try {
+                // client has to be known before registration, the first message may arrive immediately
+                c.client = loop.createClient(c, _s.getChannel(), c.outbound);
+                conns.put(c, c.client::cancel);
+                loop.register(c.client);
+                LOGGER.debug("Connection {} served by {}", _s.getId(), loop.getName());
+                return;
+            } catch (IOException _ex) {
+                LOGGER.debug("Unable to use event loop for connection {}, using reader thread", _s.getId(), _ex);
+            }
+        }
+
         DBusDaemonReaderThread r = new DBusDaemonReaderThread(c);
         c.threadSupplier = () -> r;
         r.setUncaughtExceptionHandler((t, ex) -> LOGGER.error("Error in Thread {}: ", t, ex));
-        conns.put(c, r);
+        conns.put(c, r::terminate);
         r.start();
     }
 
@@ -414,12 +670,17 @@ public class DBusDaemon extends Thread implements Closeable {
     public static class ConnectionStruct {
         private final TransportConnection       connection;
         private final Set<DBusMatchRule>        rules;
+        private final ClientOutboundQueue       outbound;
 
         private String                          unique;
         private Supplier<Thread>                threadSupplier;
+        private DBusDaemonEventLoop.Client      client;
+        /** Index of the queue receiving the messages of this connection. */
+        private int                             inqueue;
 
-        ConnectionStruct(TransportConnection _c) {
+        ConnectionStruct(TransportConnection _c, long _maxOutgoingBytes) {
             connection = _c;
+            outbound = new ClientOutboundQueue(_maxOutgoingBytes);
             rules = Collections.synchronizedSet(new LinkedHashSet<>());
         }
 
@@ -437,6 +698,10 @@ public class DBusDaemon extends Thread implements Closeable {
          * Update thread name to add the unique ID to thread name.
          */
         void updateThreadName() {
+            if (threadSupplier == null) {
+                // served by an event loop
+                return;
+            }
             Thread thread = threadSupplier.get();
             thread.setName(thread.getName() + "-" + unique);
         }
@@ -444,13 +709,8 @@ public class DBusDaemon extends Thread implements Closeable {
 
     public class DBusServer implements DBus, Introspectable, Peer {
 
-        private final String machineId;
         private ConnectionStruct connStruct;
 
-        public DBusServer() {
-            machineId = AddressBuilder.createMachineId();
-        }
-
         /**
          * Create a 'NameAcquired' signal manually.<br>
          * This is required because the implementation in DBusNameAquired is for receiving of this signal only.
@@ -466,19 +726,29 @@ public class DBusDaemon extends Thread implements Closeable {
         }
 
         /**
-         * Create a 'NameOwnerChanged' signal manually. <br>
-         * This is required because the implementation in DBusNameAquired is for receiving of this signal only.
+         * Create a 'NameLost' signal manually.
          *
          * @param _connection connection
-         * @param _name name to announce
-         * @param _oldOwner previous owner
-         * @param _newOwner new owner
+         * @param _name name which was lost
          *
          * @return signal
          * @throws DBusException if signal creation fails
          */
-        private DBusSignal generatedNameOwnerChangedSignal(TransportConnection _connection, String _name, String _oldOwner, String _newOwner) throws DBusException {
-            return _connection.getMessageFactory().createSignal(DBUS_BUSNAME, DBUS_BUSPATH, DBUS_BUSNAME, "NameOwnerChanged", "sss", _name, _oldOwner, _newOwner);
+        private DBusSignal generateNameLostSignal(TransportConnection _connection, String _name) throws DBusException {
+            return _connection.getMessageFactory().createSignal(DBUS_BUSNAME, DBUS_BUSPATH, DBUS_BUSNAME, "NameLost", "s", _name);
+        }
+
+        /**
+         * Ensures the connection of the current call has not been removed yet.
+         * Must be called while holding {@link DBusDaemon#nameChangeLock}, otherwise a name registered
+         * after {@link DBusDaemon#removeConnection(ConnectionStruct)} would never be released.
+         *
+         * @throws NotConnected if the connection has been removed
+         */
+        private void ensureConnected() {
+            if (!conns.containsKey(connStruct)) {
+                throw new NotConnected("Connection " + connStruct.unique + " has been closed");
+            }
         }
 
         @Override
@@ -494,15 +764,16 @@ public class DBusDaemon extends Thread implements Closeable {
                 }
                 connStruct.updateUniqueId(nextUnique.incrementAndGet());
             }
-            names.put(connStruct.unique, connStruct);
-
-            LOGGER.info("Client {} registered", connStruct.unique);
-
-            try {
-                send(connStruct, generateNameAcquiredSignal(connStruct.connection, connStruct.unique));
-                send(null, generatedNameOwnerChangedSignal(connStruct.connection, connStruct.unique, "", connStruct.unique));
-            } catch (DBusException _ex) {
-                LOGGER.debug("", _ex);
+            synchronized (nameChangeLock) {
+                ensureConnected();
+                names.register(connStruct.unique, connStruct);
+                LOGGER.info("Client {} registered", connStruct.unique);
+                try {
+                    send(connStruct, generateNameAcquiredSignal(connStruct.connection, connStruct.unique));
+                    send(null, generatedNameOwnerChangedSignal(connStruct.connection, connStruct.unique, "", connStruct.unique));
+                } catch (DBusException _ex) {
+                    LOGGER.debug("", _ex);
+                }
             }
 
             return connStruct.unique;
@@ -510,21 +781,18 @@ public class DBusDaemon extends Thread implements Closeable {
 
         @Override
         public String[] ListNames() {
-            String[] ns;
-            Set<String> nss = names.keySet();
-            ns = nss.toArray(EMPTY_STRING_ARRAY);
-            return ns;
+            return names.snapshot().owners().keySet().toArray(EMPTY_STRING_ARRAY);
         }
 
         @Override
         public boolean NameHasOwner(String _name) {
-            return names.containsKey(_name);
+            return names.isRegistered(_name);
         }
 
         @Override
         public String GetNameOwner(String _name) {
 
-            ConnectionStruct owner = names.get(_name);
+            ConnectionStruct owner = names.getOwner(_name);
             String o;
             if (null == owner) {
                 o = "";
@@ -546,23 +814,15 @@ public class DBusDaemon extends Thread implements Closeable {
         }
 
         @Override
-        @SuppressWarnings("checkstyle:innerassignment")
         public UInt32 RequestName(String _name, UInt32 _flags) {
-            boolean exists = false;
-            synchronized (names) {
-                if (!(exists = names.containsKey(_name))) {
-                    names.put(_name, connStruct);
+            synchronized (nameChangeLock) {
+                ensureConnected();
+                if (!names.register(_name, connStruct)) {
+                    return new UInt32(DBUS_REQUEST_NAME_REPLY_EXISTS);
                 }
-            }
-
-            int rv;
-            if (exists) {
-                rv = DBUS_REQUEST_NAME_REPLY_EXISTS;
-            } else {
 
                 LOGGER.info("Client {} acquired name {}", connStruct.unique, _name);
 
-                rv = DBUS_REQUEST_NAME_REPLY_PRIMARY_OWNER;
                 try {
                     send(connStruct, generateNameAcquiredSignal(connStruct.connection, _name));
                     send(null, generatedNameOwnerChangedSignal(connStruct.connection, _name, "", connStruct.unique));
@@ -570,34 +830,27 @@ public class DBusDaemon extends Thread implements Closeable {
                     LOGGER.debug("", _ex);
                 }
             }
-            return new UInt32(rv);
+            return new UInt32(DBUS_REQUEST_NAME_REPLY_PRIMARY_OWNER);
         }
 
         @Override
         public UInt32 ReleaseName(String _name) {
 
-            boolean exists = false;
-            synchronized (names) {
-                if (names.containsKey(_name) && names.get(_name).equals(connStruct)) {
-                    exists = names.remove(_name) != null;
+            synchronized (nameChangeLock) {
+                if (!names.release(_name, connStruct)) {
+                    return new UInt32(DBUS_RELEASE_NAME_REPLY_NON_EXISTANT);
                 }
-            }
 
-            int rv;
-            if (!exists) {
-                rv = DBUS_RELEASE_NAME_REPLY_NON_EXISTANT;
-            } else {
-                LOGGER.info("Client {} acquired name {}", connStruct.unique, _name);
-                rv = DBUS_RELEASE_NAME_REPLY_RELEASED;
+                LOGGER.info("Client {} released name {}", connStruct.unique, _name);
                 try {
-                    send(connStruct, new NameLost(DBUS_BUSPATH, _name));
-                    send(null, new NameOwnerChanged(DBUS_BUSPATH, _name, connStruct.unique, ""));
+                    send(connStruct, generateNameLostSignal(connStruct.connection, _name));
+                    send(null, generatedNameOwnerChangedSignal(connStruct.connection, _name, connStruct.unique, ""));
                 } catch (DBusException _ex) {
                     LOGGER.debug("", _ex);
                 }
             }
 
-            return new UInt32(rv);
+            return new UInt32(DBUS_RELEASE_NAME_REPLY_RELEASED);
         }
 
         @Override
@@ -610,16 +863,8 @@ public class DBusDaemon extends Thread implements Closeable {
                 throw new MatchRuleInvalid("Received invalid match rule " + _matchrule);
             }
 
-            synchronized (sigrecips) {
-                if (!sigrecips.contains(connStruct)) {
-                    sigrecips.add(connStruct);
-                }
-            }
-
             LOGGER.info("Adding matchrule: {}, hash = {}", matchRule, matchRule.hashCode());
-            synchronized (connStruct.rules) {
-                connStruct.rules.add(matchRule);
-            }
+            addMatchRule(connStruct, matchRule);
         }
 
         @Override
@@ -630,9 +875,7 @@ public class DBusDaemon extends Thread implements Closeable {
                 throw new MatchRuleInvalid("Received invalid match rule " + _matchrule);
             }
 
-            synchronized (connStruct.rules) {
-                connStruct.rules.remove(matchRule);
-            }
+            removeMatchRule(connStruct, matchRule);
         }
 
         @Override
@@ -674,7 +917,7 @@ public class DBusDaemon extends Thread implements Closeable {
                 meth = DBusServer.class.getMethod(_msg.getName(), cs);
                 try {
                     this.connStruct = _connStruct;
-                    rv = meth.invoke(dbusServer, args);
+                    rv = meth.invoke(this, args);
                     if (null == rv) {
                         send(_connStruct, messageFactory.createMethodReturn(DBUS_BUSNAME, (MethodCall) _msg, null), true);
                     } else {
@@ -823,60 +1066,6 @@ public class DBusDaemon extends Thread implements Closeable {
 
     }
 
-    public class DBusDaemonSenderThread extends Thread {
-        private final Logger logger = LoggerFactory.getLogger(getClass());
-        private final AtomicBoolean running = new AtomicBoolean(false); // switch running status when thread begins
-
-        public DBusDaemonSenderThread() {
-            setName(getClass().getSimpleName().replace('$', '-'));
-        }
-
-        @Override
-        public void run() {
-            logger.debug(">>>> Sender thread started <<<<");
-            running.set(true);
-            while (isRunning() && running.get()) {
-
-                logger.trace("Acquiring lock on outqueue and blocking for data");
-
-                // block on outqueue
-                try {
-                    Pair<Message, WeakReference<ConnectionStruct>> pollFirst = outqueue.take();
-                    if (pollFirst != null) {
-                        ConnectionStruct connectionStruct = pollFirst.second.get();
-                        if (connectionStruct != null) {
-                            if (connectionStruct.connection.getChannel().isConnected()) {
-                                logger.debug("<outqueue> Got message {} for {}", pollFirst.first, connectionStruct.unique);
-
-                                try {
-                                    connectionStruct.connection.getWriter().writeMessage(pollFirst.first);
-                                } catch (IOException _ex) {
-                                    logger.debug("Disconnecting client due to previous exception", _ex);
-                                    removeConnection(connectionStruct);
-                                }
-                            } else {
-                                logger.warn("Connection to {} broken", connectionStruct.connection);
-                                removeConnection(connectionStruct);
-                            }
-
-                        } else {
-                            logger.info("Discarding {} connection reaped", pollFirst.first);
-                        }
-                    }
-                } catch (InterruptedException _ex) {
-                    logger.debug("Got interrupted", _ex);
-                    currentThread().interrupt();
-                }
-            }
-            logger.debug(">>>> Sender Thread terminated <<<<");
-        }
-
-        public synchronized void terminate() {
-            running.set(false);
-            interrupt();
-        }
-    }
-
     public class DBusDaemonReaderThread extends Thread {
         private final Logger logger = LoggerFactory.getLogger(getClass());
         private final WeakReference<ConnectionStruct> weakconn;
@@ -917,7 +1106,7 @@ public class DBusDaemon extends Thread implements Closeable {
                 if (null != m) {
                     logMessage("Read {} from {}", m, conn.unique);
 
-                    inqueue.add(new Pair<>(m, weakconn));
+                    inqueues.get(conn.inqueue).add(new Pair<>(m, weakconn));
                 }
             }
             conn = null;
@@ -0,0 +1,322 @@
+package org.freedesktop.dbus.bin;
+
+import org.freedesktop.dbus.bin.DBusDaemon.ConnectionStruct;
+import org.freedesktop.dbus.connections.transports.TransportConnection;
+import org.freedesktop.dbus.exceptions.DBusException;
+import org.freedesktop.dbus.interfaces.FatalException;
+import org.freedesktop.dbus.messages.Message;
+import org.freedesktop.dbus.spi.message.BufferedMessageReader;
+import org.freedesktop.dbus.spi.message.ISocketProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.spi.SelectorProvider;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Event loop serving many daemon client connections with a single thread using a {@link Selector}.
+ * <p>
+ * The loop reads from all registered connections without blocking, splits the received data
+ * into messages and passes every message to the message handler. Messages sent to a client
+ * are taken from the client's {@link ClientOutboundQueue} and written whenever the socket is writable.<br>
+ * The handlers are called on the loop thread and must not block.
+ * </p>
+ * <p>
+ * Only connections using a channel of the default {@link SelectorProvider} without
+ * file descriptor passing can be registered (see {@link #supports(TransportConnection)}).
+ * </p>
+ *
+ * @since 6.0.0 - 2026-10-17
+ */
+final class DBusDaemonEventLoop extends Thread implements Closeable {
+    /** Maximum number of messages read from one client before other clients are served. */
+    private static final int                             MAX_MESSAGES_PER_READ  = 64;
+    /** Maximum number of messages written with one gathering write. */
+    private static final int                             MAX_MESSAGES_PER_WRITE = 64;
+    /** Maximum number of gathering writes to one client before other clients are served. */
+    private static final int                             MAX_WRITES_PER_FLUSH   = 16;
+
+    private final Logger                                 logger                 = LoggerFactory.getLogger(getClass());
+
+    private final Selector                               selector;
+    private final Queue<Runnable>                        tasks                  = new ConcurrentLinkedQueue<>();
+    private final BiConsumer<ConnectionStruct, Message>  messageHandler;
+    private final Consumer<ConnectionStruct>             disconnectHandler;
+    private final AtomicBoolean                          running                = new AtomicBoolean(true);
+
+    /**
+     * Creates a new event loop. The loop has to be started using {@link #start()}.
+     *
+     * @param _name thread name
+     * @param _messageHandler called for every message received
+     * @param _disconnectHandler called when a client disconnected or reading/writing failed
+     * @throws IOException when selector could not be created
+     */
+    DBusDaemonEventLoop(String _name, BiConsumer<ConnectionStruct, Message> _messageHandler, Consumer<ConnectionStruct> _disconnectHandler) throws IOException {
+        setName(_name);
+        selector = Selector.open();
+        messageHandler = _messageHandler;
+        disconnectHandler = _disconnectHandler;
+        setUncaughtExceptionHandler((t, ex) -> logger.error("Error in Thread {}: ", t, ex));
+    }
+
+    /**
+     * Checks if the given connection can be served by an event loop.
+     *
+     * @param _connection connection
+     * @return true if supported
+     */
+    static boolean supports(TransportConnection _connection) {
+        SocketChannel channel = _connection.getChannel();
+        ISocketProvider socketProvider = _connection.getSocketProviderImpl();
+        return channel != null
+            && channel.provider() == SelectorProvider.provider()
+            && (socketProvider == null || !socketProvider.isFileDescriptorPassingSupported());
+    }
+
+    /**
+     * Creates a client for the given connection.
+     * The channel is switched to non-blocking mode, the message reader/writer of the connection must not be used afterwards.
+     * The client is served once it has been passed to {@link #register(Client)}.
+     *
+     * @param _conn connection
+     * @param _channel channel of the connection
+     * @param _queue queue holding the messages to send
+     * @return Client used to send messages
+     * @throws IOException when channel could not be switched to non-blocking mode
+     */
+    Client createClient(ConnectionStruct _conn, SocketChannel _channel, ClientOutboundQueue _queue) throws IOException {
+        _channel.configureBlocking(false);
+        return new Client(_conn, _channel, _queue);
+    }
+
+    /**
+     * Starts serving the given client.
+     *
+     * @param _client client created by this loop
+     */
+    void register(Client _client) {
+        execute(() -> {
+            try {
+                _client.key = _client.channel.register(selector, SelectionKey.OP_READ, _client);
+                // messages may have been queued before the client was registered
+                flush(_client);
+            } catch (ClosedChannelException _ex) {
+                disconnect(_client, _ex);
+            }
+        });
+    }
+
+    private void execute(Runnable _task) {
+        tasks.add(_task);
+        selector.wakeup();
+    }
+
+    @Override
+    public void run() {
+        logger.debug(">>>> Event loop started <<<<");
+        try {
+            while (running.get()) {
+                // only run tasks already queued, tasks may queue new tasks
+                for (int i = tasks.size(); i > 0; i--) {
+                    tasks.poll().run();
+                }
+
+                if (tasks.isEmpty()) {
+                    selector.select();
+                } else {
+                    selector.selectNow();
+                }
+
+                Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+                while (it.hasNext()) {
+                    SelectionKey key = it.next();
+                    it.remove();
+                    handleKey(key);
+                }
+            }
+        } catch (ClosedSelectorException _ex) {
+            logger.debug("Selector closed");
+        } catch (IOException _ex) {
+            logger.error("Event loop terminated by exception", _ex);
+        } finally {
+            try {
+                selector.close();
+            } catch (IOException _ex) {
+                logger.debug("Error closing selector", _ex);
+            }
+        }
+        logger.debug(">>>> Event loop terminated <<<<");
+    }
+
+    private void handleKey(SelectionKey _key) {
+        Client client = (Client) _key.attachment();
+        try {
+            if (_key.isValid() && _key.isWritable()) {
+                flush(client);
+            }
+            if (_key.isValid() && _key.isReadable()) {
+                read(client);
+            }
+        } catch (CancelledKeyException _ex) {
+            logger.trace("Connection {} closed while processing", client.conn);
+        }
+    }
+
+    private void read(Client _client) {
+        if (!_client.channel.isOpen()) {
+            return;
+        }
+        for (int i = 0; i < MAX_MESSAGES_PER_READ; i++) {
+            Message m;
+            try {
+                m = _client.reader.readMessage();
+            } catch (IOException _ex) {
+                disconnect(_client, _ex);
+                return;
+            } catch (DBusException _ex) {
+                logger.debug("", _ex);
+                if (_ex instanceof FatalException) {
+                    disconnect(_client, _ex);
+                    return;
+                }
+                continue;
+            }
+
+            if (m == null) {
+                return;
+            }
+            messageHandler.accept(_client.conn, m);
+        }
+        // more messages may already be buffered, continue after all other clients have been served
+        tasks.add(() -> read(_client));
+    }
+
+    /**
+     * Writes queued messages to the client until the socket does not accept more data.
+     * If data remains, the loop waits for the socket to become writable.
+     * Clients not registered yet are flushed by the registration.
+     */
+    private void flush(Client _client) {
+        SelectionKey key = _client.key;
+        if (key == null || !key.isValid()) {
+            return;
+        }
+
+        try {
+            for (int i = 0; i < MAX_WRITES_PER_FLUSH; i++) {
+                if (_client.pending.isEmpty()) {
+                    List<Message> msgs = _client.queue.poll(MAX_MESSAGES_PER_WRITE);
+                    if (msgs.isEmpty()) {
+                        setInterestOps(key, SelectionKey.OP_READ);
+                        return;
+                    }
+                    for (Message msg : msgs) {
+                        ByteBuffer wireBuffer = msg.getWireBuffer();
+                        if (wireBuffer == null) {
+                            logger.warn("Message {} wire-data was null!", msg);
+                            _client.queue.sent(msg.getWireSize());
+                        } else {
+                            _client.pending.add(new PendingWrite(wireBuffer, msg.getWireSize()));
+                        }
+                    }
+                }
+
+                _client.channel.write(_client.pending.stream().map(PendingWrite::buffer).toArray(ByteBuffer[]::new));
+                while (!_client.pending.isEmpty() && !_client.pending.peek().buffer().hasRemaining()) {
+                    _client.queue.sent(_client.pending.poll().size());
+                }
+
+                if (!_client.pending.isEmpty()) {
+                    // socket buffer full, continue when socket is writable again
+                    setInterestOps(key, SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                    return;
+                }
+            }
+            // more messages queued, continue after all other clients have been served
+            tasks.add(() -> flush(_client));
+        } catch (IOException _ex) {
+            disconnect(_client, _ex);
+        }
+    }
+
+    private static void setInterestOps(SelectionKey _key, int _ops) {
+        if (_key.interestOps() != _ops) {
+            _key.interestOps(_ops);
+        }
+    }
+
+    private void disconnect(Client _client, Exception _ex) {
+        logger.debug("Disconnecting client {}", _client.conn, _ex);
+        _client.cancel();
+        disconnectHandler.accept(_client.conn);
+    }
+
+    /**
+     * Stops the event loop. The registered channels are not closed.
+     */
+    @Override
+    public void close() {
+        running.set(false);
+        selector.wakeup();
+    }
+
+    /**
+     * Client connection registered with an event loop.
+     */
+    final class Client {
+        private final ConnectionStruct          conn;
+        private final SocketChannel             channel;
+        private final BufferedMessageReader     reader;
+        private final ClientOutboundQueue       queue;
+
+        /** Messages taken from the queue but not yet (completely) written, only used by the loop thread. */
+        private final ArrayDeque<PendingWrite>  pending = new ArrayDeque<>();
+
+        private volatile SelectionKey           key;
+
+        private Client(ConnectionStruct _conn, SocketChannel _channel, ClientOutboundQueue _queue) {
+            conn = _conn;
+            channel = _channel;
+            queue = _queue;
+            reader = new BufferedMessageReader(_channel);
+        }
+
+        /**
+         * Writes the messages of the outbound queue.
+         * Has to be called when {@link ClientOutboundQueue#offer(Message, boolean)} requests a writer.
+         */
+        void scheduleWrite() {
+            execute(() -> flush(this));
+        }
+
+        /**
+         * Stops serving this client.
+         */
+        void cancel() {
+            SelectionKey k = key;
+            if (k != null) {
+                k.cancel();
+            }
+        }
+    }
+
+    private record PendingWrite(ByteBuffer buffer, int size) {
+    }
+}
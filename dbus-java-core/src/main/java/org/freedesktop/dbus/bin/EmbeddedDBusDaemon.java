@@ -16,6 +16,7 @@ import org.slf4j.LoggerFactory;
 import java.io.Closeable;
 import java.io.IOException;
 import java.nio.file.attribute.PosixFilePermission;
+import java.util.List;
 import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.concurrent.CountDownLatch;
@@ -52,6 +53,14 @@ public class EmbeddedDBusDaemon implements Closeable {
 
     private CountDownLatch startupLatch = new CountDownLatch(1);
 
+    private int eventLoops = Runtime.getRuntime().availableProcessors();
+
+    private int routingThreads = Runtime.getRuntime().availableProcessors();
+
+    private long maxOutgoingBytes;
+
+    private OutgoingLimitPolicy outgoingLimitPolicy = OutgoingLimitPolicy.DISCONNECT;
+
     public EmbeddedDBusDaemon(BusAddress _address) {
         // create copy of address so manipulation happens later does not interfere with our instance
         address = BusAddress.of(Objects.requireNonNull(_address, "Address required"));
@@ -273,8 +282,92 @@ public class EmbeddedDBusDaemon implements Closeable {
         bindCallback = _callback;
     }
 
+    /**
+     * Number of event loop threads used to serve the connected clients.
+     * @return number of event loops
+     * @since 6.0.0 - 2026-10-17
+     */
+    public int getEventLoops() {
+        return eventLoops;
+    }
+
+    /**
+     * Set the number of event loop threads used to serve the connected clients.<br>
+     * Each event loop handles reading and writing for many clients without blocking.
+     * Using 0 will start one reader thread per client instead.<br>
+     * <br>
+     * Default is the number of available processors.
+     * Must be set before the daemon is started.
+     *
+     * @param _eventLoops number of event loop threads
+     * @since 6.0.0 - 2026-10-17
+     */
+    public void setEventLoops(int _eventLoops) {
+        if (_eventLoops < 0) {
+            throw new IllegalArgumentException("Number of event loops must not be negative");
+        }
+        eventLoops = _eventLoops;
+    }
+
+    /**
+     * Number of threads routing the messages received from clients.
+     * @return number of routing threads
+     * @since 6.0.0 - 2026-10-17
+     */
+    public int getRoutingThreads() {
+        return routingThreads;
+    }
+
+    /**
+     * Set the number of threads routing the messages received from clients.<br>
+     * Every client is assigned to one of these threads, so messages of one client are always routed in order.<br>
+     * <br>
+     * Default is the number of available processors.
+     * Must be set before the daemon is started.
+     *
+     * @param _routingThreads number of routing threads, at least 1
+     * @since 6.0.0 - 2026-10-17
+     */
+    public void setRoutingThreads(int _routingThreads) {
+        if (_routingThreads < 1) {
+            throw new IllegalArgumentException("At least one routing thread required");
+        }
+        routingThreads = _routingThreads;
+    }
+
+    /**
+     * Limit the size of the messages queued for one client (similar to max_outgoing_bytes of dbus-daemon).<br>
+     * When a client does not read its messages and the limit is exceeded, the {@link OutgoingLimitPolicy} is applied.<br>
+     * <br>
+     * Default is 0 (unlimited).
+     * Must be set before the daemon is started.
+     *
+     * @param _maxOutgoingBytes maximum size in bytes, 0 for unlimited
+     * @param _policy policy to apply when limit is exceeded
+     * @since 6.0.0 - 2026-10-17
+     */
+    public void setOutgoingLimit(long _maxOutgoingBytes, OutgoingLimitPolicy _policy) {
+        if (_maxOutgoingBytes < 0) {
+            throw new IllegalArgumentException("Limit must not be negative");
+        }
+        maxOutgoingBytes = _maxOutgoingBytes;
+        outgoingLimitPolicy = Objects.requireNonNull(_policy, "Policy required");
+    }
+
+    /**
+     * Returns the state of the outgoing queue of every connected client.
+     *
+     * @return List of statistics, empty if daemon is not running
+     * @since 6.0.0 - 2026-10-17
+     */
+    public synchronized List<ClientQueueStatistics> getClientQueueStatistics() {
+        return daemon == null ? List.of() : daemon.getClientQueueStatistics();
+    }
+
     private synchronized void setDaemonAndStart(AbstractTransport _transport) {
-        daemon = new DBusDaemon(_transport);
+        daemon = new DBusDaemon(_transport, eventLoops, routingThreads);
+        daemon.setMaxOutgoingBytes(maxOutgoingBytes);
+        daemon.setOutgoingLimitPolicy(outgoingLimitPolicy);
         daemon.start();
     }
 
@@ -0,0 +1,13 @@
+package org.freedesktop.dbus.bin;
+
+/**
+ * Defines what the daemon does when the outgoing queue of a client exceeds the configured limit.
+ *
+ * @since 6.0.0 - 2026-10-17
+ */
+public enum OutgoingLimitPolicy {
+    /** Disconnect the client which does not read its messages. */
+    DISCONNECT,
+    /** Discard the message which would exceed the limit, the client stays connected. */
+    DROP
+}
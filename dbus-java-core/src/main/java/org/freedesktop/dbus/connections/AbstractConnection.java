@@ -22,6 +22,7 @@ import org.freedesktop.dbus.utils.DBusObjects;
 
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.regex.Pattern;
 
@@ -391,6 +392,47 @@ public abstract non-sealed class AbstractConnection extends ConnectionMessageHan
         }
     }
 
+    /**
+     * Call a method asynchronously and get a future which is completed with the reply.
+     * <p>
+     * The future is completed by the thread receiving the reply without using an additional executor.
+     * If the remote method fails, or no reply is received within the timeout of the call, the
+     * future is completed exceptionally with the corresponding {@link DBusExecutionException}.
+     * </p>
+     *
+     * @param <T> type of the result
+     * @param _object
+     *            The remote object on which to call the method.
+     * @param _method
+     *            The name of the method on the interface to call.
+     * @param _parameters
+     *            The parameters to call the method with.
+     * @return CompletableFuture
+     * @since 6.0.0 - 2026-10-17
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> callMethodFuture(DBusInterface _object, String _method, Object... _parameters) {
+        Class<?>[] types = createTypesArray(_parameters);
+        RemoteObject ro = getImportedObjects().get(_object);
+
+        try {
+            Method me;
+            if (null == ro.getInterface()) {
+                me = _object.getClass().getMethod(_method, types);
+            } else {
+                me = ro.getInterface().getMethod(_method, types);
+            }
+            return (CompletableFuture<T>) RemoteInvocationHandler.executeRemoteMethod(ro, me, this,
+                    RemoteInvocationHandler.CALL_TYPE_FUTURE, null, _parameters);
+        } catch (DBusExecutionException _ex) {
+            getLogger().debug("Error calling async method", _ex);
+            throw _ex;
+        } catch (Exception _ex) {
+            getLogger().debug("Failed to execute async method", _ex);
+            throw new DBusExecutionException(_ex.getMessage(), _ex);
+        }
+    }
+
     private static Class<?>[] createTypesArray(Object... _parameters) {
         if (_parameters == null) {
             return null;
@@ -8,19 +8,22 @@ import org.freedesktop.dbus.connections.IDisconnectCallback;
 import org.freedesktop.dbus.connections.config.ReceivingServiceConfig;
 import org.freedesktop.dbus.connections.config.TransportConfig;
 import org.freedesktop.dbus.connections.impl.ConnectionConfig;
+import org.freedesktop.dbus.connections.shared.ExecutorNames;
 import org.freedesktop.dbus.connections.transports.AbstractTransport;
 import org.freedesktop.dbus.connections.transports.TransportBuilder;
 import org.freedesktop.dbus.errors.UnknownProperty;
 import org.freedesktop.dbus.exceptions.DBusException;
 import org.freedesktop.dbus.exceptions.DBusExecutionException;
 import org.freedesktop.dbus.exceptions.FatalDBusException;
+import org.freedesktop.dbus.exceptions.IllegalThreadPoolStateException;
 import org.freedesktop.dbus.exceptions.NotConnected;
 import org.freedesktop.dbus.interfaces.DBusInterface;
 import org.freedesktop.dbus.interfaces.DBusSigHandler;
-import org.freedesktop.dbus.matchrules.DBusMatchRule;
+import org.freedesktop.dbus.matchrules.MatchRuleIndexedMap;
 import org.freedesktop.dbus.messages.*;
 import org.freedesktop.dbus.messages.Error;
 import org.freedesktop.dbus.messages.constants.Flags;
+import org.freedesktop.dbus.utils.ConcurrentLongMap;
 import org.freedesktop.dbus.utils.IThrowingConsumer;
 import org.freedesktop.dbus.utils.IThrowingFunction;
 import org.freedesktop.dbus.utils.NameableThreadFactory;
@@ -44,37 +47,51 @@ import java.util.concurrent.*;
  */
 public abstract sealed class AbstractConnectionBase implements Closeable permits ConnectionMethodInvocation {
 
-    private static final Map<Thread, DBusCallInfo> INFOMAP = new ConcurrentHashMap<>();
+    private static final ThreadLocal<DBusCallInfo> CALL_INFO = new ThreadLocal<>();
 
-    private final Logger                                                          logger;
+    /** Maximum number of messages written to the transport at once. */
+    private static final int MAX_WRITE_BATCH = 128;
 
-    private final ObjectTree                                                      objectTree;
+    /** Copy of {@link #CALL_INFO} for all threads, only maintained once the deprecated {@link #getInfoMap()} has been used. */
+    private static volatile Map<Thread, DBusCallInfo> legacyInfoMap;
 
-    private final Map<String, ExportedObject>                                     exportedObjects;
-    private final Map<DBusInterface, RemoteObject>                                importedObjects;
+    private final Logger                                                           logger;
 
-    private final PendingCallbackManager                                          callbackManager;
+    private final ObjectTree                                                       objectTree;
 
-    private final FallbackContainer                                               fallbackContainer;
+    private final Map<String, ExportedObject>                                      exportedObjects;
+    private final Map<DBusInterface, RemoteObject>                                 importedObjects;
 
-    private final ExecutorService                                                 senderService;
-    private final ReceivingService                                                receivingService;
-    private final IncomingMessageThread                                           readerThread;
+    /** Snapshot of {@link #exportedObjects} used to dispatch method calls, replaced on every change. */
+    private volatile RouteTable                                                    routeTable = RouteTable.EMPTY;
+    /** Nesting depth of {@link #doWithExportedObjects(Class, IThrowingConsumer)}, guarded by {@link #exportedObjects}. */
+    private int                                                                    exportedObjectsDepth;
 
-    private final Map<DBusMatchRule, Queue<DBusSigHandler<? extends DBusSignal>>> handledSignals;
-    private final Map<DBusMatchRule, Queue<DBusSigHandler<DBusSignal>>>           genericHandledSignals;
-    private final Map<Long, MethodCall>                                           pendingCalls;
+    private final PendingCallbackManager                                           callbackManager;
 
-    private final Queue<Error>                                                    pendingErrorQueue;
+    private final FallbackContainer                                                fallbackContainer;
 
-    private final BusAddress                                                      busAddress;
+    private final ExecutorService                                                  senderService;
+    private final OutboundQueue                                                    outgoingMessages;
+    private final ReceivingService                                                 receivingService;
+    private final IncomingMessageThread                                            readerThread;
 
-    private final MessageFactory                                                  messageFactory;
-    private final ConnectionConfig                                                connectionConfig;
+    private final MatchRuleIndexedMap<Queue<DBusSigHandler<? extends DBusSignal>>> handledSignals;
+    private final MatchRuleIndexedMap<Queue<DBusSigHandler<DBusSignal>>>           genericHandledSignals;
+    private final ConcurrentLongMap<MethodCall>                                    pendingCalls;
 
-    private AbstractTransport                                                     transport;
+    private final Queue<Error>                                                     pendingErrorQueue;
 
-    private volatile boolean                                                      disconnecting;
+    private final HashedTimerWheel                                                 replyTimeouts;
+
+    private final BusAddress                                                       busAddress;
+
+    private final MessageFactory                                                   messageFactory;
+    private final ConnectionConfig                                                 connectionConfig;
+
+    private AbstractTransport                                                      transport;
+
+    private volatile boolean                                                       disconnecting;
 
     protected AbstractConnectionBase(ConnectionConfig _conCfg, TransportConfig _transportConfig, ReceivingServiceConfig _rsCfg) throws DBusException {
         logger = LoggerFactory.getLogger(getClass());
@@ -87,11 +104,12 @@ public abstract sealed class AbstractConnectionBase implements Closeable permits
 
         disconnecting = false;
 
-        handledSignals = new ConcurrentHashMap<>();
-        genericHandledSignals = new ConcurrentHashMap<>();
+        handledSignals = new MatchRuleIndexedMap<>();
+        genericHandledSignals = new MatchRuleIndexedMap<>();
 
-        pendingCalls = Collections.synchronizedMap(new LinkedHashMap<>());
+        pendingCalls = new ConcurrentLongMap<>();
         callbackManager = new PendingCallbackManager();
+        replyTimeouts = new HashedTimerWheel("DBus Reply Timeout");
 
         pendingErrorQueue = new ConcurrentLinkedQueue<>();
 
@@ -108,6 +126,8 @@ public abstract sealed class AbstractConnectionBase implements Closeable permits
         receivingService = new ReceivingService(rcvSvcName, _rsCfg);
         senderService =
             Executors.newFixedThreadPool(1, new NameableThreadFactory(senderThreadName, true));
+        outgoingMessages = new OutboundQueue(connectionConfig.getSendQueueMaxMessages(), connectionConfig.getSendQueueMaxBytes(),
+            connectionConfig.isSendQueueFailFast(), connectionConfig.isPrioritizeReplies());
 
         objectTree = new ObjectTree();
         fallbackContainer = new FallbackContainer();
@@ -159,6 +179,14 @@ public abstract sealed class AbstractConnectionBase implements Closeable permits
      */
     protected abstract IncomingMessageThread createReaderThread(BusAddress _busAddress);
 
+    /**
+     * Called when no reply was received for a pending method call within its timeout.
+     * Implementations have to remove the call from the pending calls and complete it with an error.
+     *
+     * @param _serial serial of the method call
+     */
+    protected abstract void handleReplyTimeout(long _serial);
+
     /**
      * The generated UUID of this machine.
      * @return String
@@ -231,18 +259,19 @@ public abstract sealed class AbstractConnectionBase implements Closeable permits
             }
         }
 
-        // shutdown sender executor service, send all remaining messages in main thread when no exception caused disconnection
+        // shutdown sender executor service, send all remaining messages when no exception caused disconnection
         getLogger().debug("Shutting down SenderService");
-        List<Runnable> remainingMsgsToSend = senderService.shutdownNow();
+        outgoingMessages.close();
         // only try to send remaining messages when disconnection was not
         // caused by an IOException, otherwise we may block for method calls waiting for
         // reply which will never be received (due to disconnection by IOException)
         if (_connectionError == null) {
-            for (Runnable runnable : remainingMsgsToSend) {
-                runnable.run();
+            drainSenderService();
+        } else {
+            senderService.shutdownNow();
+            if (outgoingMessages.getStatistics().depth() > 0) {
+                getLogger().debug("Will not send {} messages due to connection closed by IOException", outgoingMessages.getStatistics().depth());
             }
-        } else if (!remainingMsgsToSend.isEmpty()) {
-            getLogger().debug("Will not send {} messages due to connection closed by IOException", remainingMsgsToSend.size());
         }
 
         // disconnect from the transport layer
@@ -255,11 +284,39 @@ public abstract sealed class AbstractConnectionBase implements Closeable permits
             getLogger().debug("Exception while disconnecting transport.", _ex);
         }
 
+        // pending calls have been completed above, their timeouts are no longer needed
+        replyTimeouts.close();
+
         // stop all the workers
         receivingService.shutdownNow();
         disconnecting = false;
     }
 
+    /**
+     * Shuts down the sender service after it has sent all queued messages.
+     * <p>
+     * The queue is only drained by the calling thread once the sender thread has terminated,
+     * so messages are never written by two threads at the same time.
+     * </p>
+     */
+    private void drainSenderService() {
+        senderService.shutdown();
+        try {
+            if (!senderService.awaitTermination(10, TimeUnit.SECONDS)) {
+                senderService.shutdownNow();
+                getLogger().debug("SenderService did not terminate, will not send {} remaining messages", outgoingMessages.getStatistics().depth());
+                return;
+            }
+        } catch (InterruptedException _ex) {
+            senderService.shutdownNow();
+            getLogger().debug("Interrupted while waiting for termination of SenderService");
+            Thread.currentThread().interrupt();
+            return;
+        }
+        // a sender stopped by an unexpected error may have left messages behind
+        sendQueuedMessages();
+    }
+
     /**
      * Special disconnect method which may be used whenever some cleanup before or after
      * disconnection to DBus is required.
@@ -300,6 +357,10 @@ public abstract sealed class AbstractConnectionBase implements Closeable permits
 
     /**
      * Do some action with the currently exported objects in a synchronized manor.
+     * <p>
+     * The action must not modify the exported objects,
+     * use {@link #doWithExportedObjects(Class, IThrowingConsumer)} for that.
+     * </p>
      *
      * @param _exClz exception type which may be thrown
      * @param _action action to execute
@@ -320,6 +381,8 @@ public abstract sealed class AbstractConnectionBase implements Closeable permits
 
     /**
      * Do some action with the currently exported objects in a synchronized manor.
+     * The route table used to dispatch method calls is updated after the action.
+     *
      * @param _exClz exception type which may be thrown
      * @param _action action to execute
      * @param <X> type of exception
@@ -330,10 +393,26 @@ public abstract sealed class AbstractConnectionBase implements Closeable permits
             return;
         }
         synchronized (exportedObjects) {
-            _action.accept(exportedObjects);
+            exportedObjectsDepth++;
+            try {
+                _action.accept(exportedObjects);
+            } finally {
+                // nested calls (e.g. unexporting all objects) only update the table once
+                if (--exportedObjectsDepth == 0) {
+                    routeTable = RouteTable.of(exportedObjects);
+                }
+            }
         }
     }
 
+    /**
+     * Returns the current route table used to find the target of a method call.
+     * @return RouteTable, never null
+     */
+    RouteTable getRouteTable() {
+        return routeTable;
+    }
+
     protected Logger getLogger() {
         return logger;
     }
@@ -378,69 +457,193 @@ public abstract sealed class AbstractConnectionBase implements Closeable permits
             throw new NotConnected("Cannot send message: Not connected");
         }
 
-        Runnable runnable = () -> sendMessageInternally(_message);
+        if (_message instanceof MethodCall mc && mc.getTimeout() == 0 && connectionConfig.getMethodCallTimeout() > 0) {
+            mc.setTimeout(connectionConfig.getMethodCallTimeout());
+        }
 
-        senderService.execute(runnable);
+        // the body of a signal has to be created before queuing, otherwise only the header is counted by the byte limit
+        if (_message instanceof DBusSignal ds) {
+            try {
+                appendSignalBody(ds);
+            } catch (DBusException _ex) {
+                handleSendError(_message, _ex);
+                return;
+            }
+        }
+
+        if (outgoingMessages.offer(_message)) {
+            senderService.execute(this::sendQueuedMessages);
+        }
     }
 
     /**
-     * Send a message to DBus.
-     * @param _message message to send
+     * Returns the state of the queue holding messages waiting to be sent.
+     *
+     * @return SendQueueStatistics
+     * @since 6.0.0 - 2026-10-17
+     */
+    public SendQueueStatistics getSendQueueStatistics() {
+        return outgoingMessages.getStatistics();
+    }
+
+    /**
+     * Sends all messages currently queued for sending.
+     * <p>
+     * Only one execution of this method is scheduled at a time (see {@link OutboundQueue#offer(Message)}).
+     * It drains the queue and writes up to {@value #MAX_WRITE_BATCH} messages to the transport
+     * with a single write until the queue is empty.
+     * </p>
      */
-    private void sendMessageInternally(Message _message) {
+    private void sendQueuedMessages() {
+        boolean drained = false;
         try {
-            if (!isConnected()) {
-                throw new NotConnected("Disconnected");
-            }
-            if (_message instanceof DBusSignal ds) {
-                // update endianess if signal was created manually
-                if (_message.getEndianess() == (byte) 0) {
-                    _message.updateEndianess(getMessageFactory().getEndianess());
+            while (true) {
+                List<Message> polled = outgoingMessages.poll(MAX_WRITE_BATCH);
+                if (polled.isEmpty()) {
+                    drained = true;
+                    return;
+                }
+                List<Message> batch = new ArrayList<>(polled.size());
+                for (Message message : polled) {
+                    try {
+                        prepareMessage(message);
+                        batch.add(message);
+                    } catch (Exception _ex) {
+                        handleSendError(message, _ex);
+                        disconnectOnIoError(_ex);
+                    }
                 }
 
-                ds.appendbody(this);
-            }
+                if (batch.isEmpty()) {
+                    continue;
+                }
 
-            if (_message instanceof MethodCall mc && 0 == (_message.getFlags() & Flags.NO_REPLY_EXPECTED) && null != getPendingCalls()) {
-                synchronized (getPendingCalls()) {
-                    getPendingCalls().put(_message.getSerial(), mc);
+                try {
+                    getLogger().trace("Writing {} message(s) to connection {}: {}", batch.size(), getTransport(), batch);
+                    getTransport().writeMessages(batch);
+                } catch (Exception _ex) {
+                    for (Message msg : batch) {
+                        handleSendError(msg, _ex);
+                    }
+                    disconnectOnIoError(_ex);
                 }
             }
+        } finally {
+            if (!drained) {
+                // stopped by an unexpected error, let the next message schedule a new sender
+                outgoingMessages.senderAborted();
+            }
+        }
+    }
 
-            getLogger().trace("Writing message to connection {}: {}", getTransport(), _message);
-            getTransport().writeMessage(_message);
+    /**
+     * Creates the body of the given signal.
+     * Does nothing if the body has already been created.
+     *
+     * @param _signal signal
+     * @throws DBusException when signal body could not be created
+     */
+    private void appendSignalBody(DBusSignal _signal) throws DBusException {
+        // update endianess if signal was created manually
+        if (_signal.getEndianess() == (byte) 0) {
+            _signal.updateEndianess(getMessageFactory().getEndianess());
+        }
 
-        } catch (Exception _ex) {
-            getLogger().trace("Exception while sending message.", _ex);
+        _signal.appendbody(this);
+    }
 
-            if (_message instanceof MethodCall mc && _ex instanceof DBusExecutionException) {
-                try {
-                    mc.setReply(getMessageFactory().createError(_message, _ex));
-                } catch (DBusException _exDe) {
-                    getLogger().trace("Could not set message reply", _exDe);
-                }
-            } else if (_message instanceof MethodCall mc) {
-                try {
-                    getLogger().info("Setting reply to {} as an error", _message);
-                    mc.setReply(
-                        getMessageFactory().createError(_message, new DBusExecutionException("Message Failed to Send: " + _ex.getMessage(), _ex)));
-                } catch (DBusException _exDe) {
-                    getLogger().trace("Could not set message reply", _exDe);
-                }
-            } else if (_message instanceof MethodReturn) {
-                try {
-                    getTransport().writeMessage(getMessageFactory().createError(_message, _ex));
-                } catch (IOException | DBusException _exIo) {
-                    getLogger().debug("Error writing method return to transport", _exIo);
-                }
+    /**
+     * Prepares a message for sending.
+     * Will register method calls waiting for a reply.
+     *
+     * @param _message message to prepare
+     * @throws DBusException when message cannot be sent
+     */
+    private void prepareMessage(Message _message) throws DBusException {
+        if (!isConnected()) {
+            throw new NotConnected("Disconnected");
+        }
+        // checked for each message, so a single message cannot fail the whole batch it is written with
+        if (!_message.getFiledescriptors().isEmpty() && !getTransport().isFileDescriptorSupported()) {
+            throw new IllegalArgumentException("File descriptors are not supported!");
+        }
+
+        if (_message instanceof MethodCall mc && 0 == (_message.getFlags() & Flags.NO_REPLY_EXPECTED)) {
+            long serial = mc.getSerial();
+            getPendingCalls().put(serial, mc);
+            HashedTimerWheel.Timeout timeout = replyTimeouts.schedule(mc.getEffectiveTimeout(), TimeUnit.MILLISECONDS, () -> replyTimedOut(serial));
+            // the timeout is cancelled when the call is completed by a reply or an error
+            mc.setTimeoutCancellation(timeout::cancel);
+        }
+    }
+
+    /**
+     * Called on the timer thread when no reply was received for a method call in time.
+     * <p>
+     * The call is completed on the error executor, so slow dependents of the reply
+     * (e.g. stages of a future returned to the user) cannot delay other timeouts.
+     * If that executor may drop handlers or has been closed, the call is completed directly,
+     * otherwise it would wait for a reply forever.
+     * </p>
+     *
+     * @param _serial serial of the method call
+     */
+    private void replyTimedOut(long _serial) {
+        if (!receivingService.mayDrop(ExecutorNames.ERROR)) {
+            try {
+                receivingService.execErrorHandler(() -> handleReplyTimeout(_serial));
+                return;
+            } catch (IllegalThreadPoolStateException _ex) {
+                getLogger().trace("Receiving service closed, completing timed out call {} directly", _serial, _ex);
             }
-            if (_ex instanceof IOException ioe) {
-                getLogger().debug("Fatal IOException while sending message, disconnecting", _ex);
-                internalDisconnect(ioe);
+        }
+        handleReplyTimeout(_serial);
+    }
+
+    /**
+     * Handles an exception which occurred while sending the given message.
+     *
+     * @param _message message which could not be sent
+     * @param _ex exception
+     */
+    private void handleSendError(Message _message, Exception _ex) {
+        getLogger().trace("Exception while sending message.", _ex);
+
+        if (_message instanceof MethodCall mc && _ex instanceof DBusExecutionException) {
+            try {
+                mc.setReply(getMessageFactory().createError(_message, _ex));
+            } catch (DBusException _exDe) {
+                getLogger().trace("Could not set message reply", _exDe);
+            }
+        } else if (_message instanceof MethodCall mc) {
+            try {
+                getLogger().info("Setting reply to {} as an error", _message);
+                mc.setReply(
+                    getMessageFactory().createError(_message, new DBusExecutionException("Message Failed to Send: " + _ex.getMessage(), _ex)));
+            } catch (DBusException _exDe) {
+                getLogger().trace("Could not set message reply", _exDe);
+            }
+        } else if (_message instanceof MethodReturn) {
+            try {
+                getTransport().writeMessage(getMessageFactory().createError(_message, _ex));
+            } catch (IOException | DBusException _exIo) {
+                getLogger().debug("Error writing method return to transport", _exIo);
             }
         }
     }
 
+    /**
+     * Disconnects this connection if the given exception was caused by an I/O error.
+     *
+     * @param _ex exception
+     */
+    private void disconnectOnIoError(Exception _ex) {
+        if (_ex instanceof IOException ioe) {
+            getLogger().debug("Fatal IOException while sending message, disconnecting", _ex);
+            internalDisconnect(ioe);
+        }
+    }
+
     public String getExportedObject(DBusInterface _interface) throws DBusException {
 
         Optional<Entry<String, ExportedObject>> foundInterface = doWithExportedObjectsAndReturn(DBusException.class,
@@ -527,15 +730,15 @@ public abstract sealed class AbstractConnectionBase implements Closeable permits
         return pendingErrorQueue;
     }
 
-    protected Map<DBusMatchRule, Queue<DBusSigHandler<? extends DBusSignal>>> getHandledSignals() {
+    protected MatchRuleIndexedMap<Queue<DBusSigHandler<? extends DBusSignal>>> getHandledSignals() {
         return handledSignals;
     }
 
-    protected Map<DBusMatchRule, Queue<DBusSigHandler<DBusSignal>>> getGenericHandledSignals() {
+    protected MatchRuleIndexedMap<Queue<DBusSigHandler<DBusSignal>>> getGenericHandledSignals() {
         return genericHandledSignals;
     }
 
-    protected Map<Long, MethodCall> getPendingCalls() {
+    protected ConcurrentLongMap<MethodCall> getPendingCalls() {
         return pendingCalls;
     }
 
@@ -555,12 +758,71 @@ public abstract sealed class AbstractConnectionBase implements Closeable permits
         return receivingService;
     }
 
+    /**
+     * Returns the execution time metrics of signal handlers, callbacks and exported methods
+     * executed by this connection.
+     *
+     * @return HandlerMetrics
+     * @since 6.0.0 - 2026-10-17
+     */
+    public HandlerMetrics getHandlerMetrics() {
+        return receivingService.getMetrics();
+    }
+
+    /**
+     * Returns the state of the queues used to hand over received messages to the handler threads.
+     *
+     * @return Map of executor and queue statistics
+     * @since 6.0.0 - 2026-10-17
+     */
+    public Map<ExecutorNames, ReceivingService.QueueStatistics> getReceiveQueueStatistics() {
+        return receivingService.getQueueStatistics();
+    }
+
     protected BusAddress getBusAddress() {
         return busAddress;
     }
 
+    /**
+     * Sets the information about the method call currently handled by the calling thread.
+     *
+     * @param _info call info, null to remove it
+     */
+    protected static void setCallInfo(DBusCallInfo _info) {
+        Map<Thread, DBusCallInfo> map = legacyInfoMap;
+        if (_info == null) {
+            CALL_INFO.remove();
+            if (map != null) {
+                map.remove(Thread.currentThread());
+            }
+        } else {
+            CALL_INFO.set(_info);
+            if (map != null) {
+                map.put(Thread.currentThread(), _info);
+            }
+        }
+    }
+
+    /**
+     * Returns a map containing the call information of all threads currently handling a method call.<br>
+     * The map is only kept up to date after this method has been called for the first time,
+     * calls which were already running at that time are not contained.
+     *
+     * @return Map
+     * @deprecated call information is stored per thread, use {@link #getCallInfo()} and {@link #setCallInfo(DBusCallInfo)}
+     */
+    @Deprecated(since = "6.0.0", forRemoval = true)
     protected Map<Thread, DBusCallInfo> getInfoMap() {
-        return INFOMAP;
+        Map<Thread, DBusCallInfo> map = legacyInfoMap;
+        if (map == null) {
+            synchronized (AbstractConnectionBase.class) {
+                if (legacyInfoMap == null) {
+                    legacyInfoMap = new ConcurrentHashMap<>();
+                }
+                map = legacyInfoMap;
+            }
+        }
+        return map;
     }
 
     protected ConnectionConfig getConnectionConfig() {
@@ -586,7 +848,10 @@ public abstract sealed class AbstractConnectionBase implements Closeable permits
      * @return the DBusCallInfo for this method call, or null if we are not in a method call.
      */
     public static DBusCallInfo getCallInfo() {
-        return INFOMAP.get(Thread.currentThread());
+        DBusCallInfo info = CALL_INFO.get();
+        Map<Thread, DBusCallInfo> map = legacyInfoMap;
+        // subclasses may still provide the information using the deprecated map
+        return info == null && map != null ? map.get(Thread.currentThread()) : info;
     }
 
     /**
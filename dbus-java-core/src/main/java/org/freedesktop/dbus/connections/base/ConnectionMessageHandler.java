@@ -8,21 +8,20 @@ import org.freedesktop.dbus.connections.AbstractConnection;
 import org.freedesktop.dbus.connections.config.ReceivingServiceConfig;
 import org.freedesktop.dbus.connections.config.TransportConfig;
 import org.freedesktop.dbus.connections.impl.ConnectionConfig;
+import org.freedesktop.dbus.connections.shared.ExecutorNames;
+import org.freedesktop.dbus.errors.NoReply;
 import org.freedesktop.dbus.errors.UnknownMethod;
 import org.freedesktop.dbus.errors.UnknownObject;
 import org.freedesktop.dbus.exceptions.DBusException;
 import org.freedesktop.dbus.exceptions.DBusExecutionException;
 import org.freedesktop.dbus.interfaces.CallbackHandler;
 import org.freedesktop.dbus.interfaces.DBusSigHandler;
-import org.freedesktop.dbus.matchrules.DBusMatchRule;
 import org.freedesktop.dbus.messages.*;
 import org.freedesktop.dbus.messages.Error;
 
 import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map.Entry;
-import java.util.Queue;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * Abstract class containing most methods to handle/react to a message received on a connection. <br>
@@ -34,6 +33,9 @@ import java.util.Queue;
  */
 public abstract sealed class ConnectionMessageHandler extends DBusBoundPropertyHandler permits AbstractConnection {
 
+    /** Interfaces handled by the global handler for every object path. */
+    private static final Set<String> GLOBAL_INTERFACES = Set.of("org.freedesktop.DBus.Peer", "org.freedesktop.DBus.Introspectable");
+
     protected ConnectionMessageHandler(ConnectionConfig _conCfg, TransportConfig _transportConfig, ReceivingServiceConfig _rsCfg) throws DBusException {
         super(_conCfg, _transportConfig, _rsCfg);
     }
@@ -53,137 +55,130 @@ public abstract sealed class ConnectionMessageHandler extends DBusBoundPropertyH
      * @param _signal signal to handle
      * @param _useThreadPool whether to handle this signal in another thread or handle it byself
      */
-    @SuppressWarnings({
-            "unchecked"
-    })
     private void handleMessage(final DBusSignal _signal, boolean _useThreadPool) {
         getLogger().debug("Handling incoming signal: {}", _signal);
 
-        List<DBusSigHandler<? extends DBusSignal>> handlers = new ArrayList<>();
-        List<DBusSigHandler<DBusSignal>> genericHandlers = new ArrayList<>();
-
-        for (Entry<DBusMatchRule, Queue<DBusSigHandler<? extends DBusSignal>>> e : getHandledSignals().entrySet()) {
-            if (e.getKey().matches(_signal)) {
-                handlers.addAll(e.getValue());
+        // handler lookup uses an index of the registered rules,
+        // so the cost does not depend on the number of registered handlers
+        getHandledSignals().forEachMatch(_signal, handlers -> {
+            for (DBusSigHandler<? extends DBusSignal> h : handlers) {
+                dispatchSignal(h, _signal, createSignalCommand(_signal, h), _useThreadPool);
             }
-        }
+        });
 
-        for (Entry<DBusMatchRule, Queue<DBusSigHandler<DBusSignal>>> e : getGenericHandledSignals().entrySet()) {
-            if (e.getKey().matches(_signal)) {
-                genericHandlers.addAll(e.getValue());
+        getGenericHandledSignals().forEachMatch(_signal, handlers -> {
+            for (DBusSigHandler<DBusSignal> h : handlers) {
+                getLogger().trace("Adding Runnable for signal {} with handler {}",  _signal, h);
+                dispatchSignal(h, _signal, () -> h.handle(_signal), _useThreadPool);
             }
-        }
+        });
+    }
 
-        if (handlers.isEmpty() && genericHandlers.isEmpty()) {
-            return;
+    private void dispatchSignal(Object _handler, DBusSignal _signal, Runnable _command, boolean _useThreadPool) {
+        if (_useThreadPool) {
+            ReceivingService rs = getReceivingService();
+            Object key = rs.isConflating(ExecutorNames.SIGNAL) ? ConflationKey.of(_handler, _signal) : null;
+            rs.execHandler(ExecutorNames.SIGNAL, _handler.getClass(), ReceivingService.isNonBlocking(_handler), key,
+                rs.getOrderingKey(ExecutorNames.SIGNAL, _handler, _signal), _command);
+        } else {
+            _command.run();
         }
+    }
 
+    @SuppressWarnings("unchecked")
+    private Runnable createSignalCommand(final DBusSignal _signal, final DBusSigHandler<? extends DBusSignal> _handler) {
+        getLogger().trace("Adding Runnable for signal {} with handler {}",  _signal, _handler);
         final AbstractConnectionBase conn = this;
-        for (final DBusSigHandler<? extends DBusSignal> h : handlers) {
-            getLogger().trace("Adding Runnable for signal {} with handler {}",  _signal, h);
-            Runnable command = () -> {
-                try {
-                    DBusSignal rs;
-                    if (_signal.getClass().equals(DBusSignal.class)) {
-                        rs = _signal.createReal(conn);
-                    } else {
-                        rs = _signal;
-                    }
-                    if (rs == null) {
-                        if (getConnectionConfig().getUnknownSignalHandler() != null) {
-                            getConnectionConfig().getUnknownSignalHandler().accept(_signal);
-                        }
-                        return;
+        return () -> {
+            try {
+                DBusSignal rs;
+                if (_signal.getClass().equals(DBusSignal.class)) {
+                    rs = _signal.createReal(conn);
+                } else {
+                    rs = _signal;
+                }
+                if (rs == null) {
+                    if (getConnectionConfig().getUnknownSignalHandler() != null) {
+                        getConnectionConfig().getUnknownSignalHandler().accept(_signal);
                     }
-                    ((DBusSigHandler<DBusSignal>) h).handle(rs);
-                } catch (DBusException _ex) {
-                    getLogger().warn("Exception while running signal handler '{}' for signal '{}':", h, _signal, _ex);
-                    handleException(_signal, new DBusExecutionException("Error handling signal " + _signal.getInterface()
-                            + "." + _signal.getName() + ": " + _ex.getMessage(), _ex));
+                    return;
                 }
-            };
-            if (_useThreadPool) {
-                getReceivingService().execSignalHandler(command);
-            } else {
-                command.run();
+                ((DBusSigHandler<DBusSignal>) _handler).handle(rs);
+            } catch (DBusException _ex) {
+                getLogger().warn("Exception while running signal handler '{}' for signal '{}':", _handler, _signal, _ex);
+                handleException(_signal, new DBusExecutionException("Error handling signal " + _signal.getInterface()
+                        + "." + _signal.getName() + ": " + _ex.getMessage(), _ex));
             }
-        }
-
-        for (final DBusSigHandler<DBusSignal> h : genericHandlers) {
-            getLogger().trace("Adding Runnable for signal {} with handler {}",  _signal, h);
-            Runnable command = () -> h.handle(_signal);
-            if (_useThreadPool) {
-                getReceivingService().execSignalHandler(command);
-            } else {
-                command.run();
-            }
-        }
+        };
     }
 
     protected void handleMessage(final Error _err) {
         getLogger().debug("Handling incoming error: {}", _err);
-        MethodCall m = null;
-        if (getPendingCalls() == null) {
-            return;
-        }
-        synchronized (getPendingCalls()) {
-            if (getPendingCalls().containsKey(_err.getReplySerial())) {
-                m = getPendingCalls().remove(_err.getReplySerial());
-            }
-        }
+        MethodCall m = getPendingCalls().remove(_err.getReplySerial());
         if (m != null) {
-            m.setReply(_err);
-            CallbackHandler<?> cbh;
-            cbh = getCallbackManager().removeCallback(m);
-            getLogger().trace("{} = pendingCallbacks.remove({})", cbh, m);
-
-            // queue callback for execution
-            if (null != cbh) {
-                final CallbackHandler<?> fcbh = cbh;
-                getLogger().trace("Adding Error Runnable with callback handler {}", fcbh);
-                Runnable command = new Runnable() {
+            completeWithError(m, _err);
+        } else {
+            getPendingErrorQueue().add(_err);
+        }
+    }
 
-                    @Override
-                    public synchronized void run() {
-                        try {
-                            getLogger().trace("Running Error Callback for {}", _err);
-                            DBusCallInfo info = new DBusCallInfo(_err);
-                            getInfoMap().put(Thread.currentThread(), info);
+    @Override
+    protected void handleReplyTimeout(long _serial) {
+        MethodCall m = getPendingCalls().remove(_serial);
+        if (m == null) {
+            return;
+        }
 
-                            fcbh.handleError(_err.getException());
-                            getInfoMap().remove(Thread.currentThread());
+        getLogger().debug("No reply received for {} within {} ms", m, m.getEffectiveTimeout());
+        try {
+            completeWithError(m, getMessageFactory().createError(m, new NoReply("No reply within specified time")));
+        } catch (DBusException _ex) {
+            getLogger().debug("Cannot create error for timed out method call", _ex);
+        }
+    }
 
-                        } catch (Exception _ex) {
-                            getLogger().debug("Exception while running error callback.", _ex);
-                        }
+    /**
+     * Sets the given error as reply of the method call and runs the error callback if one was registered.
+     *
+     * @param _call method call
+     * @param _err error
+     */
+    private void completeWithError(MethodCall _call, Error _err) {
+        _call.setReply(_err);
+        CallbackHandler<?> cbh = getCallbackManager().removeCallback(_call);
+        getLogger().trace("{} = pendingCallbacks.remove({})", cbh, _call);
+
+        // queue callback for execution
+        if (null != cbh) {
+            final CallbackHandler<?> fcbh = cbh;
+            getLogger().trace("Adding Error Runnable with callback handler {}", fcbh);
+            Runnable command = new Runnable() {
+
+                @Override
+                public synchronized void run() {
+                    try {
+                        getLogger().trace("Running Error Callback for {}", _err);
+                        setCallInfo(new DBusCallInfo(_err));
+                        fcbh.handleError(_err.getException());
+                    } catch (Exception _ex) {
+                        getLogger().debug("Exception while running error callback.", _ex);
+                    } finally {
+                        setCallInfo(null);
                     }
-                };
-                getReceivingService().execErrorHandler(command);
-            }
-
-        } else {
-            getPendingErrorQueue().add(_err);
+                }
+            };
+            getReceivingService().execHandler(ExecutorNames.ERROR, fcbh.getClass(), ReceivingService.isNonBlocking(fcbh), command);
         }
     }
 
     @SuppressWarnings("unchecked")
     protected void handleMessage(final MethodReturn _mr) {
         getLogger().debug("Handling incoming method return: {}", _mr);
-        MethodCall m = null;
-
-        if (null == getPendingCalls()) {
-            return;
-        }
-
-        synchronized (getPendingCalls()) {
-            if (getPendingCalls().containsKey(_mr.getReplySerial())) {
-                m = getPendingCalls().remove(_mr.getReplySerial());
-            }
-        }
+        MethodCall m = getPendingCalls().remove(_mr.getReplySerial());
 
         if (null != m) {
-            m.setReply(_mr);
             _mr.setCall(m);
+            m.setReply(_mr);
             @SuppressWarnings("rawtypes")
             CallbackHandler cbh = getCallbackManager().getCallback(m);
             DBusAsyncReply<?> asr = getCallbackManager().getCallbackReply(m);
@@ -204,19 +199,18 @@ public abstract sealed class ConnectionMessageHandler extends DBusBoundPropertyH
                     public synchronized void run() {
                         try {
                             getLogger().trace("Running Callback for {}", _mr);
-                            DBusCallInfo info = new DBusCallInfo(_mr);
-                            getInfoMap().put(Thread.currentThread(), info);
+                            setCallInfo(new DBusCallInfo(_mr));
                             Object convertRV = RemoteInvocationHandler.convertRV(_mr.getParameters(), fasr.getMethod(),
                                     fasr.getConnection());
                             fcbh.handle(convertRV);
-                            getInfoMap().remove(Thread.currentThread());
-
                         } catch (Exception _ex) {
                             getLogger().debug("Exception while running callback.", _ex);
+                        } finally {
+                            setCallInfo(null);
                         }
                     }
                 };
-                getReceivingService().execMethodReturnHandler(r);
+                getReceivingService().execHandler(ExecutorNames.METHODRETURN, fcbh.getClass(), ReceivingService.isNonBlocking(fcbh), r);
             }
 
         } else {
@@ -249,19 +243,22 @@ public abstract sealed class ConnectionMessageHandler extends DBusBoundPropertyH
     private void handleMessage(final MethodCall _methodCall) throws DBusException {
         getLogger().debug("Handling incoming method call: {}", _methodCall);
 
-        ExportedObject exportObject;
+        ExportedObject exportObject = null;
         Method meth = null;
         Object o = null;
 
-        if (null == _methodCall.getInterface() || _methodCall.getInterface().equals("org.freedesktop.DBus.Peer")
-                || _methodCall.getInterface().equals("org.freedesktop.DBus.Introspectable")) {
-            exportObject = doWithExportedObjectsAndReturn(DBusException.class, eos -> eos.get(null));
+        // lookup uses an immutable snapshot of the exported objects, no locking required
+        RouteTable routes = getRouteTable();
+        String iface = _methodCall.getInterface();
+
+        if (null == iface || GLOBAL_INTERFACES.contains(iface)) {
+            exportObject = routes.getGlobal();
             if (null != exportObject && null == exportObject.getObject().get()) {
                 unExportObject(null);
                 exportObject = null;
             }
             if (exportObject != null) {
-                meth = exportObject.getMethods().get(new MethodTuple(_methodCall.getName(), _methodCall.getSig()));
+                meth = exportObject.getMethod(_methodCall.getName(), _methodCall.getSig());
             }
             if (meth != null) {
                 o = new GlobalHandler(this, _methodCall.getPath());
@@ -270,7 +267,7 @@ public abstract sealed class ConnectionMessageHandler extends DBusBoundPropertyH
         if (o == null) {
             // now check for specific exported functions
 
-            exportObject = doWithExportedObjectsAndReturn(DBusException.class, eos -> eos.get(_methodCall.getPath()));
+            exportObject = routes.get(_methodCall.getPath());
             getLogger().debug("Found exported object: {}", exportObject == null ? "<no object found>" : exportObject);
 
             if (exportObject != null && exportObject.getObject().get() == null) {
@@ -311,7 +308,7 @@ public abstract sealed class ConnectionMessageHandler extends DBusBoundPropertyH
             }
 
             if (meth == null) {
-                meth = exportObject.getMethods().get(new MethodTuple(_methodCall.getName(), _methodCall.getSig()));
+                meth = exportObject.getMethod(_methodCall.getName(), _methodCall.getSig());
                 if (meth == null) {
                     sendMessage(getMessageFactory().createError(_methodCall, new UnknownMethod(String.format(
                         "The method `%s.%s' does not exist on this object.", _methodCall.getInterface(), _methodCall.getName()))));
@@ -328,7 +325,38 @@ public abstract sealed class ConnectionMessageHandler extends DBusBoundPropertyH
         }
 
         // now execute it
-        queueInvokeMethod(_methodCall, meth, o);
+        queueInvokeMethod(_methodCall, meth, o, exportObject != null && exportObject.isNonBlocking(meth));
+    }
+
+    /**
+     * Key used to replace queued signals by newer signals of the same kind.
+     * The handler is compared by identity, so each handler receives the latest signal.
+     */
+    private record ConflationKey(Object handler, String source, String path, String iface, String member, Object arg0) {
+
+        @Override
+        public boolean equals(Object _obj) {
+            return _obj instanceof ConflationKey other && handler == other.handler
+                && Objects.equals(source, other.source) && Objects.equals(path, other.path)
+                && Objects.equals(iface, other.iface) && Objects.equals(member, other.member)
+                && Objects.equals(arg0, other.arg0);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(handler), source, path, iface, member, arg0);
+        }
+
+        static ConflationKey of(Object _handler, DBusSignal _signal) {
+            Object arg0 = null;
+            try {
+                Object[] args = _signal.getLeadingArguments(1);
+                arg0 = args.length > 0 ? args[0] : null;
+            } catch (DBusException _ex) {
+                // invalid body, will fail later when handling the signal
+            }
+            return new ConflationKey(_handler, _signal.getSource(), _signal.getPath(), _signal.getInterface(), _signal.getName(), arg0);
+        }
     }
 
 }
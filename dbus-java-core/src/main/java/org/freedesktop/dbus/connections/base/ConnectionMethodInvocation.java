@@ -1,11 +1,12 @@
 package org.freedesktop.dbus.connections.base;
 
 import org.freedesktop.dbus.DBusCallInfo;
-import org.freedesktop.dbus.Marshalling;
+import org.freedesktop.dbus.MethodCodec;
 import org.freedesktop.dbus.connections.AbstractConnection;
 import org.freedesktop.dbus.connections.config.ReceivingServiceConfig;
 import org.freedesktop.dbus.connections.config.TransportConfig;
 import org.freedesktop.dbus.connections.impl.ConnectionConfig;
+import org.freedesktop.dbus.connections.shared.ExecutorNames;
 import org.freedesktop.dbus.errors.UnknownMethod;
 import org.freedesktop.dbus.exceptions.DBusException;
 import org.freedesktop.dbus.exceptions.DBusExecutionException;
@@ -16,7 +17,6 @@ import org.freedesktop.dbus.messages.MethodReturn;
 import org.freedesktop.dbus.messages.constants.Flags;
 import org.freedesktop.dbus.utils.LoggingHelper;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.Arrays;
@@ -37,18 +37,21 @@ public abstract sealed class ConnectionMethodInvocation extends AbstractConnecti
 
     protected abstract void handleException(Message _methodOrSignal, DBusExecutionException _exception);
 
-    protected void queueInvokeMethod(final MethodCall _methodCall, Method _meth, final Object _ob) {
+    protected void queueInvokeMethod(final MethodCall _methodCall, Method _meth, final Object _ob, boolean _nonBlocking) {
         getLogger().trace("Adding Runnable for method {}", _meth);
         boolean noReply = 1 == (_methodCall.getFlags() & Flags.NO_REPLY_EXPECTED);
-        getReceivingService().execMethodCallHandler(() -> setupAndInvoke(_methodCall, _meth, _ob, noReply));
+        ReceivingService rs = getReceivingService();
+        rs.execHandler(ExecutorNames.METHODCALL, _meth, _nonBlocking, null, rs.getOrderingKey(ExecutorNames.METHODCALL, _ob, _methodCall),
+            () -> setupAndInvoke(_methodCall, _meth, _ob, noReply));
     }
 
     protected Object setupAndInvoke(final MethodCall _methodCall, Method _meth, final Object _ob, final boolean _noReply) {
         getLogger().debug("Running method {} for remote call", _meth);
         try {
-            Type[] ts = _meth.getGenericParameterTypes();
+            MethodCodec codec = MethodCodec.forMethod(_meth);
+            Type[] ts = codec.getParameterTypes();
             Object[] params2 = _methodCall.getParameters();
-            _methodCall.setArgs(Marshalling.deSerializeParameters(params2, ts, this, true));
+            _methodCall.setArgs(codec.decodeParameters(params2, this));
             LoggingHelper.logIf(getLogger().isTraceEnabled(), () -> {
                 try {
                     Object[] params3 = _methodCall.getParameters();
@@ -93,28 +96,20 @@ public abstract sealed class ConnectionMethodInvocation extends AbstractConnecti
     protected void invokedMethodReply(final MethodCall _methodCall, final Method _me, Object _result)
         throws DBusException {
         MethodReturn reply;
-        if (Void.TYPE.equals(_me.getReturnType())) {
+        MethodCodec codec = MethodCodec.forMethod(_me);
+        if (codec.getReturnSignature() == null) {
             reply = getMessageFactory().createMethodReturn(_methodCall, null);
         } else {
-            StringBuilder sb = new StringBuilder();
-            for (String s : Marshalling.getDBusType(_me.getGenericReturnType())) {
-                sb.append(s);
-            }
-            Object[] nr = Marshalling.convertParameters(new Object[] {
-                    _result
-            }, new Type[] {
-                    _me.getGenericReturnType()
-            }, this);
+            Object[] nr = codec.encodeReturn(_result, this);
 
-            reply = getMessageFactory().createMethodReturn(_methodCall, sb.toString(), nr);
+            reply = getMessageFactory().createMethodReturn(_methodCall, codec.getReturnSignature(), nr);
         }
         sendMessage(reply);
     }
 
     protected Object invokeMethod(final MethodCall _methodCall, final Method _me, final Object _ob)
             throws Throwable {
-        DBusCallInfo info = new DBusCallInfo(_methodCall);
-        getInfoMap().put(Thread.currentThread(), info);
+        setCallInfo(new DBusCallInfo(_methodCall));
         try {
             LoggingHelper.logIf(getLogger().isTraceEnabled(), () -> {
                 try {
@@ -125,13 +120,12 @@ public abstract sealed class ConnectionMethodInvocation extends AbstractConnecti
                 }
             });
 
-            Object[] params5 = _methodCall.getParameters();
-            return _me.invoke(_ob, params5);
-        } catch (InvocationTargetException _ex) {
+            return MethodCodec.forMethod(_me).invoke(_ob, _methodCall.getParameters());
+        } catch (Throwable _ex) {
             getLogger().debug("Unable to execute {}: {}", _methodCall, _ex.getMessage(), _ex);
-            throw _ex.getCause();
+            throw _ex;
         } finally {
-            getInfoMap().remove(Thread.currentThread());
+            setCallInfo(null);
         }
     }
 
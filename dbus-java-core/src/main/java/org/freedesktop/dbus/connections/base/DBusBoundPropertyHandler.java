@@ -1,7 +1,6 @@
 package org.freedesktop.dbus.connections.base;
 
 import org.freedesktop.dbus.Marshalling;
-import org.freedesktop.dbus.MethodTuple;
 import org.freedesktop.dbus.annotations.DBusBoundProperty;
 import org.freedesktop.dbus.annotations.DBusProperty;
 import org.freedesktop.dbus.annotations.DBusProperty.Access;
@@ -9,6 +8,7 @@ import org.freedesktop.dbus.connections.AbstractConnection;
 import org.freedesktop.dbus.connections.config.ReceivingServiceConfig;
 import org.freedesktop.dbus.connections.config.TransportConfig;
 import org.freedesktop.dbus.connections.impl.ConnectionConfig;
+import org.freedesktop.dbus.connections.shared.ExecutorNames;
 import org.freedesktop.dbus.errors.InvalidMethodArgument;
 import org.freedesktop.dbus.errors.UnknownMethod;
 import org.freedesktop.dbus.exceptions.DBusException;
@@ -102,7 +102,7 @@ public abstract sealed class DBusBoundPropertyHandler extends ConnectionMethodIn
             Object object = _exportObject.getObject().get();
             Method meth = null;
             if (object instanceof Properties) {
-                meth = _exportObject.getMethods().get(new MethodTuple(_methodCall.getName(), _methodCall.getSig()));
+                meth = _exportObject.getMethod(_methodCall.getName(), _methodCall.getSig());
                 if (null == meth) {
                     sendMessage(getMessageFactory().createError(_methodCall, new UnknownMethod(String.format(
                         "The method `%s.%s' does not exist on this object.", _methodCall.getInterface(), _methodCall.getName()))));
@@ -114,7 +114,7 @@ public abstract sealed class DBusBoundPropertyHandler extends ConnectionMethodIn
 
             Method originalMeth = meth;
 
-            getReceivingService().execMethodCallHandler(() -> {
+            queuePropertyHandler(_methodCall, originalMeth, object, () -> {
                 Map<String, Object> resultMap = new HashMap<>();
                 for (Entry<PropertyRef, Method> propEn : allPropertyMethods) {
                     Method propMeth = propEn.getValue();
@@ -183,7 +183,7 @@ public abstract sealed class DBusBoundPropertyHandler extends ConnectionMethodIn
             // This IS a property reference
             Object object = _exportObject.getObject().get();
 
-            getReceivingService().execMethodCallHandler(() -> {
+            queuePropertyHandler(_methodCall, propMeth, object, () -> {
                 _methodCall.setArgs(new Object[0]);
                 invokeMethodAndReply(_methodCall, propMeth, object, 1 == (_methodCall.getFlags() & Flags.NO_REPLY_EXPECTED));
             });
@@ -224,7 +224,7 @@ public abstract sealed class DBusBoundPropertyHandler extends ConnectionMethodIn
                     return v;
                 }).orElse(null);
 
-            getReceivingService().execMethodCallHandler(() -> {
+            queuePropertyHandler(_methodCall, propMeth, object, () -> {
                 try {
                     Object myVal = val;
                     Parameter[] parameters = propMeth.getParameters();
@@ -258,6 +258,21 @@ public abstract sealed class DBusBoundPropertyHandler extends ConnectionMethodIn
 
     }
 
+    /**
+     * Queues the handling of a property method call on the method call executor.
+     * Uses the same ordering key and metrics as other method calls, so property calls
+     * never overtake earlier calls of the same sender or to the same object path.
+     *
+     * @param _methodCall method call
+     * @param _meth method handling the call, used for the metrics
+     * @param _object exported object
+     * @param _r runnable handling the call
+     */
+    private void queuePropertyHandler(MethodCall _methodCall, Method _meth, Object _object, Runnable _r) {
+        ReceivingService rs = getReceivingService();
+        rs.execHandler(ExecutorNames.METHODCALL, _meth, false, null, rs.getOrderingKey(ExecutorNames.METHODCALL, _object, _methodCall), _r);
+    }
+
     enum PropHandled {
         /** Property request was handled. */
         HANDLED,
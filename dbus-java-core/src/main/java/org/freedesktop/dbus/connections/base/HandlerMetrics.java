@@ -0,0 +1,143 @@
+package org.freedesktop.dbus.connections.base;
+
+import org.freedesktop.dbus.connections.shared.ExecutorNames;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects execution times of signal handlers, callbacks and exported methods.
+ * <p>
+ * Handlers are identified by their class name, exported methods by interface and method name.
+ * Handlers executed on the reader thread (see {@link org.freedesktop.dbus.annotations.NonBlocking})
+ * which take longer than the configured threshold are logged and counted as slow.
+ * </p>
+ *
+ * @since 6.0.0 - 2026-10-17
+ */
+public final class HandlerMetrics {
+    private final Logger                         logger   = LoggerFactory.getLogger(getClass());
+
+    /** Counters by handler class or exported method. */
+    private final Map<Object, Counter>           counters = new ConcurrentHashMap<>();
+    private final long                           inlineWarnThresholdNanos;
+
+    HandlerMetrics(long _inlineWarnThresholdMillis) {
+        inlineWarnThresholdNanos = TimeUnit.MILLISECONDS.toNanos(_inlineWarnThresholdMillis);
+    }
+
+    /**
+     * Records one execution of a handler.
+     *
+     * @param _handler class of the handler or the exported method
+     * @param _executor type of handler
+     * @param _inline true if handler was executed on the reader thread
+     * @param _nanos execution time in nanoseconds
+     */
+    void record(Object _handler, ExecutorNames _executor, boolean _inline, long _nanos) {
+        Counter counter = counters.get(_handler);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(_handler, x -> new Counter(nameOf(x), _executor, _inline));
+        }
+        counter.invocations.increment();
+        counter.totalNanos.add(_nanos);
+        counter.maxNanos.accumulateAndGet(_nanos, Math::max);
+
+        if (_inline && inlineWarnThresholdNanos > 0 && _nanos > inlineWarnThresholdNanos) {
+            counter.slowInvocations.increment();
+            logger.warn("Non-blocking {} handler {} took {} ms, it should not be executed on the reader thread",
+                _executor, counter.name, TimeUnit.NANOSECONDS.toMillis(_nanos));
+        }
+    }
+
+    /**
+     * Returns a snapshot of the statistics of all handlers executed so far.
+     *
+     * @return Map of handler name and statistics, sorted by name
+     */
+    public Map<String, HandlerStatistics> getStatistics() {
+        Map<String, HandlerStatistics> result = new TreeMap<>();
+        counters.values().forEach(c -> result.merge(c.name, c.toStatistics(), HandlerStatistics::merge));
+        return result;
+    }
+
+    /**
+     * Returns the statistics of the given handler.
+     *
+     * @param _handler name of handler
+     * @return statistics or null if handler was never executed
+     */
+    public HandlerStatistics getStatistics(String _handler) {
+        return getStatistics().get(_handler);
+    }
+
+    private static String nameOf(Object _handler) {
+        if (_handler instanceof Class<?> clz) {
+            return clz.getName();
+        } else if (_handler instanceof Method m) {
+            return m.getDeclaringClass().getName() + "." + m.getName();
+        }
+        return String.valueOf(_handler);
+    }
+
+    /**
+     * Removes all collected statistics.
+     */
+    public void reset() {
+        counters.clear();
+    }
+
+    /**
+     * Statistics of a single handler.
+     *
+     * @param executor type of handler
+     * @param inline true if handler is executed on the reader thread
+     * @param invocations number of executions
+     * @param totalNanos sum of all execution times in nanoseconds
+     * @param maxNanos longest execution time in nanoseconds
+     * @param slowInvocations number of inline executions exceeding the configured threshold
+     */
+    public record HandlerStatistics(ExecutorNames executor, boolean inline, long invocations, long totalNanos, long maxNanos, long slowInvocations) {
+
+        /**
+         * Average execution time.
+         *
+         * @return average in nanoseconds, 0 if never executed
+         */
+        public long averageNanos() {
+            return invocations == 0 ? 0 : totalNanos / invocations;
+        }
+
+        HandlerStatistics merge(HandlerStatistics _other) {
+            return new HandlerStatistics(executor, inline && _other.inline, invocations + _other.invocations,
+                totalNanos + _other.totalNanos, Math.max(maxNanos, _other.maxNanos), slowInvocations + _other.slowInvocations);
+        }
+    }
+
+    private static final class Counter {
+        private final String        name;
+        private final ExecutorNames executor;
+        private final boolean       inline;
+        private final LongAdder     invocations     = new LongAdder();
+        private final LongAdder     totalNanos      = new LongAdder();
+        private final AtomicLong    maxNanos        = new AtomicLong();
+        private final LongAdder     slowInvocations = new LongAdder();
+
+        Counter(String _name, ExecutorNames _executor, boolean _inline) {
+            name = _name;
+            executor = _executor;
+            inline = _inline;
+        }
+
+        HandlerStatistics toStatistics() {
+            return new HandlerStatistics(executor, inline, invocations.sum(), totalNanos.sum(), maxNanos.get(), slowInvocations.sum());
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package org.freedesktop.dbus.connections.base;
+
+import org.freedesktop.dbus.utils.NameableThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Timer executing tasks after a delay using a hashed wheel.
+ * <p>
+ * The wheel consists of a fixed number of buckets. Each bucket covers one tick.
+ * Scheduling and cancelling a task is O(1), a worker thread advances the wheel
+ * on every tick and executes all tasks of the current bucket which are due.
+ * Tasks are executed on the worker thread, so they should be short.
+ * </p>
+ * <p>
+ * The worker thread is started when the first task is scheduled. It only ticks while
+ * tasks are pending and waits without ticking while no task is scheduled.
+ * </p>
+ *
+ * @since 6.0.0 - 2026-10-17
+ */
+final class HashedTimerWheel implements Closeable {
+    /** Default duration of one tick in milliseconds. */
+    static final long                 DEFAULT_TICK_MS   = 50;
+    /** Default number of buckets of the wheel. */
+    static final int                  DEFAULT_WHEEL_SIZE = 512;
+
+    private final Logger              logger            = LoggerFactory.getLogger(getClass());
+
+    private final String              name;
+    private final long                tickNanos;
+    private final List<List<Timeout>> buckets;
+    private final int                 mask;
+    private final Queue<Timeout>      newTimeouts       = new ConcurrentLinkedQueue<>();
+    /** Number of tasks which are neither executed nor cancelled. */
+    private final AtomicInteger       pending           = new AtomicInteger();
+
+    private volatile boolean          closed;
+    private Thread                    worker;
+    private long                      startTime;
+
+    HashedTimerWheel(String _name) {
+        this(_name, DEFAULT_TICK_MS, TimeUnit.MILLISECONDS, DEFAULT_WHEEL_SIZE);
+    }
+
+    HashedTimerWheel(String _name, long _tick, TimeUnit _unit, int _wheelSize) {
+        if (_tick <= 0) {
+            throw new IllegalArgumentException("Tick duration must be greater than 0");
+        }
+        if (_wheelSize <= 0 || Integer.bitCount(_wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a power of 2");
+        }
+        name = _name;
+        tickNanos = _unit.toNanos(_tick);
+        mask = _wheelSize - 1;
+        buckets = new ArrayList<>(_wheelSize);
+        for (int i = 0; i < _wheelSize; i++) {
+            buckets.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Schedules the given task to run once after the given delay.
+     *
+     * @param _delay delay
+     * @param _unit unit of delay
+     * @param _task task to execute
+     * @return Timeout which can be used to cancel the task
+     * @throws IllegalStateException when the timer was closed
+     */
+    Timeout schedule(long _delay, TimeUnit _unit, Runnable _task) {
+        if (closed) {
+            throw new IllegalStateException("Timer " + name + " already closed");
+        }
+        Timeout timeout = new Timeout(System.nanoTime() + Math.max(0, _unit.toNanos(_delay)), _task);
+        pending.incrementAndGet();
+        newTimeouts.add(timeout);
+        // wake up the worker if it is waiting for tasks
+        LockSupport.unpark(ensureStarted());
+        return timeout;
+    }
+
+    /**
+     * Number of scheduled tasks which are neither executed nor cancelled.
+     *
+     * @return int
+     */
+    int size() {
+        return pending.get();
+    }
+
+    private synchronized Thread ensureStarted() {
+        if (worker == null) {
+            startTime = System.nanoTime();
+            worker = new NameableThreadFactory(name + "-", true).newThread(this::run);
+            worker.start();
+        }
+        return worker;
+    }
+
+    private void run() {
+        long tick = 0;
+        while (!closed) {
+            if (pending.get() == 0) {
+                // all remaining timeouts are cancelled, tasks scheduled meanwhile are still in the queue
+                newTimeouts.removeIf(Timeout::isCancelled);
+                synchronized (buckets) {
+                    buckets.forEach(List::clear);
+                }
+                LockSupport.park(this);
+                // no task was due while waiting, continue with the current tick
+                tick = Math.max(tick, (System.nanoTime() - startTime) / tickNanos);
+                continue;
+            }
+
+            long deadline = startTime + (tick + 1) * tickNanos;
+            long sleep = deadline - System.nanoTime();
+            if (sleep > 0) {
+                LockSupport.parkNanos(this, sleep);
+                continue;
+            }
+
+            synchronized (buckets) {
+                transferNewTimeouts(tick);
+                expire(buckets.get((int) (tick & mask)));
+            }
+            tick++;
+        }
+    }
+
+    /**
+     * Moves all newly scheduled timeouts to their bucket.
+     *
+     * @param _currentTick tick which is processed next
+     */
+    private void transferNewTimeouts(long _currentTick) {
+        Timeout timeout;
+        while ((timeout = newTimeouts.poll()) != null) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            long ticks = Math.max((timeout.deadline - startTime) / tickNanos, _currentTick);
+            timeout.remainingRounds = (ticks - _currentTick) / buckets.size();
+            buckets.get((int) (ticks & mask)).add(timeout);
+        }
+    }
+
+    private void expire(List<Timeout> _bucket) {
+        Iterator<Timeout> it = _bucket.iterator();
+        while (it.hasNext()) {
+            Timeout timeout = it.next();
+            if (timeout.isCancelled()) {
+                it.remove();
+            } else if (timeout.remainingRounds <= 0) {
+                it.remove();
+                timeout.expire();
+            } else {
+                timeout.remainingRounds--;
+            }
+        }
+    }
+
+    /**
+     * Stops the timer. Scheduled tasks will not be executed.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (worker != null) {
+            LockSupport.unpark(worker);
+        }
+        newTimeouts.clear();
+        synchronized (buckets) {
+            buckets.forEach(List::clear);
+        }
+        pending.set(0);
+    }
+
+    /**
+     * Handle of a scheduled task.
+     */
+    final class Timeout {
+        private final long                      deadline;
+        private final AtomicReference<Runnable> task;
+        private long                            remainingRounds;
+
+        private Timeout(long _deadline, Runnable _task) {
+            deadline = _deadline;
+            task = new AtomicReference<>(_task);
+        }
+
+        /**
+         * Cancels the task. Has no effect if the task was already executed.
+         */
+        void cancel() {
+            if (task.getAndSet(null) != null) {
+                pending.decrementAndGet();
+            }
+        }
+
+        boolean isCancelled() {
+            return task.get() == null;
+        }
+
+        private void expire() {
+            Runnable r = task.getAndSet(null);
+            if (r == null) {
+                return;
+            }
+            pending.decrementAndGet();
+            try {
+                r.run();
+            } catch (Exception _ex) {
+                logger.warn("Exception while executing timer task in {}", name, _ex);
+            }
+        }
+    }
+}
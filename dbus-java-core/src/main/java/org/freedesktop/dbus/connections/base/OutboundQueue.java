@@ -0,0 +1,218 @@
+package org.freedesktop.dbus.connections.base;
+
+import org.freedesktop.dbus.exceptions.NotConnected;
+import org.freedesktop.dbus.exceptions.SendQueueFullException;
+import org.freedesktop.dbus.messages.DBusSignal;
+import org.freedesktop.dbus.messages.Error;
+import org.freedesktop.dbus.messages.Message;
+import org.freedesktop.dbus.messages.MethodReturn;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Queue holding the messages waiting to be written to the bus.
+ * <p>
+ * The queue can be limited by number of messages and by (estimated) size in bytes.
+ * When the queue is full, adding a message either blocks until the sender thread made room
+ * or fails with {@link SendQueueFullException}.
+ * Method returns and errors are never blocked or rejected, they are the answer to
+ * calls which already have been received and blocking them may block the thread reading from the bus.
+ * </p>
+ * <p>
+ * If prioritization is enabled, method returns and errors are sent before method calls
+ * and method calls are sent before signals. Messages of the same kind are always sent in order.
+ * </p>
+ * <p>
+ * The queue also keeps track whether a sender task has been scheduled, so only one task is
+ * scheduled at a time regardless of the number of queued messages.
+ * </p>
+ *
+ * @since 6.0.0 - 2026-10-17
+ */
+final class OutboundQueue {
+    private static final int           PRIO_REPLY  = 0;
+    private static final int           PRIO_CALL   = 1;
+    private static final int           PRIO_SIGNAL = 2;
+
+    private final ReentrantLock        lock        = new ReentrantLock();
+    private final Condition            notFull     = lock.newCondition();
+
+    private final List<ArrayDeque<Queued>> queues;
+    private final int                  maxMessages;
+    private final long                 maxBytes;
+    private final boolean              failFast;
+    private final boolean              prioritize;
+
+    private int                        count;
+    private long                       bytes;
+    private boolean                    scheduled;
+    private boolean                    closed;
+
+    private long                       sent;
+    private long                       rejected;
+    private long                       blocked;
+    private long                       totalWaitNanos;
+    private long                       maxWaitNanos;
+
+    /**
+     * Creates a new queue.
+     *
+     * @param _maxMessages maximum number of queued messages, 0 for unlimited
+     * @param _maxBytes maximum size of queued messages, 0 for unlimited
+     * @param _failFast true to throw an exception instead of waiting when queue is full
+     * @param _prioritize true to send replies before calls and calls before signals
+     */
+    OutboundQueue(int _maxMessages, long _maxBytes, boolean _failFast, boolean _prioritize) {
+        maxMessages = _maxMessages;
+        maxBytes = _maxBytes;
+        failFast = _failFast;
+        prioritize = _prioritize;
+        queues = List.of(new ArrayDeque<>(), new ArrayDeque<>(), new ArrayDeque<>());
+    }
+
+    /**
+     * Adds a message to the queue, waiting for free space if required.
+     *
+     * @param _message message to add
+     * @return true if the caller has to schedule a sender task
+     * @throws SendQueueFullException when queue is full and fail fast is configured
+     * @throws NotConnected when queue has been closed (also while waiting)
+     */
+    boolean offer(Message _message) {
+        int prio = priorityOf(_message);
+        int size = _message.getWireSize();
+
+        lock.lock();
+        try {
+            if (prio != PRIO_REPLY && isFull(size)) {
+                if (failFast) {
+                    rejected++;
+                    throw new SendQueueFullException("Send queue full (" + count + " messages, " + bytes + " bytes)");
+                }
+                blocked++;
+                while (!closed && isFull(size)) {
+                    notFull.awaitUninterruptibly();
+                }
+            }
+            if (closed) {
+                throw new NotConnected("Cannot send message: Not connected");
+            }
+
+            queues.get(prioritize ? prio : PRIO_CALL).add(new Queued(_message, size, System.nanoTime()));
+            count++;
+            bytes += size;
+
+            if (scheduled) {
+                return false;
+            }
+            scheduled = true;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes up to the given number of messages from the queue.
+     * If the queue is empty, the sender task is marked as not scheduled.
+     *
+     * @param _max maximum number of messages
+     * @return List of messages, empty if queue is empty
+     */
+    List<Message> poll(int _max) {
+        lock.lock();
+        try {
+            if (count == 0) {
+                scheduled = false;
+                return List.of();
+            }
+
+            List<Message> result = new ArrayList<>(Math.min(_max, count));
+            long now = System.nanoTime();
+            for (ArrayDeque<Queued> queue : queues) {
+                Queued q;
+                while (result.size() < _max && (q = queue.poll()) != null) {
+                    result.add(q.message());
+                    count--;
+                    bytes -= q.size();
+                    long wait = now - q.queuedAt();
+                    totalWaitNanos += wait;
+                    maxWaitNanos = Math.max(maxWaitNanos, wait);
+                }
+            }
+            sent += result.size();
+            notFull.signalAll();
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Marks the sender task as not scheduled after it stopped without draining the queue
+     * (e.g. because of an {@link java.lang.Error}).
+     * The next offered message will schedule a new sender task.
+     */
+    void senderAborted() {
+        lock.lock();
+        try {
+            scheduled = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes the queue. Threads waiting for free space will receive a {@link NotConnected} exception.
+     * Messages already queued can still be polled.
+     */
+    void close() {
+        lock.lock();
+        try {
+            closed = true;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    SendQueueStatistics getStatistics() {
+        lock.lock();
+        try {
+            return new SendQueueStatistics(count, bytes, sent, rejected, blocked,
+                sent == 0 ? 0 : totalWaitNanos / sent, maxWaitNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isFull(int _size) {
+        if (maxMessages > 0 && count >= maxMessages) {
+            return true;
+        }
+        // always accept a message into an empty queue, even if it exceeds the limit on its own
+        return maxBytes > 0 && count > 0 && bytes + _size > maxBytes;
+    }
+
+    private static int priorityOf(Message _message) {
+        if (_message instanceof MethodReturn || _message instanceof Error) {
+            return PRIO_REPLY;
+        } else if (_message instanceof DBusSignal) {
+            return PRIO_SIGNAL;
+        }
+        return PRIO_CALL;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [maxMessages=" + maxMessages + ", maxBytes=" + maxBytes
+            + ", failFast=" + failFast + ", prioritize=" + prioritize + "]";
+    }
+
+    private record Queued(Message message, int size, long queuedAt) {
+    }
+}
@@ -1,19 +1,28 @@
 package org.freedesktop.dbus.connections.base;
 
+import org.freedesktop.dbus.annotations.NonBlocking;
+import org.freedesktop.dbus.connections.base.StripedExecutorService.KeyedRunnable;
 import org.freedesktop.dbus.connections.config.ReceivingServiceConfig;
 import org.freedesktop.dbus.connections.config.ReceivingServiceConfigBuilder;
 import org.freedesktop.dbus.connections.shared.ExecutorNames;
 import org.freedesktop.dbus.connections.shared.IThreadPoolRetryHandler;
+import org.freedesktop.dbus.connections.shared.OrderingKey;
+import org.freedesktop.dbus.connections.shared.OverloadPolicy;
 import org.freedesktop.dbus.exceptions.IllegalThreadPoolStateException;
+import org.freedesktop.dbus.messages.Message;
 import org.freedesktop.dbus.utils.NameableThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Service providing threads for every type of message expected to be received by DBus.
@@ -24,6 +33,14 @@ import java.util.concurrent.*;
 public class ReceivingService {
     static final int MAX_RETRIES = 50;
 
+    /** Caches whether a handler class is annotated with {@link NonBlocking}. */
+    private static final ClassValue<Boolean> NON_BLOCKING = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> _type) {
+            return _type.isAnnotationPresent(NonBlocking.class);
+        }
+    };
+
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     private boolean closed = false;
@@ -32,6 +49,10 @@ public class ReceivingService {
 
     private final IThreadPoolRetryHandler retryHandler;
 
+    private final HandlerMetrics metrics;
+
+    private final Map<ExecutorNames, Lane> lanes = new EnumMap<>(ExecutorNames.class);
+
     /**
      * Creates a new instance.
      *
@@ -43,11 +64,35 @@ public class ReceivingService {
 
         Arrays.stream(ExecutorNames.values())
         .forEach(t -> {
-            executors.put(t,
-                Executors.newFixedThreadPool(rsCfg.getPoolSize(t), createFactory(prefix + t.getThreadName() + "-", _rsCfg.isVirtual(t), _rsCfg.getPriority(t))));
+            Lane lane = new Lane(t, rsCfg.getQueueCapacity(t), rsCfg.getOverloadPolicy(t), rsCfg.getOrderingKey(t));
+            lanes.put(t, lane);
+            ThreadFactory factory = createFactory(prefix + t.getThreadName() + "-", _rsCfg.isVirtual(t), _rsCfg.getPriority(t));
+            if (lane.ordering != OrderingKey.NONE) {
+                List<ThreadPoolExecutor> stripes = new ArrayList<>();
+                for (int i = 0; i < rsCfg.getPoolSize(t); i++) {
+                    stripes.add(createExecutor(1, factory, lane));
+                }
+                executors.put(t, new StripedExecutorService(stripes));
+            } else {
+                executors.put(t, createExecutor(rsCfg.getPoolSize(t), factory, lane));
+            }
         });
 
         retryHandler = rsCfg.getRetryHandler();
+        metrics = new HandlerMetrics(rsCfg.getInlineHandlerWarnThreshold());
+    }
+
+    /**
+     * Creates a fixed size thread pool using a bounded queue if a capacity is configured for the lane.
+     *
+     * @param _threads number of threads
+     * @param _factory thread factory
+     * @param _lane lane configuration, also handles rejected runnables
+     * @return {@link ExecutorService}
+     */
+    private static ThreadPoolExecutor createExecutor(int _threads, ThreadFactory _factory, Lane _lane) {
+        BlockingQueue<Runnable> queue = _lane.capacity > 0 ? new ArrayBlockingQueue<>(_lane.capacity) : new LinkedBlockingQueue<>();
+        return new ThreadPoolExecutor(_threads, _threads, 0L, TimeUnit.MILLISECONDS, queue, _factory, _lane);
     }
 
     /**
@@ -112,6 +157,197 @@ public class ReceivingService {
         return execOrFail(ExecutorNames.METHODRETURN, _r);
     }
 
+    /**
+     * Executes a handler and records its execution time.
+     * <p>
+     * Handlers marked as non-blocking are executed directly on the calling (reader) thread,
+     * all others are executed using the given executor.
+     * </p>
+     *
+     * @param _executor executor to use
+     * @param _handler class of the handler or exported method, used for the metrics
+     * @param _inline true to execute on the calling thread
+     * @param _r runnable
+     *
+     * @return retries, if any input was null -1 is returned
+     */
+    int execHandler(ExecutorNames _executor, Object _handler, boolean _inline, Runnable _r) {
+        return execHandler(_executor, _handler, _inline, null, _r);
+    }
+
+    /**
+     * Executes a handler and records its execution time.
+     * <p>
+     * If the executor uses {@link OverloadPolicy#CONFLATE} and a key is given, the handler replaces
+     * a handler with the same key which is still waiting for execution.
+     * </p>
+     *
+     * @param _executor executor to use
+     * @param _handler class of the handler or exported method, used for the metrics
+     * @param _inline true to execute on the calling thread
+     * @param _conflationKey key used for conflation, null to never conflate
+     * @param _r runnable
+     *
+     * @return retries, if any input was null -1 is returned
+     */
+    int execHandler(ExecutorNames _executor, Object _handler, boolean _inline, Object _conflationKey, Runnable _r) {
+        return execHandler(_executor, _handler, _inline, _conflationKey, null, _r);
+    }
+
+    /**
+     * Executes a handler and records its execution time.
+     * <p>
+     * If the executor uses an {@link OrderingKey} and a key is given, the handler is executed after all
+     * previously submitted handlers with the same key.
+     * </p>
+     *
+     * @param _executor executor to use
+     * @param _handler class of the handler or exported method, used for the metrics
+     * @param _inline true to execute on the calling thread
+     * @param _conflationKey key used for conflation, null to never conflate
+     * @param _orderingKey key used to keep order, see {@link #getOrderingKey(ExecutorNames, Object, Message)}
+     * @param _r runnable
+     *
+     * @return retries, if any input was null -1 is returned
+     */
+    int execHandler(ExecutorNames _executor, Object _handler, boolean _inline, Object _conflationKey, Object _orderingKey, Runnable _r) {
+        if (_r == null || _executor == null) {
+            return -1;
+        }
+
+        Runnable timed = () -> {
+            long start = System.nanoTime();
+            try {
+                _r.run();
+            } finally {
+                metrics.record(_handler, _executor, _inline, System.nanoTime() - start);
+            }
+        };
+
+        if (!_inline && _conflationKey != null && isConflating(_executor)) {
+            return execConflated(_executor, _conflationKey, _orderingKey, timed);
+        } else if (!_inline) {
+            return execOrFail(_executor, ordered(_orderingKey, timed));
+        } else if (closed) {
+            throw new IllegalThreadPoolStateException("Receiving service already closed");
+        }
+
+        try {
+            timed.run();
+        } catch (RuntimeException _ex) {
+            logger.error("Non-blocking handler {} failed", _handler, _ex);
+        }
+        return 0;
+    }
+
+    private int execConflated(ExecutorNames _executor, Object _key, Object _orderingKey, Runnable _r) {
+        Lane lane = lanes.get(_executor);
+        if (lane.pending.put(_key, _r) != null) {
+            // previous runnable not yet started, it will run the new one instead
+            lane.conflated.increment();
+            return 0;
+        }
+
+        try {
+            return execOrFail(_executor, ordered(_orderingKey, () -> {
+                Runnable latest = lane.pending.remove(_key);
+                if (latest != null) {
+                    latest.run();
+                }
+            }));
+        } catch (RuntimeException _ex) {
+            lane.pending.remove(_key);
+            throw _ex;
+        }
+    }
+
+    private static Runnable ordered(Object _orderingKey, Runnable _r) {
+        return _orderingKey == null ? _r : new KeyedRunnable(_orderingKey.hashCode(), _r);
+    }
+
+    /**
+     * Returns the key used to keep the order of the given message.
+     *
+     * @param _executor executor which will handle the message
+     * @param _handler signal handler or exported object
+     * @param _message received message
+     * @return key or null if the executor does not keep the order
+     */
+    Object getOrderingKey(ExecutorNames _executor, Object _handler, Message _message) {
+        Lane lane = lanes.get(_executor);
+        if (lane == null) {
+            return null;
+        }
+        Object key = switch (lane.ordering) {
+            case NONE -> null;
+            case SENDER -> _message.getSource();
+            case PATH -> _message.getPath();
+            case HANDLER -> _handler;
+        };
+        // messages without sender or path still have to be ordered
+        return key == null && lane.ordering != OrderingKey.NONE ? "" : key;
+    }
+
+    /**
+     * Checks if handlers for the given executor may be dropped when its queue is full.
+     *
+     * @param _executor executor
+     * @return true if {@link OverloadPolicy#DROP_OLDEST} or {@link OverloadPolicy#DROP_NEWEST} is used
+     */
+    boolean mayDrop(ExecutorNames _executor) {
+        Lane lane = lanes.get(_executor);
+        return lane != null && (lane.policy == OverloadPolicy.DROP_OLDEST || lane.policy == OverloadPolicy.DROP_NEWEST);
+    }
+
+    /**
+     * Checks if handlers for the given executor may be conflated.
+     *
+     * @param _executor executor
+     * @return true if {@link OverloadPolicy#CONFLATE} is used
+     */
+    boolean isConflating(ExecutorNames _executor) {
+        Lane lane = lanes.get(_executor);
+        return lane != null && lane.policy == OverloadPolicy.CONFLATE;
+    }
+
+    /**
+     * Returns the current state of the queue of each executor.
+     *
+     * @return Map of executor and queue statistics
+     */
+    Map<ExecutorNames, QueueStatistics> getQueueStatistics() {
+        Map<ExecutorNames, QueueStatistics> result = new EnumMap<>(ExecutorNames.class);
+        for (Lane lane : lanes.values()) {
+            int depth = switch (getExecutor(lane.executor)) {
+                case ThreadPoolExecutor tpe -> tpe.getQueue().size();
+                case StripedExecutorService ses -> ses.getQueueSize();
+                case null, default -> 0;
+            };
+            result.put(lane.executor, new QueueStatistics(lane.executor, lane.capacity, lane.policy, depth,
+                lane.dropped.sum(), lane.conflated.sum()));
+        }
+        return result;
+    }
+
+    /**
+     * Checks if the given handler is annotated with {@link NonBlocking}.
+     *
+     * @param _handler handler
+     * @return true if handler can be executed on the reader thread
+     */
+    static boolean isNonBlocking(Object _handler) {
+        return _handler != null && NON_BLOCKING.get(_handler.getClass());
+    }
+
+    /**
+     * Returns the execution time metrics of the handlers.
+     *
+     * @return HandlerMetrics
+     */
+    HandlerMetrics getMetrics() {
+        return metrics;
+    }
+
     /**
      * Executes a runnable in a given executor.
      * May retry execution if {@link ExecutorService} has thrown an exception and retry handler
@@ -211,4 +447,71 @@ public class ReceivingService {
         closed = true;
     }
 
+    /**
+     * State of the queue of an executor.
+     *
+     * @param executor executor
+     * @param capacity maximum number of queued handlers, 0 if unbounded
+     * @param policy policy used when queue is full
+     * @param depth number of currently queued handlers
+     * @param dropped number of handlers dropped because the queue was full
+     * @param conflated number of handlers replaced by a newer handler with the same key
+     *
+     * @since 6.0.0 - 2026-10-17
+     */
+    public record QueueStatistics(ExecutorNames executor, int capacity, OverloadPolicy policy, int depth, long dropped, long conflated) {
+    }
+
+    /**
+     * Configuration and counters of one executor, also handles runnables rejected because the queue is full.
+     */
+    private final class Lane implements RejectedExecutionHandler {
+        private final ExecutorNames             executor;
+        private final int                       capacity;
+        private final OverloadPolicy            policy;
+        private final OrderingKey               ordering;
+        private final LongAdder                 dropped   = new LongAdder();
+        private final LongAdder                 conflated = new LongAdder();
+        /** Latest runnable waiting for execution by conflation key. */
+        private final Map<Object, Runnable>     pending   = new ConcurrentHashMap<>();
+
+        Lane(ExecutorNames _executor, int _capacity, OverloadPolicy _policy, OrderingKey _ordering) {
+            executor = _executor;
+            capacity = _capacity;
+            policy = _policy;
+            ordering = _ordering;
+        }
+
+        @Override
+        public void rejectedExecution(Runnable _r, ThreadPoolExecutor _pool) {
+            if (_pool.isShutdown()) {
+                throw new RejectedExecutionException("Executor " + executor + " already shut down");
+            }
+
+            switch (policy) {
+                case DROP_NEWEST -> {
+                    dropped.increment();
+                    logger.debug("Queue of {} is full, dropping new runnable", executor);
+                }
+                case DROP_OLDEST -> {
+                    if (_pool.getQueue().poll() != null) {
+                        dropped.increment();
+                        logger.debug("Queue of {} is full, dropped oldest runnable", executor);
+                    }
+                    _pool.execute(_r);
+                }
+                default -> {
+                    try {
+                        _pool.getQueue().put(_r);
+                    } catch (InterruptedException _ex) {
+                        Thread.currentThread().interrupt();
+                        throw new RejectedExecutionException("Interrupted while waiting for space in queue of " + executor, _ex);
+                    }
+                    if (_pool.isShutdown() && _pool.getQueue().remove(_r)) {
+                        throw new RejectedExecutionException("Executor " + executor + " already shut down");
+                    }
+                }
+            }
+        }
+    }
 }
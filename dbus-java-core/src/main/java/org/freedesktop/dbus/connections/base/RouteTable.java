@@ -0,0 +1,67 @@
+package org.freedesktop.dbus.connections.base;
+
+import org.freedesktop.dbus.messages.ExportedObject;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Immutable snapshot of the exported objects used to dispatch incoming method calls.
+ * <p>
+ * A new table is created whenever objects are exported or unexported and replaces the
+ * previous one atomically. Looking up a route therefore does not require any locking.<br>
+ * The methods of each object are looked up using {@link ExportedObject#getMethod(String, String)}.
+ * </p>
+ *
+ * @since 6.0.0 - 2026-10-17
+ */
+final class RouteTable {
+    static final RouteTable EMPTY = new RouteTable(Map.of(), null);
+
+    private final Map<String, ExportedObject> objects;
+    private final ExportedObject              global;
+
+    private RouteTable(Map<String, ExportedObject> _objects, ExportedObject _global) {
+        objects = _objects;
+        global = _global;
+    }
+
+    /**
+     * Creates a new table using the current exported objects.
+     *
+     * @param _exportedObjects exported objects by path, the global handler uses the path {@code null}
+     * @return new RouteTable
+     */
+    static RouteTable of(Map<String, ExportedObject> _exportedObjects) {
+        Map<String, ExportedObject> objects = new HashMap<>(_exportedObjects.size());
+        ExportedObject global = null;
+        for (Entry<String, ExportedObject> e : _exportedObjects.entrySet()) {
+            if (e.getKey() == null) {
+                global = e.getValue();
+            } else {
+                objects.put(e.getKey(), e.getValue());
+            }
+        }
+        return new RouteTable(objects, global);
+    }
+
+    /**
+     * Returns the object exported on the given path.
+     *
+     * @param _path object path
+     * @return ExportedObject or null
+     */
+    ExportedObject get(String _path) {
+        return _path == null ? global : objects.get(_path);
+    }
+
+    /**
+     * Returns the handler for methods of the global interfaces (Peer, Introspectable).
+     *
+     * @return ExportedObject or null
+     */
+    ExportedObject getGlobal() {
+        return global;
+    }
+}
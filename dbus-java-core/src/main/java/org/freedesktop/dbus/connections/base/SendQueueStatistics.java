@@ -0,0 +1,17 @@
+package org.freedesktop.dbus.connections.base;
+
+/**
+ * State of the queue holding messages waiting to be written to the bus.
+ *
+ * @param depth number of queued messages
+ * @param bytes estimated size of all queued messages
+ * @param sent number of messages taken from the queue for sending
+ * @param rejected number of messages rejected because the queue was full
+ * @param blocked number of times a sender had to wait because the queue was full
+ * @param averageWaitNanos average time a message was queued before it was sent
+ * @param maxWaitNanos longest time a message was queued before it was sent
+ *
+ * @since 6.0.0 - 2026-10-17
+ */
+public record SendQueueStatistics(int depth, long bytes, long sent, long rejected, long blocked, long averageWaitNanos, long maxWaitNanos) {
+}
@@ -0,0 +1,100 @@
+package org.freedesktop.dbus.connections.base;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor using multiple single threaded executors (stripes).
+ * <p>
+ * Runnables wrapped in a {@link KeyedRunnable} are always executed by the stripe selected
+ * by their key, so runnables with the same key are executed in the order they were submitted.
+ * Runnables without key are distributed round-robin.
+ * </p>
+ *
+ * @since 6.0.0 - 2026-10-17
+ */
+final class StripedExecutorService extends AbstractExecutorService {
+    private final List<ThreadPoolExecutor> stripes;
+    private final AtomicInteger            next = new AtomicInteger();
+
+    StripedExecutorService(List<ThreadPoolExecutor> _stripes) {
+        stripes = List.copyOf(_stripes);
+    }
+
+    @Override
+    public void execute(Runnable _command) {
+        int idx;
+        if (_command instanceof KeyedRunnable keyed) {
+            int h = keyed.key();
+            idx = Math.floorMod(h ^ (h >>> 16), stripes.size());
+        } else {
+            idx = Math.floorMod(next.getAndIncrement(), stripes.size());
+        }
+        stripes.get(idx).execute(_command);
+    }
+
+    /**
+     * Number of runnables waiting for execution in all stripes.
+     *
+     * @return queue size
+     */
+    int getQueueSize() {
+        int size = 0;
+        for (ThreadPoolExecutor stripe : stripes) {
+            size += stripe.getQueue().size();
+        }
+        return size;
+    }
+
+    @Override
+    public void shutdown() {
+        stripes.forEach(ThreadPoolExecutor::shutdown);
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> result = new ArrayList<>();
+        for (ThreadPoolExecutor stripe : stripes) {
+            result.addAll(stripe.shutdownNow());
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return stripes.stream().allMatch(ThreadPoolExecutor::isShutdown);
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return stripes.stream().allMatch(ThreadPoolExecutor::isTerminated);
+    }
+
+    @Override
+    public boolean awaitTermination(long _timeout, TimeUnit _unit) throws InterruptedException {
+        long deadline = System.nanoTime() + _unit.toNanos(_timeout);
+        for (ThreadPoolExecutor stripe : stripes) {
+            if (!stripe.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Runnable which has to be executed in order with all other runnables using the same key.
+     *
+     * @param key hash of the ordering key
+     * @param delegate runnable to execute
+     */
+    record KeyedRunnable(int key, Runnable delegate) implements Runnable {
+        @Override
+        public void run() {
+            delegate.run();
+        }
+    }
+}
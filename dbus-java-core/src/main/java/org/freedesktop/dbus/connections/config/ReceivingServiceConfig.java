@@ -2,6 +2,8 @@ package org.freedesktop.dbus.connections.config;
 
 import org.freedesktop.dbus.connections.shared.ExecutorNames;
 import org.freedesktop.dbus.connections.shared.IThreadPoolRetryHandler;
+import org.freedesktop.dbus.connections.shared.OrderingKey;
+import org.freedesktop.dbus.connections.shared.OverloadPolicy;
 
 import java.util.EnumMap;
 import java.util.Map;
@@ -19,11 +21,13 @@ public final class ReceivingServiceConfig {
 
     private IThreadPoolRetryHandler retryHandler;
 
+    private long inlineHandlerWarnThreshold = 10;
+
     ReceivingServiceConfig() {
-        threadConfigs.put(ExecutorNames.SIGNAL, new ThreadCfg(1, Thread.NORM_PRIORITY, false));
-        threadConfigs.put(ExecutorNames.ERROR, new ThreadCfg(1, Thread.NORM_PRIORITY, false));
-        threadConfigs.put(ExecutorNames.METHODCALL, new ThreadCfg(4, Thread.NORM_PRIORITY, false));
-        threadConfigs.put(ExecutorNames.METHODRETURN, new ThreadCfg(1, Thread.NORM_PRIORITY, false));
+        threadConfigs.put(ExecutorNames.SIGNAL, new ThreadCfg(1, Thread.NORM_PRIORITY, false, 0, OverloadPolicy.BLOCK, OrderingKey.NONE));
+        threadConfigs.put(ExecutorNames.ERROR, new ThreadCfg(1, Thread.NORM_PRIORITY, false, 0, OverloadPolicy.BLOCK, OrderingKey.NONE));
+        threadConfigs.put(ExecutorNames.METHODCALL, new ThreadCfg(4, Thread.NORM_PRIORITY, false, 0, OverloadPolicy.BLOCK, OrderingKey.NONE));
+        threadConfigs.put(ExecutorNames.METHODRETURN, new ThreadCfg(1, Thread.NORM_PRIORITY, false, 0, OverloadPolicy.BLOCK, OrderingKey.NONE));
     }
 
     public int getSignalThreadPoolSize() {
@@ -62,6 +66,16 @@ public final class ReceivingServiceConfig {
         return retryHandler;
     }
 
+    /**
+     * Execution time in milliseconds after which a handler running on the reader thread is reported.
+     *
+     * @return threshold, 0 if disabled
+     * @since 6.0.0 - 2026-10-17
+     */
+    public long getInlineHandlerWarnThreshold() {
+        return inlineHandlerWarnThreshold;
+    }
+
     public boolean isSignalVirtualThreads() {
         return threadConfigs.get(ExecutorNames.SIGNAL).virtual();
     }
@@ -90,57 +104,102 @@ public final class ReceivingServiceConfig {
         return Optional.ofNullable(_type).map(p -> threadConfigs.get(p).priority()).orElseThrow();
     }
 
+    /**
+     * Maximum number of queued handlers of the given executor.
+     *
+     * @param _type executor
+     * @return capacity, 0 if unbounded
+     * @since 6.0.0 - 2026-10-17
+     */
+    public int getQueueCapacity(ExecutorNames _type) {
+        return Optional.ofNullable(_type).map(p -> threadConfigs.get(p).queueCapacity()).orElseThrow();
+    }
+
+    /**
+     * Policy used when the bounded queue of the given executor is full.
+     *
+     * @param _type executor
+     * @return policy
+     * @since 6.0.0 - 2026-10-17
+     */
+    public OverloadPolicy getOverloadPolicy(ExecutorNames _type) {
+        return Optional.ofNullable(_type).map(p -> threadConfigs.get(p).overloadPolicy()).orElseThrow();
+    }
+
+    /**
+     * Key used to keep the order of messages handled by the given executor.
+     *
+     * @param _type executor
+     * @return ordering key, {@link OrderingKey#NONE} if order is not preserved
+     * @since 6.0.0 - 2026-10-17
+     */
+    public OrderingKey getOrderingKey(ExecutorNames _type) {
+        return Optional.ofNullable(_type).map(p -> threadConfigs.get(p).orderingKey()).orElseThrow();
+    }
+
+    void setOrderingKey(ExecutorNames _type, OrderingKey _key) {
+        threadConfigs.compute(_type, (t, u) -> new ThreadCfg(u.poolSize(), u.priority(), u.virtual(), u.queueCapacity(), u.overloadPolicy(), _key));
+    }
+
+    void setQueue(ExecutorNames _type, int _capacity, OverloadPolicy _policy) {
+        threadConfigs.compute(_type, (t, u) -> new ThreadCfg(u.poolSize(), u.priority(), u.virtual(), _capacity, _policy, u.orderingKey()));
+    }
+
     void setSignalThreadPoolSize(int _signalThreadPoolSize) {
-        threadConfigs.compute(ExecutorNames.SIGNAL, (t, u) -> new ThreadCfg(_signalThreadPoolSize, u.priority(), u.virtual()));
+        threadConfigs.compute(ExecutorNames.SIGNAL, (t, u) -> new ThreadCfg(_signalThreadPoolSize, u.priority(), u.virtual(), u.queueCapacity(), u.overloadPolicy(), u.orderingKey()));
     }
 
     void setErrorThreadPoolSize(int _errorThreadPoolSize) {
-        threadConfigs.compute(ExecutorNames.ERROR, (t, u) -> new ThreadCfg(_errorThreadPoolSize, u.priority(), u.virtual()));
+        threadConfigs.compute(ExecutorNames.ERROR, (t, u) -> new ThreadCfg(_errorThreadPoolSize, u.priority(), u.virtual(), u.queueCapacity(), u.overloadPolicy(), u.orderingKey()));
     }
 
     void setMethodCallThreadPoolSize(int _methodCallThreadPoolSize) {
-        threadConfigs.compute(ExecutorNames.METHODCALL, (t, u) -> new ThreadCfg(_methodCallThreadPoolSize, u.priority(), u.virtual()));
+        threadConfigs.compute(ExecutorNames.METHODCALL, (t, u) -> new ThreadCfg(_methodCallThreadPoolSize, u.priority(), u.virtual(), u.queueCapacity(), u.overloadPolicy(), u.orderingKey()));
     }
 
     void setMethodReturnThreadPoolSize(int _methodReturnThreadPoolSize) {
-        threadConfigs.compute(ExecutorNames.METHODRETURN, (t, u) -> new ThreadCfg(_methodReturnThreadPoolSize, u.priority(), u.virtual()));
+        threadConfigs.compute(ExecutorNames.METHODRETURN, (t, u) -> new ThreadCfg(_methodReturnThreadPoolSize, u.priority(), u.virtual(), u.queueCapacity(), u.overloadPolicy(), u.orderingKey()));
     }
 
     void setSignalThreadPriority(int _signalThreadPriority) {
-        threadConfigs.compute(ExecutorNames.SIGNAL, (t, u) -> new ThreadCfg(u.poolSize(), _signalThreadPriority, u.virtual()));
+        threadConfigs.compute(ExecutorNames.SIGNAL, (t, u) -> new ThreadCfg(u.poolSize(), _signalThreadPriority, u.virtual(), u.queueCapacity(), u.overloadPolicy(), u.orderingKey()));
     }
 
     void setMethodCallThreadPriority(int _methodCallThreadPriority) {
-        threadConfigs.compute(ExecutorNames.METHODCALL, (t, u) -> new ThreadCfg(u.poolSize(), _methodCallThreadPriority, u.virtual()));
+        threadConfigs.compute(ExecutorNames.METHODCALL, (t, u) -> new ThreadCfg(u.poolSize(), _methodCallThreadPriority, u.virtual(), u.queueCapacity(), u.overloadPolicy(), u.orderingKey()));
     }
 
     void setErrorThreadPriority(int _errorThreadPriority) {
-        threadConfigs.compute(ExecutorNames.ERROR, (t, u) -> new ThreadCfg(u.poolSize(), _errorThreadPriority, u.virtual()));
+        threadConfigs.compute(ExecutorNames.ERROR, (t, u) -> new ThreadCfg(u.poolSize(), _errorThreadPriority, u.virtual(), u.queueCapacity(), u.overloadPolicy(), u.orderingKey()));
     }
 
     void setMethodReturnThreadPriority(int _methodReturnThreadPriority) {
-        threadConfigs.compute(ExecutorNames.METHODRETURN, (t, u) -> new ThreadCfg(u.poolSize(), _methodReturnThreadPriority, u.virtual()));
+        threadConfigs.compute(ExecutorNames.METHODRETURN, (t, u) -> new ThreadCfg(u.poolSize(), _methodReturnThreadPriority, u.virtual(), u.queueCapacity(), u.overloadPolicy(), u.orderingKey()));
     }
 
     void setRetryHandler(IThreadPoolRetryHandler _retryHandler) {
         retryHandler = _retryHandler;
     }
 
+    void setInlineHandlerWarnThreshold(long _inlineHandlerWarnThreshold) {
+        inlineHandlerWarnThreshold = _inlineHandlerWarnThreshold;
+    }
+
     void setSignalVirtualThreads(boolean _signalVirtualThreads) {
-        threadConfigs.compute(ExecutorNames.SIGNAL, (t, u) -> new ThreadCfg(u.poolSize(), u.priority(), _signalVirtualThreads));
+        threadConfigs.compute(ExecutorNames.SIGNAL, (t, u) -> new ThreadCfg(u.poolSize(), u.priority(), _signalVirtualThreads, u.queueCapacity(), u.overloadPolicy(), u.orderingKey()));
     }
 
     void setErrorVirtualThreads(boolean _errorVirtualThreads) {
-        threadConfigs.compute(ExecutorNames.ERROR, (t, u) -> new ThreadCfg(u.poolSize(), u.priority(), _errorVirtualThreads));
+        threadConfigs.compute(ExecutorNames.ERROR, (t, u) -> new ThreadCfg(u.poolSize(), u.priority(), _errorVirtualThreads, u.queueCapacity(), u.overloadPolicy(), u.orderingKey()));
     }
 
     void setMethodCallVirtualThreads(boolean _methodCallVirtualThreads) {
-        threadConfigs.compute(ExecutorNames.METHODCALL, (t, u) -> new ThreadCfg(u.poolSize(), u.priority(), _methodCallVirtualThreads));
+        threadConfigs.compute(ExecutorNames.METHODCALL, (t, u) -> new ThreadCfg(u.poolSize(), u.priority(), _methodCallVirtualThreads, u.queueCapacity(), u.overloadPolicy(), u.orderingKey()));
     }
 
     void setMethodReturnVirtualThreads(boolean _methodReturnVirtualThreads) {
-        threadConfigs.compute(ExecutorNames.METHODRETURN, (t, u) -> new ThreadCfg(u.poolSize(), u.priority(), _methodReturnVirtualThreads));
+        threadConfigs.compute(ExecutorNames.METHODRETURN, (t, u) -> new ThreadCfg(u.poolSize(), u.priority(), _methodReturnVirtualThreads, u.queueCapacity(), u.overloadPolicy(), u.orderingKey()));
     }
 
-    private record ThreadCfg(int poolSize, int priority, boolean virtual) {}
+    private record ThreadCfg(int poolSize, int priority, boolean virtual, int queueCapacity, OverloadPolicy overloadPolicy, OrderingKey orderingKey) {}
 }
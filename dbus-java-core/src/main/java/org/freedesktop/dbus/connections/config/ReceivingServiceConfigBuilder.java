@@ -4,9 +4,13 @@ import org.freedesktop.dbus.connections.base.ReceivingService;
 import org.freedesktop.dbus.connections.impl.BaseConnectionBuilder;
 import org.freedesktop.dbus.connections.shared.ExecutorNames;
 import org.freedesktop.dbus.connections.shared.IThreadPoolRetryHandler;
+import org.freedesktop.dbus.connections.shared.OrderingKey;
+import org.freedesktop.dbus.connections.shared.OverloadPolicy;
 import org.freedesktop.dbus.utils.Util;
 import org.slf4j.LoggerFactory;
 
+import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
@@ -255,6 +259,69 @@ public final class ReceivingServiceConfigBuilder<R extends BaseConnectionBuilder
         return this;
     }
 
+    /**
+     * Limits the number of queued handlers of the given executor.
+     * <p>
+     * By default, all queues are unbounded. A sender emitting many signals faster than they can be handled
+     * will then cause the queue to grow until memory is exhausted.
+     * When the bounded queue is full, the given policy decides what happens with the next message.
+     * Using {@link OverloadPolicy#DROP_OLDEST} or {@link OverloadPolicy#DROP_NEWEST} for anything but
+     * signals is not recommended, as callers will never receive a reply for dropped method calls.
+     * </p>
+     *
+     * @param _executor executor to configure
+     * @param _capacity maximum number of queued handlers, 0 or less for unbounded
+     * @param _policy policy used when queue is full, null for {@link OverloadPolicy#BLOCK}
+     * @return this
+     *
+     * @since 6.0.0 - 2026-10-17
+     */
+    public ReceivingServiceConfigBuilder<R> withBoundedQueue(ExecutorNames _executor, int _capacity, OverloadPolicy _policy) {
+        config.setQueue(Objects.requireNonNull(_executor, "Executor required"), Math.max(0, _capacity),
+            Optional.ofNullable(_policy).orElse(OverloadPolicy.BLOCK));
+        return this;
+    }
+
+    /**
+     * Keeps the order of messages with the same key while handling messages with different keys in parallel.
+     * <p>
+     * The thread pool of the executor is split into single threaded stripes (one per configured thread).
+     * All messages with the same key are handled by the same stripe in the order they were received.
+     * Only supported for {@link ExecutorNames#SIGNAL} and {@link ExecutorNames#METHODCALL}.
+     * A bounded queue (see {@link #withBoundedQueue(ExecutorNames, int, OverloadPolicy)}) applies to each stripe.
+     * <p>
+     * Default: {@link OrderingKey#NONE}
+     *
+     * @param _executor executor to configure
+     * @param _key key defining which messages are handled in order, null for {@link OrderingKey#NONE}
+     * @return this
+     *
+     * @since 6.0.0 - 2026-10-17
+     */
+    public ReceivingServiceConfigBuilder<R> withOrderingKey(ExecutorNames _executor, OrderingKey _key) {
+        if (_executor != ExecutorNames.SIGNAL && _executor != ExecutorNames.METHODCALL) {
+            throw new IllegalArgumentException("Ordering key only supported for " + ExecutorNames.SIGNAL + " and " + ExecutorNames.METHODCALL);
+        }
+        config.setOrderingKey(_executor, Optional.ofNullable(_key).orElse(OrderingKey.NONE));
+        return this;
+    }
+
+    /**
+     * Sets the execution time after which a handler annotated with {@link org.freedesktop.dbus.annotations.NonBlocking}
+     * is reported as misbehaving (logged and counted in {@link org.freedesktop.dbus.connections.base.HandlerMetrics}).
+     * <p>
+     * Default: 10 milliseconds, use 0 to disable.
+     *
+     * @param _millis threshold in milliseconds &gt;= 0
+     * @return this
+     *
+     * @since 6.0.0 - 2026-10-17
+     */
+    public ReceivingServiceConfigBuilder<R> withInlineHandlerWarnThreshold(long _millis) {
+        config.setInlineHandlerWarnThreshold(Math.max(0, _millis));
+        return this;
+    }
+
     /**
      * Returns the configured {@link ReceivingServiceConfig} instance.
      * @return config never null
@@ -36,6 +36,11 @@ public final class TransportConfig {
     private byte                        endianess        = BaseConnectionBuilder.getSystemEndianness();
     private boolean                     registerSelf     = true;
 
+    /** size of the receive buffer used by the buffered message reader (0 to use default reader). */
+    private int                         receiveBufferSize;
+    /** marshall new messages into direct buffers. */
+    private boolean                     directBuffers;
+
     private ClassLoader                 serviceLoaderClassLoader = TransportBuilder.class.getClassLoader();
     private ModuleLayer                 serviceLoaderModuleLayer;
 
@@ -173,6 +178,22 @@ public final class TransportConfig {
         registerSelf = _registerSelf;
     }
 
+    public int getReceiveBufferSize() {
+        return receiveBufferSize;
+    }
+
+    public void setReceiveBufferSize(int _receiveBufferSize) {
+        receiveBufferSize = _receiveBufferSize;
+    }
+
+    public boolean isDirectBuffers() {
+        return directBuffers;
+    }
+
+    public void setDirectBuffers(boolean _directBuffers) {
+        directBuffers = _directBuffers;
+    }
+
     public ClassLoader getServiceLoaderClassLoader() {
         return serviceLoaderClassLoader;
     }
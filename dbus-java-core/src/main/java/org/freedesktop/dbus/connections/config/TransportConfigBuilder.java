@@ -136,6 +136,53 @@ public class TransportConfigBuilder<X extends TransportConfigBuilder<?, R>, R> {
         return self();
     }
 
+    /**
+     * Use a buffered message reader with a receive buffer of the given size.
+     * <p>
+     * The buffered reader will read as many bytes as available with one call to the socket
+     * and creates all complete messages contained in the received data. This reduces
+     * the amount of system calls when many small messages are received (e.g. signals).<br>
+     * The buffer will grow if a single message does not fit into it.
+     * </p>
+     * <p>
+     * The buffered reader is only used with the built-in reader implementation. If a
+     * {@link org.freedesktop.dbus.spi.message.ISocketProvider} supplies its own reader
+     * (e.g. to support file descriptor passing), this option is ignored.
+     * </p>
+     * <p>
+     * default: 0 (disabled)
+     * </p>
+     *
+     * @param _bufferSize size of receive buffer in bytes, values less than 1 will disable buffered reader
+     *
+     * @return this
+     * @since 6.0.0 - 2026-10-17
+     */
+    public X withBufferedReader(int _bufferSize) {
+        config.setReceiveBufferSize(Math.max(0, _bufferSize));
+        return self();
+    }
+
+    /**
+     * Use direct {@link java.nio.ByteBuffer}s to marshall messages created by this connection.
+     * <p>
+     * Direct buffers can be written to the socket without an additional copy,
+     * but are more expensive to allocate.
+     * </p>
+     * <p>
+     * default: false (use heap buffers)
+     * </p>
+     *
+     * @param _directBuffers true to use direct buffers
+     *
+     * @return this
+     * @since 6.0.0 - 2026-10-17
+     */
+    public X withDirectBuffers(boolean _directBuffers) {
+        config.setDirectBuffers(_directBuffers);
+        return self();
+    }
+
     /**
      * Switch to the {@link SaslConfigBuilder} to configure the SASL authentication mechanism.<br>
      * Use {@link SaslConfigBuilder#back()} to return to this builder when finished.
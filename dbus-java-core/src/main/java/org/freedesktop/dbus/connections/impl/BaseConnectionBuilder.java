@@ -169,6 +169,74 @@ public abstract class BaseConnectionBuilder<R extends BaseConnectionBuilder<R, C
         return self();
     }
 
+    /**
+     * Set the timeout for method calls sent using this connection.
+     * <p>
+     * If no reply is received within the timeout, the call is completed with a
+     * {@link org.freedesktop.dbus.errors.NoReply} error and removed from the pending calls.
+     * Methods annotated with {@link org.freedesktop.dbus.annotations.MethodTimeout} use the
+     * timeout of the annotation instead.
+     * </p>
+     * Default is 0 which will use the global default (see {@link org.freedesktop.dbus.messages.MethodCall#setDefaultTimeout(long)}).
+     *
+     * @param _timeout timeout in ms, 0 to use the global default
+     * @return this
+     * @since 6.0.0 - 2026-10-17
+     */
+    public R withMethodCallTimeout(long _timeout) {
+        if (_timeout < 0) {
+            throw new IllegalArgumentException("Timeout must not be negative");
+        }
+        connectionConfig.setMethodCallTimeout(_timeout);
+        return self();
+    }
+
+    /**
+     * Limits the number of messages waiting to be sent.
+     * <p>
+     * When the limit is reached, {@link org.freedesktop.dbus.connections.AbstractConnection#sendMessage(org.freedesktop.dbus.messages.Message)}
+     * (and therefore every remote method call or signal emission) will wait until messages have been sent,
+     * or fails with {@link org.freedesktop.dbus.exceptions.SendQueueFullException} if fail fast is enabled.
+     * Method returns and errors are never blocked.<br>
+     * The byte limit uses the size of the marshalled messages, signals created locally are marshalled
+     * when they are sent, so only their header is counted.
+     * </p>
+     * Default is 0 (unlimited) for both limits.
+     *
+     * @param _maxMessages maximum number of queued messages, 0 for unlimited
+     * @param _maxBytes maximum size of queued messages in bytes, 0 for unlimited
+     * @param _failFast true to throw an exception instead of waiting
+     * @return this
+     * @since 6.0.0 - 2026-10-17
+     */
+    public R withSendQueueLimit(int _maxMessages, long _maxBytes, boolean _failFast) {
+        if (_maxMessages < 0 || _maxBytes < 0) {
+            throw new IllegalArgumentException("Limits must not be negative");
+        }
+        connectionConfig.setSendQueueMaxMessages(_maxMessages);
+        connectionConfig.setSendQueueMaxBytes(_maxBytes);
+        connectionConfig.setSendQueueFailFast(_failFast);
+        return self();
+    }
+
+    /**
+     * Send method returns and errors before queued method calls, and method calls before queued signals.
+     * <p>
+     * Replies will then not wait behind a large number of queued signals.
+     * The order of messages of the same kind is not changed, but a signal emitted before a reply
+     * may be received after the reply.
+     * </p>
+     * Default is false (all messages are sent in order).
+     *
+     * @param _prioritize true to enable
+     * @return this
+     * @since 6.0.0 - 2026-10-17
+     */
+    public R withPrioritizedReplies(boolean _prioritize) {
+        connectionConfig.setPrioritizeReplies(_prioritize);
+        return self();
+    }
+
     public abstract C build() throws DBusException;
 
     /**
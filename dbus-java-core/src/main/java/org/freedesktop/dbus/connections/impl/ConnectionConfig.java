@@ -10,6 +10,11 @@ public class ConnectionConfig {
     private boolean importWeakReferences;
     private IDisconnectCallback disconnectCallback;
     private Consumer<DBusSignal> unknownSignalHandler;
+    private long methodCallTimeout;
+    private int sendQueueMaxMessages;
+    private long sendQueueMaxBytes;
+    private boolean sendQueueFailFast;
+    private boolean prioritizeReplies;
 
     public boolean isExportWeakReferences() {
         return exportWeakReferences;
@@ -43,4 +48,44 @@ public class ConnectionConfig {
         unknownSignalHandler = _unknownSignalHandler;
     }
 
+    public long getMethodCallTimeout() {
+        return methodCallTimeout;
+    }
+
+    public void setMethodCallTimeout(long _methodCallTimeout) {
+        methodCallTimeout = _methodCallTimeout;
+    }
+
+    public int getSendQueueMaxMessages() {
+        return sendQueueMaxMessages;
+    }
+
+    public void setSendQueueMaxMessages(int _sendQueueMaxMessages) {
+        sendQueueMaxMessages = _sendQueueMaxMessages;
+    }
+
+    public long getSendQueueMaxBytes() {
+        return sendQueueMaxBytes;
+    }
+
+    public void setSendQueueMaxBytes(long _sendQueueMaxBytes) {
+        sendQueueMaxBytes = _sendQueueMaxBytes;
+    }
+
+    public boolean isSendQueueFailFast() {
+        return sendQueueFailFast;
+    }
+
+    public void setSendQueueFailFast(boolean _sendQueueFailFast) {
+        sendQueueFailFast = _sendQueueFailFast;
+    }
+
+    public boolean isPrioritizeReplies() {
+        return prioritizeReplies;
+    }
+
+    public void setPrioritizeReplies(boolean _prioritizeReplies) {
+        prioritizeReplies = _prioritizeReplies;
+    }
+
 }
@@ -25,10 +25,12 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.lang.reflect.Proxy;
 import java.util.*;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -55,6 +57,9 @@ public final class DBusConnection extends AbstractConnection implements IRemoteO
     private final String                               machineId;
     private DBus                                       dbus;
 
+    /** Match rules registered on the bus. */
+    private final MatchRuleRegistry                    matchRules;
+
     /** Whether the connection was registered using 'Hello' message. */
     private boolean                                    registered;
 
@@ -75,6 +80,7 @@ public final class DBusConnection extends AbstractConnection implements IRemoteO
         busnames = new ArrayList<>();
         machineId = _machineId;
         shared = _shared;
+        matchRules = new MatchRuleRegistry(r -> callMethodFuture(dbus, "AddMatch", r), r -> callMethodFuture(dbus, "RemoveMatch", r));
     }
 
     private AtomicInteger getConcurrentConnections() {
@@ -399,21 +405,8 @@ public final class DBusConnection extends AbstractConnection implements IRemoteO
     public <T extends DBusSignal> void removeSigHandler(DBusMatchRule _rule, DBusSigHandler<T> _handler)
             throws DBusException {
 
-        Queue<DBusSigHandler<? extends DBusSignal>> dbusSignalList = getHandledSignals().get(_rule);
-
-        if (null != dbusSignalList) {
-            dbusSignalList.remove(_handler);
-            if (dbusSignalList.isEmpty()) {
-                getHandledSignals().remove(_rule);
-                try {
-                    dbus.RemoveMatch(_rule.toString());
-                } catch (NotConnected _ex) {
-                    logger.debug("No connection.", _ex);
-                } catch (DBusExecutionException _ex) {
-                    logger.debug("Error removing signal", _ex);
-                    throw new DBusException(_ex);
-                }
-            }
+        if (unregisterHandler(getHandledSignals(), _rule, _handler)) {
+            matchRules.release(_rule);
         }
     }
 
@@ -485,28 +478,101 @@ public final class DBusConnection extends AbstractConnection implements IRemoteO
         Objects.requireNonNull(_rule, "Match rule cannot be null");
         Objects.requireNonNull(_handler, "Handler cannot be null");
 
-        AtomicBoolean addMatch = new AtomicBoolean(false); // flag to perform action if this is a new signal key
+        awaitMatchRules(getHandledSignals(), Map.of(_rule, _handler), List.of(registerHandler(getHandledSignals(), _rule, _handler)));
+        return () -> removeSigHandler(_rule, _handler);
+    }
 
-        Queue<DBusSigHandler<? extends DBusSignal>> dbusSignalList =
-            getHandledSignals().computeIfAbsent(_rule, v -> {
-                Queue<DBusSigHandler<? extends DBusSignal>> signalList  = new ConcurrentLinkedQueue<>();
-                addMatch.set(true);
-                return signalList;
-            });
+    /**
+     * Adds multiple signal handlers at once.
+     * <p>
+     * The required match rules are sent to the bus without waiting for each reply,
+     * this method returns when all rules were acknowledged by the bus.
+     * If any rule could not be added, all handlers given to this method are removed again.
+     * </p>
+     *
+     * @param _handlers handlers to add, mapped by the match rule to use
+     * @return closeable that removes all added signal handlers
+     * @throws DBusException if adding any of the match rules failed
+     *
+     * @since 6.0.0 - 2026-10-17
+     */
+    public AutoCloseable addSigHandlers(Map<DBusMatchRule, ? extends DBusSigHandler<? extends DBusSignal>> _handlers) throws DBusException {
+        Objects.requireNonNull(_handlers, "Handlers cannot be null");
+
+        Map<DBusMatchRule, DBusSigHandler<? extends DBusSignal>> handlers = new LinkedHashMap<>(_handlers);
+        List<CompletableFuture<Void>> acks = new ArrayList<>(handlers.size());
+        for (Entry<DBusMatchRule, DBusSigHandler<? extends DBusSignal>> e : handlers.entrySet()) {
+            acks.add(registerHandler(getHandledSignals(), Objects.requireNonNull(e.getKey(), "Match rule cannot be null"),
+                Objects.requireNonNull(e.getValue(), "Handler cannot be null")));
+        }
 
-        // add handler to signal list
-        dbusSignalList.add(_handler);
+        awaitMatchRules(getHandledSignals(), handlers, acks);
+        return () -> {
+            for (Entry<DBusMatchRule, DBusSigHandler<? extends DBusSignal>> e : handlers.entrySet()) {
+                removeSigHandler(e.getKey(), e.getValue());
+            }
+        };
+    }
+
+    /**
+     * Adds the handler to the given map and acquires the match rule on the bus.
+     *
+     * @return future completed when the match rule was acknowledged
+     */
+    private <H> CompletableFuture<Void> registerHandler(Map<DBusMatchRule, Queue<H>> _handlerMap, DBusMatchRule _rule, H _handler) {
+        _handlerMap.computeIfAbsent(_rule, v -> new ConcurrentLinkedQueue<>()).add(_handler);
+        return matchRules.acquire(_rule);
+    }
 
-        // add match rule if this rule is new
-        if (addMatch.get()) {
-            try {
-                dbus.AddMatch(_rule.toString());
-            } catch (DBusExecutionException _ex) {
-                logger.debug("Cannot add match rule: {}", _rule, _ex);
-                throw new DBusException("Cannot add match rule.", _ex);
+    /**
+     * Removes the handler from the given map without touching the match rules.
+     *
+     * @return true if handler was registered
+     */
+    private static <H> boolean unregisterHandler(Map<DBusMatchRule, Queue<H>> _handlerMap, DBusMatchRule _rule, H _handler) {
+        Queue<H> handlers = _handlerMap.get(_rule);
+        if (handlers == null || !handlers.remove(_handler)) {
+            return false;
+        }
+        _handlerMap.computeIfPresent(_rule, (k, v) -> v.isEmpty() ? null : v);
+        return true;
+    }
+
+    /**
+     * Waits until all given match rules were acknowledged.
+     * If any rule failed, all given handlers are removed again.
+     *
+     * @param _handlerMap map the handlers were added to
+     * @param _handlers handlers which were registered
+     * @param _acks acknowledgement for each handler (same order)
+     * @throws DBusException if any rule failed
+     */
+    private <H> void awaitMatchRules(Map<DBusMatchRule, Queue<H>> _handlerMap, Map<DBusMatchRule, ? extends H> _handlers,
+            List<CompletableFuture<Void>> _acks) throws DBusException {
+        try {
+            CompletableFuture.allOf(_acks.toArray(CompletableFuture[]::new)).get();
+            return;
+        } catch (InterruptedException _ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException _ex) {
+            logger.debug("Cannot add match rule", _ex.getCause());
+        }
+
+        int idx = 0;
+        for (Entry<DBusMatchRule, ? extends H> e : _handlers.entrySet()) {
+            CompletableFuture<Void> ack = _acks.get(idx++);
+            // failed rules are already forgotten by the registry, all others have to be released
+            if (unregisterHandler(_handlerMap, e.getKey(), e.getValue()) && !ack.isCompletedExceptionally()) {
+                matchRules.release(e.getKey());
             }
         }
-        return () -> removeSigHandler(_rule, _handler);
+
+        for (CompletableFuture<Void> ack : _acks) {
+            if (ack.isCompletedExceptionally()) {
+                throw new DBusException("Cannot add match rule.", ack.exceptionNow());
+            }
+        }
+        throw new DBusException("Interrupted while adding match rule");
     }
 
     /**
@@ -592,45 +658,18 @@ public final class DBusConnection extends AbstractConnection implements IRemoteO
 
     @Override
     public void removeGenericSigHandler(DBusMatchRule _rule, DBusSigHandler<DBusSignal> _handler) throws DBusException {
-        Queue<DBusSigHandler<DBusSignal>> genericSignalsList = getGenericHandledSignals().get(_rule);
-        if (null != genericSignalsList) {
-            genericSignalsList.remove(_handler);
-            if (genericSignalsList.isEmpty()) {
-                getGenericHandledSignals().remove(_rule);
-                try {
-                    dbus.RemoveMatch(_rule.toString());
-                } catch (NotConnected _ex) {
-                    logger.debug("No connection.", _ex);
-                } catch (DBusExecutionException _ex) {
-                    logger.debug("Error removing generic signal", _ex);
-                    throw new DBusException(_ex);
-                }
-            }
+        if (unregisterHandler(getGenericHandledSignals(), _rule, _handler)) {
+            matchRules.release(_rule);
         }
     }
 
     @Override
     public AutoCloseable addGenericSigHandler(DBusMatchRule _rule, DBusSigHandler<DBusSignal> _handler) throws DBusException {
-        AtomicBoolean addMatch = new AtomicBoolean(false); // flag to perform action if this is a new signal key
-
-        Queue<DBusSigHandler<DBusSignal>> genericSignalsList =
-                getGenericHandledSignals().computeIfAbsent(_rule, v -> {
-                    Queue<DBusSigHandler<DBusSignal>> signalsList = new ConcurrentLinkedQueue<>();
-                    addMatch.set(true);
-
-                    return signalsList;
-                });
-
-        genericSignalsList.add(_handler);
+        Objects.requireNonNull(_rule, "Match rule cannot be null");
+        Objects.requireNonNull(_handler, "Handler cannot be null");
 
-        if (addMatch.get()) {
-            try {
-                dbus.AddMatch(_rule.toString());
-            } catch (DBusExecutionException _ex) {
-                logger.debug("Error adding signal handler", _ex);
-                throw new DBusException(_ex.getMessage());
-            }
-        }
+        awaitMatchRules(getGenericHandledSignals(), Map.of(_rule, _handler),
+            List.of(registerHandler(getGenericHandledSignals(), _rule, _handler)));
         return () -> removeGenericSigHandler(_rule, _handler);
     }
 
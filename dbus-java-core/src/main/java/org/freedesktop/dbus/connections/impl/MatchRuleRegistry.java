@@ -0,0 +1,126 @@
+package org.freedesktop.dbus.connections.impl;
+
+import org.freedesktop.dbus.matchrules.DBusMatchRule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Keeps track of the match rules registered on the bus.
+ * <p>
+ * Identical rules are reference counted, so each rule is sent to the bus only once (using AddMatch)
+ * and is removed (using RemoveMatch) when the last user released it.<br>
+ * AddMatch calls are sent asynchronously, so multiple registrations can be outstanding at the same time.
+ * All users of a rule will receive the same future which is completed when the bus acknowledged the rule.
+ * </p>
+ * <p>
+ * If adding a rule fails, the rule is forgotten, so the next registration of the same rule will try again.
+ * </p>
+ *
+ * @since 6.0.0 - 2026-10-17
+ */
+final class MatchRuleRegistry {
+
+    private final Logger                                 logger = LoggerFactory.getLogger(getClass());
+
+    private final Map<DBusMatchRule, Registration>       rules  = new HashMap<>();
+    private final Function<String, CompletableFuture<?>> addMatch;
+    private final Function<String, CompletableFuture<?>> removeMatch;
+
+    /**
+     * Creates a new registry.
+     *
+     * @param _addMatch function sending AddMatch for the given rule string
+     * @param _removeMatch function sending RemoveMatch for the given rule string
+     */
+    MatchRuleRegistry(Function<String, CompletableFuture<?>> _addMatch, Function<String, CompletableFuture<?>> _removeMatch) {
+        addMatch = _addMatch;
+        removeMatch = _removeMatch;
+    }
+
+    /**
+     * Acquires the given rule.
+     * Sends AddMatch to the bus if the rule is not registered yet.
+     *
+     * @param _rule rule
+     * @return future completed when the rule was acknowledged by the bus
+     */
+    CompletableFuture<Void> acquire(DBusMatchRule _rule) {
+        synchronized (rules) {
+            Registration reg = rules.get(_rule);
+            if (reg != null) {
+                reg.refCount++;
+                return reg.acknowledged;
+            }
+
+            Registration newReg = new Registration();
+            rules.put(_rule, newReg);
+            // send while holding the lock, so AddMatch and RemoveMatch for the same rule keep their order
+            send(addMatch, _rule).whenComplete((r, ex) -> {
+                if (ex != null) {
+                    logger.debug("Cannot add match rule: {}", _rule, ex);
+                    synchronized (rules) {
+                        rules.remove(_rule, newReg);
+                    }
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    newReg.acknowledged.completeExceptionally(cause);
+                } else {
+                    newReg.acknowledged.complete(null);
+                }
+            });
+            return newReg.acknowledged;
+        }
+    }
+
+    /**
+     * Releases the given rule.
+     * Sends RemoveMatch to the bus (without waiting for the reply) if the rule is no longer used.
+     *
+     * @param _rule rule
+     */
+    void release(DBusMatchRule _rule) {
+        synchronized (rules) {
+            Registration reg = rules.get(_rule);
+            if (reg == null || --reg.refCount > 0) {
+                return;
+            }
+            rules.remove(_rule);
+            send(removeMatch, _rule).whenComplete((r, ex) -> {
+                if (ex != null) {
+                    logger.debug("Error removing match rule: {}", _rule, ex);
+                }
+            });
+        }
+    }
+
+    /**
+     * Number of users of the given rule.
+     *
+     * @param _rule rule
+     * @return reference count, 0 if not registered
+     */
+    int getRefCount(DBusMatchRule _rule) {
+        synchronized (rules) {
+            Registration reg = rules.get(_rule);
+            return reg == null ? 0 : reg.refCount;
+        }
+    }
+
+    private static CompletableFuture<?> send(Function<String, CompletableFuture<?>> _function, DBusMatchRule _rule) {
+        try {
+            return _function.apply(_rule.toString());
+        } catch (RuntimeException _ex) {
+            return CompletableFuture.failedFuture(_ex);
+        }
+    }
+
+    private static final class Registration {
+        private final CompletableFuture<Void> acknowledged = new CompletableFuture<>();
+        private int                           refCount     = 1;
+    }
+}
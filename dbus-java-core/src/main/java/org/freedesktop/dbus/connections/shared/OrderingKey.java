@@ -0,0 +1,22 @@
+package org.freedesktop.dbus.connections.shared;
+
+/**
+ * Defines which messages have to be handled in the order they were received
+ * when the executor uses more than one thread.
+ * <p>
+ * Messages with the same key are always handled one after another by the same thread,
+ * messages with different keys are handled in parallel.
+ * </p>
+ *
+ * @since 6.0.0 - 2026-10-17
+ */
+public enum OrderingKey {
+    /** No ordering, every message is handled by the next free thread. */
+    NONE,
+    /** Messages from the same sender (unique bus name) are handled in order. */
+    SENDER,
+    /** Messages for/from the same object path are handled in order. */
+    PATH,
+    /** Messages passed to the same signal handler or exported object are handled in order. */
+    HANDLER
+}
@@ -0,0 +1,24 @@
+package org.freedesktop.dbus.connections.shared;
+
+/**
+ * Defines what happens when a message is received while the bounded queue of
+ * the executor handling this kind of message is full.
+ *
+ * @since 6.0.0 - 2026-10-17
+ */
+public enum OverloadPolicy {
+    /** Block the thread reading from the bus until there is space in the queue (backpressure). */
+    BLOCK,
+    /** Discard the oldest queued handler to make room for the new one. */
+    DROP_OLDEST,
+    /** Discard the new handler. */
+    DROP_NEWEST,
+    /**
+     * Only keep the latest pending signal per handler, sender, object path, interface, member and first argument.
+     * A signal replaces a queued signal with the same key instead of being queued again.
+     * If the queue is still full, the reader thread is blocked (like {@link #BLOCK}).<br>
+     * Only useful for signals which contain the complete state (later signals make previous ones obsolete).
+     * Other message types are never conflated.
+     */
+    CONFLATE
+}
@@ -9,7 +9,6 @@ import org.freedesktop.dbus.exceptions.DBusException;
 import org.freedesktop.dbus.exceptions.InvalidBusAddressException;
 import org.freedesktop.dbus.messages.Message;
 import org.freedesktop.dbus.messages.MessageFactory;
-import org.freedesktop.dbus.messages.constants.ArgumentType;
 import org.freedesktop.dbus.spi.message.*;
 import org.freedesktop.dbus.utils.IThrowingSupplier;
 import org.slf4j.Logger;
@@ -18,6 +17,7 @@ import org.slf4j.LoggerFactory;
 import java.io.Closeable;
 import java.io.IOException;
 import java.nio.channels.SocketChannel;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.ServiceConfigurationError;
@@ -59,7 +59,7 @@ public abstract class AbstractTransport implements Closeable {
         }
         config.getSaslConfig().setGuid(address.getGuid());
         config.getSaslConfig().setFileDescriptorSupport(hasFileDescriptorSupport());
-        messageFactory = new MessageFactory(config.getEndianess());
+        messageFactory = new MessageFactory(config.getEndianess(), config.isDirectBuffers());
     }
 
     /**
@@ -69,9 +69,7 @@ public abstract class AbstractTransport implements Closeable {
      * @throws IOException on write error or if output was already closed or null
      */
     public void writeMessage(Message _msg) throws IOException {
-        if (!fileDescriptorSupported && ArgumentType.FILEDESCRIPTOR == _msg.getType()) {
-            throw new IllegalArgumentException("File descriptors are not supported!");
-        }
+        checkFileDescriptors(_msg);
         if (transportConnection.getWriter() != null && !transportConnection.getWriter().isClosed()) {
             transportConnection.getWriter().writeMessage(_msg);
         } else {
@@ -79,6 +77,36 @@ public abstract class AbstractTransport implements Closeable {
         }
     }
 
+    /**
+     * Write several messages to the underlying socket using as few writes as possible.
+     *
+     * @param _msgs messages to write
+     * @throws IOException on write error or if output was already closed or null
+     * @since 6.0.0 - 2026-10-17
+     */
+    public void writeMessages(List<Message> _msgs) throws IOException {
+        for (Message msg : _msgs) {
+            checkFileDescriptors(msg);
+        }
+        if (transportConnection.getWriter() != null && !transportConnection.getWriter().isClosed()) {
+            transportConnection.getWriter().writeMessages(_msgs);
+        } else {
+            throw new IOException("OutputWriter already closed or null");
+        }
+    }
+
+    /**
+     * Ensures the given message does not carry file descriptors if they are not supported by this transport.
+     *
+     * @param _msg message to check
+     * @throws IllegalArgumentException if message contains file descriptors which cannot be sent
+     */
+    private void checkFileDescriptors(Message _msg) {
+        if (!fileDescriptorSupported && !_msg.getFiledescriptors().isEmpty()) {
+            throw new IllegalArgumentException("File descriptors are not supported!");
+        }
+    }
+
     /**
      * Read a message from the underlying socket.
      *
@@ -296,10 +324,18 @@ public abstract class AbstractTransport implements Closeable {
 
         if (reader == null || writer == null) {
             logger.debug("No alternative ISocketProvider found, using built-in implementation");
-            reader = new InputStreamMessageReader(_socket);
+            if (config.getReceiveBufferSize() > 0) {
+                logger.debug("Using buffered message reader with receive buffer size of {} bytes", config.getReceiveBufferSize());
+                reader = new BufferedMessageReader(_socket, config.getReceiveBufferSize());
+            } else {
+                reader = new InputStreamMessageReader(_socket);
+            }
             writer = new OutputStreamMessageWriter(_socket);
             fileDescriptorSupported = false; // internal implementation does not support file descriptors even if server
                                              // allows it
+        } else if (config.getReceiveBufferSize() > 0) {
+            // the reader of the provider may support features like file descriptor passing, never replace it
+            logger.debug("Ignoring receive buffer size, ISocketProvider {} supplies its own message reader", providerImpl);
         }
 
         return new TransportConnection(messageFactory, _socket, providerImpl, writer, reader);
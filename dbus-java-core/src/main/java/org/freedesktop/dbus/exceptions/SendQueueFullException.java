@@ -0,0 +1,18 @@
+package org.freedesktop.dbus.exceptions;
+
+import java.io.Serial;
+
+/**
+ * Thrown when a message cannot be sent because the send queue of the connection is full
+ * and the connection is configured to fail instead of waiting.
+ *
+ * @since 6.0.0 - 2026-10-17
+ */
+public class SendQueueFullException extends DBusExecutionException {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public SendQueueFullException(String _message) {
+        super(_message);
+    }
+}
@@ -2,10 +2,13 @@ package org.freedesktop.dbus.matchrules;
 
 import org.freedesktop.dbus.messages.DBusSignal;
 import org.freedesktop.dbus.messages.Message;
+import org.freedesktop.dbus.messages.constants.MessageTypes;
 
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -23,11 +26,59 @@ public final class DBusMatchRule {
     private final Map<MatchRuleField, String> fields = new TreeMap<>();
     private final Map<MatchRuleField, Map<Integer, String>> multiValueFields = new TreeMap<>();
 
+    /** Checks for all fields of this rule, cheap header checks first. */
+    private final Predicate<Message>[] matchers;
+    private final int hash;
+
     DBusMatchRule(Map<MatchRuleField, String> _values, Map<MatchRuleField, Map<Integer, String>> _multiValues) {
         fields.putAll(Objects.requireNonNull(_values, "Values required"));
         if (_multiValues != null) {
             multiValueFields.putAll(_multiValues);
         }
+        matchers = compile();
+        hash = Objects.hash(fields, multiValueFields);
+    }
+
+    /**
+     * Creates a predicate for every field of this rule.
+     * All values are resolved once, so matching a message does not require any lookups.
+     */
+    @SuppressWarnings("unchecked")
+    private Predicate<Message>[] compile() {
+        List<Predicate<Message>> result = new ArrayList<>();
+        for (Entry<MatchRuleField, String> entry : fields.entrySet()) {
+            String val = entry.getValue();
+            Predicate<Message> predicate = switch (entry.getKey()) {
+                case TYPE -> compileType(val);
+                case SENDER -> m -> Objects.equals(m.getSource(), val);
+                case INTERFACE -> m -> Objects.equals(m.getInterface(), val);
+                case MEMBER -> m -> Objects.equals(m.getName(), val);
+                case PATH -> m -> Objects.equals(m.getPath(), val);
+                case DESTINATION -> m -> Objects.equals(m.getDestination(), val);
+                default -> {
+                    BiPredicate<Message, String> matcher = entry.getKey().getSingleMatcher();
+                    yield m -> matcher.test(m, val);
+                }
+            };
+            result.add(predicate);
+        }
+
+        for (Entry<MatchRuleField, Map<Integer, String>> entry : multiValueFields.entrySet()) {
+            BiPredicate<Message, Map<Integer, String>> matcher = entry.getKey().getMultiMatcher();
+            Map<Integer, String> val = entry.getValue();
+            result.add(m -> matcher.test(m, val));
+        }
+        return result.toArray(Predicate[]::new);
+    }
+
+    private static Predicate<Message> compileType(String _type) {
+        for (MessageTypes t : MessageTypes.values()) {
+            if (t.getMatchRuleName().equals(_type)) {
+                byte id = t.getId();
+                return m -> m.getType() == id;
+            }
+        }
+        return m -> false;
     }
 
     public String getMessageType() {
@@ -62,6 +113,14 @@ public final class DBusMatchRule {
         return getMultiValue(MatchRuleField.ARG0123PATH);
     }
 
+    Map<MatchRuleField, String> getFields() {
+        return Collections.unmodifiableMap(fields);
+    }
+
+    boolean hasMultiValueFields() {
+        return !multiValueFields.isEmpty();
+    }
+
     private Map<Integer, String> getMultiValue(MatchRuleField _field) {
         Map<Integer, String> map = multiValueFields.get(_field);
         if (map != null) {
@@ -82,14 +141,8 @@ public final class DBusMatchRule {
             return false;
         }
 
-        for (Entry<MatchRuleField, String> entry : fields.entrySet()) {
-            if (!entry.getKey().getSingleMatcher().test(_msg, entry.getValue())) {
-                return false;
-            }
-        }
-
-        for (Entry<MatchRuleField, Map<Integer, String>> entry : multiValueFields.entrySet()) {
-            if (!entry.getKey().getMultiMatcher().test(_msg, entry.getValue())) {
+        for (Predicate<Message> matcher : matchers) {
+            if (!matcher.test(_msg)) {
                 return false;
             }
         }
@@ -99,7 +152,7 @@ public final class DBusMatchRule {
 
     @Override
     public int hashCode() {
-        return Objects.hash(fields, multiValueFields);
+        return hash;
     }
 
     @Override
@@ -0,0 +1,306 @@
+package org.freedesktop.dbus.matchrules;
+
+import org.freedesktop.dbus.messages.Message;
+import org.freedesktop.dbus.messages.constants.MessageTypes;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Concurrent map using {@link DBusMatchRule} as key which supports looking up all values
+ * whose rule matches a given signal.
+ * <p>
+ * Rules only specifying interface, member and optionally path and sender (and the type 'signal')
+ * are stored in a hash index, so looking up the rules matching a signal requires a constant number
+ * of hash lookups regardless of the number of registered rules.<br>
+ * All other rules (e.g. using argument matching, path namespaces or no member) are kept in a
+ * residual list which is checked using {@link DBusMatchRule#matches(Message)}.
+ * </p>
+ * <p>
+ * The views returned by {@link #keySet()}, {@link #values()} and {@link #entrySet()} are read-only.
+ * </p>
+ *
+ * @param <V> value type
+ * @since 6.0.0 - 2026-10-17
+ */
+public final class MatchRuleIndexedMap<V> extends AbstractMap<DBusMatchRule, V> implements ConcurrentMap<DBusMatchRule, V> {
+
+    private static final String                                 SIGNAL_TYPE = MessageTypes.SIGNAL.getMatchRuleName();
+
+    private final ConcurrentMap<DBusMatchRule, V>               delegate    = new ConcurrentHashMap<>();
+    /** Indexed rules, different rules (e.g. with and without type) may share the same key. */
+    private final Map<IndexKey, List<Entry<DBusMatchRule, V>>>  index       = new ConcurrentHashMap<>();
+
+    /** Rules which cannot be indexed, replaced on every change. */
+    private volatile List<Entry<DBusMatchRule, V>>              residual    = List.of();
+
+    /**
+     * Calls the given consumer for the value of every rule matching the given message.
+     *
+     * @param _msg message to check
+     * @param _consumer consumer to call for every matching value
+     */
+    public void forEachMatch(Message _msg, Consumer<V> _consumer) {
+        if (_msg == null) {
+            return;
+        }
+
+        if (_msg.getType() != MessageTypes.SIGNAL.getId()) {
+            // index only valid for signals
+            for (Entry<DBusMatchRule, V> e : delegate.entrySet()) {
+                if (e.getKey().matches(_msg)) {
+                    _consumer.accept(e.getValue());
+                }
+            }
+            return;
+        }
+
+        if (!index.isEmpty()) {
+            String iface = _msg.getInterface();
+            String member = _msg.getName();
+            if (iface != null && member != null) {
+                String path = _msg.getPath();
+                String sender = _msg.getSource();
+                consumeIndexed(new IndexKey(iface, member, null, null), _consumer);
+                if (path != null) {
+                    consumeIndexed(new IndexKey(iface, member, path, null), _consumer);
+                }
+                if (sender != null) {
+                    consumeIndexed(new IndexKey(iface, member, null, sender), _consumer);
+                    if (path != null) {
+                        consumeIndexed(new IndexKey(iface, member, path, sender), _consumer);
+                    }
+                }
+            }
+        }
+
+        for (Entry<DBusMatchRule, V> e : residual) {
+            if (e.getKey().matches(_msg)) {
+                _consumer.accept(e.getValue());
+            }
+        }
+    }
+
+    private void consumeIndexed(IndexKey _key, Consumer<V> _consumer) {
+        List<Entry<DBusMatchRule, V>> entries = index.get(_key);
+        if (entries != null) {
+            for (Entry<DBusMatchRule, V> e : entries) {
+                _consumer.accept(e.getValue());
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object _key) {
+        return delegate.containsKey(_key);
+    }
+
+    @Override
+    public V get(Object _key) {
+        return delegate.get(_key);
+    }
+
+    @Override
+    public V put(DBusMatchRule _key, V _value) {
+        V result = delegate.put(_key, _value);
+        updateIndex(_key);
+        return result;
+    }
+
+    @Override
+    public V putIfAbsent(DBusMatchRule _key, V _value) {
+        V result = delegate.putIfAbsent(_key, _value);
+        if (result == null) {
+            updateIndex(_key);
+        }
+        return result;
+    }
+
+    @Override
+    public V remove(Object _key) {
+        V result = delegate.remove(_key);
+        if (result != null) {
+            updateIndex((DBusMatchRule) _key);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean remove(Object _key, Object _value) {
+        boolean result = delegate.remove(_key, _value);
+        if (result) {
+            updateIndex((DBusMatchRule) _key);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean replace(DBusMatchRule _key, V _oldValue, V _newValue) {
+        boolean result = delegate.replace(_key, _oldValue, _newValue);
+        if (result) {
+            updateIndex(_key);
+        }
+        return result;
+    }
+
+    @Override
+    public V replace(DBusMatchRule _key, V _value) {
+        V result = delegate.replace(_key, _value);
+        if (result != null) {
+            updateIndex(_key);
+        }
+        return result;
+    }
+
+    @Override
+    public V computeIfAbsent(DBusMatchRule _key, Function<? super DBusMatchRule, ? extends V> _mappingFunction) {
+        V existing = delegate.get(_key);
+        if (existing != null) {
+            return existing;
+        }
+        V result = delegate.computeIfAbsent(_key, _mappingFunction);
+        updateIndex(_key);
+        return result;
+    }
+
+    @Override
+    public V computeIfPresent(DBusMatchRule _key, BiFunction<? super DBusMatchRule, ? super V, ? extends V> _remappingFunction) {
+        V result = delegate.computeIfPresent(_key, _remappingFunction);
+        updateIndex(_key);
+        return result;
+    }
+
+    @Override
+    public V compute(DBusMatchRule _key, BiFunction<? super DBusMatchRule, ? super V, ? extends V> _remappingFunction) {
+        V result = delegate.compute(_key, _remappingFunction);
+        updateIndex(_key);
+        return result;
+    }
+
+    @Override
+    public V merge(DBusMatchRule _key, V _value, BiFunction<? super V, ? super V, ? extends V> _remappingFunction) {
+        V result = delegate.merge(_key, _value, _remappingFunction);
+        updateIndex(_key);
+        return result;
+    }
+
+    @Override
+    public void clear() {
+        for (DBusMatchRule rule : delegate.keySet()) {
+            remove(rule);
+        }
+    }
+
+    @Override
+    public Set<DBusMatchRule> keySet() {
+        return Collections.unmodifiableSet(delegate.keySet());
+    }
+
+    @Override
+    public Collection<V> values() {
+        return Collections.unmodifiableCollection(delegate.values());
+    }
+
+    @Override
+    public Set<Entry<DBusMatchRule, V>> entrySet() {
+        return Collections.unmodifiableSet(delegate.entrySet());
+    }
+
+    /**
+     * Updates index or residual list after the value of the given rule has been changed.
+     * Always uses the current state of the backing map, so concurrent updates
+     * of the same rule will leave the index in the correct state.
+     */
+    private synchronized void updateIndex(DBusMatchRule _rule) {
+        V val = delegate.get(_rule);
+        IndexKey key = IndexKey.of(_rule);
+        if (key != null) {
+            List<Entry<DBusMatchRule, V>> entries = replaceEntry(index.getOrDefault(key, List.of()), _rule, val);
+            if (entries.isEmpty()) {
+                index.remove(key);
+            } else {
+                index.put(key, entries);
+            }
+            return;
+        }
+
+        residual = replaceEntry(residual, _rule, val);
+    }
+
+    /**
+     * Creates a copy of the given list with the entry of the given rule replaced or removed.
+     *
+     * @param _entries current entries
+     * @param _rule rule to update
+     * @param _value new value of the rule, null to remove the rule
+     * @return new immutable list
+     */
+    private static <V> List<Entry<DBusMatchRule, V>> replaceEntry(List<Entry<DBusMatchRule, V>> _entries, DBusMatchRule _rule, V _value) {
+        List<Entry<DBusMatchRule, V>> result = new ArrayList<>(_entries.size() + 1);
+        for (Entry<DBusMatchRule, V> e : _entries) {
+            if (!e.getKey().equals(_rule)) {
+                result.add(e);
+            }
+        }
+        if (_value != null) {
+            result.add(Map.entry(_rule, _value));
+        }
+        return List.copyOf(result);
+    }
+
+    /**
+     * Key of an indexed rule. Path and sender may be null if the rule does not restrict them.
+     */
+    private record IndexKey(String iface, String member, String path, String sender) {
+
+        /**
+         * Creates the index key for the given rule.
+         * @param _rule rule
+         * @return key or null if rule cannot be indexed
+         */
+        static IndexKey of(DBusMatchRule _rule) {
+            if (_rule.hasMultiValueFields()) {
+                return null;
+            }
+            Map<MatchRuleField, String> fields = _rule.getFields();
+            for (Entry<MatchRuleField, String> e : fields.entrySet()) {
+                if (e.getValue() == null) {
+                    return null;
+                }
+                switch (e.getKey()) {
+                    case INTERFACE, MEMBER, PATH, SENDER -> {
+                        // part of key
+                    }
+                    case TYPE -> {
+                        if (!SIGNAL_TYPE.equals(e.getValue())) {
+                            return null;
+                        }
+                    }
+                    default -> {
+                        return null;
+                    }
+                }
+            }
+            String iface = fields.get(MatchRuleField.INTERFACE);
+            String member = fields.get(MatchRuleField.MEMBER);
+            if (iface == null || member == null) {
+                return null;
+            }
+            return new IndexKey(iface, member, fields.get(MatchRuleField.PATH), fields.get(MatchRuleField.SENDER));
+        }
+    }
+}
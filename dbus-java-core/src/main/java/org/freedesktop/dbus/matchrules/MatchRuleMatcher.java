@@ -1,16 +1,13 @@
 package org.freedesktop.dbus.matchrules;
 
 import org.freedesktop.dbus.DBusPath;
-import org.freedesktop.dbus.Marshalling;
 import org.freedesktop.dbus.exceptions.DBusException;
 import org.freedesktop.dbus.exceptions.DBusExecutionException;
 import org.freedesktop.dbus.messages.Message;
 import org.freedesktop.dbus.utils.DBusObjects;
 
-import java.lang.reflect.Type;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 
 final class MatchRuleMatcher {
@@ -37,30 +34,15 @@ final class MatchRuleMatcher {
             return false;
         }
 
-        try {
-            List<Type> dataType = new ArrayList<>();
-            Marshalling.getJavaType(_msg.getSig(), dataType, -1);
-
-            if (dataType.isEmpty()) {
+        Object[] parameters = getLeadingArguments(_msg, _compare);
+        for (Entry<Integer, String> e : _compare.entrySet()) {
+            int idx = e.getKey();
+            if (idx >= parameters.length || !(parameters[idx] instanceof String str) || !e.getValue().equals(str)) {
                 return false;
             }
-
-            Object[] parameters = _msg.getParameters();
-
-            for (int i = 0; i < parameters.length; i++) {
-                if (!_compare.containsKey(i)) {
-                    continue;
-                }
-                if (dataType.get(i) instanceof Class<?> clz && clz.isAssignableFrom(String.class)) {
-                    String compareVal = _compare.get(i);
-                    return compareVal == parameters[i] || compareVal.equals(parameters[i]);
-                }
-            }
-        } catch (DBusException _ex) {
-            throw new DBusExecutionException("Unable to get parameters from signal", _ex);
         }
 
-        return false;
+        return true;
     }
 
     /**
@@ -92,37 +74,44 @@ final class MatchRuleMatcher {
             return false;
         }
 
-        try {
-            List<Type> dataType = new ArrayList<>();
-            Marshalling.getJavaType(_msg.getSig(), dataType, -1);
-            if (dataType.isEmpty()) {
+        Object[] parameters = getLeadingArguments(_msg, _compare);
+        for (Entry<Integer, String> e : _compare.entrySet()) {
+            int idx = e.getKey();
+            String matchVal;
+            if (idx >= parameters.length) {
                 return false;
+            } else if (parameters[idx] instanceof String str) {
+                matchVal = str;
+            } else if (parameters[idx] instanceof DBusPath path) {
+                matchVal = path.getPath();
+            } else {
+                return false; // not String or DBusPath, cannot match
             }
-
-            Object[] parameters = _msg.getParameters();
-
-            for (int i = 0; i < parameters.length; i++) {
-                if (!_compare.containsKey(i)) {
-                    continue;
-                }
-                if (dataType.get(i) instanceof Class<?> clz) {
-                    String matchVal;
-                    if (clz.isAssignableFrom(String.class)) {
-                        matchVal = (String) parameters[i];
-                    } else if (clz.isAssignableFrom(DBusPath.class)) {
-                        matchVal = ((DBusPath) parameters[i]).getPath();
-                    } else {
-                        continue; // not String or DBusPath, do not try to match
-                    }
-                    String compareVal = _compare.get(i);
-                    return compareVal == matchVal || matchesArg0Path(matchVal, compareVal);
-                }
+            if (!matchesArg0Path(matchVal, e.getValue())) {
+                return false;
             }
+        }
+
+        return true;
+    }
+
+    /**
+     * Decodes the arguments of the message required to check the given argument matches.
+     */
+    private static Object[] getLeadingArguments(Message _msg, Map<Integer, String> _compare) {
+        int maxIdx = 0;
+        for (Integer idx : _compare.keySet()) {
+            maxIdx = Math.max(maxIdx, idx);
+        }
+        return getLeadingArguments(_msg, maxIdx + 1);
+    }
+
+    private static Object[] getLeadingArguments(Message _msg, int _count) {
+        try {
+            return _msg.getLeadingArguments(_count);
         } catch (DBusException _ex) {
             throw new DBusExecutionException("Unable to get parameters from signal", _ex);
         }
-
-        return false;
     }
 
     private static boolean matchesArg0Path(String _matchVal, String _compareVal) {
@@ -197,22 +186,8 @@ final class MatchRuleMatcher {
             return false;
         }
 
-        try {
-            List<Type> dataType = new ArrayList<>();
-            Marshalling.getJavaType(_msg.getSig(), dataType, -1);
-
-            if (dataType.isEmpty()) {
-                return false;
-            } else if (dataType.getFirst() instanceof Class<?> clz && clz.isAssignableFrom(String.class)) {
-                Object[] parameters = _msg.getParameters();
-                return parameters[0] == _compare || ((String) parameters[0]).startsWith(_compare);
-            }
-
-        } catch (DBusException _ex) {
-            throw new DBusExecutionException("Unable to get parameters from signal", _ex);
-        }
-
-        return false;
+        Object[] parameters = getLeadingArguments(_msg, 1);
+        return parameters.length > 0 && parameters[0] instanceof String str && str.startsWith(_compare);
     }
 
 }
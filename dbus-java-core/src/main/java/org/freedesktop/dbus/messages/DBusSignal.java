@@ -49,14 +49,19 @@ public class DBusSignal extends Message {
 
     private Class<? extends DBusSignal>                                            clazz;
     private boolean                                                                bodydone            = false;
-    private byte[]                                                                 blen;
+    private int                                                                    blenPosition;
 
     DBusSignal() {
     }
 
     protected DBusSignal(byte _endianess, String _source, String _path, String _iface, String _member, String _sig, Object... _args)
             throws DBusException {
-        super(_endianess, MessageTypes.SIGNAL.getId(), (byte) 0);
+        this(false, _endianess, _source, _path, _iface, _member, _sig, _args);
+    }
+
+    DBusSignal(boolean _directBuffers, byte _endianess, String _source, String _path, String _iface, String _member, String _sig, Object... _args)
+            throws DBusException {
+        super(_endianess, MessageTypes.SIGNAL.getId(), (byte) 0, _directBuffers);
 
         if (null == _path || null == _member || null == _iface) {
             throw new MessageFormatException("Must specify object path, interface and signal name to Signals.");
@@ -146,8 +151,8 @@ public class DBusSignal extends Message {
             }
         }
 
-        blen = new byte[4];
-        appendBytes(blen);
+        blenPosition = (int) getByteCounter();
+        appendint(0, 4);
         append("ua(yv)", getSerial(), hargs.toArray());
         pad((byte) 8);
     }
@@ -260,7 +265,6 @@ public class DBusSignal extends Message {
             s.updateEndianess(_conn.getMessageFactory().getEndianess());
             s.setHeader(getHeader());
             s.setWireData(getWireData());
-            s.setByteCounter(getWireData().length);
             return s;
         } catch (Exception _ex) {
             throw new DBusException(_ex);
@@ -292,7 +296,7 @@ public class DBusSignal extends Message {
         if (null != args && 0 < args.length) {
             append(sig, args);
         }
-        marshallint(getByteCounter() - counter, blen, 0, 4);
+        marshallintAt(getByteCounter() - counter, blenPosition, 4);
         bodydone = true;
     }
 
@@ -35,7 +35,12 @@ public class Error extends Message {
 
     protected Error(byte _endianess, String _source, String _dest, String _errorName, long _replyserial, String _sig, Object... _args)
             throws DBusException {
-        super(_endianess, MessageTypes.ERROR.getId(), (byte) 0);
+        this(false, _endianess, _source, _dest, _errorName, _replyserial, _sig, _args);
+    }
+
+    Error(boolean _directBuffers, byte _endianess, String _source, String _dest, String _errorName, long _replyserial, String _sig, Object... _args)
+            throws DBusException {
+        super(_endianess, MessageTypes.ERROR.getId(), (byte) 0, _directBuffers);
 
         if (null == _errorName) {
             throw new MessageFormatException("Must specify error name to Errors.");
@@ -62,13 +67,15 @@ public class Error extends Message {
     }
 
     protected Error(byte _endianess, String _source, Message _m, Throwable _ex) throws DBusException {
-        this(_endianess, _source, _m.getSource(),
-                AbstractConnection.DOLLAR_PATTERN.matcher(Optional.ofNullable(_ex).orElse(new IOException(DEFAULT_NULL_EXCEPTION_ERROR_MSG)).getClass().getName()).replaceAll("."),
-                _m.getSerial(), "s", _ex == null ? DEFAULT_NULL_EXCEPTION_ERROR_MSG : _ex.getMessage());
+        this(false, _endianess, _source, _m, _ex);
     }
 
     protected Error(byte _endianess, Message _m, Throwable _ex) throws DBusException {
-        this(_endianess, _m.getSource(),
+        this(false, _endianess, null, _m, _ex);
+    }
+
+    Error(boolean _directBuffers, byte _endianess, String _source, Message _m, Throwable _ex) throws DBusException {
+        this(_directBuffers, _endianess, _source, _m.getSource(),
                 AbstractConnection.DOLLAR_PATTERN.matcher(Optional.ofNullable(_ex).orElse(new IOException(DEFAULT_NULL_EXCEPTION_ERROR_MSG)).getClass().getName()).replaceAll("."),
                 _m.getSerial(), "s", _ex == null ? DEFAULT_NULL_EXCEPTION_ERROR_MSG : _ex.getMessage());
     }
@@ -24,11 +24,15 @@ import java.text.MessageFormat;
 import java.util.*;
 
 public class ExportedObject {
-    private final Map<MethodTuple, Method> methods;
-    private final Map<PropertyRef, Method> propertyMethods;
-    private final String                   introspectionData;
-    private final Reference<DBusInterface> object;
-    private final Set<Class<?>>            implementedInterfaces;
+    private final Map<MethodTuple, Method>         methods;
+    /** Methods by name and signature, allows lookup without creating a {@link MethodTuple}. */
+    private final Map<String, Map<String, Method>> methodsByName;
+    private final Map<PropertyRef, Method>         propertyMethods;
+    /** Methods which can be executed on the reader thread, see {@link NonBlocking}. */
+    private final Set<Method>                      nonBlockingMethods;
+    private final String                           introspectionData;
+    private final Reference<DBusInterface>         object;
+    private final Set<Class<?>>                    implementedInterfaces;
 
     public ExportedObject(DBusInterface _object, boolean _weakreferences) throws DBusException {
         object = _weakreferences ? new WeakReference<>(_object) : new StrongReference<>(_object);
@@ -41,6 +45,23 @@ public class ExportedObject {
         implementedInterfaces.add(Peer.class);
 
         this.introspectionData = generateIntrospectionXml(implementedInterfaces);
+
+        methodsByName = new HashMap<>();
+        for (Map.Entry<MethodTuple, Method> e : methods.entrySet()) {
+            methodsByName.computeIfAbsent(e.getKey().getName(), x -> new HashMap<>()).put(e.getKey().getSig(), e.getValue());
+        }
+
+        // create codecs (signatures and method handles) now, so the first call does not have to do it
+        methods.values().forEach(MethodCodec::forMethod);
+        propertyMethods.values().forEach(MethodCodec::forMethod);
+
+        nonBlockingMethods = new HashSet<>();
+        boolean allNonBlocking = _object.getClass().isAnnotationPresent(NonBlocking.class);
+        for (Method m : methods.values()) {
+            if (allNonBlocking || m.isAnnotationPresent(NonBlocking.class) || isNonBlockingImplementation(_object.getClass(), m)) {
+                nonBlockingMethods.add(m);
+            }
+        }
     }
 
     /**
@@ -415,6 +436,42 @@ public class ExportedObject {
         return methods;
     }
 
+    /**
+     * Returns the exported method with the given name and signature.
+     *
+     * @param _name method name
+     * @param _signature DBus signature of the parameters, null for no parameters
+     * @return Method or null if not found
+     * @since 6.0.0 - 2026-10-17
+     */
+    public Method getMethod(String _name, String _signature) {
+        Map<String, Method> bySignature = methodsByName.get(_name);
+        if (bySignature == null) {
+            return null;
+        }
+        return bySignature.get(_signature == null ? "" : _signature);
+    }
+
+    /**
+     * Checks if the given method is allowed to be executed on the reader thread.
+     * This is the case if the method or the class of the exported object is annotated with {@link NonBlocking}.
+     *
+     * @param _method method
+     * @return true if method is non-blocking
+     * @since 6.0.0 - 2026-10-17
+     */
+    public boolean isNonBlocking(Method _method) {
+        return nonBlockingMethods.contains(_method);
+    }
+
+    private static boolean isNonBlockingImplementation(Class<?> _clz, Method _method) {
+        try {
+            return _clz.getMethod(_method.getName(), _method.getParameterTypes()).isAnnotationPresent(NonBlocking.class);
+        } catch (NoSuchMethodException _ex) {
+            return false;
+        }
+    }
+
     public Map<PropertyRef, Method> getPropertyMethods() {
         return propertyMethods;
     }
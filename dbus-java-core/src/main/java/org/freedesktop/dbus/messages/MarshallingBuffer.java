@@ -0,0 +1,294 @@
+package org.freedesktop.dbus.messages;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Growable buffer used to marshall a message into its wire format.
+ * <p>
+ * All data of a message (fixed header, header fields and body) is written
+ * to one contiguous {@link ByteBuffer}. The buffer grows automatically when
+ * more space is required. The current position of the buffer is the length
+ * of the marshalled data, so alignment is always calculated on the real
+ * position in the resulting message.
+ * </p>
+ *
+ * @since 6.0.0 - 2026-10-17
+ */
+final class MarshallingBuffer {
+    /** Default initial capacity, large enough for the header of most messages. */
+    static final int   DEFAULT_CAPACITY = 256;
+
+    private final boolean direct;
+    private ByteBuffer    buffer;
+    /** Copy of the written data returned by {@link #toByteArray()}, discarded on every change. */
+    private ArrayCopy     arrayCopy;
+
+    MarshallingBuffer(boolean _bigEndian, boolean _direct) {
+        this(DEFAULT_CAPACITY, _bigEndian, _direct);
+    }
+
+    MarshallingBuffer(int _capacity, boolean _bigEndian, boolean _direct) {
+        direct = _direct;
+        buffer = allocate(_capacity).order(_bigEndian ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private MarshallingBuffer(ByteBuffer _buffer, boolean _direct) {
+        buffer = _buffer;
+        direct = _direct;
+    }
+
+    /**
+     * Creates a buffer using the given array. The array is not copied,
+     * the position of the buffer is placed at the end of the array.
+     *
+     * @param _data data to wrap
+     * @param _bigEndian true if data is big endian
+     * @return MarshallingBuffer
+     */
+    static MarshallingBuffer wrap(byte[] _data, boolean _bigEndian) {
+        ByteBuffer wrapped = ByteBuffer.wrap(_data).order(_bigEndian ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+        wrapped.position(_data.length);
+        return new MarshallingBuffer(wrapped, false);
+    }
+
+    private ByteBuffer allocate(int _capacity) {
+        return direct ? ByteBuffer.allocateDirect(_capacity) : ByteBuffer.allocate(_capacity);
+    }
+
+    /**
+     * Ensures that the given amount of bytes can be written without growing the buffer again.
+     *
+     * @param _required number of bytes which will be written
+     */
+    void ensureCapacity(int _required) {
+        if (buffer.remaining() >= _required) {
+            return;
+        }
+        int newCapacity = Math.max(buffer.capacity() * 2, buffer.position() + _required);
+        ByteBuffer newBuffer = allocate(newCapacity).order(buffer.order());
+        buffer.flip();
+        newBuffer.put(buffer);
+        buffer = newBuffer;
+    }
+
+    /**
+     * Number of bytes written to this buffer.
+     * @return int
+     */
+    int position() {
+        return buffer.position();
+    }
+
+    void put(byte _b) {
+        arrayCopy = null;
+        ensureCapacity(1);
+        buffer.put(_b);
+    }
+
+    void put(byte[] _data) {
+        put(_data, 0, _data.length);
+    }
+
+    void put(byte[] _data, int _offset, int _length) {
+        arrayCopy = null;
+        ensureCapacity(_length);
+        buffer.put(_data, _offset, _length);
+    }
+
+    /**
+     * Writes an integer of the given byte-width using the byte order of this buffer.
+     *
+     * @param _l value
+     * @param _width width (1, 2, 4 or 8)
+     */
+    void putInt(long _l, int _width) {
+        ensureCapacity(_width);
+        putInt(buffer.position(), _l, _width);
+        buffer.position(buffer.position() + _width);
+    }
+
+    /**
+     * Writes an integer of the given byte-width at the given position.
+     * The position of the buffer is not changed.
+     *
+     * @param _position position to write to, must be lower than {@link #position()}
+     * @param _l value
+     * @param _width width (1, 2, 4 or 8)
+     */
+    void putInt(int _position, long _l, int _width) {
+        arrayCopy = null;
+        switch (_width) {
+            case 1 -> buffer.put(_position, (byte) _l);
+            case 2 -> buffer.putShort(_position, (short) _l);
+            case 4 -> buffer.putInt(_position, (int) _l);
+            case 8 -> buffer.putLong(_position, _l);
+            default -> throw new IllegalArgumentException("Unsupported integer width: " + _width);
+        }
+    }
+
+    /**
+     * Writes all values of the array using the byte order of this buffer.
+     *
+     * @param _data values
+     */
+    void putShorts(short[] _data) {
+        arrayCopy = null;
+        ensureCapacity(_data.length * Short.BYTES);
+        buffer.asShortBuffer().put(_data);
+        buffer.position(buffer.position() + _data.length * Short.BYTES);
+    }
+
+    /**
+     * Writes all values of the array using the byte order of this buffer.
+     *
+     * @param _data values
+     */
+    void putInts(int[] _data) {
+        arrayCopy = null;
+        ensureCapacity(_data.length * Integer.BYTES);
+        buffer.asIntBuffer().put(_data);
+        buffer.position(buffer.position() + _data.length * Integer.BYTES);
+    }
+
+    /**
+     * Writes all values of the array using the byte order of this buffer.
+     *
+     * @param _data values
+     */
+    void putLongs(long[] _data) {
+        arrayCopy = null;
+        ensureCapacity(_data.length * Long.BYTES);
+        buffer.asLongBuffer().put(_data);
+        buffer.position(buffer.position() + _data.length * Long.BYTES);
+    }
+
+    /**
+     * Writes all values of the array using the byte order of this buffer.
+     *
+     * @param _data values
+     */
+    void putFloats(float[] _data) {
+        arrayCopy = null;
+        ensureCapacity(_data.length * Float.BYTES);
+        buffer.asFloatBuffer().put(_data);
+        buffer.position(buffer.position() + _data.length * Float.BYTES);
+    }
+
+    /**
+     * Writes all values of the array using the byte order of this buffer.
+     *
+     * @param _data values
+     */
+    void putDoubles(double[] _data) {
+        arrayCopy = null;
+        ensureCapacity(_data.length * Double.BYTES);
+        buffer.asDoubleBuffer().put(_data);
+        buffer.position(buffer.position() + _data.length * Double.BYTES);
+    }
+
+    /**
+     * Writes all values of the array as doubles using the byte order of this buffer.
+     *
+     * @param _data values
+     */
+    void putFloatsAsDoubles(float[] _data) {
+        arrayCopy = null;
+        ensureCapacity(_data.length * Double.BYTES);
+        for (float f : _data) {
+            buffer.putDouble(f);
+        }
+    }
+
+    /**
+     * Writes all values of the array as 32-bit integers (1 or 0) using the byte order of this buffer.
+     *
+     * @param _data values
+     */
+    void putBooleans(boolean[] _data) {
+        arrayCopy = null;
+        ensureCapacity(_data.length * Integer.BYTES);
+        for (boolean b : _data) {
+            buffer.putInt(b ? 1 : 0);
+        }
+    }
+
+    /**
+     * Sets a single byte at the given position.
+     *
+     * @param _position position
+     * @param _b byte
+     */
+    void set(int _position, byte _b) {
+        arrayCopy = null;
+        buffer.put(_position, _b);
+    }
+
+    /**
+     * Adds zero bytes until the position is a multiple of the given alignment.
+     *
+     * @param _alignment alignment
+     */
+    void align(int _alignment) {
+        int rest = buffer.position() % _alignment;
+        if (rest == 0) {
+            return;
+        }
+        int padding = _alignment - rest;
+        arrayCopy = null;
+        ensureCapacity(padding);
+        for (int i = 0; i < padding; i++) {
+            buffer.put((byte) 0);
+        }
+    }
+
+    /**
+     * Returns a read-only view of the written data.
+     * Position of the returned buffer is 0, limit is the amount of written bytes.
+     *
+     * @return ByteBuffer
+     */
+    ByteBuffer slice() {
+        return buffer.asReadOnlyBuffer().flip();
+    }
+
+    /**
+     * Returns the written data as byte array.
+     * If the backing array contains exactly the written data, the array is returned without copying.
+     * Otherwise a copy is created once and returned again until the buffer is changed.
+     *
+     * @return byte array
+     */
+    byte[] toByteArray() {
+        if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.array().length == buffer.position()) {
+            return buffer.array();
+        }
+        ArrayCopy result = arrayCopy;
+        if (result == null) {
+            byte[] data = new byte[buffer.position()];
+            buffer.duplicate().flip().get(data);
+            result = new ArrayCopy(data);
+            arrayCopy = result;
+        }
+        return result.data();
+    }
+
+    /**
+     * Creates a copy of this buffer containing the written data.
+     *
+     * @return MarshallingBuffer
+     */
+    MarshallingBuffer copy() {
+        ByteBuffer copy = allocate(Math.max(1, buffer.position())).order(buffer.order());
+        copy.put(buffer.duplicate().flip());
+        return new MarshallingBuffer(copy, direct);
+    }
+
+    /**
+     * Holder for the cached copy, the final field makes sure other threads see the copied data.
+     *
+     * @param data copy of the written data
+     */
+    private record ArrayCopy(byte[] data) {
+    }
+}
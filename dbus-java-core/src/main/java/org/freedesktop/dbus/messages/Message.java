@@ -25,6 +25,9 @@ import org.slf4j.LoggerFactory;
 import java.lang.reflect.Array;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.*;
@@ -52,15 +55,13 @@ public class Message {
     /** Position of signature offset in int array. */
     private static final int            OFFSET_SIG             = 0;
 
-    /** Keep a static reference to each size of padding array to prevent allocation. */
-    private static byte[][]  padding;
-    static {
-        padding = new byte[][] {
-                null, new byte[1], new byte[2], new byte[3], new byte[4], new byte[5], new byte[6], new byte[7]
-        };
-    }
-    /** Steps to increment the buffer array. */
-    private static final int           BUFFERINCREMENT = 20;
+    /** Compiled signature of the header field array. */
+    private static final SignaturePlan  HEADER_PLAN            = compileConstant("a(yv)");
+    /** Compiled signature type used for the signature of variants. */
+    private static final SignaturePlan.Node VARIANT_SIGNATURE  = compileConstant(SIGNATURE_STRING).getFirst();
+
+    /** Length of the fixed message header (yyyyuu). */
+    private static final int            FIXED_HEADER_LENGTH    = 12;
 
     private static final AtomicLong    GLOBAL_SERIAL    = new AtomicLong(0);
 
@@ -71,8 +72,8 @@ public class Message {
     private final List<FileDescriptor> filedescriptors = new ArrayList<>();
     private final Object[]             headers         = new Object[HeaderField.MAX_FIELDS];
 
-    private byte[][]                   wiredata        = new byte[BUFFERINCREMENT][];
-    private long                       bytecounter     = 0;
+    /** Buffer containing the complete wire data of this message. */
+    private MarshallingBuffer          wireBuffer;
 
     private long                       serial;
     private byte                       type;
@@ -81,14 +82,17 @@ public class Message {
 
     private boolean                    big;
     private Object[]                   args;
+    /** Leading arguments decoded by {@link #getLeadingArguments(int)}. */
+    private volatile Object[]          leadingArgs;
+    /** Buffer containing the body, for received messages this is the complete message. */
     private byte[]                     body;
+    /** Offset of the first byte of the body in {@link #body}. */
+    private int                        bodyOffset      = 0;
     private long                       bodylen         = 0;
-    private int                        preallocated    = 0;
-    private int                        paofs           = 0;
-    private byte[]                     pabuf;
-    private int                        bufferuse       = 0;
 
     private boolean                    endianWasSet;
+    /** Use direct buffers when marshalling this message. */
+    private boolean                    directBuffers;
 
     /**
      * Create a message; only to be called by sub-classes.
@@ -99,15 +103,30 @@ public class Message {
      * @throws DBusException on error
      */
     protected Message(byte _endian, byte _type, byte _flags) throws DBusException {
+        this(_endian, _type, _flags, false);
+    }
+
+    /**
+     * Create a message; only to be called by sub-classes.
+     *
+     * @param _endian The endianness to create the message.
+     * @param _type The message type.
+     * @param _flags Any message flags.
+     * @param _directBuffers true to marshall the message into a direct buffer
+     * @throws DBusException on error
+     * @since 6.0.0 - 2026-10-17
+     */
+    Message(byte _endian, byte _type, byte _flags, boolean _directBuffers) throws DBusException {
         this();
         big = Endian.BIG == _endian;
+        directBuffers = _directBuffers;
         setSerial(GLOBAL_SERIAL.incrementAndGet());
 
         logger.debug("Creating message with serial {}", getSerial());
 
         type = _type;
         flags = _flags;
-        preallocate(4);
+        wireBuffer = new MarshallingBuffer(big, directBuffers);
         endianWasSet = _endian != (byte) 0;
         append("yyyy", _endian, _type, _flags, PROTOCOL);
     }
@@ -118,15 +137,25 @@ public class Message {
     protected Message() {
     }
 
+    private static SignaturePlan compileConstant(String _signature) {
+        try {
+            return SignaturePlan.compile(_signature);
+        } catch (DBusException _ex) {
+            throw new IllegalStateException("Unable to compile signature " + _signature, _ex);
+        }
+    }
+
     public void updateEndianess(byte _endianess) {
         if (endianWasSet) {
             return;
         }
 
-        if (wiredata[0] != null) {
-            wiredata[0][0] = _endianess;
+        if (wireBuffer == null) {
+            wireBuffer = MarshallingBuffer.wrap(new byte[] {_endianess, 0, 0, 0}, big);
+        } else if (wireBuffer.position() > 0) {
+            wireBuffer.set(0, _endianess);
         } else {
-            wiredata[0] = new byte[] {_endianess, 0, 0, 0};
+            wireBuffer.put(new byte[] {_endianess, 0, 0, 0});
         }
 
         endianWasSet = true;
@@ -134,55 +163,77 @@ public class Message {
 
     /**
      * Create a message from wire-format data.
+     * <p>
+     * The given arrays are combined to one buffer containing the complete message.
+     * </p>
      *
      * @param _msg D-Bus serialized data of type yyyuu
      * @param _headers D-Bus serialized data of type a(yv)
      * @param _body D-Bus serialized data of the signature defined in headers.
      */
-    @SuppressWarnings("unchecked")
     void populate(byte[] _msg, byte[] _headers, byte[] _body, List<FileDescriptor> _descriptors) throws DBusException {
+        // header field array contains its length at position 0 and the data starting at position 8
+        byte[] wire = new byte[FIXED_HEADER_LENGTH + 4 + _headers.length - 8 + _body.length];
+        System.arraycopy(_msg, 0, wire, 0, FIXED_HEADER_LENGTH);
+        System.arraycopy(_headers, 0, wire, FIXED_HEADER_LENGTH, 4);
+        System.arraycopy(_headers, 8, wire, FIXED_HEADER_LENGTH + 4, _headers.length - 8);
+        System.arraycopy(_body, 0, wire, wire.length - _body.length, _body.length);
 
-        // create a copy of the given arrays to be sure that the content is not changed outside
-
-        byte[] msgBuf = new byte[_msg.length];
-        System.arraycopy(_msg, 0, msgBuf, 0, _msg.length);
-
-        byte[] headerBuf = new byte[_headers.length];
-        System.arraycopy(_headers, 0, headerBuf, 0, _headers.length);
+        populate(wire, _descriptors);
+    }
 
-        byte[] bodyBuf = new byte[_body.length];
-        System.arraycopy(_body, 0, bodyBuf, 0, _body.length);
+    /**
+     * Create a message from a buffer containing the complete wire-format data of a message.
+     * The relevant part of the given buffer is copied, so the buffer can be reused afterwards.
+     *
+     * @param _data buffer containing D-Bus serialized data of type yyyyuua(yv) followed by the body
+     * @param _offset offset of the message in the buffer
+     * @param _length total length of the message
+     * @param _descriptors file descriptors received with the message, maybe null
+     */
+    void populate(byte[] _data, int _offset, int _length, List<FileDescriptor> _descriptors) throws DBusException {
+        populate(Arrays.copyOfRange(_data, _offset, _offset + _length), _descriptors);
+    }
 
+    /**
+     * Create a message from a buffer containing exactly one message in wire-format.
+     * <p>
+     * The message takes ownership of the given buffer. The buffer is not copied and
+     * therefore must not be modified afterwards.<br>
+     * Header fields and body are extracted directly from this buffer.
+     * </p>
+     *
+     * @param _wire D-Bus serialized data of type yyyyuua(yv) followed by the body
+     * @param _descriptors file descriptors received with the message, maybe null
+     */
+    @SuppressWarnings("unchecked")
+    void populate(byte[] _wire, List<FileDescriptor> _descriptors) throws DBusException {
         endianWasSet = true;
 
-        big = msgBuf[0] == Endian.BIG;
-        type = msgBuf[1];
-        flags = msgBuf[2];
-        protover = msgBuf[3];
-        wiredata[0] = msgBuf;
-        wiredata[1] = headerBuf;
-        wiredata[2] = bodyBuf;
-        body = bodyBuf;
-        bufferuse = 3;
-        bodylen = ((Number) extract(UINT32_STRING, msgBuf, 4, DEFAULT_OPTIONS)[0]).longValue();
+        big = _wire[0] == Endian.BIG;
+        type = _wire[1];
+        flags = _wire[2];
+        protover = _wire[3];
+        wireBuffer = MarshallingBuffer.wrap(_wire, big);
+        bodylen = demarshallint(_wire, 4, 4);
 
-        long extractedSerial = ((Number) extract(UINT32_STRING, msgBuf, 8, DEFAULT_OPTIONS)[0]).longValue();
+        long extractedSerial = demarshallint(_wire, 8, 4);
 
         logger.debug("Received message of type {} with serial {}", type, extractedSerial);
 
         setSerial(extractedSerial);
 
-        // cast to ensure everything is upgraded to long
-        bytecounter = (long) msgBuf.length + headerBuf.length + bodyBuf.length;
+        body = _wire;
+        bodyOffset = (int) (_wire.length - bodylen);
 
         filedescriptors.clear();
         if (_descriptors != null) {
             filedescriptors.addAll(_descriptors);
         }
 
-        LoggingHelper.logIf(logger.isTraceEnabled(), () -> logger.trace("Message header: {}", Hexdump.toAscii(headerBuf)));
+        LoggingHelper.logIf(logger.isTraceEnabled(), () -> logger.trace("Message header: {}", Hexdump.toAscii(_wire, FIXED_HEADER_LENGTH, bodyOffset - FIXED_HEADER_LENGTH)));
 
-        Object[] hs = extractHeader(headerBuf);
+        Object[] hs = extractHeader(_wire, FIXED_HEADER_LENGTH);
 
         LoggingHelper.logIf(logger.isTraceEnabled(), () -> logger.trace("Extracted objects: {}", LoggingHelper.arraysVeryDeepString(hs)));
 
@@ -214,20 +265,51 @@ public class Message {
         System.arraycopy(_header, 0, headers, 0, _header.length);
     }
 
+    /**
+     * Number of bytes marshalled so far.
+     *
+     * @return long
+     */
     protected long getByteCounter() {
-        return bytecounter;
-    }
-
-    protected void setByteCounter(long _bytecounter) {
-        bytecounter = _bytecounter;
+        return wireBuffer == null ? 0 : wireBuffer.position();
     }
 
     protected synchronized void setSerial(long _serial) {
         serial = _serial;
     }
 
+    /**
+     * Replaces the wire data of this message.
+     * The given arrays are treated as consecutive parts of the message, <code>null</code> terminates the data.
+     *
+     * @param _wiredata wire data
+     */
     protected void setWireData(byte[][] _wiredata) {
-        wiredata = _wiredata;
+        if (_wiredata == null) {
+            wireBuffer = null;
+            return;
+        }
+
+        if (_wiredata.length == 1 || _wiredata.length > 1 && _wiredata[1] == null) {
+            wireBuffer = MarshallingBuffer.wrap(_wiredata[0], big);
+            return;
+        }
+
+        int len = 0;
+        for (byte[] part : _wiredata) {
+            if (part == null) {
+                break;
+            }
+            len += part.length;
+        }
+
+        wireBuffer = new MarshallingBuffer(Math.max(1, len), big, false);
+        for (byte[] part : _wiredata) {
+            if (part == null) {
+                break;
+            }
+            wireBuffer.put(part);
+        }
     }
 
     byte getProtover() {
@@ -239,38 +321,7 @@ public class Message {
     }
 
     /**
-     * Create a buffer of num bytes. Data is copied to this rather than added to the buffer list.
-     */
-    private void preallocate(int _num) {
-        preallocated = 0;
-        pabuf = new byte[_num];
-        appendBytes(pabuf);
-        preallocated = _num;
-        paofs = 0;
-    }
-
-    /**
-     * Ensures there are enough free buffers.
-     *
-     * @param _num number of free buffers to create.
-     */
-    private void ensureBuffers(int _num) {
-        int increase = _num - wiredata.length + bufferuse;
-        if (increase > 0) {
-            if (increase < BUFFERINCREMENT) {
-                increase = BUFFERINCREMENT;
-            }
-
-            logger.trace("Resizing {}", bufferuse);
-
-            byte[][] temp = new byte[wiredata.length + increase][];
-            System.arraycopy(wiredata, 0, temp, 0, wiredata.length);
-            wiredata = temp;
-        }
-    }
-
-    /**
-     * Appends a buffer to the buffer list.
+     * Appends a buffer to the message.
      *
      * @param _buf buffer byte array
      */
@@ -278,49 +329,16 @@ public class Message {
         if (null == _buf) {
             return;
         }
-        if (preallocated > 0) {
-            if (paofs + _buf.length > pabuf.length) {
-                throw new ArrayIndexOutOfBoundsException(
-                        MessageFormat.format("Array index out of bounds, paofs={0}, pabuf.length={1}, buf.length={2}.",
-                                paofs, pabuf.length, _buf.length));
-            }
-            System.arraycopy(_buf, 0, pabuf, paofs, _buf.length);
-            paofs += _buf.length;
-            preallocated -= _buf.length;
-        } else {
-            if (bufferuse == wiredata.length) {
-                logger.trace("Resizing {}", bufferuse);
-                byte[][] temp = new byte[wiredata.length + BUFFERINCREMENT][];
-                System.arraycopy(wiredata, 0, temp, 0, wiredata.length);
-                wiredata = temp;
-            }
-            wiredata[bufferuse++] = _buf;
-            bytecounter += _buf.length;
-        }
+        wireBuffer.put(_buf);
     }
 
     /**
-     * Appends a byte to the buffer list.
+     * Appends a byte to the message.
      *
      * @param _b byte
      */
     protected void appendByte(byte _b) {
-        if (preallocated > 0) {
-            pabuf[paofs++] = _b;
-            preallocated--;
-        } else {
-            if (bufferuse == wiredata.length) {
-
-                logger.trace("Resizing {}", bufferuse);
-                byte[][] temp = new byte[wiredata.length + BUFFERINCREMENT][];
-                System.arraycopy(wiredata, 0, temp, 0, wiredata.length);
-                wiredata = temp;
-            }
-            wiredata[bufferuse++] = new byte[] {
-                    _b
-            };
-            bytecounter++;
-        }
+        wireBuffer.put(_b);
     }
 
     /**
@@ -343,9 +361,19 @@ public class Message {
      * @param _width The byte-width of the int.
      */
     protected void appendint(long _l, int _width) {
-        byte[] buf = new byte[_width];
-        marshallint(_l, buf, 0, _width);
-        appendBytes(buf);
+        wireBuffer.putInt(_l, _width);
+    }
+
+    /**
+     * Marshalls an integer of a given width to a position which was already written.
+     * Used to set length fields after the data they refer to has been appended.
+     *
+     * @param _l The integer to marshall.
+     * @param _position The position in the message to write to.
+     * @param _width The byte-width of the int.
+     */
+    protected void marshallintAt(long _l, int _position, int _width) {
+        wireBuffer.putInt(_position, _l, _width);
     }
 
     /**
@@ -367,8 +395,40 @@ public class Message {
                 () -> logger.trace("Marshalled int {} to {}", _l, Hexdump.toHex(_buf, _ofs, _width, true)));
     }
 
+    /**
+     * Returns the wire data of this message.
+     * The returned array always contains one array holding the complete message.<br>
+     * The message data is not copied again on subsequent calls, so it must not be modified.
+     * Use {@link #getWireBuffer()} to access the data without creating an array.
+     *
+     * @return array of byte arrays, null if message has no wire data
+     */
     public byte[][] getWireData() {
-        return wiredata;
+        if (wireBuffer == null) {
+            return null;
+        }
+        return new byte[][] {wireBuffer.toByteArray()};
+    }
+
+    /**
+     * Returns a read-only view of the wire data of this message.
+     * The returned buffer is positioned at 0 and its limit is the length of the message.
+     *
+     * @return ByteBuffer, null if message has no wire data
+     */
+    public ByteBuffer getWireBuffer() {
+        return wireBuffer == null ? null : wireBuffer.slice();
+    }
+
+    /**
+     * Returns the number of bytes currently marshalled for this message.
+     * For signals created locally, this does not include the body until the signal is sent.
+     *
+     * @return size in bytes, 0 if message has no wire data
+     * @since 6.0.0 - 2026-10-17
+     */
+    public int getWireSize() {
+        return (int) getByteCounter();
     }
 
     public List<FileDescriptor> getFiledescriptors() {
@@ -464,21 +524,7 @@ public class Message {
      */
     protected void pad(byte _type) {
         logger.trace("padding for {}", (char) _type);
-        int a = getAlignment(_type);
-        logger.trace("{} {} {} {}", preallocated, paofs, bytecounter, a);
-        int b = (int) ((bytecounter - preallocated) % a);
-        if (0 == b) {
-            return;
-        }
-        a = a - b;
-        if (preallocated > 0) {
-            paofs += a;
-            preallocated -= a;
-        } else {
-            appendBytes(padding[a]);
-        }
-        logger.trace("{} {} {} {}", preallocated, paofs, bytecounter, a);
-
+        wireBuffer.align(getAlignment(_type));
     }
 
     /**
@@ -492,32 +538,27 @@ public class Message {
     protected void append(String _sig, Object... _data) throws DBusException {
         LoggingHelper.logIf(logger.isDebugEnabled(), () -> logger.debug("Appending sig: {} data: {}", _sig, LoggingHelper.arraysVeryDeepString(_data)));
 
-        byte[] sigb = _sig.getBytes();
         int j = 0;
-        for (int i = 0; i < sigb.length; i++) {
-            logger.trace("Appending item: {} {} {}", i, (char) sigb[i], j);
-            i = appendOne(sigb, i, _data[j++]);
+        for (SignaturePlan.Node sigType : SignaturePlan.compile(_sig).getTypes()) {
+            logger.trace("Appending item: {} {} {}", sigType.getSignatureOffset(), sigType, j);
+            appendOne(sigType, _data[j++]);
         }
     }
 
     /**
-     * Appends a value to the message. The type of the value is read from a D-Bus signature and used to marshall the
-     * value.
+     * Appends a value to the message. The value is marshalled as described by the given compiled type.
      *
-     * @param _sigb A buffer of the D-Bus signature.
-     * @param _sigofs The offset into the signature corresponding to this value.
+     * @param _type The compiled type of the value.
      * @param _data The value to marshall.
-     * @return The offset into the signature of the end of this value's type.
      */
-    private int appendOne(byte[] _sigb, int _sigofs, Object _data) throws DBusException {
+    private void appendOne(SignaturePlan.Node _type, Object _data) throws DBusException {
         try {
-            int i = _sigofs;
-            logger.trace("{}", bytecounter);
-            logger.trace("Appending type: {} value: {}", (char) _sigb[i], _data);
+            logger.trace("{}", wireBuffer.position());
+            logger.trace("Appending type: {} value: {}", (char) _type.getTypeCode(), _data);
 
             // pad to the alignment of this type.
-            pad(_sigb[i]);
-            switch (_sigb[i]) {
+            wireBuffer.align(_type.getAlignment());
+            switch (_type.getTypeCode()) {
             case BYTE:
                 appendByte(((Number) _data).byteValue());
                 break;
@@ -577,21 +618,18 @@ public class Message {
                 logger.trace("Appending String of length {}", payloadbytes.length);
                 appendint(payloadbytes.length, 4);
                 appendBytes(payloadbytes);
-                appendBytes(padding[1]);
-                // pad(ArgumentType.STRING);? do we need this?
+                appendByte((byte) 0);
                 break;
             case SIGNATURE:
                 // Signatures are marshalled as a byte with the length,
                 // followed by the String, followed by a null byte.
-                // Signatures are generally short, so preallocate the array
-                // for the string, length and null byte.
                 if (_data instanceof Type[] ta) {
                     payload = Marshalling.getDBusType(ta);
                 } else {
                     payload = (String) _data;
                 }
                 byte[] pbytes = payload.getBytes();
-                preallocate(2 + pbytes.length);
+                wireBuffer.ensureCapacity(2 + pbytes.length);
                 appendByte((byte) pbytes.length);
                 appendBytes(pbytes);
                 appendByte((byte) 0);
@@ -605,88 +643,30 @@ public class Message {
                     logger.trace("Appending array: {}", Arrays.deepToString(oa));
                 }
 
-                byte[] alen = new byte[4];
-                appendBytes(alen);
-                pad(_sigb[++i]);
-                long c = bytecounter;
+                SignaturePlan.Node element = _type.getElement();
+                int alenPos = wireBuffer.position();
+                appendint(0, 4);
+                wireBuffer.align(element.getAlignment());
+                int c = wireBuffer.position();
 
                 // optimise primitives
                 if (_data.getClass().isArray() && _data.getClass().getComponentType().isPrimitive()) {
-                    byte[] primbuf;
-                    int algn = getAlignment(_sigb[i]);
-                    int len = Array.getLength(_data);
-                    switch (_sigb[i]) {
-                        case BYTE -> {
-                            primbuf = (byte[]) _data;
-                        }
-                        case INT16, INT32, INT64 -> {
-                            primbuf = new byte[len * algn];
-                            for (int j = 0, k = 0; j < len; j++, k += algn) {
-                                marshallint(Array.getLong(_data, j), primbuf, k, algn);
-                            }
-                        }
-                        case BOOLEAN -> {
-                            primbuf = new byte[len * algn];
-                            for (int j = 0, k = 0; j < len; j++, k += algn) {
-                                marshallint(Array.getBoolean(_data, j) ? 1 : 0, primbuf, k, algn);
-                            }
-                        }
-                        case DOUBLE -> {
-                            primbuf = new byte[len * algn];
-                            if (_data instanceof float[] fa) {
-                                for (int j = 0, k = 0; j < len; j++, k += algn) {
-                                    marshallint(Double.doubleToRawLongBits(fa[j]), primbuf, k, algn);
-                                }
-                            } else {
-                                for (int j = 0, k = 0; j < len; j++, k += algn) {
-                                    marshallint(Double.doubleToRawLongBits(((double[]) _data)[j]), primbuf, k, algn);
-                                }
-                            }
-                        }
-                        case FLOAT -> {
-                            primbuf = new byte[len * algn];
-                            for (int j = 0, k = 0; j < len; j++, k += algn) {
-                                marshallint(Float.floatToRawIntBits(((float[]) _data)[j]), primbuf, k, algn);
-                            }
-                        }
-                        default -> throw new MarshallingException("Primitive array being sent as non-primitive array.");
-                    }
-                    appendBytes(primbuf);
+                    appendPrimitiveArray(element, _data);
                 } else if (_data instanceof Collection<?> coll) {
-                    Object[] contents = coll.toArray();
-                    int diff = i;
-                    ensureBuffers(contents.length * 4);
-                    for (Object o : contents) {
-                        diff = appendOne(_sigb, i, o);
+                    for (Object o : coll) {
+                        appendOne(element, o);
                     }
-                    if (contents.length == 0) {
-                        diff = EmptyCollectionHelper.determineSignatureOffsetArray(_sigb, diff);
-                    }
-                    i = diff;
                 } else if (_data instanceof Map<?, ?> map) {
-                    int diff = i;
-                    ensureBuffers(map.size() * 6);
                     for (Map.Entry<?, ?> o : map.entrySet()) {
-                        diff = appendOne(_sigb, i, o);
-                    }
-                    if (map.isEmpty()) {
-                        diff = EmptyCollectionHelper.determineSignatureOffsetDict(_sigb, diff);
+                        appendOne(element, o);
                     }
-                    i = diff;
                 } else {
-                    Object[] contents = (Object[]) _data;
-                    ensureBuffers(contents.length * 4);
-                    int diff = i;
-                    for (Object o : contents) {
-                        diff = appendOne(_sigb, i, o);
+                    for (Object o : (Object[]) _data) {
+                        appendOne(element, o);
                     }
-                    if (contents.length == 0) {
-                        diff = EmptyCollectionHelper.determineSignatureOffsetArray(_sigb, diff);
-                    }
-                    i = diff;
                 }
-                logger.trace("start: {} end: {} length: {}", c, bytecounter, bytecounter - c);
-                marshallint(bytecounter - c, alen, 0, 4);
+                logger.trace("start: {} end: {} length: {}", c, wireBuffer.position(), wireBuffer.position() - c);
+                marshallintAt(wireBuffer.position() - c, alenPos, 4);
                 break;
             case STRUCT1:
                 // Structs are aligned to 8 bytes
@@ -697,60 +677,89 @@ public class Message {
                 } else {
                     contents = (Object[]) _data;
                 }
-                ensureBuffers(contents.length * 4);
                 int j = 0;
-                for (i++; _sigb[i] != STRUCT2; i++) {
-                    i = appendOne(_sigb, i, contents[j++]);
+                for (SignaturePlan.Node member : _type.getChildren()) {
+                    appendOne(member, contents[j++]);
                 }
                 break;
             case DICT_ENTRY1:
                 // Dict entries are the same as structs.
+                List<SignaturePlan.Node> keyValue = _type.getChildren();
                 if (_data instanceof Map.Entry<?, ?> entry) {
-                    i++;
-                    i = appendOne(_sigb, i, entry.getKey());
-                    i++;
-                    i = appendOne(_sigb, i, entry.getValue());
-                    i++;
+                    appendOne(keyValue.get(0), entry.getKey());
+                    appendOne(keyValue.get(1), entry.getValue());
                 } else {
                     contents = (Object[]) _data;
-                    j = 0;
-                    for (i++; _sigb[i] != DICT_ENTRY2; i++) {
-                        i = appendOne(_sigb, i, contents[j++]);
-                    }
+                    appendOne(keyValue.get(0), contents[0]);
+                    appendOne(keyValue.get(1), contents[1]);
                 }
                 break;
             case VARIANT:
                 // Variants are marshalled as a signature
                 // followed by the value.
                 if (_data instanceof Variant<?> variant) {
-                    appendOne(new byte[] {
-                        SIGNATURE
-                    }, 0, variant.getSig());
-                    appendOne(variant.getSig().getBytes(), 0, variant.getValue());
+                    appendVariant(variant.getSig(), variant.getValue());
                 } else if (_data instanceof Object[] oa) {
-                    appendOne(new byte[] {
-                        SIGNATURE
-                    }, 0, oa[0]);
-                    appendOne(((String) oa[0]).getBytes(), 0, oa[1]);
+                    appendVariant((String) oa[0], oa[1]);
                 } else {
-                    String sig = Marshalling.getDBusType(_data.getClass())[0];
-                    appendOne(new byte[] {
-                        SIGNATURE
-                    }, 0, sig);
-                    appendOne(sig.getBytes(), 0, _data);
+                    appendVariant(Marshalling.getDBusType(_data.getClass())[0], _data);
                 }
                 break;
             default:
             }
-            return i;
         } catch (ClassCastException _ex) {
             logger.debug("Trying to marshall to unconvertible type.", _ex);
             throw new MarshallingException(
                     MessageFormat.format("Trying to marshall to unconvertible type (from {0} to {1}).",
-                            _data.getClass().getName(), (char) _sigb[_sigofs]));
+                            _data.getClass().getName(), (char) _type.getTypeCode()));
+        }
+    }
+
+    /**
+     * Appends the content of an array of primitives.
+     *
+     * @param _element compiled element type of the array
+     * @param _data primitive array
+     * @throws MarshallingException when element type does not allow primitive arrays
+     */
+    private void appendPrimitiveArray(SignaturePlan.Node _element, Object _data) throws MarshallingException {
+        int algn = _element.getAlignment();
+        int len = Array.getLength(_data);
+        wireBuffer.ensureCapacity(len * algn);
+        byte code = _element.getTypeCode();
+        switch (_data) {
+            case byte[] ba when code == BYTE -> appendBytes(ba);
+            case short[] sa when code == INT16 -> wireBuffer.putShorts(sa);
+            case int[] ia when code == INT32 -> wireBuffer.putInts(ia);
+            case long[] la when code == INT64 -> wireBuffer.putLongs(la);
+            case boolean[] ba when code == BOOLEAN -> wireBuffer.putBooleans(ba);
+            case double[] da when code == DOUBLE -> wireBuffer.putDoubles(da);
+            case float[] fa when code == DOUBLE -> wireBuffer.putFloatsAsDoubles(fa);
+            case float[] fa when code == FLOAT -> wireBuffer.putFloats(fa);
+            default -> {
+                // array type does not match the signature (e.g. int[] sent as 'ax'), convert each value
+                if (code != INT16 && code != INT32 && code != INT64) {
+                    throw new MarshallingException("Primitive array being sent as non-primitive array.");
+                }
+                for (int j = 0; j < len; j++) {
+                    appendint(Array.getLong(_data, j), algn);
+                }
+            }
         }
     }
 
+    /**
+     * Appends a variant value: the signature followed by the value itself.
+     *
+     * @param _sig signature of the value
+     * @param _value value
+     * @throws DBusException when marshalling fails
+     */
+    private void appendVariant(String _sig, Object _value) throws DBusException {
+        appendOne(VARIANT_SIGNATURE, _sig);
+        appendOne(SignaturePlan.compile(_sig).getFirst(), _value);
+    }
+
     /**
      * Align a counter to the given type.
      *
@@ -760,11 +769,19 @@ public class Message {
      */
     protected int align(int _current, byte _type) {
         logger.trace("aligning to {}", (char) _type);
-        int a = getAlignment(_type);
-        if (0 == _current % a) {
-            return _current;
-        }
-        return _current + a - _current % a;
+        return align(_current, getAlignment(_type));
+    }
+
+    /**
+     * Align a counter to the given alignment.
+     *
+     * @param _current The current counter.
+     * @param _alignment The alignment in bytes.
+     * @return The new, aligned, counter.
+     */
+    private static int align(int _current, int _alignment) {
+        int rest = _current % _alignment;
+        return rest == 0 ? _current : _current + _alignment - rest;
     }
 
     /**
@@ -777,18 +794,32 @@ public class Message {
      * @throws DBusException when parsing fails
      */
     Object[] extractHeader(byte[] _headers) throws DBusException {
+        return extractHeader(_headers, 0);
+    }
+
+    /**
+     * Extracts the header information from the given byte array starting at the given offset.
+     *
+     * @param _buf buffer containing D-Bus serialized data of type a(yv)
+     * @param _offset offset of the header field array in the buffer
+     *
+     * @return Object array containing header data
+     *
+     * @throws DBusException when parsing fails
+     */
+    Object[] extractHeader(byte[] _buf, int _offset) throws DBusException {
         int[] offsets = new int[] {
-                0, 0
+                0, _offset
         };
 
-        return extract("a(yv)", _headers, offsets, DEFAULT_OPTIONS, this::readHeaderVariants);
+        return extract(HEADER_PLAN, _buf, offsets, DEFAULT_OPTIONS, this::readHeaderVariants);
     }
 
     /**
      * Special lightweight version to read the variant objects in DBus message header.
      * This method will not create {@link Variant} objects it directly extracts the Variant data content.
      *
-     * @param _signatureBuf DBus signature string as byte array
+     * @param _type compiled type to read
      * @param _dataBuf buffer with header data
      * @param _offsets current offsets
      * @param _options additional options
@@ -797,24 +828,19 @@ public class Message {
      *
      * @throws DBusException when parsing fails
      */
-    private Object readHeaderVariants(byte[] _signatureBuf, byte[] _dataBuf, int[] _offsets, ExtractOptions _options) throws DBusException {
+    private Object readHeaderVariants(SignaturePlan.Node _type, byte[] _dataBuf, int[] _offsets, ExtractOptions _options) throws DBusException {
         // correct the offsets before extracting values
-        _offsets[OFFSET_DATA] = align(_offsets[OFFSET_DATA], _signatureBuf[_offsets[OFFSET_SIG]]);
-
-        Object result = null;
-        if (_signatureBuf[_offsets[OFFSET_SIG]] == ARRAY) {
-            result = extractArray(_signatureBuf, _dataBuf, _offsets, _options, this::readHeaderVariants);
-        } else if (_signatureBuf[_offsets[OFFSET_SIG]] == BYTE) {
-            result = extractByte(_dataBuf, _offsets);
-        } else if (_signatureBuf[_offsets[OFFSET_SIG]] == VARIANT) {
-            result = extractVariant(_dataBuf, _offsets, DEFAULT_OPTIONS, (sig, obj) -> obj);
-        } else if (_signatureBuf[_offsets[OFFSET_SIG]] == STRUCT1) {
-            result = extractStruct(_signatureBuf, _dataBuf, _offsets, DEFAULT_OPTIONS, this::readHeaderVariants);
-        } else {
-            throw new MessageFormatException("Unsupported data type in header: " + _signatureBuf[_offsets[OFFSET_SIG]]);
-        }
+        _offsets[OFFSET_DATA] = align(_offsets[OFFSET_DATA], _type.getAlignment());
+
+        Object result = switch (_type.getTypeCode()) {
+            case ARRAY -> extractArray(_type, _dataBuf, _offsets, _options, this::readHeaderVariants);
+            case BYTE -> extractByte(_dataBuf, _offsets);
+            case VARIANT -> extractVariant(_dataBuf, _offsets, DEFAULT_OPTIONS, (sig, obj) -> obj);
+            case STRUCT1 -> extractStruct(_type, _dataBuf, _offsets, DEFAULT_OPTIONS, this::readHeaderVariants);
+            default -> throw new MessageFormatException("Unsupported data type in header: " + _type.getTypeCode());
+        };
 
-        logger.trace("Extracted header signature type '{}' to: '{}'", (char) _signatureBuf[_offsets[OFFSET_SIG]], result);
+        logger.trace("Extracted header signature type '{}' to: '{}'", (char) _type.getTypeCode(), result);
 
         return result;
     }
@@ -822,22 +848,20 @@ public class Message {
     /**
      * Demarshall one value from a buffer.
      *
-     * @param _signatureBuf A buffer of the D-Bus signature.
+     * @param _type The compiled type of the value.
      * @param _dataBuf The buffer to demarshall from.
-     * @param _offsets An array of two ints, which holds the position of the current signature offset and the current
-     *            offset of the data buffer.
+     * @param _offsets An array of two ints, the current offset of the data buffer is stored at {@link #OFFSET_DATA}.
      * @param _options extract options
      * @return The demarshalled value.
      */
-    private Object extractOne(byte[] _signatureBuf, byte[] _dataBuf, int[] _offsets, ExtractOptions _options)
+    private Object extractOne(SignaturePlan.Node _type, byte[] _dataBuf, int[] _offsets, ExtractOptions _options)
             throws DBusException {
 
-        logger.trace("Extracting type: {} from offset {}", (char) _signatureBuf[_offsets[OFFSET_SIG]],
-                _offsets[OFFSET_DATA]);
+        logger.trace("Extracting type: {} from offset {}", (char) _type.getTypeCode(), _offsets[OFFSET_DATA]);
 
         Object rv = null;
-        _offsets[OFFSET_DATA] = align(_offsets[OFFSET_DATA], _signatureBuf[_offsets[OFFSET_SIG]]);
-        switch (_signatureBuf[_offsets[OFFSET_SIG]]) {
+        _offsets[OFFSET_DATA] = align(_offsets[OFFSET_DATA], _type.getAlignment());
+        switch (_type.getTypeCode()) {
             case BYTE:
                 rv = extractByte(_dataBuf, _offsets);
                 break;
@@ -892,25 +916,22 @@ public class Message {
                 rv = (1 == rf) ? Boolean.TRUE : Boolean.FALSE;
                 break;
             case ARRAY:
-                rv = extractArray(_signatureBuf, _dataBuf, _offsets, _options, this::extractOne);
+                rv = extractArray(_type, _dataBuf, _offsets, _options, this::extractOne);
                 break;
             case STRUCT1:
-                rv = extractStruct(_signatureBuf, _dataBuf, _offsets, _options, this::extractOne);
+                rv = extractStruct(_type, _dataBuf, _offsets, _options, this::extractOne);
                 break;
             case DICT_ENTRY1:
                 Object[] decontents = new Object[2];
 
                 LoggingHelper.logIf(logger.isTraceEnabled(), () ->
-                    logger.trace("Extracting Dict Entry ({}) from: {}",
-                            Hexdump.toAscii(_signatureBuf, _offsets[OFFSET_SIG], _signatureBuf.length - _offsets[OFFSET_SIG]),
+                    logger.trace("Extracting Dict Entry ({}) from: {}", _type,
                             Hexdump.toHex(_dataBuf, _offsets[OFFSET_DATA], _dataBuf.length - _offsets[OFFSET_DATA], true))
                 );
 
-                _offsets[OFFSET_SIG]++;
-                decontents[0] = extractOne(_signatureBuf, _dataBuf, _offsets, ExtractOptions.copyWithContainedFlag(_options, true));
-                _offsets[OFFSET_SIG]++;
-                decontents[1] = extractOne(_signatureBuf, _dataBuf, _offsets, ExtractOptions.copyWithContainedFlag(_options, true));
-                _offsets[OFFSET_SIG]++;
+                ExtractOptions containedOptions = ExtractOptions.copyWithContainedFlag(_options, true);
+                decontents[0] = extractOne(_type.getChildren().get(0), _dataBuf, _offsets, containedOptions);
+                decontents[1] = extractOne(_type.getChildren().get(1), _dataBuf, _offsets, containedOptions);
                 rv = decontents;
                 break;
             case VARIANT:
@@ -941,7 +962,7 @@ public class Message {
                 _offsets[OFFSET_DATA] += length + 1;
                 break;
             default:
-                throw new UnknownTypeCodeException(_signatureBuf[_offsets[OFFSET_SIG]]);
+                throw new UnknownTypeCodeException(_type.getTypeCode());
         }
 
         if (logger.isTraceEnabled()) {
@@ -972,7 +993,7 @@ public class Message {
     /**
      * Extracts a struct from the data received on bus.
      *
-     * @param _signatureBuf signature (as byte array) defining the struct content
+     * @param _type compiled type of the struct
      * @param _dataBuf buffer containing the struct
      * @param _offsets offset position in buffer (will be updated)
      * @param _options extract options
@@ -982,20 +1003,20 @@ public class Message {
      *
      * @throws DBusException when parsing fails
      */
-    private Object extractStruct(byte[] _signatureBuf, byte[] _dataBuf, int[] _offsets, ExtractOptions _options, ExtractMethod _extractMethod) throws DBusException {
-        Object rv;
-        List<Object> contents = new ArrayList<>();
-        while (_signatureBuf[++_offsets[OFFSET_SIG]] != STRUCT2) {
-            contents.add(_extractMethod.extractOne(_signatureBuf, _dataBuf, _offsets, ExtractOptions.copyWithContainedFlag(_options, true)));
+    private Object extractStruct(SignaturePlan.Node _type, byte[] _dataBuf, int[] _offsets, ExtractOptions _options, ExtractMethod _extractMethod) throws DBusException {
+        List<SignaturePlan.Node> members = _type.getChildren();
+        Object[] contents = new Object[members.size()];
+        ExtractOptions containedOptions = ExtractOptions.copyWithContainedFlag(_options, true);
+        for (int i = 0; i < contents.length; i++) {
+            contents[i] = _extractMethod.extractOne(members.get(i), _dataBuf, _offsets, containedOptions);
         }
-        rv = contents.toArray();
-        return rv;
+        return contents;
     }
 
     /**
      * Extracts an array from the data received on bus.
      *
-     * @param _signatureBuf signature string (as byte array) of the content of the array
+     * @param _type compiled type of the array
      * @param _dataBuf buffer containing the array to read
      * @param _offsets current offsets in the buffer (will be updated)
      * @param _options additional options
@@ -1006,21 +1027,25 @@ public class Message {
      * @throws MarshallingException when Array is too large
      * @throws DBusException when parsing fails
      */
-    private Object extractArray(byte[] _signatureBuf, byte[] _dataBuf, int[] _offsets, ExtractOptions _options, ExtractMethod _extractMethod)
+    private Object extractArray(SignaturePlan.Node _type, byte[] _dataBuf, int[] _offsets, ExtractOptions _options, ExtractMethod _extractMethod)
             throws MarshallingException, DBusException {
-        Object rv;
         long size = demarshallint(_dataBuf, _offsets[OFFSET_DATA], 4);
 
         logger.trace("Reading array of size: {}", size);
         _offsets[OFFSET_DATA] += 4;
-        byte algn = (byte) getAlignment(_signatureBuf[++_offsets[OFFSET_SIG]]);
-        _offsets[OFFSET_DATA] = align(_offsets[OFFSET_DATA], _signatureBuf[_offsets[OFFSET_SIG]]);
+        SignaturePlan.Node element = _type.getElement();
+        byte algn = (byte) element.getAlignment();
+        _offsets[OFFSET_DATA] = align(_offsets[OFFSET_DATA], algn);
         int length = (int) (size / algn);
         if (length > AbstractConnection.MAX_ARRAY_LENGTH) {
             throw new MarshallingException("Arrays must not exceed " + AbstractConnection.MAX_ARRAY_LENGTH);
         }
+        // also ensures that the size fits into an int
+        if (size > _dataBuf.length - _offsets[OFFSET_DATA]) {
+            throw new MarshallingException("Array size " + size + " exceeds message length");
+        }
 
-        rv = optimizePrimitives(_signatureBuf, _dataBuf, _offsets, size, algn, length, _options, _extractMethod);
+        Object rv = optimizePrimitives(_type, _dataBuf, _offsets, size, algn, length, _options, _extractMethod);
 
         if (_options.contained() && !(rv instanceof List) && !(rv instanceof Map)) {
             rv = ArrayFrob.listify(rv);
@@ -1041,16 +1066,13 @@ public class Message {
      * @throws DBusException when parsing fails
      */
     private Object extractVariant(byte[] _dataBuf, int[] _offsets, ExtractOptions _options, BiFunction<String, Object, Object> _variantFactory) throws DBusException {
-        Object rv;
-        int[] newofs = new int[] {
-                0, _offsets[OFFSET_DATA]
-        };
-        String sig = (String) extract(SIGNATURE_STRING, _dataBuf, newofs, _options)[0];
-        newofs[OFFSET_SIG] = 0;
-        rv = _variantFactory.apply(sig, extract(sig, _dataBuf, newofs, _options)[0]);
-        _offsets[OFFSET_DATA] = newofs[OFFSET_DATA];
-
-        return rv;
+        ExtractOptions options = ExtractOptions.copyWithContainedFlag(_options, false);
+        String sig = (String) extractOne(VARIANT_SIGNATURE, _dataBuf, _offsets, options);
+        SignaturePlan.Node valueType = SignaturePlan.compile(sig).getFirst();
+        if (valueType == null) {
+            throw new MessageFormatException("Variant without signature");
+        }
+        return _variantFactory.apply(sig, extractOne(valueType, _dataBuf, _offsets, options));
     }
 
     /**
@@ -1059,10 +1081,10 @@ public class Message {
      * In case the array is not compatible with primitives (e.g. object types are used or array contains Struct/Maps etc)
      * an array of the appropriate type will be created.
      *
-     * @param _signatureBuf signature string (as byte array) containing the type of array
+     * @param _type compiled type of the array
      * @param _dataBuf buffer containing the array
      * @param _offsets current offset in buffer (will be updated)
-     * @param _size size of a byte
+     * @param _size size of the array in bytes, not exceeding the remaining length of the buffer
      * @param _algn data offset padding width when reading primitives (except byte)
      * @param _length length of the array
      * @param _options extract options
@@ -1072,104 +1094,128 @@ public class Message {
      *
      * @throws DBusException when parsing fails
      */
-    private Object optimizePrimitives(byte[] _signatureBuf, byte[] _dataBuf, int[] _offsets, long _size, byte _algn,
+    private Object optimizePrimitives(SignaturePlan.Node _type, byte[] _dataBuf, int[] _offsets, long _size, byte _algn,
             int _length, ExtractOptions _options, ExtractMethod _extractMethod)
             throws DBusException {
         Object rv = null;
 
-        int offsetPos = _offsets[OFFSET_SIG] - 1; // need to extract one because extractArray will already update offset position
+        SignaturePlan.Node element = _type.getElement();
+        int offsetPos = _type.getSignatureOffset();
         boolean optimize = _options.arrayConvert() != null
             && _options.arrayConvert().size() > offsetPos
             && _options.arrayConvert().get(offsetPos) == ConstructorArgType.PRIMITIVE_ARRAY;
 
         if (optimize) {
-            switch (_signatureBuf[_offsets[OFFSET_SIG]]) {
-                case BYTE:
-                    rv = new byte[_length];
-                    System.arraycopy(_dataBuf, _offsets[OFFSET_DATA], rv, 0, _length);
-                    _offsets[OFFSET_DATA] += _size;
-                    break;
-                case INT16:
-                    rv = new short[_length];
-                    for (int j = 0; j < _length; j++, _offsets[OFFSET_DATA] += _algn) {
-                        ((short[]) rv)[j] = (short) demarshallint(_dataBuf, _offsets[OFFSET_DATA], _algn);
-                    }
-                    break;
-                case INT32:
-                    rv = new int[_length];
-                    for (int j = 0; j < _length; j++, _offsets[OFFSET_DATA] += _algn) {
-                        ((int[]) rv)[j] = (int) demarshallint(_dataBuf, _offsets[OFFSET_DATA], _algn);
-                    }
-                    break;
-                case INT64:
-                    rv = new long[_length];
-                    for (int j = 0; j < _length; j++, _offsets[OFFSET_DATA] += _algn) {
-                        ((long[]) rv)[j] = demarshallint(_dataBuf, _offsets[OFFSET_DATA], _algn);
-                    }
-                    break;
-                case BOOLEAN:
-                    rv = new boolean[_length];
-                    for (int j = 0; j < _length; j++, _offsets[OFFSET_DATA] += _algn) {
-                        ((boolean[]) rv)[j] = 1 == demarshallint(_dataBuf, _offsets[OFFSET_DATA], _algn);
-                    }
-                    break;
-                case FLOAT:
-                    rv = new float[_length];
-                    for (int j = 0; j < _length; j++, _offsets[OFFSET_DATA] += _algn) {
-                        ((float[]) rv)[j] = Float.intBitsToFloat((int) demarshallint(_dataBuf, _offsets[OFFSET_DATA], _algn));
-                    }
-                    break;
-                case DOUBLE:
-                    rv = new double[_length];
-                    for (int j = 0; j < _length; j++, _offsets[OFFSET_DATA] += _algn) {
-                        ((double[]) rv)[j] = Double.longBitsToDouble(demarshallint(_dataBuf, _offsets[OFFSET_DATA], _algn));
-                    }
-                    break;
-                default:
-                    break;
+            rv = decodePrimitiveArray(element.getTypeCode(), _dataBuf, _offsets[OFFSET_DATA], _length);
+            if (rv != null) {
+                _offsets[OFFSET_DATA] += (int) _size;
             }
         }
-        if (_signatureBuf[_offsets[OFFSET_SIG]] == DICT_ENTRY1) {
-            int ofssave = prepareCollection(_signatureBuf, _offsets, _size);
-            long end = _offsets[OFFSET_DATA] + _size;
 
+        if (rv != null) {
+            return rv;
+        }
+
+        long end = _offsets[OFFSET_DATA] + _size;
+        ExtractOptions containedOptions = ExtractOptions.copyWithContainedFlag(_options, true);
+
+        if (element.getTypeCode() == DICT_ENTRY1) {
             Map<Object, Object> map = new LinkedHashMap<>();
             while (_offsets[OFFSET_DATA] < end) {
-                _offsets[OFFSET_SIG] = ofssave;
-                Object[] data = (Object[]) _extractMethod.extractOne(_signatureBuf, _dataBuf, _offsets, ExtractOptions.copyWithContainedFlag(_options, true));
+                Object[] data = (Object[]) _extractMethod.extractOne(element, _dataBuf, _offsets, containedOptions);
 
                 map.put(data[0], data[1]);
             }
 
-            rv = map;
+            return map;
         }
 
-        if (rv == null) {
-            int ofssave = prepareCollection(_signatureBuf, _offsets, _size);
-            long end = _offsets[OFFSET_DATA] + _size;
-            List<Object> contents = new ArrayList<>();
-            while (_offsets[OFFSET_DATA] < end) {
-                _offsets[OFFSET_SIG] = ofssave;
-                contents.add(_extractMethod.extractOne(_signatureBuf, _dataBuf, _offsets, ExtractOptions.copyWithContainedFlag(_options, true)));
+        if (_size % _algn == 0 && isBulkListType(element.getTypeCode())) {
+            Object primitives = decodePrimitiveArray(element.getTypeCode(), _dataBuf, _offsets[OFFSET_DATA], _length);
+            _offsets[OFFSET_DATA] += (int) _size;
+            List<Object> contents = new ArrayList<>(_length);
+            for (int j = 0; j < _length; j++) {
+                contents.add(Array.get(primitives, j));
             }
-            rv = contents;
+            return contents;
         }
-        return rv;
+
+        List<Object> contents = new ArrayList<>();
+        while (_offsets[OFFSET_DATA] < end) {
+            contents.add(_extractMethod.extractOne(element, _dataBuf, _offsets, containedOptions));
+        }
+        return contents;
+    }
+
+    /**
+     * Checks if arrays of the given type code are decoded to the same
+     * boxed values by {@link #decodePrimitiveArray(byte, byte[], int, int)} and {@link #extractOne}.
+     *
+     * @param _typeCode element type code
+     * @return true if bulk decoding can be used
+     */
+    private static boolean isBulkListType(byte _typeCode) {
+        return switch (_typeCode) {
+            case BYTE, BOOLEAN, INT16, INT32, INT64, FLOAT, DOUBLE -> true;
+            default -> false;
+        };
     }
 
-    private int prepareCollection(byte[] _signatureBuf, int[] _offsets, long _size) throws DBusException {
-        if (0 == _size) {
-            // advance the type parser even on 0-size arrays.
-            List<Type> temp = new ArrayList<>();
-            byte[] temp2 = new byte[_signatureBuf.length - _offsets[OFFSET_SIG]];
-            System.arraycopy(_signatureBuf, _offsets[OFFSET_SIG], temp2, 0, temp2.length);
-            String temp3 = new String(temp2);
-            // ofs[OFFSET_SIG] gets incremented anyway. Leave one character on the stack
-            int temp4 = Marshalling.getJavaType(temp3, temp, 1) - 1;
-            _offsets[OFFSET_SIG] += temp4;
-            logger.trace("Aligned type: {} {} {}", temp3, temp4, _offsets[OFFSET_SIG]);
+    /**
+     * Decodes an array of fixed-width primitives using bulk operations of a {@link ByteBuffer} view
+     * in the byte order of this message.
+     *
+     * @param _typeCode element type code
+     * @param _dataBuf buffer containing the array
+     * @param _offset offset of the first element
+     * @param _length number of elements
+     * @return primitive array, null if type code is not a fixed-width primitive
+     */
+    private Object decodePrimitiveArray(byte _typeCode, byte[] _dataBuf, int _offset, int _length) {
+        if (_typeCode == BYTE) {
+            return Arrays.copyOfRange(_dataBuf, _offset, _offset + _length);
+        }
+
+        int width = getAlignment(_typeCode);
+        ByteBuffer view = ByteBuffer.wrap(_dataBuf, _offset, _length * width).order(big ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+        switch (_typeCode) {
+            case INT16 -> {
+                short[] result = new short[_length];
+                view.asShortBuffer().get(result);
+                return result;
+            }
+            case INT32 -> {
+                int[] result = new int[_length];
+                view.asIntBuffer().get(result);
+                return result;
+            }
+            case INT64 -> {
+                long[] result = new long[_length];
+                view.asLongBuffer().get(result);
+                return result;
+            }
+            case FLOAT -> {
+                float[] result = new float[_length];
+                view.asFloatBuffer().get(result);
+                return result;
+            }
+            case DOUBLE -> {
+                double[] result = new double[_length];
+                view.asDoubleBuffer().get(result);
+                return result;
+            }
+            case BOOLEAN -> {
+                boolean[] result = new boolean[_length];
+                IntBuffer ints = view.asIntBuffer();
+                for (int j = 0; j < _length; j++) {
+                    result[j] = ints.get(j) == 1;
+                }
+                return result;
+            }
+            default -> {
+                return null;
+            }
         }
-        return _offsets[OFFSET_SIG];
     }
 
     /**
@@ -1204,17 +1250,20 @@ public class Message {
      * @throws DBusException on error
      */
     protected Object[] extract(String _signature, byte[] _dataBuf, int[] _offsets, ExtractOptions _options) throws DBusException {
-        return extract(_signature, _dataBuf, _offsets, _options, this::extractOne);
+        return extract(SignaturePlan.compile(_signature), _dataBuf, _offsets, _options, this::extractOne);
     }
 
-    Object[] extract(String _signature, byte[] _dataBuf, int[] _offsets, ExtractOptions _options, ExtractMethod _method) throws DBusException {
-        logger.trace("extract({},#{}, {{},{}}", _signature, _dataBuf.length, _offsets[OFFSET_SIG],
+    Object[] extract(SignaturePlan _plan, byte[] _dataBuf, int[] _offsets, ExtractOptions _options, ExtractMethod _method) throws DBusException {
+        logger.trace("extract({},#{}, {{},{}}", _plan.getSignature(), _dataBuf.length, _offsets[OFFSET_SIG],
                 _offsets[OFFSET_DATA]);
-        List<Object> rv = new ArrayList<>();
-        byte[] sigb = _signature.getBytes();
-        for (int[] i = _offsets; i[OFFSET_SIG] < sigb.length; i[OFFSET_SIG]++) {
-            rv.add(_method.extractOne(sigb, _dataBuf, i, ExtractOptions.copyWithContainedFlag(_options, false)));
+        List<Object> rv = new ArrayList<>(_plan.size());
+        ExtractOptions options = ExtractOptions.copyWithContainedFlag(_options, false);
+        for (SignaturePlan.Node sigType : _plan.getTypes()) {
+            if (sigType.getSignatureOffset() >= _offsets[OFFSET_SIG]) {
+                rv.add(_method.extractOne(sigType, _dataBuf, _offsets, options));
+            }
         }
+        _offsets[OFFSET_SIG] = _plan.getSignature().length();
 
         return rv.toArray();
     }
@@ -1340,6 +1389,101 @@ public class Message {
         return args;
     }
 
+    /**
+     * Returns the leading arguments of this message which are required to evaluate argument matches
+     * of match rules.
+     * <p>
+     * Only STRING arguments (as {@link String}) and OBJECT_PATH arguments (as {@link DBusPath}) are decoded,
+     * all other arguments are skipped in the wire data and returned as null.
+     * The complete body is not decoded if it was not decoded before.
+     * The result is cached, so evaluating multiple rules on the same message will decode the arguments only once.
+     * </p>
+     *
+     * @param _count number of arguments required
+     * @return array containing at least the requested number of arguments
+     *          or less if the message does not have that many arguments
+     * @throws DBusException when wire data is invalid
+     */
+    public Object[] getLeadingArguments(int _count) throws DBusException {
+        String sig = getSig();
+        if (sig == null || sig.isEmpty()) {
+            return new Object[0];
+        }
+
+        SignaturePlan plan = SignaturePlan.compile(sig);
+        int count = Math.min(_count, plan.size());
+        Object[] known = leadingArgs;
+        if (known != null && known.length >= count) {
+            return known;
+        }
+
+        Object[] result = new Object[count];
+        if (args != null || body == null || bodylen == 0) {
+            // already decoded or not received from the wire
+            Object[] params = getParameters();
+            for (int i = 0; i < count && i < params.length; i++) {
+                byte code = plan.getTypes().get(i).getTypeCode();
+                result[i] = code == STRING || code == OBJECT_PATH ? params[i] : null;
+            }
+        } else {
+            int[] offsets = new int[] {0, bodyOffset};
+            for (int i = 0; i < count; i++) {
+                SignaturePlan.Node node = plan.getTypes().get(i);
+                if (node.getTypeCode() == STRING || node.getTypeCode() == OBJECT_PATH) {
+                    result[i] = extractOne(node, body, offsets, DEFAULT_OPTIONS);
+                } else {
+                    skipOne(node, body, offsets);
+                }
+            }
+        }
+        leadingArgs = result;
+        return result;
+    }
+
+    /**
+     * Moves the data offset behind the value of the given type without decoding it.
+     *
+     * @param _type type to skip
+     * @param _dataBuf buffer
+     * @param _offsets offsets, data offset will be updated
+     * @throws DBusException when signature of a variant is invalid
+     */
+    private void skipOne(SignaturePlan.Node _type, byte[] _dataBuf, int[] _offsets) throws DBusException {
+        int offset = align(_offsets[OFFSET_DATA], _type.getAlignment());
+        switch (_type.getTypeCode()) {
+            case BYTE -> offset += 1;
+            case INT16, UINT16 -> offset += 2;
+            case INT32, UINT32, BOOLEAN, FLOAT, FILEDESCRIPTOR -> offset += 4;
+            case INT64, UINT64, DOUBLE -> offset += 8;
+            case STRING, OBJECT_PATH -> offset += 4 + (int) demarshallint(_dataBuf, offset, 4) + 1;
+            case SIGNATURE -> offset += 1 + (_dataBuf[offset] & 0xFF) + 1;
+            case ARRAY -> {
+                int length = (int) demarshallint(_dataBuf, offset, 4);
+                offset = align(offset + 4, _type.getElement().getAlignment()) + length;
+            }
+            case STRUCT1, DICT_ENTRY1 -> {
+                _offsets[OFFSET_DATA] = offset;
+                for (SignaturePlan.Node child : _type.getChildren()) {
+                    skipOne(child, _dataBuf, _offsets);
+                }
+                offset = _offsets[OFFSET_DATA];
+            }
+            case VARIANT -> {
+                int sigLength = _dataBuf[offset] & 0xFF;
+                String sig = new String(_dataBuf, offset + 1, sigLength, StandardCharsets.UTF_8);
+                SignaturePlan.Node valueType = SignaturePlan.compile(sig).getFirst();
+                if (valueType == null) {
+                    throw new MessageFormatException("Variant without signature");
+                }
+                _offsets[OFFSET_DATA] = offset + 1 + sigLength + 1;
+                skipOne(valueType, _dataBuf, _offsets);
+                offset = _offsets[OFFSET_DATA];
+            }
+            default -> throw new UnknownTypeCodeException(_type.getTypeCode());
+        }
+        _offsets[OFFSET_DATA] = offset;
+    }
+
     /**
      * Creates a object array containing all objects which should be used to call a constructor.
      *
@@ -1357,8 +1501,8 @@ public class Message {
             options = new ExtractOptions(DEFAULT_OPTIONS.contained(), usesPrimitives(_constructorArgs, dataType));
         }
 
-        if (sig != null && body != null && body.length != 0) {
-            return extract(sig, body, 0, options);
+        if (sig != null && body != null && bodylen != 0) {
+            return extract(sig, body, bodyOffset, options);
         }
         return new Object[0];
     }
@@ -1433,20 +1577,28 @@ public class Message {
 
     /**
      * Warning, do not use this method unless you really know what you are doing.
+     * <p>
+     * For received messages without a sender, the sender field is appended to the
+     * header without marshalling the header again. The body is never decoded.
+     * </p>
      *
      * @param _source string
      * @throws DBusException on error
      */
     public void setSource(String _source) throws DBusException {
         if (null != body) {
+            if (headers[HeaderField.SENDER] == null) {
+                appendSenderField(_source);
+                return;
+            } else if (headers[HeaderField.SENDER].equals(_source)) {
+                return;
+            }
+
             logger.trace("Setting source");
 
             LoggingHelper.logIf(logger.isTraceEnabled(), () -> logger.trace("WireData before: {}", dumpWireData()));
 
-            wiredata = new byte[BUFFERINCREMENT][];
-            bufferuse = 0;
-            bytecounter = 0;
-            preallocate(12);
+            wireBuffer = new MarshallingBuffer((int) (bodyOffset + bodylen) + 64, big, directBuffers);
             append("yyyyuu", big ? Endian.BIG : Endian.LITTLE, type, flags, protover, bodylen, getSerial());
             headers[HeaderField.SENDER] = _source;
 
@@ -1475,32 +1627,63 @@ public class Message {
             });
 
             pad((byte) 8);
-            appendBytes(body);
+            wireBuffer.put(body, bodyOffset, (int) bodylen);
         }
     }
 
     /**
-     * Dumps the current content of {@link #wiredata} to String.
+     * Appends the SENDER header field to the wire data of a received message.
+     * The existing header fields and the body are copied unchanged.
+     *
+     * @param _source sender
+     */
+    private void appendSenderField(String _source) {
+        byte[] sender = _source.getBytes(StandardCharsets.UTF_8);
+
+        // header field array length is located after the fixed header, the fields start at the next 8 byte boundary
+        int headerEnd = FIXED_HEADER_LENGTH + 4 + (int) demarshallint(body, FIXED_HEADER_LENGTH, 4);
+        int fieldStart = align(headerEnd, 8);
+        int fieldEnd = fieldStart + 8 + sender.length + 1;
+        int newBodyOffset = align(fieldEnd, 8);
+
+        byte[] wire = new byte[newBodyOffset + (int) bodylen];
+        System.arraycopy(body, 0, wire, 0, headerEnd);
+
+        // struct (yv) containing the field code and a variant of signature 's'
+        wire[fieldStart] = HeaderField.SENDER;
+        wire[fieldStart + 1] = 1;
+        wire[fieldStart + 2] = STRING;
+        marshallint(sender.length, wire, fieldStart + 4, 4);
+        System.arraycopy(sender, 0, wire, fieldStart + 8, sender.length);
+        marshallint(fieldEnd - FIXED_HEADER_LENGTH - 4, wire, FIXED_HEADER_LENGTH, 4);
+
+        System.arraycopy(body, bodyOffset, wire, newBodyOffset, (int) bodylen);
+
+        body = wire;
+        bodyOffset = newBodyOffset;
+        wireBuffer = MarshallingBuffer.wrap(wire, big);
+        headers[HeaderField.SENDER] = _source;
+    }
+
+    /**
+     * Dumps the current content of {@link #wireBuffer} to String.
      *
      * @return String, maybe empty
      * @since v4.2.2 - 2023-01-20
      */
     String dumpWireData() {
         StringBuilder sb = new StringBuilder(System.lineSeparator());
-        for (int i = 0; i < wiredata.length; i++) {
-            byte[] arr = wiredata[i];
-            if (arr != null) {
-                String prefix = "Wiredata[" + i + "]";
-                String format = Hexdump.format(arr, 80);
-                String[] split = format.split("\n");
-                sb.append(prefix).append(": ").append(split[0]).append(System.lineSeparator());
-                if (split.length > 1) {
-                    sb.append(Arrays.stream(split)
-                            .skip(1)
-                            .map(s -> String.format("%s: %80s", prefix, s))
-                            .collect(Collectors.joining(System.lineSeparator())));
-                    sb.append(System.lineSeparator());
-                }
+        if (wireBuffer != null) {
+            String prefix = "Wiredata";
+            String format = Hexdump.format(wireBuffer.toByteArray(), 80);
+            String[] split = format.split("\n");
+            sb.append(prefix).append(": ").append(split[0]).append(System.lineSeparator());
+            if (split.length > 1) {
+                sb.append(Arrays.stream(split)
+                        .skip(1)
+                        .map(s -> String.format("%s: %80s", prefix, s))
+                        .collect(Collectors.joining(System.lineSeparator())));
+                sb.append(System.lineSeparator());
             }
         }
         return sb.toString();
@@ -1550,8 +1733,8 @@ public class Message {
      * @throws DBusException
      */
     protected void padAndMarshall(List<Object> _hargs, long _serial, String _sig, Object... _args) throws DBusException {
-        byte[] blen = new byte[4];
-        appendBytes(blen);
+        final int blenPos = wireBuffer.position();
+        appendint(0, 4);
         append("ua(yv)", _serial, _hargs.toArray());
         pad((byte) 8);
 
@@ -1560,8 +1743,7 @@ public class Message {
             append(_sig, _args);
         }
         logger.trace("Appended body, type: {} start: {} end: {} size: {}", _sig, c, getByteCounter(), getByteCounter() - c);
-        marshallint(getByteCounter() - c, blen, 0, 4);
-        LoggingHelper.logIf(logger.isTraceEnabled(), () -> logger.trace("marshalled size ({}): {}", blen, Hexdump.format(blen)));
+        marshallintAt(getByteCounter() - c, blenPos, 4);
     }
 
     /**
@@ -1689,26 +1871,19 @@ public class Message {
     Message cloneWithNewSerial() {
         Message message = new Message();
 
-        byte[][] copyWireData = new byte[wiredata.length][];
-
-        for (int i = 0; i < wiredata.length; i++) {
-            if (wiredata[i] != null) {
-                copyWireData[i] = Arrays.copyOf(wiredata[i], wiredata[i].length);
-            }
-        }
-
-        message.body = Arrays.copyOf(body, body.length);
+        // body buffer is never modified, so it is safe to share it
+        message.body = body;
+        message.bodyOffset = bodyOffset;
         message.endianWasSet = true;
+        message.directBuffers = directBuffers;
         message.big = big;
         message.flags = flags;
         message.protover = protover;
         message.type = type;
-        message.bufferuse = bufferuse;
         message.bodylen = bodylen;
-        message.bytecounter = bytecounter;
         message.filedescriptors.addAll(filedescriptors);
 
-        message.setWireData(copyWireData);
+        message.wireBuffer = wireBuffer == null ? null : wireBuffer.copy();
         message.setHeader(Arrays.copyOf(headers, headers.length));
         message.setSerial(GLOBAL_SERIAL.incrementAndGet());
 
@@ -1723,7 +1898,7 @@ public class Message {
      */
     @FunctionalInterface
     interface ExtractMethod {
-        Object extractOne(byte[] _signatureBuf, byte[] _dataBuf, int[] _offsets, ExtractOptions _options)
+        Object extractOne(SignaturePlan.Node _type, byte[] _dataBuf, int[] _offsets, ExtractOptions _options)
                 throws DBusException;
     }
 
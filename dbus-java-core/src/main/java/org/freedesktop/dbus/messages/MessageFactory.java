@@ -8,15 +8,30 @@ import org.freedesktop.dbus.utils.Hexdump;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
 import java.util.List;
 
 public final class MessageFactory {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MessageFactory.class);
     private final byte          endianess;
+    /** Marshall created messages into direct buffers. */
+    private final boolean       directBuffers;
 
     public MessageFactory(byte _endianess) {
+        this(_endianess, false);
+    }
+
+    /**
+     * Create a new factory.
+     *
+     * @param _endianess endianess of created messages
+     * @param _directBuffers true to marshall created messages into direct buffers
+     * @since 6.0.0 - 2026-10-17
+     */
+    public MessageFactory(byte _endianess, boolean _directBuffers) {
         endianess = _endianess;
+        directBuffers = _directBuffers;
     }
 
     public byte getEndianess() {
@@ -24,7 +39,7 @@ public final class MessageFactory {
     }
 
     public DBusSignal createSignal(String _source, String _path, String _iface, String _member, String _sig, Object... _args) throws DBusException {
-        return new DBusSignal(endianess, _source, _path, _iface, _member, _sig, _args);
+        return new DBusSignal(directBuffers, endianess, _source, _path, _iface, _member, _sig, _args);
     }
 
     public DBusSignal createSignal(String _objectPath, Object... _args) throws DBusException {
@@ -34,35 +49,35 @@ public final class MessageFactory {
     }
 
     public MethodCall createMethodCall(String _source, String _dest, String _path, String _iface, String _member, byte _flags, String _sig, Object... _args) throws DBusException {
-        return new MethodCall(endianess, _source, _dest, _path, _iface, _member, _flags, _sig, _args);
+        return new MethodCall(directBuffers, endianess, _source, _dest, _path, _iface, _member, _flags, _sig, _args);
     }
 
     public MethodCall createMethodCall(String _dest, String _path, String _iface, String _member, byte _flags, String _sig, Object... _args) throws DBusException {
-        return new MethodCall(endianess, _dest, _path, _iface, _member, _flags, _sig, _args);
+        return new MethodCall(directBuffers, endianess, null, _dest, _path, _iface, _member, _flags, _sig, _args);
     }
 
     public MethodReturn createMethodReturn(MethodCall _mc, String _sig, Object... _args) throws DBusException {
-        return new MethodReturn(_mc, _sig, _args);
+        return new MethodReturn(directBuffers, null, _mc, _sig, _args);
     }
 
     public MethodReturn createMethodReturn(String _source, MethodCall _mc, String _sig, Object... _args) throws DBusException {
-        return new MethodReturn(_source, _mc, _sig, _args);
+        return new MethodReturn(directBuffers, _source, _mc, _sig, _args);
     }
 
     public Error createError(Message _m, Throwable _ex) throws DBusException {
-        return new Error(endianess, _m, _ex);
+        return new Error(directBuffers, endianess, null, _m, _ex);
     }
 
     public Error createError(String _source, Message _m, Throwable _ex) throws DBusException {
-        return new Error(endianess, _source, _m, _ex);
+        return new Error(directBuffers, endianess, _source, _m, _ex);
     }
 
     public Error createError(String _dest, String _errorName, long _replyserial, String _sig, Object... _args) throws DBusException {
-        return new Error(endianess, _dest, _errorName, _replyserial, _sig, _args);
+        return new Error(directBuffers, endianess, null, _dest, _errorName, _replyserial, _sig, _args);
     }
 
     public Error createError(String _source, String _dest, String _errorName, long _replyserial, String _sig, Object... _args) throws DBusException {
-        return new Error(endianess, _source, _dest, _errorName, _replyserial, _sig, _args);
+        return new Error(directBuffers, endianess, _source, _dest, _errorName, _replyserial, _sig, _args);
     }
 
     public static Message createCloneWithNewSerial(Message _msg) {
@@ -74,7 +89,78 @@ public final class MessageFactory {
     }
 
     public static Message createMessage(byte _type, byte[] _buf, byte[] _header, byte[] _body, List<FileDescriptor> _filedescriptors) throws DBusException, MessageTypeException {
+        Message m = createEmptyMessage(_type);
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(Hexdump.format(_buf));
+            LOGGER.trace(Hexdump.format(_header));
+            LOGGER.trace(Hexdump.format(_body));
+        }
+
+        m.populate(_buf, _header, _body, _filedescriptors);
+        return m;
+    }
+
+    /**
+     * Creates a message from a buffer containing the complete wire data of the message
+     * (fixed header, header fields and body).
+     * <p>
+     * The given buffer is not referenced by the created message, so it can be reused by the caller.
+     * </p>
+     *
+     * @param _type message type
+     * @param _data buffer containing the message
+     * @param _offset offset of the first byte of the message in the buffer
+     * @param _length total length of the message
+     * @param _filedescriptors file descriptors received with the message, maybe null
+     *
+     * @return Message
+     *
+     * @throws DBusException when message could not be parsed
+     * @throws MessageTypeException when message type is not supported
+     * @since 6.0.0 - 2026-10-17
+     */
+    public static Message createMessage(byte _type, byte[] _data, int _offset, int _length, List<FileDescriptor> _filedescriptors) throws DBusException, MessageTypeException {
+        Message m = createEmptyMessage(_type);
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(Hexdump.format(Arrays.copyOfRange(_data, _offset, _offset + _length)));
+        }
+
+        m.populate(_data, _offset, _length, _filedescriptors);
+        return m;
+    }
+
+    /**
+     * Creates a message from a buffer containing exactly one complete message
+     * (fixed header, header fields and body).
+     * <p>
+     * The created message takes ownership of the given buffer, it is not copied
+     * and therefore must not be modified by the caller afterwards.
+     * </p>
+     *
+     * @param _type message type
+     * @param _message buffer containing the message
+     * @param _filedescriptors file descriptors received with the message, maybe null
+     *
+     * @return Message
+     *
+     * @throws DBusException when message could not be parsed
+     * @throws MessageTypeException when message type is not supported
+     * @since 6.0.0 - 2026-10-17
+     */
+    public static Message createMessage(byte _type, byte[] _message, List<FileDescriptor> _filedescriptors) throws DBusException, MessageTypeException {
+        Message m = createEmptyMessage(_type);
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(Hexdump.format(_message));
+        }
+
+        m.populate(_message, _filedescriptors);
+        return m;
+    }
 
+    private static Message createEmptyMessage(byte _type) throws MessageTypeException {
         Message m;
         if (_type == MessageTypes.METHOD_CALL.getId()) {
             m = new MethodCall();
@@ -87,14 +173,6 @@ public final class MessageFactory {
         } else {
             throw new MessageTypeException(String.format("Message type %s unsupported", _type));
         }
-
-        if (LOGGER.isTraceEnabled()) {
-            LOGGER.trace(Hexdump.format(_buf));
-            LOGGER.trace(Hexdump.format(_header));
-            LOGGER.trace(Hexdump.format(_body));
-        }
-
-        m.populate(_buf, _header, _body, _filedescriptors);
         return m;
     }
 }
@@ -17,6 +17,10 @@ public abstract class MethodBase extends Message {
         super(_endianness, _methodCall, _flags);
     }
 
+    MethodBase(byte _endianness, byte _methodCall, byte _flags, boolean _directBuffers) throws DBusException {
+        super(_endianness, _methodCall, _flags, _directBuffers);
+    }
+
     /**
      * Appends filedescriptors (if any).
      *
@@ -9,13 +9,32 @@ import org.freedesktop.dbus.messages.constants.MessageTypes;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class MethodCall extends MethodBase {
     private static long replyWaitTimeout = Duration.ofSeconds(20).toMillis();
 
-    // CHECKSTYLE:OFF
-    Message              reply              = null;
-    // CHECKSTYLE:ON
+    private volatile Message reply;
+
+    /**
+     * Guards the hand-off of the reply.
+     * Uses a j.u.c. lock instead of a monitor so virtual threads waiting for a reply
+     * do not pin their carrier thread.
+     */
+    private final ReentrantLock replyLock = new ReentrantLock();
+    private final Condition replyReceived = replyLock.newCondition();
+
+    /** Timeout of this call in ms, 0 to use the default timeout. */
+    private volatile long timeout;
+
+    /** Future completed with the reply, created on demand. */
+    private CompletableFuture<Message> replyFuture;
+
+    /** Cancels the scheduled reply timeout, null if no timeout is scheduled. */
+    private Runnable timeoutCancellation;
 
     MethodCall() {
     }
@@ -25,7 +44,11 @@ public class MethodCall extends MethodBase {
     }
 
     protected MethodCall(byte _endianess, String _source, String _dest, String _path, String _iface, String _member, byte _flags, String _sig, Object... _args) throws DBusException {
-        super(_endianess, MessageTypes.METHOD_CALL.getId(), _flags);
+        this(false, _endianess, _source, _dest, _path, _iface, _member, _flags, _sig, _args);
+    }
+
+    MethodCall(boolean _directBuffers, byte _endianess, String _source, String _dest, String _path, String _iface, String _member, byte _flags, String _sig, Object... _args) throws DBusException {
+        super(_endianess, MessageTypes.METHOD_CALL.getId(), _flags, _directBuffers);
 
         if (null == _member || null == _path) {
             throw new MessageFormatException("Must specify destination, path and function name to MethodCalls.");
@@ -71,25 +94,96 @@ public class MethodCall extends MethodBase {
         replyWaitTimeout = _timeout;
     }
 
-    public synchronized boolean hasReply() {
+    /**
+    * Get the default timeout for method calls.
+    * @return timeout in ms
+    */
+    public static long getDefaultTimeout() {
+        return replyWaitTimeout;
+    }
+
+    /**
+    * Set the timeout used for this call.
+    * If no reply is received within this time, the call will be completed with a
+    * {@link org.freedesktop.dbus.errors.NoReply} error.
+    *
+    * @param _timeout timeout in ms, 0 to use the default timeout
+    */
+    public void setTimeout(long _timeout) {
+        if (_timeout < 0) {
+            throw new IllegalArgumentException("Timeout must not be negative");
+        }
+        timeout = _timeout;
+    }
+
+    /**
+    * Returns the timeout configured for this call.
+    * @return timeout in ms, 0 if the default timeout is used
+    */
+    public long getTimeout() {
+        return timeout;
+    }
+
+    /**
+    * Returns the timeout which is used when waiting for a reply to this call.
+    * @return timeout in ms
+    */
+    public long getEffectiveTimeout() {
+        return timeout > 0 ? timeout : replyWaitTimeout;
+    }
+
+    /**
+    * Set the action which cancels the reply timeout scheduled for this call.
+    * The action is run when the reply is set, or immediately if the reply was already set.
+    *
+    * @param _cancellation action cancelling the timeout
+    * @since 6.0.0 - 2026-10-17
+    */
+    public void setTimeoutCancellation(Runnable _cancellation) {
+        replyLock.lock();
+        try {
+            if (reply == null) {
+                timeoutCancellation = _cancellation;
+                return;
+            }
+        } finally {
+            replyLock.unlock();
+        }
+        _cancellation.run();
+    }
+
+    public boolean hasReply() {
         return null != reply;
     }
 
     /**
     * Block (if neccessary) for a reply.
     * @return The reply to this MethodCall, or null if a timeout happens.
-    * @param _timeout The length of time to block before timing out (ms).
+    * @param _timeout The length of time to block before timing out (ms), 0 to wait forever.
     */
-    public synchronized Message getReply(long _timeout) {
+    public Message getReply(long _timeout) {
         logger.trace("Blocking on {}", this);
-        if (null != reply) {
-            return reply;
+        Message result = reply;
+        if (null != result) {
+            return result;
         }
 
+        replyLock.lock();
         try {
-            wait(_timeout);
+            long remaining = TimeUnit.MILLISECONDS.toNanos(_timeout);
+            while (reply == null) {
+                if (_timeout == 0) {
+                    replyReceived.await();
+                } else if (remaining > 0) {
+                    remaining = replyReceived.awaitNanos(remaining);
+                } else {
+                    break;
+                }
+            }
         } catch (InterruptedException _exI) {
             Thread.currentThread().interrupt(); // keep interrupted state
+        } finally {
+            replyLock.unlock();
         }
 
         return reply;
@@ -97,17 +191,61 @@ public class MethodCall extends MethodBase {
 
     /**
     * Block (if neccessary) for a reply.
+    * Uses the timeout of this call, if none was set the default timeout is used.
     * Default timeout is 20s, or can be configured with setDefaultTimeout()
     * @return The reply to this MethodCall, or null if a timeout happens.
     */
-    public synchronized Message getReply() {
-        return getReply(replyWaitTimeout);
+    public Message getReply() {
+        return getReply(getEffectiveTimeout());
     }
 
-    public synchronized void setReply(Message _reply) {
-        logger.trace("Setting reply to {} to {}", this, _reply);
-        this.reply = _reply;
-        notifyAll();
+    /**
+    * Returns a future which is completed with the reply to this MethodCall.
+    * The reply may also be an {@link Error}.
+    * <p>
+    * The future is completed by the thread receiving the reply, so dependent actions which are
+    * not executed asynchronously will run on that thread and should therefore be short.
+    * Completing the returned future manually does not change the reply of this call.
+    * </p>
+    *
+    * @return CompletableFuture, same instance on every call
+    */
+    public CompletableFuture<Message> getReplyFuture() {
+        replyLock.lock();
+        try {
+            if (replyFuture == null) {
+                replyFuture = new CompletableFuture<>();
+                if (reply != null) {
+                    replyFuture.complete(reply);
+                }
+            }
+            return replyFuture;
+        } finally {
+            replyLock.unlock();
+        }
+    }
+
+    public void setReply(Message _reply) {
+        CompletableFuture<Message> future;
+        Runnable cancellation;
+        replyLock.lock();
+        try {
+            logger.trace("Setting reply to {} to {}", this, _reply);
+            reply = _reply;
+            replyReceived.signalAll();
+            future = replyFuture;
+            cancellation = timeoutCancellation;
+            timeoutCancellation = null;
+        } finally {
+            replyLock.unlock();
+        }
+        if (cancellation != null) {
+            cancellation.run();
+        }
+        // complete outside of the lock, dependent actions may run on this thread
+        if (future != null) {
+            future.complete(_reply);
+        }
     }
 
 }
@@ -20,7 +20,11 @@ public class MethodReturn extends MethodBase {
     }
 
     protected MethodReturn(byte _endianess, String _source, String _dest, long _replyserial, String _sig, Object... _args) throws DBusException {
-        super(_endianess, MessageTypes.METHOD_REPLY.getId(), (byte) 0);
+        this(false, _endianess, _source, _dest, _replyserial, _sig, _args);
+    }
+
+    MethodReturn(boolean _directBuffers, byte _endianess, String _source, String _dest, long _replyserial, String _sig, Object... _args) throws DBusException {
+        super(_endianess, MessageTypes.METHOD_REPLY.getId(), (byte) 0, _directBuffers);
 
         List<Object> hargs = new ArrayList<>();
         hargs.add(createHeaderArgs(HeaderField.REPLY_SERIAL, ArgumentType.UINT32_STRING, _replyserial));
@@ -47,7 +51,11 @@ public class MethodReturn extends MethodBase {
     }
 
     protected MethodReturn(String _source, MethodCall _mc, String _sig, Object... _args) throws DBusException {
-        this(_mc.getEndianess(), _source, _mc.getSource(), _mc.getSerial(), _sig, _args);
+        this(false, _source, _mc, _sig, _args);
+    }
+
+    MethodReturn(boolean _directBuffers, String _source, MethodCall _mc, String _sig, Object... _args) throws DBusException {
+        this(_directBuffers, _mc.getEndianess(), _source, _mc.getSource(), _mc.getSerial(), _sig, _args);
         this.call = _mc;
     }
 
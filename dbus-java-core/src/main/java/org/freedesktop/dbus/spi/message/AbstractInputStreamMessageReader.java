@@ -2,6 +2,7 @@ package org.freedesktop.dbus.spi.message;
 
 import org.freedesktop.dbus.FileDescriptor;
 import org.freedesktop.dbus.exceptions.DBusException;
+import org.freedesktop.dbus.exceptions.MessageFormatException;
 import org.freedesktop.dbus.exceptions.MessageProtocolVersionException;
 import org.freedesktop.dbus.messages.Message;
 import org.freedesktop.dbus.messages.MessageFactory;
@@ -28,15 +29,14 @@ public abstract class AbstractInputStreamMessageReader implements IMessageReader
     private final byte[]        tbuf;
     private final SocketChannel inputChannel;
 
-    private byte[]              header;
-    private byte[]              body;
+    private byte[]              message;
 
     private final ISocketProvider socketProviderImpl;
 
     protected AbstractInputStreamMessageReader(final SocketChannel _in, ISocketProvider _socketProviderImpl) {
         socketProviderImpl = Objects.requireNonNull(_socketProviderImpl, "ISocketProvider implementation required");
         inputChannel = Objects.requireNonNull(_in, "SocketChannel required");
-        len = new int[4];
+        len = new int[3];
         tbuf = new byte[4];
         buf = new byte[12];
         len[1] = 0;
@@ -97,73 +97,47 @@ public abstract class AbstractInputStreamMessageReader implements IMessageReader
         }
 
         final byte endian = buf[0];
+        final byte type = buf[1];
 
-        /* Parse the variable header length */
-        int headerlen;
-
-        if (header == null) {
-            headerlen = (int) Message.demarshallint(tbuf, 0, endian, 4);
+        /* Allocate one buffer for the complete message: fixed header, header fields and body */
+        if (message == null) {
+            long headerlen = Message.demarshallint(tbuf, 0, endian, 4);
 
             /* n % 2^i = n & (2^i - 1) */
-            final int modlen = headerlen & 7;
+            final long modlen = headerlen & 7;
 
             if (modlen != 0) {
                 headerlen += 8 - modlen;
             }
-        } else {
-            headerlen = header.length - 8;
-        }
-
-        /* Read the variable header */
-        if (header == null) {
-            header = new byte[headerlen + 8];
-            System.arraycopy(tbuf, 0, header, 0, 4);
-            len[2] = 0;
-        }
-
-        if (len[2] < headerlen) {
-            try {
-                final int rv = inputChannel.read(ByteBuffer.wrap(header, 8 + len[2], headerlen - len[2]));
-
-                if (rv < 0) {
-                    throw new EOFException("(3) Underlying transport returned " + rv);
-                }
 
-                len[2] += rv;
-            } catch (SocketTimeoutException _ex) {
-                return null;
+            long msglen = 16 + headerlen + Message.demarshallint(buf, 4, endian, 4);
+            if (msglen > Message.MAXIMUM_MESSAGE_LENGTH) {
+                throw new MessageFormatException("Message length " + msglen + " exceeds maximum of " + Message.MAXIMUM_MESSAGE_LENGTH);
             }
-        }
 
-        if (len[2] < headerlen) {
-            logger.trace("Only got {} of {} bytes of header", len[2], headerlen);
-            return null;
+            message = new byte[(int) msglen];
+            System.arraycopy(buf, 0, message, 0, 12);
+            System.arraycopy(tbuf, 0, message, 12, 4);
+            len[2] = 16;
         }
 
-        final byte type = buf[1];
-
-        /* Read the body */
-        if (body == null) {
-            body = new byte[(int) Message.demarshallint(buf, 4, endian, 4)];
-            len[3] = 0;
-        }
-
-        if (len[3] < body.length) {
+        /* Read the variable header and the body */
+        if (len[2] < message.length) {
             try {
-                final int rv = inputChannel.read(ByteBuffer.wrap(body, len[3], body.length - len[3]));
+                final int rv = inputChannel.read(ByteBuffer.wrap(message, len[2], message.length - len[2]));
 
                 if (rv < 0) {
-                    throw new EOFException("(4) Underlying transport returned " + rv);
+                    throw new EOFException("(3) Underlying transport returned " + rv);
                 }
 
-                len[3] += rv;
+                len[2] += rv;
             } catch (SocketTimeoutException _ex) {
                 return null;
             }
         }
 
-        if (len[3] < body.length) {
-            logger.trace("Only got {} of {} bytes of body", len[3], body.length);
+        if (len[2] < message.length) {
+            logger.trace("Only got {} of {} bytes of message", len[2], message.length);
             return null;
         }
 
@@ -173,7 +147,7 @@ public abstract class AbstractInputStreamMessageReader implements IMessageReader
                 fds = readFileDescriptors(inputChannel);
             }
 
-            final Message m = MessageFactory.createMessage(type, buf, header, body, fds);
+            final Message m = MessageFactory.createMessage(type, message, fds);
             logger.debug("=> {}", m);
 
             return m;
@@ -184,8 +158,7 @@ public abstract class AbstractInputStreamMessageReader implements IMessageReader
         } finally {
             Arrays.fill(tbuf, (byte) 0x00);
             len[1] = 0;
-            body = null;
-            header = null;
+            message = null;
             Arrays.fill(buf, (byte) 0x00);
             len[0] = 0;
         }
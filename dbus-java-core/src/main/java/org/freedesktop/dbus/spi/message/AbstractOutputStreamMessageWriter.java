@@ -3,12 +3,14 @@ package org.freedesktop.dbus.spi.message;
 import org.freedesktop.dbus.FileDescriptor;
 import org.freedesktop.dbus.messages.Message;
 import org.freedesktop.dbus.utils.Hexdump;
+import org.freedesktop.dbus.utils.LoggingHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -36,7 +38,8 @@ public abstract class AbstractOutputStreamMessageWriter implements IMessageWrite
         if (null == _msg) {
             return;
         }
-        if (null == _msg.getWireData()) {
+        ByteBuffer wireBuffer = _msg.getWireBuffer();
+        if (null == wireBuffer) {
             logger.warn("Message {} wire-data was null!", _msg);
             return;
         }
@@ -45,18 +48,57 @@ public abstract class AbstractOutputStreamMessageWriter implements IMessageWrite
             writeFileDescriptors(outputChannel, _msg.getFiledescriptors());
         }
 
-        for (byte[] buf : _msg.getWireData()) {
-            if (logger.isTraceEnabled()) {
-                logger.trace("{}", null == buf ? "(buffer was null)" : Hexdump.format(buf));
+        LoggingHelper.logIf(logger.isTraceEnabled(), () -> logger.trace("{}", Hexdump.format(_msg.getWireData()[0])));
+
+        while (wireBuffer.hasRemaining()) {
+            outputChannel.write(wireBuffer);
+        }
+
+        logger.trace("Message sent: {}", _msg);
+    }
+
+    /**
+     * Writes all given messages with a gathering write.
+     * <p>
+     * When file descriptor passing is supported, every message is written
+     * on its own, so the file descriptors are sent together with the message they belong to.
+     * </p>
+     */
+    @Override
+    public void writeMessages(List<Message> _msgs) throws IOException {
+        if (_msgs == null || _msgs.isEmpty()) {
+            return;
+        }
+        if (_msgs.size() == 1 || socketProviderImpl.isFileDescriptorPassingSupported()) {
+            IMessageWriter.super.writeMessages(_msgs);
+            return;
+        }
+
+        List<ByteBuffer> buffers = new ArrayList<>(_msgs.size());
+        for (Message msg : _msgs) {
+            logger.debug("<= {}", msg);
+            if (msg == null) {
+                continue;
             }
-            if (null == buf) {
-                break;
+            ByteBuffer wireBuffer = msg.getWireBuffer();
+            if (null == wireBuffer) {
+                logger.warn("Message {} wire-data was null!", msg);
+                continue;
             }
+            buffers.add(wireBuffer);
+        }
 
-            outputChannel.write(ByteBuffer.wrap(buf));
+        if (buffers.isEmpty()) {
+            return;
         }
 
-        logger.trace("Message sent: {}", _msg);
+        ByteBuffer[] toWrite = buffers.toArray(ByteBuffer[]::new);
+        ByteBuffer last = toWrite[toWrite.length - 1];
+        while (last.hasRemaining()) {
+            outputChannel.write(toWrite);
+        }
+
+        logger.trace("{} messages sent with one gathering write", toWrite.length);
     }
 
     /**
@@ -0,0 +1,178 @@
+package org.freedesktop.dbus.spi.message;
+
+import org.freedesktop.dbus.exceptions.DBusException;
+import org.freedesktop.dbus.exceptions.MessageFormatException;
+import org.freedesktop.dbus.exceptions.MessageProtocolVersionException;
+import org.freedesktop.dbus.messages.Message;
+import org.freedesktop.dbus.messages.MessageFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Queue;
+
+/**
+ * Message reader which uses a single reusable receive buffer.
+ * <p>
+ * Every call to the underlying channel will read as many bytes as are currently available
+ * (up to the buffer capacity). All complete messages contained in the received data are
+ * parsed at once and returned by subsequent calls to {@link #readMessage()} without
+ * touching the socket again. Incomplete messages are kept in the buffer and will be
+ * completed by the next read.
+ * </p>
+ * <p>
+ * This reader does not support file descriptor passing, because file descriptors
+ * received with one read could not be assigned to a specific message reliably.
+ * </p>
+ *
+ * @since 6.0.0 - 2026-10-17
+ */
+public class BufferedMessageReader implements IMessageReader {
+    /** Default size of the receive buffer. */
+    public static final int     DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /** Size of the fixed header including the length of the header field array. */
+    private static final int    FIXED_HEADER_SIZE   = 16;
+
+    private final Logger        logger              = LoggerFactory.getLogger(getClass());
+
+    private final SocketChannel inputChannel;
+    private final Queue<Message> pendingMessages    = new ArrayDeque<>();
+
+    private ByteBuffer          receiveBuffer;
+
+    public BufferedMessageReader(SocketChannel _in) {
+        this(_in, DEFAULT_BUFFER_SIZE);
+    }
+
+    public BufferedMessageReader(SocketChannel _in, int _bufferSize) {
+        inputChannel = Objects.requireNonNull(_in, "SocketChannel required");
+        receiveBuffer = ByteBuffer.allocate(Math.max(FIXED_HEADER_SIZE, _bufferSize));
+    }
+
+    @Override
+    public Message readMessage() throws IOException, DBusException {
+        Message m = pendingMessages.poll();
+        if (m != null) {
+            return m;
+        }
+
+        try {
+            int rv = inputChannel.read(receiveBuffer);
+            if (rv < 0) {
+                throw new EOFException("Underlying transport returned " + rv);
+            }
+        } catch (SocketTimeoutException _ex) {
+            return null;
+        }
+
+        receiveBuffer.flip();
+        try {
+            parseMessages();
+        } finally {
+            receiveBuffer.compact();
+        }
+
+        return pendingMessages.poll();
+    }
+
+    /**
+     * Parses all complete messages which are currently in the receive buffer.
+     * The buffer has to be in read mode. Position will be placed behind the last complete message.
+     *
+     * @throws IOException when message uses an unsupported protocol version or type
+     * @throws DBusException when message could not be created
+     */
+    private void parseMessages() throws IOException, DBusException {
+        byte[] data = receiveBuffer.array();
+
+        while (receiveBuffer.remaining() >= FIXED_HEADER_SIZE) {
+            int start = receiveBuffer.position();
+
+            byte endian = data[start];
+            byte type = data[start + 1];
+            byte protoVer = data[start + 3];
+
+            if (protoVer > Message.PROTOCOL) {
+                throw new MessageProtocolVersionException(String.format("Protocol version %s is unsupported", protoVer));
+            }
+
+            long bodyLen = Message.demarshallint(data, start + 4, endian, 4);
+            long headerLen = Message.demarshallint(data, start + 12, endian, 4);
+
+            /* n % 2^i = n & (2^i - 1) */
+            long modlen = headerLen & 7;
+            if (modlen != 0) {
+                headerLen += 8 - modlen;
+            }
+
+            long msgLen = FIXED_HEADER_SIZE + headerLen + bodyLen;
+            if (msgLen > Message.MAXIMUM_MESSAGE_LENGTH) {
+                throw new MessageFormatException("Message length " + msgLen + " exceeds maximum of " + Message.MAXIMUM_MESSAGE_LENGTH);
+            }
+
+            if (receiveBuffer.remaining() < msgLen) {
+                if (receiveBuffer.capacity() < msgLen) {
+                    growBuffer((int) msgLen);
+                }
+                logger.trace("Only got {} of {} bytes of message", receiveBuffer.remaining(), msgLen);
+                return;
+            }
+
+            try {
+                Message m = MessageFactory.createMessage(type, data, start, (int) msgLen, null);
+                logger.debug("=> {}", m);
+                pendingMessages.add(m);
+            } catch (IOException | DBusException | RuntimeException _ex) {
+                logger.warn("Exception while creating message.", _ex);
+                throw _ex;
+            } finally {
+                receiveBuffer.position(start + (int) msgLen);
+            }
+        }
+    }
+
+    /**
+     * Replaces the receive buffer with a larger one able to hold a message of the given size.
+     * The buffer has to be in read mode, all unread bytes will be moved to the new buffer.
+     *
+     * @param _minSize minimum capacity of the new buffer
+     */
+    private void growBuffer(int _minSize) {
+        logger.trace("Increasing receive buffer from {} to {} bytes", receiveBuffer.capacity(), _minSize);
+        ByteBuffer newBuffer = ByteBuffer.allocate(_minSize);
+        newBuffer.put(receiveBuffer);
+        newBuffer.flip();
+        receiveBuffer = newBuffer;
+    }
+
+    protected Logger getLogger() {
+        return logger;
+    }
+
+    @Override
+    public void close() throws IOException {
+        pendingMessages.clear();
+        if (inputChannel.isOpen()) {
+            logger.trace("Closing Message Reader");
+            inputChannel.close();
+        }
+    }
+
+    @Override
+    public boolean isClosed() {
+        return !inputChannel.isOpen();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [inputChannel=" + inputChannel + ", bufferSize=" + receiveBuffer.capacity() + "]";
+    }
+
+}
@@ -4,6 +4,7 @@ import org.freedesktop.dbus.messages.Message;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.List;
 
 /**
  * Interface that lets you write a message to the currently used transport.
@@ -18,5 +19,23 @@ public interface IMessageWriter extends Closeable {
      */
     void writeMessage(Message _msg) throws IOException;
 
+    /**
+     * Write several messages out to the bus.
+     * <p>
+     * Implementations should try to write all messages with as few
+     * system calls as possible. The default implementation writes every
+     * message on its own.
+     * </p>
+     *
+     * @param _msgs messages to write, in order
+     * @throws IOException If an IO error occurs.
+     * @since 6.0.0 - 2026-10-17
+     */
+    default void writeMessages(List<Message> _msgs) throws IOException {
+        for (Message msg : _msgs) {
+            writeMessage(msg);
+        }
+    }
+
     boolean isClosed();
 }
@@ -0,0 +1,329 @@
+package org.freedesktop.dbus.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free hash map using primitive long keys.
+ * <p>
+ * Each bin of the table contains an immutable chain of entries. All modifications
+ * replace the chain of a bin using a single compare-and-set, so readers and writers never
+ * block each other and keys are never boxed. Only publishing a larger table is synchronized.
+ * </p>
+ * <p>
+ * When the table grows, the new table is published immediately. Each bin of the new table
+ * is filled on first access: the corresponding bin of the previous table is frozen
+ * (no further modifications possible) and the entries belonging to the new bin are copied.
+ * </p>
+ * <p>
+ * Null values are not supported.
+ * </p>
+ *
+ * @param <V> value type
+ * @since 6.0.0 - 2026-10-17
+ */
+public final class ConcurrentLongMap<V> {
+    private static final int    DEFAULT_CAPACITY = 64;
+    private static final int    MAX_CAPACITY     = 1 << 30;
+
+    /** Marker for bins of a grown table which have not been copied from the previous table yet. */
+    private static final Object UNINITIALIZED    = new Object();
+
+    private final AtomicInteger size             = new AtomicInteger();
+    private volatile Table      table;
+
+    public ConcurrentLongMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new map.
+     *
+     * @param _initialCapacity expected number of entries
+     */
+    public ConcurrentLongMap(int _initialCapacity) {
+        int capacity = Integer.highestOneBit(Math.clamp(_initialCapacity, 2, MAX_CAPACITY) - 1) << 1;
+        table = new Table(capacity, null);
+    }
+
+    /**
+     * Returns the value for the given key.
+     *
+     * @param _key key
+     * @return value or null if key is not present
+     */
+    public V get(long _key) {
+        Table t = table;
+        while (true) {
+            int idx = t.index(_key);
+            Object bin = t.bins.get(idx);
+            if (bin == UNINITIALIZED) {
+                t.initialize(idx);
+            } else if (bin instanceof Frozen frozen) {
+                t = frozen.next;
+            } else {
+                Node<V> node = find(asNode(bin), _key);
+                return node == null ? null : node.value;
+            }
+        }
+    }
+
+    /**
+     * Checks if the given key is present.
+     *
+     * @param _key key
+     * @return true if present
+     */
+    public boolean containsKey(long _key) {
+        return get(_key) != null;
+    }
+
+    /**
+     * Adds or replaces the value of the given key.
+     *
+     * @param _key key
+     * @param _value value, not null
+     * @return previous value or null
+     */
+    public V put(long _key, V _value) {
+        if (_value == null) {
+            throw new IllegalArgumentException("Null values are not supported");
+        }
+        Table t = table;
+        while (true) {
+            int idx = t.index(_key);
+            Object bin = t.bins.get(idx);
+            if (bin == UNINITIALIZED) {
+                t.initialize(idx);
+            } else if (bin instanceof Frozen frozen) {
+                t = frozen.next;
+            } else {
+                Node<V> head = asNode(bin);
+                Node<V> previous = find(head, _key);
+                Node<V> newHead = new Node<>(_key, _value, previous == null ? head : without(head, _key));
+                if (t.bins.compareAndSet(idx, bin, newHead)) {
+                    if (previous != null) {
+                        return previous.value;
+                    }
+                    if (size.incrementAndGet() > t.threshold()) {
+                        grow(t);
+                    }
+                    return null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the given key.
+     *
+     * @param _key key
+     * @return removed value or null if key was not present
+     */
+    public V remove(long _key) {
+        Table t = table;
+        while (true) {
+            int idx = t.index(_key);
+            Object bin = t.bins.get(idx);
+            if (bin == UNINITIALIZED) {
+                t.initialize(idx);
+            } else if (bin instanceof Frozen frozen) {
+                t = frozen.next;
+            } else {
+                Node<V> head = asNode(bin);
+                Node<V> node = find(head, _key);
+                if (node == null) {
+                    return null;
+                }
+                if (t.bins.compareAndSet(idx, bin, without(head, _key))) {
+                    size.decrementAndGet();
+                    return node.value;
+                }
+            }
+        }
+    }
+
+    /**
+     * Number of entries.
+     *
+     * @return int
+     */
+    public int size() {
+        return Math.max(0, size.get());
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns a snapshot of all values.
+     * Modifications done concurrently may or may not be contained.
+     *
+     * @return List of values
+     */
+    public List<V> values() {
+        List<V> result = new ArrayList<>();
+        Table t = table;
+        int i = 0;
+        while (i < t.bins.length()) {
+            Object bin = t.bins.get(i);
+            if (bin == UNINITIALIZED) {
+                t.initialize(i);
+            } else if (bin instanceof Frozen frozen) {
+                // table was replaced concurrently, start again using the new table
+                result.clear();
+                t = frozen.next;
+                i = 0;
+            } else {
+                for (Node<V> node = asNode(bin); node != null; node = node.next) {
+                    result.add(node.value);
+                }
+                i++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        Table t = table;
+        for (int i = 0; i < t.bins.length(); i++) {
+            while (true) {
+                Object bin = t.bins.get(i);
+                if (bin == UNINITIALIZED) {
+                    t.initialize(i);
+                } else if (bin instanceof Frozen) {
+                    // table was replaced concurrently, clear the new table
+                    clear();
+                    return;
+                } else if (t.bins.compareAndSet(i, bin, null)) {
+                    for (Node<V> n = asNode(bin); n != null; n = n.next) {
+                        size.decrementAndGet();
+                    }
+                    break;
+                }
+            }
+        }
+    }
+
+    private void grow(Table _current) {
+        int capacity = _current.bins.length();
+        if (capacity >= MAX_CAPACITY || table != _current) {
+            return;
+        }
+        synchronized (this) {
+            if (table == _current) {
+                table = new Table(capacity << 1, _current);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> Node<V> asNode(Object _bin) {
+        return (Node<V>) _bin;
+    }
+
+    private static <V> Node<V> find(Node<V> _head, long _key) {
+        for (Node<V> n = _head; n != null; n = n.next) {
+            if (n.key == _key) {
+                return n;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Creates a copy of the chain without the given key.
+     */
+    private static <V> Node<V> without(Node<V> _head, long _key) {
+        if (_head == null) {
+            return null;
+        }
+        if (_head.key == _key) {
+            return _head.next;
+        }
+        return new Node<>(_head.key, _head.value, without(_head.next, _key));
+    }
+
+    private static int spread(long _key) {
+        int h = (int) (_key ^ (_key >>> 32));
+        return h ^ (h >>> 16);
+    }
+
+    private record Node<V>(long key, V value, Node<V> next) {
+    }
+
+    /**
+     * Bin of a table which was replaced by a larger table.
+     * Contains the last chain of the bin, which will not change anymore.
+     */
+    private record Frozen(Table next, Object chain) {
+    }
+
+    private static final class Table {
+        private final AtomicReferenceArray<Object> bins;
+        private final int                          mask;
+        private final AtomicInteger                remaining;
+        private volatile Table                     previous;
+
+        Table(int _capacity, Table _previous) {
+            bins = new AtomicReferenceArray<>(_capacity);
+            mask = _capacity - 1;
+            previous = _previous;
+            remaining = new AtomicInteger(_previous == null ? 0 : _capacity);
+            if (_previous != null) {
+                for (int i = 0; i < _capacity; i++) {
+                    bins.set(i, UNINITIALIZED);
+                }
+            }
+        }
+
+        int index(long _key) {
+            return spread(_key) & mask;
+        }
+
+        int threshold() {
+            return bins.length() - (bins.length() >>> 2);
+        }
+
+        /**
+         * Fills the given bin with the entries of the previous table.
+         */
+        void initialize(int _idx) {
+            Table prev = previous;
+            if (prev == null) {
+                return;
+            }
+            int prevIdx = _idx & prev.mask;
+            Object chain;
+            while (true) {
+                Object bin = prev.bins.get(prevIdx);
+                if (bin == UNINITIALIZED) {
+                    prev.initialize(prevIdx);
+                } else if (bin instanceof Frozen frozen) {
+                    chain = frozen.chain;
+                    break;
+                } else if (prev.bins.compareAndSet(prevIdx, bin, new Frozen(this, bin))) {
+                    chain = bin;
+                    break;
+                }
+            }
+
+            Node<Object> result = null;
+            for (Node<Object> n = asNode(chain); n != null; n = n.next) {
+                if ((spread(n.key) & mask) == _idx) {
+                    result = new Node<>(n.key, n.value, result);
+                }
+            }
+            if (bins.compareAndSet(_idx, UNINITIALIZED, result) && remaining.decrementAndGet() == 0) {
+                // all bins copied, previous table no longer needed
+                previous = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.freedesktop.dbus.bin;
+
+import org.freedesktop.dbus.bin.DBusDaemon.ConnectionStruct;
+import org.freedesktop.dbus.test.AbstractBaseTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+class BusNameTableTest extends AbstractBaseTest {
+
+    @Test
+    void testRegisterAndRelease() {
+        BusNameTable table = new BusNameTable();
+        ConnectionStruct owner = new ConnectionStruct(null, 0);
+        ConnectionStruct other = new ConnectionStruct(null, 0);
+
+        assertTrue(table.register("org.freedesktop.DBus", null));
+        assertTrue(table.register("org.example.Name", owner));
+        assertFalse(table.register("org.example.Name", other));
+        assertSame(owner, table.getOwner("org.example.Name"));
+        assertTrue(table.isRegistered("org.freedesktop.DBus"));
+        assertNull(table.getOwner("org.freedesktop.DBus"));
+
+        // only the owner can release a name
+        assertFalse(table.release("org.example.Name", other));
+        assertTrue(table.release("org.example.Name", owner));
+        assertFalse(table.isRegistered("org.example.Name"));
+        assertEquals(3, table.snapshot().version());
+    }
+
+    @Test
+    void testSnapshotNotChangedByUpdates() {
+        BusNameTable table = new BusNameTable();
+        ConnectionStruct owner = new ConnectionStruct(null, 0);
+        table.register(":1.1", owner);
+
+        BusNameTable.Snapshot snapshot = table.snapshot();
+        table.register("org.example.Name", owner);
+
+        assertEquals(Set.of(":1.1"), snapshot.owners().keySet());
+        assertEquals(Set.of(":1.1", "org.example.Name"), table.snapshot().owners().keySet());
+        assertTrue(table.snapshot().version() > snapshot.version());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.owners().remove(":1.1"));
+    }
+
+    @Test
+    void testReleaseAll() {
+        BusNameTable table = new BusNameTable();
+        ConnectionStruct owner = new ConnectionStruct(null, 0);
+        ConnectionStruct other = new ConnectionStruct(null, 0);
+        table.register(":1.1", owner);
+        table.register(":1.2", other);
+        table.register("org.example.First", owner);
+        table.register("org.example.Second", owner);
+
+        assertEquals(Set.of(":1.1", "org.example.First", "org.example.Second"), Set.copyOf(table.releaseAll(owner)));
+        assertEquals(Set.of(":1.2"), table.snapshot().owners().keySet());
+        assertEquals(List.of(), table.releaseAll(owner));
+    }
+
+    @Test
+    void testConcurrentRegistration() {
+        BusNameTable table = new BusNameTable();
+        ConnectionStruct owner = new ConnectionStruct(null, 0);
+        int threads = 8;
+        int namesPerThread = 200;
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < namesPerThread; i++) {
+                    // all threads compete for the shared names, every name has to be registered exactly once
+                    table.register("org.example.Shared" + i, owner);
+                    assertTrue(table.register("org.example.T" + thread + ".N" + i, owner));
+                }
+            }));
+        }
+        futures.forEach(CompletableFuture::join);
+
+        assertEquals(namesPerThread + threads * namesPerThread, table.snapshot().owners().size());
+        assertEquals(table.snapshot().owners().size(), table.snapshot().version());
+    }
+}
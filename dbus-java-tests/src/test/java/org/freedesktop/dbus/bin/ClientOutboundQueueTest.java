@@ -0,0 +1,61 @@
+package org.freedesktop.dbus.bin;
+
+import org.freedesktop.dbus.bin.ClientOutboundQueue.OfferResult;
+import org.freedesktop.dbus.exceptions.DBusException;
+import org.freedesktop.dbus.messages.DBusSignal;
+import org.freedesktop.dbus.messages.MessageFactory;
+import org.freedesktop.dbus.messages.constants.Endian;
+import org.freedesktop.dbus.test.AbstractBaseTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class ClientOutboundQueueTest extends AbstractBaseTest {
+
+    private final MessageFactory factory = new MessageFactory(Endian.LITTLE);
+
+    @Test
+    void testWriterScheduledOnce() throws DBusException {
+        ClientOutboundQueue queue = new ClientOutboundQueue(0);
+        DBusSignal first = signal(1);
+        DBusSignal second = signal(2);
+        DBusSignal reply = signal(3);
+
+        assertEquals(OfferResult.SCHEDULE_WRITER, queue.offer(first, false));
+        assertEquals(OfferResult.QUEUED, queue.offer(second, false));
+        assertEquals(OfferResult.QUEUED, queue.offer(reply, true));
+
+        assertEquals(List.of(reply, first, second), queue.poll(10));
+        assertEquals(List.of(), queue.poll(10));
+        assertEquals(OfferResult.SCHEDULE_WRITER, queue.offer(first, false));
+    }
+
+    @Test
+    void testLimitIncludesUnsentMessages() throws DBusException {
+        DBusSignal first = signal(1);
+        int size = first.getWireSize();
+        ClientOutboundQueue queue = new ClientOutboundQueue(size * 2L);
+
+        queue.offer(first, false);
+        queue.offer(signal(2), false);
+        assertEquals(OfferResult.LIMIT_EXCEEDED, queue.offer(signal(3), false));
+
+        // taken by writer, but not yet written
+        assertEquals(2, queue.poll(10).size());
+        assertEquals(OfferResult.LIMIT_EXCEEDED, queue.offer(signal(4), false));
+
+        queue.sent(size);
+        assertEquals(OfferResult.QUEUED, queue.offer(signal(5), false));
+
+        ClientQueueStatistics stats = queue.getStatistics(1, ":1.1");
+        assertEquals(1, stats.queuedMessages());
+        assertEquals(size * 2L, stats.queuedBytes());
+        assertEquals(size * 2L, stats.maxQueuedBytes());
+        assertEquals(1, stats.sentMessages());
+        assertEquals(2, stats.droppedMessages());
+    }
+
+    private DBusSignal signal(int _num) throws DBusException {
+        return factory.createSignal(":1.1", "/test", "org.example.Test", "Changed", "i", _num);
+    }
+}
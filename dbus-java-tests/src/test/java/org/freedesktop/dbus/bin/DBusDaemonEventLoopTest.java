@@ -0,0 +1,49 @@
+package org.freedesktop.dbus.bin;
+
+import org.freedesktop.dbus.bin.ClientOutboundQueue.OfferResult;
+import org.freedesktop.dbus.bin.DBusDaemon.ConnectionStruct;
+import org.freedesktop.dbus.messages.DBusSignal;
+import org.freedesktop.dbus.messages.MessageFactory;
+import org.freedesktop.dbus.messages.constants.Endian;
+import org.freedesktop.dbus.test.AbstractBaseTest;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+
+class DBusDaemonEventLoopTest extends AbstractBaseTest {
+
+    @Test
+    void testMessageQueuedBeforeRegistrationIsSent() throws Exception {
+        DBusSignal signal = new MessageFactory(Endian.LITTLE).createSignal(":1.1", "/test", "org.example.Test", "Changed", "i", 1);
+
+        try (ServerSocketChannel server = ServerSocketChannel.open().bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            SocketChannel peer = SocketChannel.open(server.getLocalAddress());
+            SocketChannel daemonSide = server.accept();
+            DBusDaemonEventLoop loop = new DBusDaemonEventLoop("test-loop", (c, m) -> { }, c -> { })) {
+
+            ConnectionStruct conn = new ConnectionStruct(null, 0);
+            ClientOutboundQueue queue = new ClientOutboundQueue(0);
+            DBusDaemonEventLoop.Client client = loop.createClient(conn, daemonSide, queue);
+
+            // a broadcast may reach the client before its registration has been processed
+            assertEquals(OfferResult.SCHEDULE_WRITER, queue.offer(signal, false));
+            client.scheduleWrite();
+            loop.register(client);
+            loop.start();
+
+            ByteBuffer received = ByteBuffer.allocate(signal.getWireSize());
+            peer.configureBlocking(false);
+            long start = System.currentTimeMillis();
+            while (received.hasRemaining() && System.currentTimeMillis() - start < MAX_WAIT) {
+                if (peer.read(received) == 0) {
+                    Thread.sleep(10);
+                }
+            }
+            assertEquals(signal.getWireBuffer(), received.flip(), "Queued message not written to client");
+        }
+    }
+}
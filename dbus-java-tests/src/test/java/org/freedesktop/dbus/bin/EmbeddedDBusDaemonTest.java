@@ -4,23 +4,38 @@ import org.freedesktop.dbus.config.DBusSysProps;
 import org.freedesktop.dbus.connections.BusAddress;
 import org.freedesktop.dbus.connections.impl.DBusConnection;
 import org.freedesktop.dbus.connections.impl.DBusConnectionBuilder;
+import org.freedesktop.dbus.connections.transports.AbstractTransport;
 import org.freedesktop.dbus.connections.transports.TransportBuilder;
+import org.freedesktop.dbus.connections.transports.TransportConnection;
 import org.freedesktop.dbus.exceptions.DBusException;
+import org.freedesktop.dbus.interfaces.DBus;
 import org.freedesktop.dbus.matchrules.DBusMatchRule;
 import org.freedesktop.dbus.matchrules.DBusMatchRuleBuilder;
+import org.freedesktop.dbus.messages.MessageFactory;
 import org.freedesktop.dbus.test.AbstractBaseTest;
 import org.freedesktop.dbus.test.helper.signals.SampleSignals;
 import org.freedesktop.dbus.test.helper.signals.SampleSignals.TestSignal;
 import org.freedesktop.dbus.types.UInt32;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 /**
  *
@@ -76,7 +91,293 @@ class EmbeddedDBusDaemonTest extends AbstractBaseTest {
         });
     }
 
+    @ParameterizedTest(name = "{index} -> Event loops: {0}")
+    @ValueSource(ints = {0, 1})
+    void testManyClients(int _eventLoops) {
+        int clients = 20;
+        doWithEmbeddedDaemon(d -> d.setEventLoops(_eventLoops), (daemon, addr) -> {
+            List<DBusConnection> connections = new ArrayList<>();
+            try {
+                CountDownLatch received = new CountDownLatch(clients - 1);
+                for (int i = 0; i < clients; i++) {
+                    connections.add(DBusConnectionBuilder.forAddress(addr).withShared(false).build());
+                }
+
+                DBusConnection senderConn = connections.getFirst();
+                DBusMatchRule rule = DBusMatchRuleBuilder.create()
+                    .withInterface(SampleSignals.class.getName())
+                    .withSender(senderConn.getUniqueName())
+                    .build();
+                for (DBusConnection conn : connections.subList(1, clients)) {
+                    conn.addSigHandler(rule, s -> received.countDown());
+                }
+
+                senderConn.sendMessage(new TestSignal("/some/rule/Test", "XXX", new UInt32(21)));
+                assertTrue(received.await(10, TimeUnit.SECONDS), "Expected signal to be received by all clients");
+
+                long readerThreads = Thread.getAllStackTraces().keySet().stream()
+                    .filter(t -> t.getName().startsWith(DBusDaemon.DBusDaemonReaderThread.class.getSimpleName()))
+                    .count();
+                if (_eventLoops == 0) {
+                    assertTrue(readerThreads >= clients, "Expected one reader thread per client");
+                } else {
+                    assertEquals(0, readerThreads, "Expected no reader threads when using event loops");
+                }
+            } catch (Exception _ex) {
+                fail(_ex);
+            } finally {
+                for (DBusConnection conn : connections) {
+                    conn.disconnect();
+                }
+            }
+        });
+    }
+
+    @Test
+    void testClientNotReadingIsDisconnected() {
+        int rounds = 25;
+        int signalsPerRound = 8;
+        doWithEmbeddedDaemon(d -> d.setOutgoingLimit(1024 * 1024, OutgoingLimitPolicy.DISCONNECT), (daemon, addr) -> {
+            try (DBusConnection receiverConn = DBusConnectionBuilder.forAddress(addr).withShared(false).build();
+                DBusConnection senderConn = DBusConnectionBuilder.forAddress(addr).withShared(false).build();
+                AbstractTransport stalled = TransportBuilder.create(addr).build()) {
+
+                // client which subscribes to all signals but never reads (transport connects automatically)
+                TransportConnection stalledConn = stalled.getTransportConnection();
+                MessageFactory factory = stalledConn.getMessageFactory();
+                stalledConn.getWriter().writeMessage(factory.createMethodCall("org.freedesktop.DBus", "/org/freedesktop/DBus",
+                    "org.freedesktop.DBus", "Hello", (byte) 0, null));
+                stalledConn.getWriter().writeMessage(factory.createMethodCall("org.freedesktop.DBus", "/org/freedesktop/DBus",
+                    "org.freedesktop.DBus", "AddMatch", (byte) 0, "s", "type='signal'"));
+
+                AtomicInteger received = new AtomicInteger();
+                DBusMatchRule rule = DBusMatchRuleBuilder.create().withInterface("org.example.Flood").build();
+                receiverConn.addGenericSigHandler(rule, s -> received.incrementAndGet());
+
+                // send in rounds, so the reading client never has more than 512 KiB queued
+                for (int r = 1; r <= rounds; r++) {
+                    for (int i = 0; i < signalsPerRound; i++) {
+                        senderConn.sendMessage(senderConn.getMessageFactory().createSignal(null, "/flood", "org.example.Flood", "Data", "ay", new byte[64 * 1024]));
+                    }
+                    long start = System.currentTimeMillis();
+                    while (received.get() < r * signalsPerRound && System.currentTimeMillis() - start < MAX_WAIT) {
+                        Thread.sleep(10);
+                    }
+                    assertEquals(r * signalsPerRound, received.get(), "Expected all signals to be received by reading client");
+                }
+
+                long start = System.currentTimeMillis();
+                while (daemon.getClientQueueStatistics().size() > 2 && System.currentTimeMillis() - start < MAX_WAIT) {
+                    Thread.sleep(50);
+                }
+                assertEquals(2, daemon.getClientQueueStatistics().size(), () -> "Expected stalled client to be disconnected: " + daemon.getClientQueueStatistics());
+                for (ClientQueueStatistics stats : daemon.getClientQueueStatistics()) {
+                    assertTrue(stats.maxQueuedBytes() <= 1024 * 1024 + 128 * 1024, "Queue exceeded limit: " + stats);
+                }
+            } catch (Exception _ex) {
+                fail(_ex);
+            }
+        });
+    }
+
+    @Test
+    void testSignalsOnlyRoutedToMatchingClients() {
+        doWithEmbeddedDaemon((daemon, addr) -> {
+            try (DBusConnection senderConn = DBusConnectionBuilder.forAddress(addr).withShared(false).build();
+                DBusConnection receiverA = DBusConnectionBuilder.forAddress(addr).withShared(false).build();
+                DBusConnection receiverB = DBusConnectionBuilder.forAddress(addr).withShared(false).build()) {
+
+                AtomicInteger receivedA = new AtomicInteger();
+                AtomicInteger receivedB = new AtomicInteger();
+                final AutoCloseable handlerA = receiverA.addGenericSigHandler(
+                    DBusMatchRuleBuilder.create().withInterface("org.example.Route").withPath("/a").build(), s -> receivedA.incrementAndGet());
+                receiverB.addGenericSigHandler(
+                    DBusMatchRuleBuilder.create().withInterface("org.example.Route").withPath("/b").build(), s -> receivedB.incrementAndGet());
+
+                long sentToB = getSentMessages(daemon, receiverB.getUniqueName());
+                for (int i = 0; i < 10; i++) {
+                    senderConn.sendMessage(senderConn.getMessageFactory().createSignal(null, "/a", "org.example.Route", "Changed", "i", i));
+                }
+                waitFor(() -> receivedA.get() == 10);
+
+                // signals are delivered in order, so B must not have received anything but this one
+                senderConn.sendMessage(senderConn.getMessageFactory().createSignal(null, "/b", "org.example.Route", "Changed", "i", 0));
+                waitFor(() -> receivedB.get() == 1);
+                assertEquals(sentToB + 1, getSentMessages(daemon, receiverB.getUniqueName()), "Daemon routed signals to non-matching client");
+
+                // removing the rule stops routing to A, the call ensures the daemon processed RemoveMatch
+                handlerA.close();
+                receiverA.getRemoteObject("org.freedesktop.DBus", "/org/freedesktop/DBus", DBus.class).ListNames();
+                long sentToA = getSentMessages(daemon, receiverA.getUniqueName());
+                senderConn.sendMessage(senderConn.getMessageFactory().createSignal(null, "/a", "org.example.Route", "Changed", "i", 0));
+                senderConn.sendMessage(senderConn.getMessageFactory().createSignal(null, "/b", "org.example.Route", "Changed", "i", 0));
+                waitFor(() -> receivedB.get() == 2);
+                assertEquals(10, receivedA.get());
+                assertEquals(sentToA, getSentMessages(daemon, receiverA.getUniqueName()));
+
+                // typed and untyped form of the same rule share one index slot in the daemon
+                AtomicInteger receivedTyped = new AtomicInteger();
+                AtomicInteger receivedUntyped = new AtomicInteger();
+                try (DBusConnection receiverTyped = DBusConnectionBuilder.forAddress(addr).withShared(false).build()) {
+                    receiverTyped.addGenericSigHandler(DBusMatchRuleBuilder.create().withType("signal")
+                        .withInterface("org.example.Route").withMember("Indexed").build(), s -> receivedTyped.incrementAndGet());
+
+                    try (DBusConnection receiverUntyped = DBusConnectionBuilder.forAddress(addr).withShared(false).build()) {
+                        receiverUntyped.addGenericSigHandler(DBusMatchRuleBuilder.create()
+                            .withInterface("org.example.Route").withMember("Indexed").build(), s -> receivedUntyped.incrementAndGet());
+
+                        senderConn.sendMessage(senderConn.getMessageFactory().createSignal(null, "/c", "org.example.Route", "Indexed", "i", 0));
+                        waitFor(() -> receivedTyped.get() == 1 && receivedUntyped.get() == 1);
+                    }
+
+                    // disconnecting the client with the untyped rule must not remove the typed rule
+                    waitFor(() -> daemon.getClientQueueStatistics().size() == 4);
+                    senderConn.sendMessage(senderConn.getMessageFactory().createSignal(null, "/c", "org.example.Route", "Indexed", "i", 1));
+                    waitFor(() -> receivedTyped.get() == 2);
+                    assertEquals(1, receivedUntyped.get());
+                }
+            } catch (Exception _ex) {
+                fail(_ex);
+            }
+        });
+    }
+
+    /**
+     * Returns the messages the daemon has written to the given client.
+     * Waits until all queued messages are accounted as sent.
+     */
+    @Test
+    void testMessagesOfSenderRoutedInOrder() {
+        int senders = 4;
+        int signalsPerSender = 200;
+        doWithEmbeddedDaemon(d -> d.setRoutingThreads(3), (daemon, addr) -> {
+            List<DBusConnection> senderConns = new ArrayList<>();
+            try (DBusConnection receiverConn = DBusConnectionBuilder.forAddress(addr).withShared(false).build()) {
+                Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+                AtomicInteger count = new AtomicInteger();
+                receiverConn.addGenericSigHandler(DBusMatchRuleBuilder.create().withInterface("org.example.Order").build(), s -> {
+                    try {
+                        received.computeIfAbsent(s.getSource(), k -> Collections.synchronizedList(new ArrayList<>())).add((Integer) s.getParameters()[0]);
+                    } catch (DBusException _ex) {
+                        fail(_ex);
+                    }
+                    count.incrementAndGet();
+                });
+
+                for (int i = 0; i < senders; i++) {
+                    senderConns.add(DBusConnectionBuilder.forAddress(addr).withShared(false).build());
+                }
+
+                // all senders send concurrently, their messages are routed by different threads
+                List<Thread> threads = new ArrayList<>();
+                for (DBusConnection senderConn : senderConns) {
+                    Thread t = new Thread(() -> {
+                        try {
+                            for (int i = 0; i < signalsPerSender; i++) {
+                                senderConn.sendMessage(senderConn.getMessageFactory().createSignal(null, "/order", "org.example.Order", "Seq", "i", i));
+                            }
+                        } catch (DBusException _ex) {
+                            fail(_ex);
+                        }
+                    });
+                    threads.add(t);
+                    t.start();
+                }
+                for (Thread t : threads) {
+                    t.join();
+                }
+
+                waitFor(() -> count.get() == senders * signalsPerSender);
+                List<Integer> expected = IntStream.range(0, signalsPerSender).boxed().toList();
+                assertEquals(senders, received.size());
+                for (Entry<String, List<Integer>> e : received.entrySet()) {
+                    assertEquals(expected, e.getValue(), "Signals of " + e.getKey() + " not received in order");
+                }
+            } catch (Exception _ex) {
+                fail(_ex);
+            } finally {
+                senderConns.forEach(DBusConnection::disconnect);
+            }
+        });
+    }
+
+    @Test
+    void testNameOwnerChangedInOrder() {
+        String name = "org.example.Contended";
+        int iterations = 100;
+        doWithEmbeddedDaemon(d -> d.setRoutingThreads(3), (daemon, addr) -> {
+            try (DBusConnection observer = DBusConnectionBuilder.forAddress(addr).withShared(false).build();
+                DBusConnection first = DBusConnectionBuilder.forAddress(addr).withShared(false).build();
+                DBusConnection second = DBusConnectionBuilder.forAddress(addr).withShared(false).build()) {
+
+                List<String[]> changes = Collections.synchronizedList(new ArrayList<>());
+                observer.addGenericSigHandler(DBusMatchRuleBuilder.create().withInterface("org.freedesktop.DBus")
+                    .withMember("NameOwnerChanged").withArg0123(0, name).build(), s -> {
+                        try {
+                            Object[] params = s.getParameters();
+                            changes.add(new String[] {(String) params[1], (String) params[2]});
+                        } catch (DBusException _ex) {
+                            fail(_ex);
+                        }
+                    });
+
+                // both clients compete for the same name using different routing threads
+                AtomicInteger acquired = new AtomicInteger();
+                List<Thread> threads = new ArrayList<>();
+                for (DBusConnection conn : List.of(first, second)) {
+                    DBus bus = conn.getRemoteObject("org.freedesktop.DBus", "/org/freedesktop/DBus", DBus.class);
+                    Thread t = new Thread(() -> {
+                        for (int i = 0; i < iterations; i++) {
+                            if (bus.RequestName(name, new UInt32(0)).intValue() == DBus.DBUS_REQUEST_NAME_REPLY_PRIMARY_OWNER) {
+                                acquired.incrementAndGet();
+                                bus.ReleaseName(name);
+                            }
+                        }
+                    });
+                    threads.add(t);
+                    t.start();
+                }
+                for (Thread t : threads) {
+                    t.join();
+                }
+
+                waitFor(() -> changes.size() == acquired.get() * 2);
+                String owner = "";
+                synchronized (changes) {
+                    for (String[] change : changes) {
+                        assertEquals(owner, change[0], "NameOwnerChanged received out of order");
+                        owner = change[1];
+                    }
+                }
+                assertEquals("", owner);
+            } catch (Exception _ex) {
+                fail(_ex);
+            }
+        });
+    }
+
+    private static long getSentMessages(EmbeddedDBusDaemon _daemon, String _uniqueName) throws InterruptedException {
+        Supplier<ClientQueueStatistics> stats = () -> _daemon.getClientQueueStatistics().stream()
+            .filter(s -> _uniqueName.equals(s.uniqueName()))
+            .findFirst()
+            .orElseThrow();
+        waitFor(() -> stats.get().queuedBytes() == 0);
+        return stats.get().sentMessages();
+    }
+
+    private static void waitFor(BooleanSupplier _condition) throws InterruptedException {
+        long start = System.currentTimeMillis();
+        while (!_condition.getAsBoolean() && System.currentTimeMillis() - start < MAX_WAIT) {
+            Thread.sleep(10);
+        }
+        assertTrue(_condition.getAsBoolean(), "Condition not met within timeout");
+    }
+
     private void doWithEmbeddedDaemon(BiConsumer<EmbeddedDBusDaemon, BusAddress> _handler) {
+        doWithEmbeddedDaemon(null, _handler);
+    }
+
+    private void doWithEmbeddedDaemon(Consumer<EmbeddedDBusDaemon> _config, BiConsumer<EmbeddedDBusDaemon, BusAddress> _handler) {
         String protocolType = TransportBuilder.getRegisteredBusTypes().getFirst();
         String newAddress = TransportBuilder.createDynamicSession(protocolType, false);
 
@@ -85,6 +386,9 @@ class EmbeddedDBusDaemonTest extends AbstractBaseTest {
 
         logger.debug("Starting embedded bus on address {})", listenBusAddress);
         try (EmbeddedDBusDaemon daemon = new EmbeddedDBusDaemon(listenBusAddress)) {
+            if (_config != null) {
+                _config.accept(daemon);
+            }
             logger.debug("Started embedded bus on address {}", listenBusAddress);
             daemon.startInBackgroundAndWait(MAX_WAIT);
 
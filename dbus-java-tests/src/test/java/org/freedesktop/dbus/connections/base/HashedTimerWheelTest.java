@@ -0,0 +1,91 @@
+package org.freedesktop.dbus.connections.base;
+
+import org.freedesktop.dbus.test.AbstractBaseTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class HashedTimerWheelTest extends AbstractBaseTest {
+
+    @Test
+    void testTasksExpireInOrderAndNotEarly() throws Exception {
+        try (HashedTimerWheel wheel = new HashedTimerWheel("test", 10, TimeUnit.MILLISECONDS, 8)) {
+            List<Integer> order = new CopyOnWriteArrayList<>();
+            CountDownLatch latch = new CountDownLatch(3);
+            long start = System.nanoTime();
+            long[] expired = new long[3];
+
+            // 250 ms needs multiple rounds of the wheel (8 buckets * 10 ms)
+            int[] delays = {250, 30, 120};
+            for (int i = 0; i < delays.length; i++) {
+                int idx = i;
+                wheel.schedule(delays[i], TimeUnit.MILLISECONDS, () -> {
+                    expired[idx] = System.nanoTime() - start;
+                    order.add(idx);
+                    latch.countDown();
+                });
+            }
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals(List.of(1, 2, 0), order);
+            for (int i = 0; i < delays.length; i++) {
+                assertTrue(expired[i] >= TimeUnit.MILLISECONDS.toNanos(delays[i]), "Task " + i + " expired too early");
+            }
+            assertEquals(0, wheel.size());
+        }
+    }
+
+    @Test
+    void testCancelledTaskIsNotExecuted() throws Exception {
+        try (HashedTimerWheel wheel = new HashedTimerWheel("test", 10, TimeUnit.MILLISECONDS, 8)) {
+            AtomicInteger executed = new AtomicInteger();
+            CountDownLatch latch = new CountDownLatch(1);
+
+            HashedTimerWheel.Timeout cancelled = wheel.schedule(50, TimeUnit.MILLISECONDS, executed::incrementAndGet);
+            wheel.schedule(100, TimeUnit.MILLISECONDS, latch::countDown);
+            cancelled.cancel();
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals(0, executed.get());
+            assertTrue(cancelled.isCancelled());
+        }
+    }
+
+    @Test
+    void testWorkerWaitsWhileNothingIsPending() throws Exception {
+        try (HashedTimerWheel wheel = new HashedTimerWheel("idle-test", 10, TimeUnit.MILLISECONDS, 8)) {
+            HashedTimerWheel.Timeout timeout = wheel.schedule(1, TimeUnit.MINUTES, () -> { });
+            assertEquals(1, wheel.size());
+            timeout.cancel();
+            timeout.cancel();
+            assertEquals(0, wheel.size());
+
+            Thread worker = Thread.getAllStackTraces().keySet().stream()
+                .filter(t -> t.getName().equals("idle-test-1"))
+                .findFirst().orElseThrow();
+            assertTrue(worker.isDaemon());
+            // waiting without timeout means the worker is not ticking
+            long start = System.currentTimeMillis();
+            while (worker.getState() != Thread.State.WAITING && System.currentTimeMillis() - start < MAX_WAIT) {
+                Thread.sleep(10);
+            }
+            assertEquals(Thread.State.WAITING, worker.getState());
+
+            CountDownLatch latch = new CountDownLatch(1);
+            wheel.schedule(20, TimeUnit.MILLISECONDS, latch::countDown);
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals(0, wheel.size());
+        }
+    }
+
+    @Test
+    void testScheduleAfterCloseFails() {
+        HashedTimerWheel wheel = new HashedTimerWheel("test");
+        wheel.close();
+        assertThrows(IllegalStateException.class, () -> wheel.schedule(1, TimeUnit.SECONDS, () -> { }));
+    }
+}
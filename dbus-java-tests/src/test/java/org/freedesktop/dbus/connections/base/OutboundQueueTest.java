@@ -0,0 +1,143 @@
+package org.freedesktop.dbus.connections.base;
+
+import org.freedesktop.dbus.exceptions.DBusException;
+import org.freedesktop.dbus.exceptions.NotConnected;
+import org.freedesktop.dbus.exceptions.SendQueueFullException;
+import org.freedesktop.dbus.messages.DBusSignal;
+import org.freedesktop.dbus.messages.Message;
+import org.freedesktop.dbus.messages.MessageFactory;
+import org.freedesktop.dbus.messages.MethodCall;
+import org.freedesktop.dbus.messages.MethodReturn;
+import org.freedesktop.dbus.messages.constants.Endian;
+import org.freedesktop.dbus.test.AbstractBaseTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+class OutboundQueueTest extends AbstractBaseTest {
+
+    private final MessageFactory factory = new MessageFactory(Endian.LITTLE);
+
+    @Test
+    void testFifoWithoutPrioritization() throws DBusException {
+        OutboundQueue queue = new OutboundQueue(0, 0, false, false);
+        DBusSignal signal = signal(1);
+        MethodCall call = call();
+        MethodReturn reply = factory.createMethodReturn(call, null);
+
+        assertTrue(queue.offer(signal));
+        assertFalse(queue.offer(call));
+        assertFalse(queue.offer(reply));
+
+        assertEquals(List.of(signal, call, reply), queue.poll(10));
+        assertEquals(List.of(), queue.poll(10));
+        // sender task has finished, next message requires a new one
+        assertTrue(queue.offer(signal(2)));
+    }
+
+    @Test
+    void testAbortedSenderIsRescheduled() throws DBusException {
+        OutboundQueue queue = new OutboundQueue(0, 0, false, false);
+
+        assertTrue(queue.offer(signal(1)));
+        assertFalse(queue.offer(signal(2)));
+        // sender task failed before draining the queue
+        queue.senderAborted();
+        assertTrue(queue.offer(signal(3)));
+        assertEquals(3, queue.poll(10).size());
+    }
+
+    @Test
+    void testRepliesOvertakeSignals() throws DBusException {
+        OutboundQueue queue = new OutboundQueue(0, 0, false, true);
+        DBusSignal signal1 = signal(1);
+        DBusSignal signal2 = signal(2);
+        MethodCall call = call();
+        MethodReturn reply = factory.createMethodReturn(call, null);
+
+        queue.offer(signal1);
+        queue.offer(call);
+        queue.offer(signal2);
+        queue.offer(reply);
+
+        assertEquals(List.of(reply, call), queue.poll(2));
+        assertEquals(List.of(signal1, signal2), queue.poll(10));
+    }
+
+    @Test
+    void testFailFast() throws DBusException {
+        OutboundQueue queue = new OutboundQueue(2, 0, true, false);
+        MethodCall call = call();
+        queue.offer(signal(1));
+        queue.offer(signal(2));
+
+        assertThrows(SendQueueFullException.class, () -> queue.offer(signal(3)));
+        // replies are never rejected
+        queue.offer(factory.createMethodReturn(call, null));
+
+        SendQueueStatistics stats = queue.getStatistics();
+        assertEquals(3, stats.depth());
+        assertEquals(1, stats.rejected());
+    }
+
+    @Test
+    void testByteLimit() throws DBusException {
+        DBusSignal first = signal(1);
+        OutboundQueue queue = new OutboundQueue(0, first.getWireSize() + 1, true, false);
+
+        queue.offer(first);
+        assertThrows(SendQueueFullException.class, () -> queue.offer(signal(2)));
+        assertEquals(first.getWireSize(), queue.getStatistics().bytes());
+
+        queue.poll(1);
+        queue.offer(signal(3));
+        assertEquals(1, queue.getStatistics().rejected());
+    }
+
+    @Test
+    void testBlockUntilSent() throws Exception {
+        OutboundQueue queue = new OutboundQueue(1, 0, false, false);
+        queue.offer(signal(1));
+
+        DBusSignal second = signal(2);
+        CompletableFuture<Boolean> blocked = CompletableFuture.supplyAsync(() -> queue.offer(second));
+        assertThrows(TimeoutException.class, () -> blocked.get(200, TimeUnit.MILLISECONDS));
+
+        assertEquals(1, queue.poll(10).size());
+        blocked.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(second), queue.poll(10));
+
+        SendQueueStatistics stats = queue.getStatistics();
+        assertEquals(1, stats.blocked());
+        assertEquals(2, stats.sent());
+        assertTrue(stats.maxWaitNanos() > 0);
+    }
+
+    @Test
+    void testCloseReleasesBlockedSender() throws Exception {
+        OutboundQueue queue = new OutboundQueue(1, 0, false, false);
+        Message first = signal(1);
+        DBusSignal second = signal(2);
+        queue.offer(first);
+
+        CompletableFuture<Boolean> blocked = CompletableFuture.supplyAsync(() -> queue.offer(second));
+        assertThrows(TimeoutException.class, () -> blocked.get(200, TimeUnit.MILLISECONDS));
+
+        queue.close();
+        Exception ex = assertThrows(Exception.class, () -> blocked.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(NotConnected.class, ex.getCause());
+        // queued messages can still be sent
+        assertEquals(List.of(first), queue.poll(10));
+    }
+
+    private DBusSignal signal(int _num) throws DBusException {
+        return factory.createSignal(":1.1", "/test", "org.example.Test", "Changed", "i", _num);
+    }
+
+    private MethodCall call() throws DBusException {
+        return factory.createMethodCall(":1.1", "org.example.Dest", "/test", "org.example.Test", "Call", (byte) 0, null);
+    }
+}
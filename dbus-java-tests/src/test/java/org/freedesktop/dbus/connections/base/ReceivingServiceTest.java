@@ -1,9 +1,12 @@
 package org.freedesktop.dbus.connections.base;
 
+import org.freedesktop.dbus.annotations.NonBlocking;
 import org.freedesktop.dbus.connections.config.ReceivingServiceConfig;
 import org.freedesktop.dbus.connections.config.ReceivingServiceConfigBuilder;
 import org.freedesktop.dbus.connections.shared.ExecutorNames;
 import org.freedesktop.dbus.connections.shared.IThreadPoolRetryHandler;
+import org.freedesktop.dbus.connections.shared.OrderingKey;
+import org.freedesktop.dbus.connections.shared.OverloadPolicy;
 import org.freedesktop.dbus.exceptions.IllegalThreadPoolStateException;
 import org.freedesktop.dbus.test.AbstractBaseTest;
 import org.junit.jupiter.api.Test;
@@ -12,6 +15,8 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -254,6 +259,219 @@ class ReceivingServiceTest extends AbstractBaseTest {
 
     }
 
+    /**
+     * Test that non-blocking handlers are executed on the calling thread and slow handlers are reported.
+     */
+    @Test
+    void testInlineHandlerMetrics() throws Exception {
+        ReceivingServiceConfig build = new ReceivingServiceConfigBuilder<>(null)
+            .withInlineHandlerWarnThreshold(1)
+            .build();
+
+        ReceivingService service = new ReceivingService("", build);
+        try {
+            assertTrue(ReceivingService.isNonBlocking(new NonBlockingHandler()));
+            assertFalse(ReceivingService.isNonBlocking(new Object()));
+
+            Thread caller = Thread.currentThread();
+            AtomicBoolean inline = new AtomicBoolean();
+            assertEquals(0, service.execHandler(ExecutorNames.SIGNAL, NonBlockingHandler.class, true,
+                () -> inline.set(Thread.currentThread() == caller)));
+            assertTrue(inline.get(), "Handler should run on calling thread");
+
+            service.execHandler(ExecutorNames.SIGNAL, NonBlockingHandler.class, true, () -> {
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException _ex) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+            CountDownLatch pooled = new CountDownLatch(1);
+            service.execHandler(ExecutorNames.METHODRETURN, Object.class, false, () -> {
+                assertNotSame(caller, Thread.currentThread());
+                pooled.countDown();
+            });
+            assertTrue(pooled.await(MAX_WAIT, TimeUnit.MILLISECONDS));
+
+            HandlerMetrics.HandlerStatistics stats = service.getMetrics().getStatistics(NonBlockingHandler.class.getName());
+            assertNotNull(stats);
+            assertTrue(stats.inline());
+            assertEquals(2, stats.invocations());
+            assertEquals(1, stats.slowInvocations());
+            assertTrue(stats.maxNanos() >= TimeUnit.MILLISECONDS.toNanos(20));
+
+            // metrics are recorded after the handler returned
+            long deadline = System.currentTimeMillis() + MAX_WAIT;
+            while (service.getMetrics().getStatistics(Object.class.getName()) == null && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertFalse(service.getMetrics().getStatistics(Object.class.getName()).inline());
+        } finally {
+            service.shutdownNow();
+        }
+    }
+
+    /**
+     * Test the overload policies of bounded queues.
+     */
+    @Test
+    void testBoundedQueueDropPolicies() throws Exception {
+        assertEquals(List.of(0, 1, 2), runOverloaded(OverloadPolicy.DROP_NEWEST, 2));
+        assertEquals(List.of(0, 3, 4), runOverloaded(OverloadPolicy.DROP_OLDEST, 2));
+    }
+
+    @Test
+    void testBoundedQueueConflation() throws Exception {
+        ReceivingServiceConfig build = new ReceivingServiceConfigBuilder<>(null)
+            .withBoundedQueue(ExecutorNames.SIGNAL, 10, OverloadPolicy.CONFLATE)
+            .build();
+
+        ReceivingService service = new ReceivingService("", build);
+        try {
+            assertTrue(service.isConflating(ExecutorNames.SIGNAL));
+            assertFalse(service.isConflating(ExecutorNames.METHODCALL));
+
+            CountDownLatch blocker = new CountDownLatch(1);
+            List<String> executed = new CopyOnWriteArrayList<>();
+            service.execHandler(ExecutorNames.SIGNAL, Object.class, false, "block", () -> await(blocker));
+            for (int i = 0; i < 5; i++) {
+                int val = i;
+                service.execHandler(ExecutorNames.SIGNAL, Object.class, false, "a", () -> executed.add("a" + val));
+                service.execHandler(ExecutorNames.SIGNAL, Object.class, false, "b", () -> executed.add("b" + val));
+            }
+
+            assertEquals(8, service.getQueueStatistics().get(ExecutorNames.SIGNAL).conflated());
+            blocker.countDown();
+            service.shutdown(10, TimeUnit.SECONDS);
+            assertEquals(List.of("a4", "b4"), executed);
+        } finally {
+            service.shutdownNow();
+        }
+    }
+
+    @Test
+    void testBoundedQueueBlocksReader() throws Exception {
+        ReceivingServiceConfig build = new ReceivingServiceConfigBuilder<>(null)
+            .withBoundedQueue(ExecutorNames.SIGNAL, 1, OverloadPolicy.BLOCK)
+            .build();
+
+        ReceivingService service = new ReceivingService("", build);
+        try {
+            CountDownLatch blocker = new CountDownLatch(1);
+            List<Integer> executed = new CopyOnWriteArrayList<>();
+            service.execHandler(ExecutorNames.SIGNAL, Object.class, false, () -> await(blocker));
+            service.execHandler(ExecutorNames.SIGNAL, Object.class, false, () -> executed.add(1));
+
+            Thread reader = new Thread(() -> service.execHandler(ExecutorNames.SIGNAL, Object.class, false, () -> executed.add(2)));
+            reader.start();
+            long deadline = System.currentTimeMillis() + MAX_WAIT;
+            while (reader.getState() != Thread.State.WAITING && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(Thread.State.WAITING, reader.getState(), "Reader should wait for space in queue");
+            assertEquals(1, service.getQueueStatistics().get(ExecutorNames.SIGNAL).depth());
+
+            blocker.countDown();
+            reader.join(MAX_WAIT);
+            service.shutdown(10, TimeUnit.SECONDS);
+            assertEquals(List.of(1, 2), executed);
+            assertEquals(0, service.getQueueStatistics().get(ExecutorNames.SIGNAL).dropped());
+        } finally {
+            service.shutdownNow();
+        }
+    }
+
+    @Test
+    void testOrderedPerKeyExecution() throws Exception {
+        ReceivingServiceConfig build = new ReceivingServiceConfigBuilder<>(null)
+            .withSignalThreadCount(4)
+            .withOrderingKey(ExecutorNames.SIGNAL, OrderingKey.PATH)
+            .build();
+
+        assertThrows(IllegalArgumentException.class,
+            () -> new ReceivingServiceConfigBuilder<>(null).withOrderingKey(ExecutorNames.ERROR, OrderingKey.SENDER));
+
+        ReceivingService service = new ReceivingService("", build);
+        try {
+            Map<String, List<Integer>> executed = new ConcurrentHashMap<>();
+            Set<Thread> threads = ConcurrentHashMap.newKeySet();
+            for (int i = 0; i < 1000; i++) {
+                String key = "/obj/" + i % 10;
+                int seq = i;
+                service.execHandler(ExecutorNames.SIGNAL, Object.class, false, null, key, () -> {
+                    threads.add(Thread.currentThread());
+                    executed.computeIfAbsent(key, x -> new CopyOnWriteArrayList<>()).add(seq);
+                    if (seq % 7 == 0) {
+                        Thread.yield();
+                    }
+                });
+            }
+            service.shutdown(10, TimeUnit.SECONDS);
+
+            assertEquals(10, executed.size());
+            for (List<Integer> values : executed.values()) {
+                assertEquals(100, values.size());
+                assertEquals(values.stream().sorted().toList(), values, "Runnables with same key executed out of order");
+            }
+            assertTrue(threads.size() > 1, "Expected execution on multiple threads");
+        } finally {
+            service.shutdownNow();
+        }
+    }
+
+    /**
+     * Submits 5 runnables to a single thread executor whose first runnable blocks until all runnables were submitted.
+     *
+     * @return ids of executed runnables
+     */
+    private List<Integer> runOverloaded(OverloadPolicy _policy, int _capacity) throws InterruptedException {
+        ReceivingServiceConfig build = new ReceivingServiceConfigBuilder<>(null)
+            .withBoundedQueue(ExecutorNames.SIGNAL, _capacity, _policy)
+            .build();
+
+        ReceivingService service = new ReceivingService("", build);
+        try {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch blocker = new CountDownLatch(1);
+            List<Integer> executed = new CopyOnWriteArrayList<>();
+            service.execHandler(ExecutorNames.SIGNAL, Object.class, false, () -> {
+                executed.add(0);
+                started.countDown();
+                await(blocker);
+            });
+            assertTrue(started.await(MAX_WAIT, TimeUnit.MILLISECONDS));
+
+            for (int i = 1; i < 5; i++) {
+                int val = i;
+                service.execHandler(ExecutorNames.SIGNAL, Object.class, false, () -> executed.add(val));
+            }
+
+            ReceivingService.QueueStatistics stats = service.getQueueStatistics().get(ExecutorNames.SIGNAL);
+            assertEquals(_capacity, stats.capacity());
+            assertEquals(_capacity, stats.depth());
+            assertEquals(4 - _capacity, stats.dropped());
+
+            blocker.countDown();
+            service.shutdown(10, TimeUnit.SECONDS);
+            return executed;
+        } finally {
+            service.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch _latch) {
+        try {
+            _latch.await(MAX_WAIT, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException _ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @NonBlocking
+    static class NonBlockingHandler {
+    }
+
     /**
      * Executor service which does nothing but throw exceptions.
      */
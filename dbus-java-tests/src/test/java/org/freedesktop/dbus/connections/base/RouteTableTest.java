@@ -0,0 +1,71 @@
+package org.freedesktop.dbus.connections.base;
+
+import org.freedesktop.dbus.interfaces.DBusInterface;
+import org.freedesktop.dbus.messages.ExportedObject;
+import org.freedesktop.dbus.test.AbstractBaseTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+class RouteTableTest extends AbstractBaseTest {
+
+    @Test
+    void testLookup() throws Exception {
+        ExportedObject global = new ExportedObject(new RouteObject("/"), false);
+        ExportedObject obj = new ExportedObject(new RouteObject("/a/b"), false);
+
+        Map<String, ExportedObject> exported = new HashMap<>();
+        exported.put(null, global);
+        exported.put("/a/b", obj);
+
+        RouteTable table = RouteTable.of(exported);
+        // later changes of the source map must not be visible
+        exported.remove("/a/b");
+
+        assertSame(global, table.getGlobal());
+        assertSame(global, table.get(null));
+        assertSame(obj, table.get("/a/b"));
+        assertNull(table.get("/a"));
+        assertNull(RouteTable.EMPTY.get("/a/b"));
+    }
+
+    @Test
+    void testMethodLookupByNameAndSignature() throws Exception {
+        ExportedObject obj = new ExportedObject(new RouteObject("/a/b"), false);
+
+        assertEquals("ping", obj.getMethod("ping", null).getName());
+        assertEquals("ping", obj.getMethod("ping", "").getName());
+        assertEquals("echo", obj.getMethod("echo", "si").getName());
+        assertNull(obj.getMethod("echo", "s"));
+        assertNull(obj.getMethod("unknown", ""));
+    }
+
+    public interface RouteInterface extends DBusInterface {
+        void ping();
+
+        String echo(String _val, int _count);
+    }
+
+    public static class RouteObject implements RouteInterface {
+        private final String path;
+
+        RouteObject(String _path) {
+            path = _path;
+        }
+
+        @Override
+        public void ping() {
+        }
+
+        @Override
+        public String echo(String _val, int _count) {
+            return _val.repeat(_count);
+        }
+
+        @Override
+        public String getObjectPath() {
+            return path;
+        }
+    }
+}
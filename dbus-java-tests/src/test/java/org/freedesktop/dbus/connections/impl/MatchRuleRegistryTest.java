@@ -0,0 +1,79 @@
+package org.freedesktop.dbus.connections.impl;
+
+import org.freedesktop.dbus.matchrules.DBusMatchRule;
+import org.freedesktop.dbus.matchrules.DBusMatchRuleBuilder;
+import org.freedesktop.dbus.test.AbstractBaseTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+class MatchRuleRegistryTest extends AbstractBaseTest {
+
+    private final List<String>                  added       = new ArrayList<>();
+    private final List<String>                  removed     = new ArrayList<>();
+    private final List<CompletableFuture<Void>> pendingAdds = new ArrayList<>();
+
+    private final MatchRuleRegistry registry = new MatchRuleRegistry(r -> {
+        added.add(r);
+        CompletableFuture<Void> f = new CompletableFuture<>();
+        pendingAdds.add(f);
+        return f;
+    }, r -> {
+        removed.add(r);
+        return CompletableFuture.completedFuture(null);
+    });
+
+    private final DBusMatchRule rule = DBusMatchRuleBuilder.create().withInterface("org.example.Iface").withMember("Changed").build();
+
+    @Test
+    void testIdenticalRulesAreSentOnce() {
+        CompletableFuture<Void> first = registry.acquire(rule);
+        final CompletableFuture<Void> second = registry.acquire(DBusMatchRuleBuilder.create().withInterface("org.example.Iface").withMember("Changed").build());
+
+        assertEquals(List.of(rule.toString()), added);
+        assertEquals(2, registry.getRefCount(rule));
+        assertFalse(first.isDone());
+
+        pendingAdds.getFirst().complete(null);
+        assertTrue(first.isDone());
+        assertTrue(second.isDone());
+
+        registry.release(rule);
+        assertTrue(removed.isEmpty());
+        registry.release(rule);
+        assertEquals(List.of(rule.toString()), removed);
+        assertEquals(0, registry.getRefCount(rule));
+
+        // releasing an unknown rule does nothing
+        registry.release(rule);
+        assertEquals(1, removed.size());
+    }
+
+    @Test
+    void testFailedRuleIsForgotten() {
+        CompletableFuture<Void> first = registry.acquire(rule);
+        CompletableFuture<Void> second = registry.acquire(rule);
+        pendingAdds.getFirst().completeExceptionally(new IllegalStateException("rejected"));
+
+        assertTrue(first.isCompletedExceptionally());
+        assertInstanceOf(IllegalStateException.class, second.exceptionNow());
+        assertEquals(0, registry.getRefCount(rule));
+
+        // next registration tries again
+        registry.acquire(rule);
+        assertEquals(2, added.size());
+        assertTrue(removed.isEmpty());
+    }
+
+    @Test
+    void testSendFailureCompletesExceptionally() {
+        MatchRuleRegistry failing = new MatchRuleRegistry(r -> {
+            throw new IllegalStateException("Not connected");
+        }, r -> CompletableFuture.completedFuture(null));
+
+        assertTrue(failing.acquire(rule).isCompletedExceptionally());
+        assertEquals(0, failing.getRefCount(rule));
+    }
+}
@@ -0,0 +1,138 @@
+package org.freedesktop.dbus.matchrules;
+
+import org.freedesktop.dbus.messages.Message;
+import org.freedesktop.dbus.messages.constants.MessageTypes;
+import org.freedesktop.dbus.test.AbstractBaseTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+class MatchRuleIndexedMapTest extends AbstractBaseTest {
+
+    private static final String IFACE = "org.example.Iface";
+
+    @Test
+    void testIndexedAndResidualRules() {
+        MatchRuleIndexedMap<String> map = new MatchRuleIndexedMap<>();
+        map.put(rule().withInterface(IFACE).withMember("Changed").build(), "any");
+        map.put(rule().withInterface(IFACE).withMember("Changed").withPath("/a/b").build(), "path");
+        map.put(rule().withInterface(IFACE).withMember("Changed").withSender(":1.5").build(), "sender");
+        map.put(rule().withInterface(IFACE).withMember("Changed").withPath("/a/b").withSender(":1.5").build(), "both");
+        map.put(rule().withType(MessageTypes.SIGNAL).withInterface(IFACE).withMember("Other").build(), "other");
+        map.put(rule().withInterface(IFACE).build(), "iface-only");
+        map.put(rule().withPathNamespace("/a").build(), "namespace");
+
+        assertEquals(Set.of("any", "path", "sender", "both", "iface-only", "namespace"),
+            matches(map, signal(IFACE, "Changed", "/a/b", ":1.5")));
+        assertEquals(Set.of("any", "iface-only"), matches(map, signal(IFACE, "Changed", "/c", ":1.6")));
+        assertEquals(Set.of("other", "iface-only"), matches(map, signal(IFACE, "Other", "/c", null)));
+        assertEquals(Set.of(), matches(map, signal("org.example.Unknown", "Changed", "/c", null)));
+    }
+
+    @Test
+    void testRemoveAndReplaceUpdatesIndex() {
+        MatchRuleIndexedMap<String> map = new MatchRuleIndexedMap<>();
+        DBusMatchRule indexed = rule().withInterface(IFACE).withMember("Changed").withPath("/a").build();
+        DBusMatchRule residual = rule().withInterface(IFACE).withArg0123(0, "x").build();
+
+        assertEquals("one", map.computeIfAbsent(indexed, r -> "one"));
+        assertEquals("one", map.computeIfAbsent(indexed, r -> "two"));
+        map.put(residual, "res");
+        assertEquals(2, map.size());
+
+        map.put(indexed, "three");
+        assertEquals(Set.of("three"), matches(map, signal(IFACE, "Changed", "/a", null)));
+
+        map.remove(indexed);
+        map.remove(residual);
+        assertTrue(map.isEmpty());
+        assertEquals(Set.of(), matches(map, signal(IFACE, "Changed", "/a", null)));
+        assertThrows(UnsupportedOperationException.class, () -> map.keySet().clear());
+    }
+
+    @Test
+    void testRulesWithSameIndexKey() {
+        MatchRuleIndexedMap<String> map = new MatchRuleIndexedMap<>();
+        DBusMatchRule typed = rule().withType(MessageTypes.SIGNAL).withInterface(IFACE).withMember("Changed").build();
+        DBusMatchRule untyped = rule().withInterface(IFACE).withMember("Changed").build();
+
+        map.put(typed, "typed");
+        map.put(untyped, "untyped");
+        assertEquals(2, map.size());
+        assertEquals(Set.of("typed", "untyped"), matches(map, signal(IFACE, "Changed", "/a", null)));
+
+        map.remove(untyped);
+        assertEquals(1, map.size());
+        assertEquals(Set.of("typed"), matches(map, signal(IFACE, "Changed", "/a", null)));
+
+        map.put(untyped, "untyped");
+        map.remove(typed);
+        assertEquals(Set.of("untyped"), matches(map, signal(IFACE, "Changed", "/a", null)));
+    }
+
+    @Test
+    void testNonSignalMessagesUseRuleMatching() {
+        MatchRuleIndexedMap<String> map = new MatchRuleIndexedMap<>();
+        map.put(rule().withType(MessageTypes.SIGNAL).withInterface(IFACE).withMember("Changed").build(), "signal");
+        map.put(rule().withInterface(IFACE).withMember("Changed").build(), "untyped");
+
+        Message call = message(MessageTypes.METHOD_CALL, IFACE, "Changed", "/a", null);
+        assertEquals(Set.of("untyped"), matches(map, call));
+    }
+
+    @Test
+    void testManyRulesOnDistinctPaths() {
+        MatchRuleIndexedMap<Integer> map = new MatchRuleIndexedMap<>();
+        for (int i = 0; i < 2000; i++) {
+            map.put(rule().withInterface(IFACE).withMember("Changed").withPath("/dev/" + i).build(), i);
+        }
+        for (int i = 0; i < 2000; i += 100) {
+            assertEquals(Set.of(i), matches(map, signal(IFACE, "Changed", "/dev/" + i, ":1.1")));
+        }
+    }
+
+    private static DBusMatchRuleBuilder rule() {
+        return DBusMatchRuleBuilder.create();
+    }
+
+    private static <V> Set<V> matches(MatchRuleIndexedMap<V> _map, Message _msg) {
+        List<V> result = new ArrayList<>();
+        _map.forEachMatch(_msg, result::add);
+        Set<V> unique = new HashSet<>(result);
+        assertEquals(result.size(), unique.size(), "Value reported more than once");
+        return unique;
+    }
+
+    private static Message signal(String _iface, String _member, String _path, String _sender) {
+        return message(MessageTypes.SIGNAL, _iface, _member, _path, _sender);
+    }
+
+    private static Message message(MessageTypes _type, String _iface, String _member, String _path, String _sender) {
+        return new Message() {
+            @Override
+            public byte getType() {
+                return _type.getId();
+            }
+
+            @Override
+            public String getInterface() {
+                return _iface;
+            }
+
+            @Override
+            public String getName() {
+                return _member;
+            }
+
+            @Override
+            public String getPath() {
+                return _path;
+            }
+
+            @Override
+            public String getSource() {
+                return _sender;
+            }
+        };
+    }
+}
@@ -66,7 +66,10 @@ class MatchRuleMatcherTest extends AbstractBaseTest {
         return Stream.of(
             Arguments.arguments(List.of("test"), Map.of(0, "test"), true),
             Arguments.arguments(List.of("test", 1), Map.of(0, "foo"), false),
-            Arguments.arguments(List.of("test"), Map.of(0, "te"), false)
+            Arguments.arguments(List.of("test"), Map.of(0, "te"), false),
+            Arguments.arguments(List.of("test", "foo"), Map.of(0, "test", 1, "foo"), true),
+            Arguments.arguments(List.of("test", "foo"), Map.of(0, "test", 1, "bar"), false),
+            Arguments.arguments(List.of("test"), Map.of(1, "test"), false)
             );
     }
 
@@ -1,6 +1,10 @@
 package org.freedesktop.dbus.messages;
 
+import org.freedesktop.dbus.DBusPath;
+import org.freedesktop.dbus.exceptions.MarshallingException;
+import org.freedesktop.dbus.matchrules.DBusMatchRuleBuilder;
 import org.freedesktop.dbus.messages.Message.ConstructorArgType;
+import org.freedesktop.dbus.messages.constants.Endian;
 import org.freedesktop.dbus.test.AbstractBaseTest;
 import org.freedesktop.dbus.types.DBusListType;
 import org.freedesktop.dbus.types.DBusMapType;
@@ -9,7 +13,10 @@ import org.freedesktop.dbus.types.Variant;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Map;
@@ -58,6 +65,200 @@ public class MessageTest extends AbstractBaseTest {
 
     }
 
+    @Test
+    public void testPopulateFromSingleBuffer() throws Exception {
+        MethodCall call = new MessageFactory(Endian.BIG).createMethodCall(":1.5", "org.example.Dest", "/org/example", "org.example.Iface", "Test",
+            (byte) 0, "sayai", "first", new byte[] {1, 2, 3}, new int[] {4, 5, 6});
+
+        byte[] wire = toWire(call);
+
+        Message received = MessageFactory.createMessage(call.getType(), wire, null);
+
+        assertInstanceOf(MethodCall.class, received);
+        assertEquals(call.getSerial(), received.getSerial());
+        assertEquals("/org/example", received.getPath());
+        assertEquals("org.example.Iface", received.getInterface());
+        assertEquals("Test", received.getName());
+        assertEquals(":1.5", received.getSource());
+        assertEquals("sayai", received.getSig());
+
+        Object[] parameters = received.getParameters();
+        assertEquals("first", parameters[0]);
+        assertEquals(List.of((byte) 1, (byte) 2, (byte) 3), parameters[1]);
+        assertEquals(List.of(4, 5, 6), parameters[2]);
+
+        assertArrayEquals(wire, toWire(received), "Wire data of received message must be the original buffer");
+    }
+
+    @ParameterizedTest(name = "direct buffer: {0}")
+    @ValueSource(booleans = {false, true})
+    public void testMarshallIntoGrowingBuffer(boolean _direct) throws Exception {
+        long[] longs = new long[1000];
+        for (int i = 0; i < longs.length; i++) {
+            longs[i] = i * 1000L;
+        }
+
+        MethodCall call = new MessageFactory(Endian.LITTLE, _direct).createMethodCall(":1.5", "org.example.Dest", "/org/example", "org.example.Iface", "Test",
+            (byte) 0, "yaxs(yx)", (byte) 7, longs, "last", new Object[] {(byte) 1, 42L});
+        assertEquals(_direct, call.getWireBuffer().isDirect());
+
+        byte[] wire = toWire(call);
+        assertEquals(call.getByteCounter(), wire.length);
+        assertEquals(wire.length, call.getWireBuffer().remaining());
+
+        Message received = MessageFactory.createMessage(call.getType(), wire, null);
+        Object[] parameters = received.getParameters();
+        assertEquals((byte) 7, parameters[0]);
+        assertEquals(1000, ((List<?>) parameters[1]).size());
+        assertEquals(999000L, ((List<?>) parameters[1]).get(999));
+        assertEquals("last", parameters[2]);
+
+        received.setSource(":1.99");
+        Message resent = MessageFactory.createMessage(call.getType(), toWire(received), null);
+        assertEquals(":1.99", resent.getSource());
+        assertEquals("last", resent.getParameters()[2]);
+    }
+
+    @ParameterizedTest(name = "direct buffer: {0}")
+    @ValueSource(booleans = {false, true})
+    public void testWireDataCopiedOnlyOnce(boolean _direct) throws Exception {
+        MethodCall call = new MessageFactory(Endian.LITTLE, _direct).createMethodCall(":1.5", "org.example.Dest", "/org/example", "org.example.Iface", "Test",
+            (byte) 0, "s", "value");
+
+        byte[] wire = call.getWireData()[0];
+        assertSame(wire, call.getWireData()[0], "Unchanged message must not be copied again");
+
+        Message received = MessageFactory.createMessage(call.getType(), wire.clone(), null);
+        received.setSource(":1.99");
+        byte[] changed = received.getWireData()[0];
+        assertSame(changed, received.getWireData()[0]);
+        assertEquals(":1.99", MessageFactory.createMessage(call.getType(), changed, null).getSource());
+    }
+
+    @ParameterizedTest(name = "endian: {0}")
+    @ValueSource(bytes = {Endian.BIG, Endian.LITTLE})
+    public void testBulkPrimitiveArrays(byte _endian) throws Exception {
+        int len = 100_000;
+        double[] doubles = new double[len];
+        int[] ints = new int[len];
+        long[] longs = new long[len];
+        short[] shorts = new short[len];
+        boolean[] bools = new boolean[len];
+        for (int i = 0; i < len; i++) {
+            doubles[i] = i * 0.5d;
+            ints[i] = i - len / 2;
+            longs[i] = Long.MAX_VALUE - i;
+            shorts[i] = (short) i;
+            bools[i] = i % 3 == 0;
+        }
+
+        MethodCall call = new MessageFactory(_endian).createMethodCall(":1.5", "org.example.Dest", "/org/example", "org.example.Iface", "Test",
+            (byte) 0, "adaiaxanabax", doubles, ints, longs, shorts, bools, ints);
+
+        Message received = MessageFactory.createMessage(call.getType(), toWire(call), null);
+        Object[] parameters = received.getParameters();
+
+        List<?> receivedDoubles = (List<?>) parameters[0];
+        List<?> receivedInts = (List<?>) parameters[1];
+        List<?> receivedLongs = (List<?>) parameters[2];
+        List<?> receivedShorts = (List<?>) parameters[3];
+        List<?> receivedBools = (List<?>) parameters[4];
+        List<?> widenedInts = (List<?>) parameters[5];
+        assertEquals(len, receivedDoubles.size());
+        for (int i = 0; i < len; i++) {
+            assertEquals(doubles[i], receivedDoubles.get(i));
+            assertEquals(ints[i], receivedInts.get(i));
+            assertEquals(longs[i], receivedLongs.get(i));
+            assertEquals(shorts[i], receivedShorts.get(i));
+            assertEquals(bools[i], receivedBools.get(i));
+            assertEquals((long) ints[i], widenedInts.get(i));
+        }
+    }
+
+    @ParameterizedTest(name = "endian: {0}")
+    @ValueSource(bytes = {Endian.BIG, Endian.LITTLE})
+    public void testLeadingArguments(byte _endian) throws Exception {
+        Map<String, Variant<?>> dict = Map.of("key", new Variant<>(42), "other", new Variant<>("value"));
+        MethodCall call = new MessageFactory(_endian).createMethodCall(":1.5", "org.example.Dest", "/org/example", "org.example.Iface", "Test",
+            (byte) 0, "ya{sv}vgsoxas", (byte) 1, dict, new Variant<>(List.of(1, 2, 3), "ai"), "sig", "hello",
+            new DBusPath("/some/path"), 5L, List.of("a", "b"));
+
+        Message received = MessageFactory.createMessage(call.getType(), toWire(call), null);
+
+        Object[] leading = received.getLeadingArguments(6);
+        assertEquals(6, leading.length);
+        assertNull(leading[0]);
+        assertNull(leading[1]);
+        assertNull(leading[2]);
+        assertNull(leading[3]);
+        assertEquals("hello", leading[4]);
+        assertEquals("/some/path", ((DBusPath) leading[5]).getPath());
+
+        // cached result is reused for smaller requests
+        assertSame(leading, received.getLeadingArguments(2));
+        assertEquals(8, received.getLeadingArguments(20).length);
+
+        assertTrue(DBusMatchRuleBuilder.create().withArg0123(4, "hello").withArg0123Path(5, "/some/").build().matches(received));
+        assertFalse(DBusMatchRuleBuilder.create().withArg0123(3, "sig").build().matches(received));
+    }
+
+    @ParameterizedTest(name = "endian: {0}")
+    @ValueSource(bytes = {Endian.BIG, Endian.LITTLE})
+    public void testSetSourceAppendsSenderField(byte _endian) throws Exception {
+        DBusSignal signal = new MessageFactory(_endian).createSignal(null, "/org/example", "org.example.Iface", "Changed",
+            "sai", "value", new int[] {1, 2, 3});
+
+        Message received = MessageFactory.createMessage(signal.getType(), toWire(signal), null);
+        assertNull(received.getSource());
+
+        received.setSource(":1.42");
+        assertEquals(":1.42", received.getSource());
+        byte[] wire = toWire(received);
+
+        // setting the same source again must not touch the wire data
+        received.setSource(":1.42");
+        assertArrayEquals(wire, toWire(received));
+
+        Message forwarded = MessageFactory.createMessage(signal.getType(), wire, null);
+        assertEquals(":1.42", forwarded.getSource());
+        assertEquals("/org/example", forwarded.getPath());
+        assertEquals("org.example.Iface", forwarded.getInterface());
+        assertEquals("Changed", forwarded.getName());
+        assertEquals("sai", forwarded.getSig());
+        assertEquals("value", forwarded.getParameters()[0]);
+        assertEquals(List.of(1, 2, 3), forwarded.getParameters()[1]);
+
+        // existing sender is replaced
+        forwarded.setSource(":1.7");
+        assertEquals(":1.7", MessageFactory.createMessage(signal.getType(), toWire(forwarded), null).getSource());
+    }
+
+    @Test
+    public void testArraySizeExceedingMessageIsRejected() throws Exception {
+        DBusSignal signal = new MessageFactory(Endian.LITTLE).createSignal(null, "/org/example", "org.example.Iface", "Changed",
+            "ai", new int[] {1, 2, 3});
+        byte[] wire = toWire(signal);
+
+        // body consists of the array size (4 bytes) followed by 3 ints, claim 1000 bytes instead
+        int sizePos = wire.length - 16;
+        assertEquals(12, Message.demarshallint(wire, sizePos, Endian.LITTLE, 4));
+        Message.marshallintLittle(1000, wire, sizePos, 4);
+
+        Message received = MessageFactory.createMessage(signal.getType(), wire, null);
+        assertThrows(MarshallingException.class, received::getParameters);
+    }
+
+    private static byte[] toWire(Message _msg) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        for (byte[] buf : _msg.getWireData()) {
+            if (buf == null) {
+                break;
+            }
+            bos.write(buf);
+        }
+        return bos.toByteArray();
+    }
+
     static Stream<ParameterData> parameterSource() {
         return Stream.of(
             new ParameterData("Complex constructor", List.of(new Type[] {long.class, String.class, byte[].class, String.class, Map.class}, new Type[] {String.class}),
@@ -0,0 +1,79 @@
+package org.freedesktop.dbus.spi.message;
+
+import org.freedesktop.dbus.messages.DBusSignal;
+import org.freedesktop.dbus.messages.Message;
+import org.freedesktop.dbus.messages.MessageFactory;
+import org.freedesktop.dbus.messages.MethodCall;
+import org.freedesktop.dbus.messages.constants.Endian;
+import org.freedesktop.dbus.test.AbstractBaseTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BufferedMessageReaderTest extends AbstractBaseTest {
+
+    @Test
+    public void testReadMultipleMessagesFromOneWrite() throws Exception {
+        MessageFactory factory = new MessageFactory(Endian.LITTLE);
+
+        List<Message> sent = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            sent.add(factory.createSignal(":1.1", "/test/" + i, "org.example.Test", "Changed", "si", "value" + i, i));
+        }
+        sent.add(factory.createMethodCall("org.example.Dest", "/test", "org.example.Test", "Call", (byte) 0, "ay", new byte[8192]));
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        for (Message m : sent) {
+            for (byte[] buf : m.getWireData()) {
+                if (buf == null) {
+                    break;
+                }
+                bos.write(buf);
+            }
+        }
+
+        try (ServerSocketChannel server = ServerSocketChannel.open()) {
+            server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            try (SocketChannel writer = SocketChannel.open(server.getLocalAddress());
+                SocketChannel readerChannel = server.accept();
+                BufferedMessageReader reader = new BufferedMessageReader(readerChannel, 64)) {
+
+                ByteBuffer data = ByteBuffer.wrap(bos.toByteArray());
+                while (data.hasRemaining()) {
+                    writer.write(data);
+                }
+                writer.shutdownOutput();
+
+                List<Message> received = new ArrayList<>();
+                while (received.size() < sent.size()) {
+                    Message m = reader.readMessage();
+                    if (m != null) {
+                        received.add(m);
+                    }
+                }
+
+                for (int i = 0; i < 10; i++) {
+                    DBusSignal sig = assertInstanceOf(DBusSignal.class, received.get(i));
+                    assertEquals(sent.get(i).getSerial(), sig.getSerial());
+                    assertEquals("/test/" + i, sig.getPath());
+                    assertEquals("Changed", sig.getName());
+                    assertArrayEquals(new Object[] {"value" + i, i}, sig.getParameters());
+                }
+
+                MethodCall call = assertInstanceOf(MethodCall.class, received.get(10));
+                assertEquals("Call", call.getName());
+                assertEquals(8192, ((List<?>) call.getParameters()[0]).size());
+
+                assertThrows(EOFException.class, reader::readMessage);
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.freedesktop.dbus.spi.message;
+
+import org.freedesktop.dbus.messages.DBusSignal;
+import org.freedesktop.dbus.messages.Message;
+import org.freedesktop.dbus.messages.MessageFactory;
+import org.freedesktop.dbus.messages.constants.Endian;
+import org.freedesktop.dbus.test.AbstractBaseTest;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+public class OutputStreamMessageWriterTest extends AbstractBaseTest {
+
+    @Test
+    public void testWriteMessagesWithGatheringWrite() throws Exception {
+        MessageFactory factory = new MessageFactory(Endian.BIG);
+
+        List<Message> sent = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            sent.add(factory.createSignal(":1.1", "/test/" + i, "org.example.Test", "Changed", "sai", "value" + i, new int[] {i, i + 1}));
+        }
+
+        try (ServerSocketChannel server = ServerSocketChannel.open()) {
+            server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            try (SocketChannel writerChannel = SocketChannel.open(server.getLocalAddress());
+                SocketChannel readerChannel = server.accept();
+                OutputStreamMessageWriter writer = new OutputStreamMessageWriter(writerChannel);
+                BufferedMessageReader reader = new BufferedMessageReader(readerChannel)) {
+
+                writer.writeMessages(sent.subList(0, 150));
+                writer.writeMessages(sent.subList(150, 200));
+
+                List<Message> received = new ArrayList<>();
+                while (received.size() < sent.size()) {
+                    Message m = reader.readMessage();
+                    if (m != null) {
+                        received.add(m);
+                    }
+                }
+
+                for (int i = 0; i < sent.size(); i++) {
+                    DBusSignal sig = assertInstanceOf(DBusSignal.class, received.get(i));
+                    assertEquals(sent.get(i).getSerial(), sig.getSerial());
+                    assertEquals("/test/" + i, sig.getPath());
+                    assertEquals("value" + i, sig.getParameters()[0]);
+                    assertEquals(List.of(i, i + 1), sig.getParameters()[1]);
+                }
+            }
+        }
+    }
+}
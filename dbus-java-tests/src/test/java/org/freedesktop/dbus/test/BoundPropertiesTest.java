@@ -6,6 +6,8 @@ import org.freedesktop.dbus.annotations.DBusInterfaceName;
 import org.freedesktop.dbus.annotations.DBusProperty.Access;
 import org.freedesktop.dbus.connections.impl.DBusConnection;
 import org.freedesktop.dbus.connections.impl.DBusConnectionBuilder;
+import org.freedesktop.dbus.connections.shared.ExecutorNames;
+import org.freedesktop.dbus.connections.shared.OrderingKey;
 import org.freedesktop.dbus.exceptions.DBusException;
 import org.freedesktop.dbus.interfaces.DBusInterface;
 import org.freedesktop.dbus.interfaces.Properties;
@@ -17,6 +19,8 @@ import org.junit.jupiter.api.Test;
 import java.io.IOException;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 public class BoundPropertiesTest extends AbstractDBusDaemonBaseTest {
 
@@ -113,6 +117,42 @@ public class BoundPropertiesTest extends AbstractDBusDaemonBaseTest {
         }
     }
 
+    @Test
+    public void testPropertyCallsOrderedBySender() throws Exception {
+        try (DBusConnection conn = DBusConnectionBuilder.forSessionBus()
+                .receivingThreadConfig()
+                    .withMethodCallThreadCount(4)
+                    .withOrderingKey(ExecutorNames.METHODCALL, OrderingKey.SENDER)
+                .connectionConfig()
+                .withShared(false)
+                .build()) {
+            MyObject obj = new MyObject();
+
+            conn.requestBusName("com.acme");
+            conn.exportObject(obj);
+
+            try (DBusConnection innerConn = DBusConnectionBuilder.forSessionBus().withShared(false).build()) {
+                AsyncProperties remotePropObj = innerConn.getRemoteObject("com.acme", "/com/acme/MyObject", AsyncProperties.class);
+
+                int calls = 200;
+                List<CompletableFuture<Void>> futures = new ArrayList<>();
+                for (long i = 0; i < calls; i++) {
+                    futures.add(remotePropObj.Set("com.acme.MyInterface", "ZZZZZZZ", new Variant<>(i)));
+                }
+                CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+                // all Set calls of one sender have to be executed in order, so the last one wins
+                assertEquals(calls - 1, obj.getMyAltProperty());
+
+                long invocations = conn.getHandlerMetrics().getStatistics().entrySet().stream()
+                    .filter(e -> e.getKey().endsWith(".setMyAltProperty"))
+                    .mapToLong(e -> e.getValue().invocations())
+                    .sum();
+                assertEquals(calls, invocations, "Property calls not recorded in handler metrics");
+            }
+        }
+    }
+
     @Test
     public void testMixedProperties() throws IOException, DBusException {
         try (DBusConnection conn = DBusConnectionBuilder.forSessionBus().withShared(false).build()) {
@@ -224,6 +264,16 @@ public class BoundPropertiesTest extends AbstractDBusDaemonBaseTest {
         ABC, DEF, GHI, JKL
     }
 
+    /**
+     * Asynchronous view on the Set method of {@link Properties}.
+     */
+    @DBusInterfaceName("org.freedesktop.DBus.Properties")
+    public interface AsyncProperties extends DBusInterface {
+        // CHECKSTYLE:OFF
+        CompletableFuture<Void> Set(String _interfaceName, String _propertyName, Variant<?> _value);
+        // CHECKSTYLE:ON
+    }
+
     @DBusInterfaceName("com.acme.MyInterface")
     public interface MyInterface extends DBusInterface {
 
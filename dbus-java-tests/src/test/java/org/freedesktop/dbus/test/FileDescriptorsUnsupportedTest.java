@@ -0,0 +1,46 @@
+package org.freedesktop.dbus.test;
+
+import org.freedesktop.dbus.FileDescriptor;
+import org.freedesktop.dbus.connections.impl.DBusConnection;
+import org.freedesktop.dbus.connections.impl.DBusConnectionBuilder;
+import org.freedesktop.dbus.exceptions.DBusExecutionException;
+import org.freedesktop.dbus.interfaces.Peer;
+import org.freedesktop.dbus.test.FileDescriptorsTest.FDPassing;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIf;
+
+@DisabledIf(value = "org.freedesktop.dbus.test.FileDescriptorsTest#isFileDescriptorSupported", disabledReason = "file descriptors supported with the current transport")
+public class FileDescriptorsUnsupportedTest extends AbstractDBusDaemonBaseTest {
+
+    @Test
+    public void testFileDescriptorRejected() throws Exception {
+        try (DBusConnection serverconn = DBusConnectionBuilder.forSessionBus().withShared(false).build();
+            DBusConnection clientconn = DBusConnectionBuilder.forSessionBus().withShared(false).build()) {
+
+            serverconn.requestBusName("foo.bar.NoFdTest");
+            serverconn.exportObject(new FDPassingImpl());
+
+            FDPassing remoteObject = clientconn.getRemoteObject("foo.bar.NoFdTest", FDPassingImpl.PATH, FDPassing.class);
+            DBusExecutionException ex = assertThrows(DBusExecutionException.class, () -> remoteObject.doNothing(new FileDescriptor(0)));
+            assertTrue(ex.getMessage().contains("File descriptors are not supported"), "Unexpected error: " + ex.getMessage());
+
+            // only the message with file descriptors must fail
+            assertTrue(clientconn.isConnected());
+            assertDoesNotThrow(() -> clientconn.getRemoteObject("foo.bar.NoFdTest", FDPassingImpl.PATH, Peer.class).Ping());
+        }
+    }
+
+    private static final class FDPassingImpl implements FDPassing {
+        private static final String PATH = "/FileDescriptorsUnsupportedTest";
+
+        @Override
+        public String getObjectPath() {
+            return PATH;
+        }
+
+        @Override
+        public FileDescriptor doNothing(FileDescriptor _fd) {
+            return _fd;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package org.freedesktop.dbus.test;
+
+import org.freedesktop.dbus.DBusPath;
+import org.freedesktop.dbus.annotations.DBusInterfaceName;
+import org.freedesktop.dbus.connections.impl.DBusConnection;
+import org.freedesktop.dbus.connections.impl.DBusConnectionBuilder;
+import org.freedesktop.dbus.exceptions.DBusException;
+import org.freedesktop.dbus.exceptions.SendQueueFullException;
+import org.freedesktop.dbus.interfaces.DBusInterface;
+import org.freedesktop.dbus.test.helper.SampleException;
+import org.freedesktop.dbus.test.helper.interfaces.SampleRemoteInterface;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class FutureCallTest extends AbstractDBusBaseTest {
+
+    @Test
+    public void testFutureReturningInterfaceMethods() throws Exception {
+        SampleRemoteInterface sync = clientconn.getRemoteObject(getTestBusName(), getTestObjectPath(), SampleRemoteInterface.class);
+        SampleRemoteFutures remote = clientconn.getRemoteObject(getTestBusName(), getTestObjectPath(), SampleRemoteFutures.class);
+
+        assertEquals(sync.getName(), remote.getName().get(10, TimeUnit.SECONDS));
+
+        DBusPath path = new DBusPath("/some/path");
+        assertEquals(path, remote.pathrv(path).get(10, TimeUnit.SECONDS));
+
+        ExecutionException ex = assertThrows(ExecutionException.class,
+            () -> remote.throwme().toCompletableFuture().get(10, TimeUnit.SECONDS));
+        assertInstanceOf(SampleException.class, ex.getCause());
+    }
+
+    @Test
+    public void testManyOutstandingCalls() throws Exception {
+        SampleRemoteFutures remote = clientconn.getRemoteObject(getTestBusName(), getTestObjectPath(), SampleRemoteFutures.class);
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            futures.add(remote.getName());
+        }
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+        String expected = futures.getFirst().get();
+        for (CompletableFuture<String> f : futures) {
+            assertEquals(expected, f.get());
+        }
+    }
+
+    @Test
+    public void testCallMethodFuture() throws DBusException, Exception {
+        SampleRemoteInterface remote = clientconn.getRemoteObject(getTestBusName(), getTestObjectPath(), SampleRemoteInterface.class);
+
+        CompletableFuture<String> name = clientconn.callMethodFuture(remote, "getName");
+        assertEquals(remote.getName(), name.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testRejectedCallCompletesFuture() throws Exception {
+        try (DBusConnection limited = DBusConnectionBuilder.forSessionBus().withShared(false).withSendQueueLimit(1, 0, true).build()) {
+            SampleRemoteInterface remote = limited.getRemoteObject(getTestBusName(), getTestObjectPath(), SampleRemoteInterface.class);
+
+            // calls rejected by the full send queue must not throw but fail the returned future
+            List<CompletableFuture<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                futures.add(assertDoesNotThrow(() -> limited.callMethodFuture(remote, "getName")));
+            }
+
+            int failed = 0;
+            for (CompletableFuture<String> f : futures) {
+                try {
+                    f.get(30, TimeUnit.SECONDS);
+                } catch (ExecutionException _ex) {
+                    assertInstanceOf(SendQueueFullException.class, _ex.getCause());
+                    failed++;
+                }
+            }
+            assertEquals(limited.getSendQueueStatistics().rejected(), failed);
+            assertTrue(failed > 0, "No call was rejected by the send queue");
+        }
+    }
+
+    /**
+     * Asynchronous view on the methods of {@link SampleRemoteInterface}.
+     */
+    @DBusInterfaceName("org.freedesktop.dbus.test.helper.interfaces.SampleRemoteInterface")
+    public interface SampleRemoteFutures extends DBusInterface {
+        CompletableFuture<String> getName();
+
+        CompletionStage<Void> throwme();
+
+        CompletableFuture<DBusPath> pathrv(DBusPath _a);
+    }
+}
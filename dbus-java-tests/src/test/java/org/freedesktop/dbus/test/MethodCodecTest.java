@@ -0,0 +1,130 @@
+package org.freedesktop.dbus.test;
+
+import org.freedesktop.dbus.MethodCodec;
+import org.freedesktop.dbus.types.UInt32;
+import org.freedesktop.dbus.types.Variant;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+class MethodCodecTest extends AbstractBaseTest {
+
+    @Test
+    void testPlainMethodIsPassedThrough() throws Exception {
+        Method m = CodecSample.class.getMethod("plain", String.class, long.class, UInt32.class);
+        MethodCodec codec = MethodCodec.forMethod(m);
+
+        assertSame(codec, MethodCodec.forMethod(m));
+        assertEquals("sxu", codec.getParameterSignature());
+        assertEquals("i", codec.getReturnSignature());
+
+        Object[] args = new Object[] {"str", 5L, new UInt32(7)};
+        assertSame(args, codec.encodeParameters(args, null, null));
+        assertSame(args, codec.decodeParameters(args, null));
+
+        Object[] ret = new Object[] {42};
+        assertSame(ret, codec.decodeReturn(ret, new Type[] {m.getGenericReturnType()}, null, false));
+        assertArrayEquals(new Object[] {42}, codec.encodeReturn(42, null));
+    }
+
+    @Test
+    void testComplexMethodIsConverted() throws Exception {
+        Method m = CodecSample.class.getMethod("complex", Map.class, float.class);
+        MethodCodec codec = MethodCodec.forMethod(m);
+
+        assertEquals("a{sv}d", codec.getParameterSignature());
+        assertEquals("as", codec.getReturnSignature());
+
+        Object[] decoded = codec.decodeParameters(new Object[] {Map.of("k", new Variant<>("v")), 1.5d}, null);
+        assertEquals(Float.class, decoded[1].getClass());
+
+        Object[] ret = codec.decodeReturn(new Object[] {new ArrayList<>(List.of("a", "b"))}, new Type[] {m.getGenericReturnType()}, null, false);
+        assertEquals(List.of("a", "b"), ret[0]);
+    }
+
+    @Test
+    void testVoidMethod() throws Exception {
+        MethodCodec codec = MethodCodec.forMethod(CodecSample.class.getMethod("nothing"));
+        assertEquals("", codec.getParameterSignature());
+        assertNull(codec.getReturnSignature());
+    }
+
+    @Test
+    void testContainerMethodIsConverted() throws Exception {
+        Method m = CodecSample.class.getMethod("container", Map.class, List.class);
+        MethodCodec codec = MethodCodec.forMethod(m);
+        assertTrue(codec.toString().contains("parameterConverters=true"));
+        assertTrue(codec.toString().contains("returnConverter=true"));
+
+        Object[] args = new Object[] {Map.of("k", List.of(1f)), List.of(new Variant<>("v"))};
+        assertSame(args, codec.encodeParameters(args, null, null));
+
+        Map<String, List<Double>> received = new HashMap<>();
+        received.put("k", new ArrayList<>(List.of(1.5d)));
+        Object[] decoded = codec.decodeParameters(new Object[] {received, new ArrayList<>(List.of(new Variant<>("v")))}, null);
+        assertEquals(LinkedHashMap.class, decoded[0].getClass());
+        assertEquals(Map.of("k", List.of(1.5f)), decoded[0]);
+        assertEquals(List.of(new Variant<>("v")), decoded[1]);
+
+        Object[] ret = codec.decodeReturn(new Object[] {new ArrayList<>(List.of(2.5d))}, new Type[] {m.getGenericReturnType()}, null, false);
+        assertEquals(List.of(2.5f), ret[0]);
+    }
+
+    @Test
+    void testUnsupportedTypesUseMarshalling() throws Exception {
+        MethodCodec codec = MethodCodec.forMethod(CodecSample.class.getMethod("array", int[].class));
+        assertTrue(codec.toString().contains("parameterConverters=false"));
+        assertTrue(codec.toString().contains("returnConverter=false"));
+
+        Object[] decoded = codec.decodeParameters(new Object[] {new ArrayList<>(List.of(1, 2))}, null);
+        assertArrayEquals(new int[] {1, 2}, (int[]) decoded[0]);
+    }
+
+    @Test
+    void testInvoke() throws Throwable {
+        InvokeSampleImpl impl = new InvokeSampleImpl();
+        MethodCodec codec = MethodCodec.forMethod(InvokeSample.class.getMethod("add", int.class, Integer.class));
+        assertTrue(codec.toString().contains("methodHandle=true"));
+        assertEquals(5, codec.invoke(impl, new Object[] {2, 3}));
+
+        MethodCodec voidCodec = MethodCodec.forMethod(InvokeSample.class.getMethod("fail"));
+        assertThrows(IllegalStateException.class, () -> voidCodec.invoke(impl, null));
+        assertThrows(IllegalArgumentException.class, () -> codec.invoke(impl, new Object[] {1}));
+    }
+
+    public interface InvokeSample {
+        int add(int _a, Integer _b);
+
+        void fail();
+    }
+
+    public static class InvokeSampleImpl implements InvokeSample {
+        @Override
+        public int add(int _a, Integer _b) {
+            return _a + _b;
+        }
+
+        @Override
+        public void fail() {
+            throw new IllegalStateException("expected");
+        }
+    }
+
+    interface CodecSample {
+        int plain(String _str, long _lng, UInt32 _uint);
+
+        List<String> complex(Map<String, Variant<?>> _map, float _flt);
+
+        List<Float> container(Map<String, List<Float>> _map, List<Variant<?>> _variants);
+
+        int[] array(int[] _values);
+
+        void nothing();
+    }
+}
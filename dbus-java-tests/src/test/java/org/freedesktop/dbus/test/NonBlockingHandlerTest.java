@@ -0,0 +1,122 @@
+package org.freedesktop.dbus.test;
+
+import org.freedesktop.dbus.annotations.NonBlocking;
+import org.freedesktop.dbus.connections.AbstractConnection;
+import org.freedesktop.dbus.connections.base.HandlerMetrics.HandlerStatistics;
+import org.freedesktop.dbus.connections.base.IncomingMessageThread;
+import org.freedesktop.dbus.interfaces.DBusInterface;
+import org.freedesktop.dbus.interfaces.DBusSigHandler;
+import org.freedesktop.dbus.test.helper.signals.SampleSignals.TestSignal;
+import org.freedesktop.dbus.types.UInt32;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class NonBlockingHandlerTest extends AbstractDBusBaseTest {
+
+    private static final String OBJECT_PATH = "/NonBlockingCounter";
+
+    @Test
+    public void testNonBlockingSignalHandlerRunsOnReaderThread() throws Exception {
+        InlineSignalHandler inline = new InlineSignalHandler();
+        PooledSignalHandler pooled = new PooledSignalHandler();
+
+        try (AutoCloseable r1 = clientconn.addSigHandler(TestSignal.class, inline);
+            AutoCloseable r2 = clientconn.addSigHandler(TestSignal.class, pooled)) {
+
+            serverconn.sendMessage(new TestSignal("/nonblocking", "Bar", new UInt32(1)));
+
+            assertInstanceOf(IncomingMessageThread.class, inline.thread.get(10, TimeUnit.SECONDS));
+            assertFalse(pooled.thread.get(10, TimeUnit.SECONDS) instanceof IncomingMessageThread);
+        }
+
+        HandlerStatistics stats = awaitStatistics(clientconn, InlineSignalHandler.class.getName(), 1);
+        assertTrue(stats.inline());
+        assertEquals(1, stats.invocations());
+    }
+
+    @Test
+    public void testNonBlockingExportedMethod() throws Exception {
+        CounterImpl impl = new CounterImpl();
+        serverconn.exportObject(OBJECT_PATH, impl);
+        try {
+            Counter remote = clientconn.getRemoteObject(getTestBusName(), OBJECT_PATH, Counter.class);
+            assertEquals(1, remote.increment());
+            assertEquals(2, remote.increment());
+            assertTrue(impl.inlineThread);
+            assertEquals(2, remote.current());
+            assertFalse(impl.inlineThread);
+
+            HandlerStatistics stats = awaitStatistics(serverconn, Counter.class.getName() + ".increment", 2);
+            assertTrue(stats.inline());
+            assertEquals(2, stats.invocations());
+
+            assertFalse(awaitStatistics(serverconn, Counter.class.getName() + ".current", 1).inline());
+        } finally {
+            serverconn.unExportObject(OBJECT_PATH);
+        }
+    }
+
+    /**
+     * Execution times are recorded after the handler returned, so the caller may see the result earlier.
+     */
+    private static HandlerStatistics awaitStatistics(AbstractConnection _conn, String _handler, long _invocations) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + MAX_WAIT;
+        HandlerStatistics stats = _conn.getHandlerMetrics().getStatistics(_handler);
+        while ((stats == null || stats.invocations() < _invocations) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            stats = _conn.getHandlerMetrics().getStatistics(_handler);
+        }
+        assertNotNull(stats, "No statistics for " + _handler);
+        return stats;
+    }
+
+    @NonBlocking
+    static class InlineSignalHandler implements DBusSigHandler<TestSignal> {
+        private final CompletableFuture<Thread> thread = new CompletableFuture<>();
+
+        @Override
+        public void handle(TestSignal _signal) {
+            thread.complete(Thread.currentThread());
+        }
+    }
+
+    static class PooledSignalHandler implements DBusSigHandler<TestSignal> {
+        private final CompletableFuture<Thread> thread = new CompletableFuture<>();
+
+        @Override
+        public void handle(TestSignal _signal) {
+            thread.complete(Thread.currentThread());
+        }
+    }
+
+    public interface Counter extends DBusInterface {
+        int increment();
+
+        int current();
+    }
+
+    public static class CounterImpl implements Counter {
+        private int              count;
+        private volatile boolean inlineThread;
+
+        @NonBlocking
+        @Override
+        public synchronized int increment() {
+            inlineThread = Thread.currentThread() instanceof IncomingMessageThread;
+            return ++count;
+        }
+
+        @Override
+        public synchronized int current() {
+            inlineThread = Thread.currentThread() instanceof IncomingMessageThread;
+            return count;
+        }
+
+        @Override
+        public String getObjectPath() {
+            return OBJECT_PATH;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.freedesktop.dbus.test;
+
+import org.freedesktop.dbus.connections.impl.DBusConnection;
+import org.freedesktop.dbus.connections.impl.DBusConnectionBuilder;
+import org.freedesktop.dbus.connections.shared.ExecutorNames;
+import org.freedesktop.dbus.connections.shared.OrderingKey;
+import org.freedesktop.dbus.test.helper.signals.SampleSignals.TestSignal;
+import org.freedesktop.dbus.types.UInt32;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Signals for the same object path must be handled in order, even if multiple signal threads are used.
+ */
+public class OrderedSignalDispatchTest extends AbstractDBusDaemonBaseTest {
+
+    private static final int PATHS   = 5;
+    private static final int SIGNALS = 500;
+
+    @Test
+    void testSignalsOrderedPerPath() throws Exception {
+        try (DBusConnection sender = DBusConnectionBuilder.forSessionBus().withShared(false).build();
+            DBusConnection receiver = DBusConnectionBuilder.forSessionBus()
+                .receivingThreadConfig()
+                    .withSignalThreadCount(4)
+                    .withOrderingKey(ExecutorNames.SIGNAL, OrderingKey.PATH)
+                .connectionConfig()
+                .withShared(false)
+                .build()) {
+
+            Map<String, List<Long>> received = new ConcurrentHashMap<>();
+            CountDownLatch latch = new CountDownLatch(SIGNALS);
+
+            try (AutoCloseable unused = receiver.addSigHandler(TestSignal.class, s -> {
+                received.computeIfAbsent(s.getPath(), x -> new CopyOnWriteArrayList<>()).add(s.getNumber().longValue());
+                latch.countDown();
+            })) {
+                for (int i = 0; i < SIGNALS; i++) {
+                    sender.sendMessage(new TestSignal("/ordered/obj" + i % PATHS, "val", new UInt32(i)));
+                }
+                assertTrue(latch.await(30, TimeUnit.SECONDS), "Not all signals received");
+            }
+
+            assertEquals(PATHS, received.size());
+            for (List<Long> numbers : received.values()) {
+                assertEquals(numbers.stream().sorted().toList(), numbers, "Signals of one path handled out of order");
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.freedesktop.dbus.test;
+
+import org.freedesktop.dbus.annotations.MethodTimeout;
+import org.freedesktop.dbus.connections.impl.DBusConnection;
+import org.freedesktop.dbus.connections.impl.DBusConnectionBuilder;
+import org.freedesktop.dbus.errors.NoReply;
+import org.freedesktop.dbus.exceptions.DBusException;
+import org.freedesktop.dbus.exceptions.DBusExecutionException;
+import org.freedesktop.dbus.interfaces.CallbackHandler;
+import org.freedesktop.dbus.interfaces.DBusInterface;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class ReplyTimeoutTest extends AbstractDBusBaseTest {
+
+    private static final String SLOW_PATH = "/ReplyTimeoutTest/Slow";
+
+    @BeforeEach
+    public void exportSlowObject() throws DBusException {
+        serverconn.exportObject(SLOW_PATH, new SlowObject());
+    }
+
+    @Test
+    public void testMethodTimeoutAnnotation() throws DBusException {
+        SlowInterface remote = clientconn.getRemoteObject(getTestBusName(), SLOW_PATH, SlowInterface.class);
+
+        long start = System.currentTimeMillis();
+        assertThrows(NoReply.class, remote::slowWithTimeout);
+        assertTrue(System.currentTimeMillis() - start < SlowObject.DELAY, "Call should time out before reply is sent");
+    }
+
+    @Test
+    public void testConnectionTimeout() throws Exception {
+        try (DBusConnection conn = DBusConnectionBuilder.forSessionBus().withShared(false).withMethodCallTimeout(200).build()) {
+            SlowInterface remote = conn.getRemoteObject(getTestBusName(), SLOW_PATH, SlowInterface.class);
+
+            long start = System.currentTimeMillis();
+            assertThrows(NoReply.class, remote::slow);
+            assertTrue(System.currentTimeMillis() - start < SlowObject.DELAY, "Call should time out before reply is sent");
+        }
+    }
+
+    @Test
+    public void testCallbackCompletedOnTimeout() throws Exception {
+        SlowInterface remote = clientconn.getRemoteObject(getTestBusName(), SLOW_PATH, SlowInterface.class);
+
+        CompletableFuture<DBusExecutionException> error = new CompletableFuture<>();
+        clientconn.callWithCallback(remote, "slowWithTimeout", new CallbackHandler<String>() {
+            @Override
+            public void handle(String _r) {
+                error.completeExceptionally(new AssertionError("Reply not expected: " + _r));
+            }
+
+            @Override
+            public void handleError(DBusExecutionException _e) {
+                error.complete(_e);
+            }
+        });
+
+        assertInstanceOf(NoReply.class, error.get(SlowObject.DELAY, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testTimeoutNotCompletedOnTimerThread() throws Exception {
+        try (DBusConnection conn = DBusConnectionBuilder.forSessionBus().withShared(false).withMethodCallTimeout(200).build()) {
+            SlowInterface remote = conn.getRemoteObject(getTestBusName(), SLOW_PATH, SlowInterface.class);
+
+            // dependents of the returned future run on the thread completing the call
+            CompletableFuture<String> thread = conn.<String>callMethodFuture(remote, "slow")
+                .handle((r, ex) -> ex instanceof NoReply ? Thread.currentThread().getName() : "unexpected result: " + r + ", " + ex);
+
+            assertFalse(thread.get(SlowObject.DELAY, TimeUnit.MILLISECONDS).startsWith("DBus Reply Timeout"),
+                "Timed out call must not be completed on the timer thread");
+        }
+    }
+
+    public interface SlowInterface extends DBusInterface {
+        String slow();
+
+        @MethodTimeout(200)
+        String slowWithTimeout();
+    }
+
+    public static class SlowObject implements SlowInterface {
+        static final long DELAY = 2000;
+
+        @Override
+        public String slow() {
+            return sleep();
+        }
+
+        @Override
+        public String slowWithTimeout() {
+            return sleep();
+        }
+
+        private static String sleep() {
+            try {
+                Thread.sleep(DELAY);
+            } catch (InterruptedException _ex) {
+                Thread.currentThread().interrupt();
+            }
+            return "done";
+        }
+
+        @Override
+        public String getObjectPath() {
+            return SLOW_PATH;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package org.freedesktop.dbus.test;
+
+import org.freedesktop.dbus.connections.impl.DBusConnection;
+import org.freedesktop.dbus.connections.impl.DBusConnectionBuilder;
+import org.freedesktop.dbus.exceptions.SendQueueFullException;
+import org.freedesktop.dbus.test.helper.signals.SampleSignals;
+import org.junit.jupiter.api.Test;
+
+public class SendQueueLimitTest extends AbstractDBusBaseTest {
+
+    @Test
+    public void testLargeSignalExceedsByteLimit() throws Exception {
+        int limit = 64 * 1024;
+        String content = "x".repeat(limit);
+
+        try (DBusConnection limited = DBusConnectionBuilder.forSessionBus().withShared(false).withSendQueueLimit(0, limit, true).build()) {
+            int rejected = 0;
+            for (int i = 0; i < 100; i++) {
+                SampleSignals.TestStringSignal signal = new SampleSignals.TestStringSignal(getTestObjectPath(), content);
+                try {
+                    limited.sendMessage(signal);
+                    // the body has to be counted, not only the header
+                    assertTrue(signal.getWireSize() > limit, "Signal body not created before queuing");
+                } catch (SendQueueFullException _ex) {
+                    rejected++;
+                }
+            }
+
+            assertTrue(rejected > 0, "No signal was rejected by the byte limit");
+            assertEquals(rejected, limited.getSendQueueStatistics().rejected());
+        }
+    }
+}
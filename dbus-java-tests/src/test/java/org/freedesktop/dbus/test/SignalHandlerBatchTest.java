@@ -0,0 +1,58 @@
+package org.freedesktop.dbus.test;
+
+import org.freedesktop.dbus.interfaces.DBusSigHandler;
+import org.freedesktop.dbus.matchrules.DBusMatchRule;
+import org.freedesktop.dbus.matchrules.DBusMatchRuleBuilder;
+import org.freedesktop.dbus.test.helper.signals.SampleSignals.TestSignal;
+import org.freedesktop.dbus.types.UInt32;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SignalHandlerBatchTest extends AbstractDBusBaseTest {
+
+    @Test
+    public void testAddManySigHandlers() throws Exception {
+        CountDownLatch received = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        DBusSigHandler<TestSignal> handler = s -> {
+            calls.incrementAndGet();
+            received.countDown();
+        };
+
+        Map<DBusMatchRule, DBusSigHandler<TestSignal>> handlers = new LinkedHashMap<>();
+        for (int i = 0; i < 200; i++) {
+            handlers.put(DBusMatchRuleBuilder.create().withType(TestSignal.class).withPath("/batch/obj" + i).build(), handler);
+        }
+
+        try (AutoCloseable unused = clientconn.addSigHandlers(handlers)) {
+            serverconn.sendMessage(new TestSignal("/batch/obj42", "Bar", new UInt32(42)));
+            assertTrue(received.await(10, TimeUnit.SECONDS));
+        }
+
+        // after closing, the handlers must no longer be called
+        serverconn.sendMessage(new TestSignal("/batch/obj42", "Bar", new UInt32(42)));
+        Thread.sleep(500);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testSameRuleUsedByMultipleHandlers() throws Exception {
+        DBusMatchRule rule = DBusMatchRuleBuilder.create().withType(TestSignal.class).withPath("/batch/shared").build();
+        CountDownLatch received = new CountDownLatch(1);
+        DBusSigHandler<TestSignal> first = s -> { };
+        DBusSigHandler<TestSignal> second = s -> received.countDown();
+
+        AutoCloseable firstReg = clientconn.addSigHandler(rule, first);
+        try (AutoCloseable unused = clientconn.addSigHandler(rule, second)) {
+            // removing the first handler must not remove the rule used by the second one
+            firstReg.close();
+            serverconn.sendMessage(new TestSignal("/batch/shared", "Bar", new UInt32(1)));
+            assertTrue(received.await(10, TimeUnit.SECONDS));
+        }
+    }
+}
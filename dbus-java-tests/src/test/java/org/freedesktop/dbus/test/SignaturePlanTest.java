@@ -0,0 +1,56 @@
+package org.freedesktop.dbus.test;
+
+import org.freedesktop.dbus.SignaturePlan;
+import org.freedesktop.dbus.exceptions.MarshallingException;
+import org.freedesktop.dbus.exceptions.UnknownTypeCodeException;
+import org.freedesktop.dbus.messages.constants.ArgumentType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class SignaturePlanTest extends AbstractBaseTest {
+
+    @Test
+    void testCompileNestedSignature() throws Exception {
+        SignaturePlan plan = SignaturePlan.compile("sa{sv}(iay)x");
+
+        assertEquals(4, plan.size());
+        List<SignaturePlan.Node> types = plan.getTypes();
+
+        assertEquals("s", types.get(0).getSignature());
+        assertEquals(4, types.get(0).getAlignment());
+
+        SignaturePlan.Node dict = types.get(1);
+        assertEquals("a{sv}", dict.getSignature());
+        assertEquals(1, dict.getSignatureOffset());
+        assertEquals(5, dict.getSignatureEnd());
+        SignaturePlan.Node entry = dict.getElement();
+        assertEquals(ArgumentType.DICT_ENTRY1, entry.getTypeCode());
+        assertEquals(8, entry.getAlignment());
+        assertEquals("s", entry.getChildren().get(0).getSignature());
+        assertEquals("v", entry.getChildren().get(1).getSignature());
+
+        SignaturePlan.Node struct = types.get(2);
+        assertEquals("(iay)", struct.getSignature());
+        assertEquals(2, struct.getChildren().size());
+        assertEquals(ArgumentType.BYTE, struct.getChildren().get(1).getElement().getTypeCode());
+        assertNull(struct.getElement());
+
+        assertEquals(8, types.get(3).getAlignment());
+    }
+
+    @Test
+    void testPlansAreCached() throws Exception {
+        assertSame(SignaturePlan.compile("a(ss)"), SignaturePlan.compile("a(ss)"));
+        assertEquals(0, SignaturePlan.compile(null).size());
+        assertNull(SignaturePlan.compile("").getFirst());
+    }
+
+    @Test
+    void testInvalidSignatures() {
+        assertThrows(MarshallingException.class, () -> SignaturePlan.compile("a"));
+        assertThrows(MarshallingException.class, () -> SignaturePlan.compile("(ii"));
+        assertThrows(MarshallingException.class, () -> SignaturePlan.compile("a{sss}"));
+        assertThrows(UnknownTypeCodeException.class, () -> SignaturePlan.compile("iZ"));
+    }
+}
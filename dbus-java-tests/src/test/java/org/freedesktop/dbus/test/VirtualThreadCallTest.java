@@ -0,0 +1,120 @@
+package org.freedesktop.dbus.test;
+
+import jdk.jfr.consumer.RecordingStream;
+import org.freedesktop.dbus.bin.EmbeddedDBusDaemon;
+import org.freedesktop.dbus.connections.BusAddress;
+import org.freedesktop.dbus.connections.impl.DBusConnection;
+import org.freedesktop.dbus.connections.impl.DBusConnectionBuilder;
+import org.freedesktop.dbus.connections.transports.TransportBuilder;
+import org.freedesktop.dbus.interfaces.DBusInterface;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Performs many synchronous calls from virtual threads through the embedded daemon.
+ * Waiting for a reply must not pin the carrier threads, otherwise the calls and the
+ * canary thread would starve. Pinning is detected using the JFR event {@value #PINNED_EVENT}.
+ */
+public class VirtualThreadCallTest extends AbstractBaseTest {
+
+    private static final String OBJECT_PATH  = "/VirtualThreadCallTest";
+    private static final String BUS_NAME     = "org.freedesktop.dbus.test.VirtualThreadCallTest";
+    private static final int    CALLS        = 10_000;
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    @Test
+    void testManySynchronousCallsFromVirtualThreads() throws Exception {
+        String protocolType = TransportBuilder.getRegisteredBusTypes().getFirst();
+        BusAddress busAddress = TransportBuilder.createWithDynamicSession(protocolType)
+            .configure().build().getBusAddress();
+        BusAddress listenBusAddress = BusAddress.of(busAddress).getListenerAddress();
+
+        try (EmbeddedDBusDaemon daemon = new EmbeddedDBusDaemon(listenBusAddress)) {
+            daemon.startInBackgroundAndWait(MAX_WAIT);
+
+            try (DBusConnection server = DBusConnectionBuilder.forAddress(busAddress).withShared(false).build();
+                DBusConnection client = DBusConnectionBuilder.forAddress(busAddress).withShared(false).build()) {
+
+                server.requestBusName(BUS_NAME);
+                server.exportObject(OBJECT_PATH, new EchoImpl());
+
+                EchoInterface remote = client.getRemoteObject(BUS_NAME, OBJECT_PATH, EchoInterface.class);
+                assertEquals(1, remote.echo(1));
+
+                // every virtual thread blocking while pinned to its carrier for at least 20 ms is reported
+                List<String> pinnedInDbus = new CopyOnWriteArrayList<>();
+                RecordingStream pinning = new RecordingStream();
+                pinning.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(20)).withStackTrace();
+                pinning.onEvent(PINNED_EVENT, e -> {
+                    List<String> frames = e.getStackTrace() == null ? List.of() : e.getStackTrace().getFrames().stream()
+                        .map(f -> f.getMethod().getType().getName() + "." + f.getMethod().getName())
+                        .toList();
+                    if (frames.stream().anyMatch(f -> f.startsWith("org.freedesktop.dbus."))) {
+                        pinnedInDbus.add(String.join(" < ", frames));
+                    }
+                });
+                pinning.startAsync();
+
+                AtomicBoolean running = new AtomicBoolean(true);
+                AtomicInteger canaryTicks = new AtomicInteger();
+                Thread canary = Thread.ofVirtual().start(() -> {
+                    while (running.get()) {
+                        canaryTicks.incrementAndGet();
+                        try {
+                            Thread.sleep(10);
+                        } catch (InterruptedException _ex) {
+                            return;
+                        }
+                    }
+                });
+
+                try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                    List<Future<Integer>> results = new ArrayList<>(CALLS);
+                    for (int i = 0; i < CALLS; i++) {
+                        int val = i;
+                        results.add(executor.submit(() -> remote.echo(val)));
+                    }
+
+                    for (int i = 0; i < CALLS; i++) {
+                        assertEquals(i, results.get(i).get(60, TimeUnit.SECONDS));
+                    }
+                } finally {
+                    running.set(false);
+                    canary.join();
+                    // waits until all recorded events have been processed
+                    pinning.stop();
+                    pinning.close();
+                }
+
+                assertTrue(canaryTicks.get() > 1, "Canary virtual thread did not make progress");
+                assertEquals(List.of(), pinnedInDbus, "Virtual threads were pinned while blocked in dbus-java");
+            }
+        }
+    }
+
+    public interface EchoInterface extends DBusInterface {
+        int echo(int _val);
+    }
+
+    public static class EchoImpl implements EchoInterface {
+        @Override
+        public int echo(int _val) {
+            return _val;
+        }
+
+        @Override
+        public String getObjectPath() {
+            return OBJECT_PATH;
+        }
+    }
+}
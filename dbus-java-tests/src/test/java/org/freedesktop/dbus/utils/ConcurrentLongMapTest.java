@@ -0,0 +1,84 @@
+package org.freedesktop.dbus.utils;
+
+import org.freedesktop.dbus.test.AbstractBaseTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class ConcurrentLongMapTest extends AbstractBaseTest {
+
+    @Test
+    void testBasicOperations() {
+        ConcurrentLongMap<String> map = new ConcurrentLongMap<>(4);
+        assertTrue(map.isEmpty());
+        assertNull(map.put(1L, "one"));
+        assertNull(map.put(Long.MAX_VALUE, "max"));
+        assertEquals("one", map.put(1L, "uno"));
+
+        assertEquals(2, map.size());
+        assertEquals("uno", map.get(1L));
+        assertTrue(map.containsKey(Long.MAX_VALUE));
+        assertNull(map.get(2L));
+
+        assertEquals("uno", map.remove(1L));
+        assertNull(map.remove(1L));
+        assertEquals(1, map.size());
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(Long.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> map.put(3L, null));
+    }
+
+    @Test
+    void testGrowKeepsAllEntries() {
+        ConcurrentLongMap<Long> map = new ConcurrentLongMap<>(2);
+        for (long i = 0; i < 10_000; i++) {
+            map.put(i * 31, i);
+        }
+        assertEquals(10_000, map.size());
+        for (long i = 0; i < 10_000; i++) {
+            assertEquals(i, map.get(i * 31));
+        }
+        assertEquals(10_000, new HashSet<>(map.values()).size());
+    }
+
+    @Test
+    void testConcurrentPutAndRemove() throws Exception {
+        ConcurrentLongMap<Long> map = new ConcurrentLongMap<>(2);
+        int threads = 16;
+        int perThread = 5_000;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long base = (long) t * perThread;
+                futures.add(executor.submit(() -> {
+                    for (long k = base; k < base + perThread; k++) {
+                        map.put(k, k);
+                    }
+                    // remove every second key again
+                    for (long k = base; k < base + perThread; k += 2) {
+                        assertEquals(k, map.remove(k));
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        }
+
+        assertEquals(threads * perThread / 2, map.size());
+        Set<Long> values = new HashSet<>(map.values());
+        for (long k = 0; k < (long) threads * perThread; k++) {
+            assertEquals(k % 2 == 1, values.contains(k));
+            assertEquals(k % 2 == 1 ? Long.valueOf(k) : null, map.get(k));
+        }
+    }
+}